@@ -693,4 +693,26 @@ public interface BufferData {
             }
         };
     }
+
+    /**
+     * Available bytes of this buffer as byte buffers that share content with this buffer (no copy where possible).
+     * Composite buffers return a byte buffer for each of their parts, so all of them can be written
+     * using a single gathering write (such as {@link java.nio.channels.GatheringByteChannel#write(ByteBuffer[])}).
+     * <p>
+     * Reading the returned byte buffers does not consume this buffer, use {@link #skip(int)} with the number of
+     * bytes processed. The returned byte buffers must not be modified.
+     *
+     * @return byte buffers with the available bytes of this buffer, empty array if no bytes are available
+     */
+    default ByteBuffer[] asByteBuffers() {
+        int available = available();
+        if (available == 0) {
+            return new ByteBuffer[0];
+        }
+        byte[] bytes = new byte[available];
+        for (int i = 0; i < available; i++) {
+            bytes[i] = (byte) get(i);
+        }
+        return new ByteBuffer[] {ByteBuffer.wrap(bytes)};
+    }
 }
@@ -0,0 +1,64 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.common.buffers;
+
+import java.io.InputStream;
+
+/**
+ * Pull based source of data as a sequence of {@link BufferData} chunks.
+ * <p>
+ * Input streams that read data into buffers (such as HTTP entity streams reading from a socket) may implement this
+ * interface, so consumers can process the buffers as they were read, instead of copying them into an array
+ * through {@link InputStream#read(byte[], int, int)}.
+ * The returned buffers are not copied, they may share memory with the buffers read from the connection. Such memory
+ * is never returned to a buffer pool, so the buffers can be retained by the caller.
+ * <p>
+ * Reading from a source must not be combined with reading from the same instance as an input stream.
+ */
+@FunctionalInterface
+public interface BufferDataSource {
+    /**
+     * Read the next chunk of data.
+     *
+     * @param estimate number of bytes the caller would like to process, the returned buffer may have fewer or more bytes
+     * @return next chunk of data, or {@code null} if all data was read
+     * @throws java.io.UncheckedIOException in case I/O fails
+     */
+    BufferData readBuffer(int estimate);
+
+    /**
+     * Read the next chunk of data from an input stream.
+     * If the input stream is a {@link BufferDataSource}, its buffer is returned without copying,
+     * otherwise at most {@code estimate} bytes are copied into a new buffer.
+     *
+     * @param inputStream input stream to read from
+     * @param estimate    number of bytes the caller would like to process
+     * @return next chunk of data, or {@code null} if all data was read
+     * @throws java.io.UncheckedIOException in case I/O fails
+     */
+    static BufferData readBuffer(InputStream inputStream, int estimate) {
+        if (inputStream instanceof BufferDataSource source) {
+            return source.readBuffer(estimate);
+        }
+        BufferData bufferData = BufferData.create(estimate > 0 ? estimate : 16);
+        int read = bufferData.readFrom(inputStream);
+        if (read < 1) {
+            return null;
+        }
+        return bufferData;
+    }
+}
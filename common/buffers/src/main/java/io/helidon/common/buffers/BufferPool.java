@@ -0,0 +1,60 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.common.buffers;
+
+/**
+ * Pool of byte arrays of the same size.
+ * <p>
+ * Buffers are leased from the pool, and should be released when no longer used. A released buffer MUST NOT be
+ * referenced by the releasing party anymore, as it will be reused. Buffers that are never released are simply garbage
+ * collected. When the pool is empty, a new buffer is allocated, and when the pool is full, released buffers are dropped.
+ */
+public interface BufferPool {
+    /**
+     * Create a new striped buffer pool.
+     * Buffers are kept in a number of stripes (based on the number of available processors) to limit contention
+     * of threads leasing and releasing buffers.
+     *
+     * @param bufferSize      size of each buffer
+     * @param buffersPerStripe maximal number of buffers retained per stripe
+     * @return a new buffer pool
+     */
+    static BufferPool create(int bufferSize, int buffersPerStripe) {
+        return new StripedBufferPool(bufferSize, buffersPerStripe);
+    }
+
+    /**
+     * Lease a buffer from this pool. The content of the buffer is undefined.
+     *
+     * @return buffer of {@link #bufferSize()} bytes
+     */
+    byte[] lease();
+
+    /**
+     * Release a buffer back to this pool.
+     *
+     * @param buffer buffer previously obtained from {@link #lease()}
+     */
+    void release(byte[] buffer);
+
+    /**
+     * Size of buffers of this pool.
+     *
+     * @return buffer size in bytes
+     */
+    int bufferSize();
+}
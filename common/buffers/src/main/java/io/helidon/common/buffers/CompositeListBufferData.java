@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022, 2025 Oracle and/or its affiliates.
+ * Copyright (c) 2022, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -21,6 +21,7 @@ import java.io.OutputStream;
 import java.nio.ByteBuffer;
 import java.nio.charset.Charset;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
 
@@ -159,6 +160,17 @@ class CompositeListBufferData extends ReadOnlyBufferData implements CompositeBuf
         return written;
     }
 
+    @Override
+    public ByteBuffer[] asByteBuffers() {
+        List<ByteBuffer> result = new ArrayList<>(data.size());
+        for (BufferData datum : data) {
+            if (datum.available() > 0) {
+                Collections.addAll(result, datum.asByteBuffers());
+            }
+        }
+        return result.toArray(new ByteBuffer[0]);
+    }
+
     @Override
     public String debugDataBinary() {
         StringBuilder result = new StringBuilder();
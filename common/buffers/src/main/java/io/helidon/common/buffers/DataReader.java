@@ -28,20 +28,34 @@ import java.util.function.Supplier;
  */
 public class DataReader {
     private final Supplier<byte[]> bytesSupplier;
+    private final PooledDataSupplier pooledSupplier;
+    private final BufferPool bufferPool;
     private final boolean ignoreLoneEol;
     private Node head;
     private Node tail;
     private DataListener listener;
     private Object context;
+    private Runnable beforePull;
 
     private DataReader(Supplier<byte[]> bytesSupplier, boolean ignoreLoneEol) {
         this.ignoreLoneEol = ignoreLoneEol;
         this.bytesSupplier = bytesSupplier;
+        this.pooledSupplier = null;
+        this.bufferPool = null;
         // we cannot block until data is actually ready to be consumed
         this.head = new Node(BufferData.EMPTY_BYTES);
         this.tail = this.head;
     }
 
+    private DataReader(PooledDataSupplier pooledSupplier, BufferPool bufferPool, boolean ignoreLoneEol) {
+        this.ignoreLoneEol = ignoreLoneEol;
+        this.bytesSupplier = null;
+        this.pooledSupplier = pooledSupplier;
+        this.bufferPool = bufferPool;
+        this.head = new Node(BufferData.EMPTY_BYTES);
+        this.tail = this.head;
+    }
+
     /**
      * Data reader from a supplier of bytes.
      *
@@ -63,6 +77,23 @@ public class DataReader {
         return new DataReader(bytesSupplier, ignoreLoneEol);
     }
 
+    /**
+     * Data reader that reads into buffers leased from a buffer pool.
+     * <p>
+     * A buffer is returned to the pool once all of its bytes are consumed, unless a view of the buffer was
+     * handed out (such as through {@link #getBuffer(int)} or {@link #readBuffer(int)}), in which case it is left for
+     * garbage collection. Strings (including {@link #readLazyString(java.nio.charset.Charset, int)}) are always copied
+     * when using a pool, so parsing of headers does not prevent reuse of buffers.
+     *
+     * @param pooledSupplier supplier that reads data into a provided buffer
+     * @param bufferPool     pool to lease buffers from
+     * @param ignoreLoneEol  ignore LF without CR and CR without LF
+     * @return data reader using pooled buffers
+     */
+    public static DataReader create(PooledDataSupplier pooledSupplier, BufferPool bufferPool, boolean ignoreLoneEol) {
+        return new DataReader(pooledSupplier, bufferPool, ignoreLoneEol);
+    }
+
     /**
      * Number of bytes available in the currently pulled data.
      *
@@ -80,11 +111,25 @@ public class DataReader {
      * Pull next data.
      */
     public void pullData() {
-        byte[] bytes = bytesSupplier.get();
-        if (bytes == null) {
-            throw new InsufficientDataAvailableException();
+        if (beforePull != null) {
+            beforePull.run();
+        }
+        Node n;
+        if (bufferPool == null) {
+            byte[] bytes = bytesSupplier.get();
+            if (bytes == null) {
+                throw new InsufficientDataAvailableException();
+            }
+            n = new Node(bytes);
+        } else {
+            byte[] buffer = bufferPool.lease();
+            int read = pooledSupplier.read(buffer);
+            if (read < 0) {
+                bufferPool.release(buffer);
+                throw new InsufficientDataAvailableException();
+            }
+            n = new Node(buffer, read, true);
         }
-        Node n = new Node(bytes);
         tail.next = n;
         tail = n;
     }
@@ -112,7 +157,9 @@ public class DataReader {
             if (head.next == null) {
                 pullData();
             }
+            Node consumed = head;
             head = head.next;
+            consumed.release();
         }
     }
 
@@ -145,7 +192,7 @@ public class DataReader {
         ensureAvailable();
         byte[] bytes = head.bytes;
         int pos = head.position;
-        if (pos + 1 < bytes.length) {
+        if (pos + 1 < head.limit) {
             return bytes[pos] == Bytes.CR_BYTE && bytes[pos + 1] == Bytes.LF_BYTE;
         }
         return bytes[pos] == Bytes.CR_BYTE && head.next().peek() == Bytes.LF_BYTE;
@@ -188,6 +235,7 @@ public class DataReader {
     public BufferData readBuffer() {
         ensureAvailable();
         int size = head.available();
+        head.shared = true;
         BufferData result = BufferData.create(head.bytes, head.position, size);
         skip(size);
         return result;
@@ -215,12 +263,14 @@ public class DataReader {
     public BufferData getBuffer(int length) {
         ensureAvailable(); // we have at least 1 byte
         if (length <= head.available()) { // fast case
+            head.shared = true;
             return new ReadOnlyArrayData(head.bytes, head.position, length);
         } else {
             List<BufferData> data = new ArrayList<>();
             int remaining = length;
             for (Node n = head; remaining > 0; n = n.next) {
                 int toAdd = Math.min(remaining, n.available());
+                n.shared = true;
                 data.add(new ReadOnlyArrayData(n.bytes, n.position, toAdd));
                 remaining -= toAdd;
                 if (remaining > 0 && n.next == null) {
@@ -242,7 +292,13 @@ public class DataReader {
     public LazyString readLazyString(Charset charset, int len) {
         ensureAvailable(); // we have at least 1 byte
         if (len <= head.available()) { // fast case
-            LazyString s = new LazyString(head.bytes, head.position, len, charset);
+            LazyString s;
+            if (bufferPool == null) {
+                s = new LazyString(head.bytes, head.position, len, charset);
+            } else {
+                // do not keep a reference to a pooled buffer
+                s = new LazyString(Arrays.copyOfRange(head.bytes, head.position, head.position + len), charset);
+            }
             head.position += len;
             return s;
         } else {
@@ -350,12 +406,12 @@ public class DataReader {
         Node n = head;
         while (true) {
             byte[] barr = n.bytes;
-            for (int i = n.position; i < barr.length && idx < max; i++, idx++) {
+            for (int i = n.position; i < n.limit && idx < max; i++, idx++) {
                 if (barr[i] == Bytes.LF_BYTE && !ignoreLoneEol) {
                     throw new IncorrectNewLineException("Found LF (" + idx + ") without preceding CR. :\n" + this.debugDataHex());
                 } else if (barr[i] == Bytes.CR_BYTE) {
                     byte nextByte;
-                    if (i + 1 < barr.length) {
+                    if (i + 1 < n.limit) {
                         nextByte = barr[i + 1];
                     } else {
                         nextByte = n.next().peek();
@@ -403,7 +459,7 @@ public class DataReader {
 
         while (true) {
             byte[] barr = n.bytes;
-            int maxLength = Math.min(max - idx, barr.length - fromIndexNode);
+            int maxLength = Math.min(max - idx, n.limit - fromIndexNode);
             int crIndexNode = Bytes.firstIndexOf(barr, fromIndexNode, fromIndexNode + maxLength, Bytes.CR_BYTE);
 
             if (crIndexNode == -1) {
@@ -416,7 +472,7 @@ public class DataReader {
                 }
             } else {
                 // found, next byte should be LF
-                if (crIndexNode == barr.length - 1) {
+                if (crIndexNode == n.limit - 1) {
                     // found CR as the last byte of the current node, peek next node
                     byte nextByte = n.next().peek();
                     if (nextByte == Bytes.LF_BYTE) {
@@ -468,6 +524,17 @@ public class DataReader {
         this.context = context;
     }
 
+    /**
+     * Configure an action to run each time more data is pulled from the supplier, which may block until
+     * the data is available. This can be used for example to write buffered responses before waiting for the next
+     * request.
+     *
+     * @param beforePull action to run before data is pulled, or {@code null} to remove a configured action
+     */
+    public void beforePull(Runnable beforePull) {
+        this.beforePull = beforePull;
+    }
+
     /**
      * New line not valid.
      */
@@ -495,24 +562,35 @@ public class DataReader {
 
     private class Node {
         private final byte[] bytes;
+        // number of valid bytes in the array (pooled buffers may not be full)
+        private final int limit;
+        private final boolean pooled;
         private int position;
         private Node next;
+        // a view of the bytes was handed out, cannot be returned to the pool
+        private boolean shared;
 
         Node(byte[] bytes) {
+            this(bytes, bytes.length, false);
+        }
+
+        Node(byte[] bytes, int limit, boolean pooled) {
             this.bytes = bytes;
+            this.limit = limit;
+            this.pooled = pooled;
         }
 
         @Override
         public String toString() {
-            return position + " of " + Arrays.toString(bytes);
+            return position + " of " + Arrays.toString(Arrays.copyOf(bytes, limit));
         }
 
         int available() {
-            return bytes.length - position;
+            return limit - position;
         }
 
         boolean hasAvailable() {
-            return position < bytes.length;
+            return position < limit;
         }
 
         /*
@@ -520,16 +598,22 @@ public class DataReader {
          */
         int skip(int lenToSkip) {
             int newPos = position + lenToSkip;
-            if (newPos <= bytes.length) {
+            if (newPos <= limit) {
                 position = newPos;
                 return 0;
             } else {
-                lenToSkip -= (bytes.length - position);
-                position = bytes.length;
+                lenToSkip -= (limit - position);
+                position = limit;
                 return lenToSkip;
             }
         }
 
+        void release() {
+            if (pooled && !shared) {
+                bufferPool.release(bytes);
+            }
+        }
+
         // adding an if to assert this would be a performance overhead
         // this is truly to help when running unit or integration tests (when assertion is enabled)
         @SuppressWarnings("checkstyle:IllegalToken")
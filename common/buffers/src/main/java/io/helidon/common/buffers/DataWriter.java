@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022, 2025 Oracle and/or its affiliates.
+ * Copyright (c) 2022, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,6 +16,8 @@
 
 package io.helidon.common.buffers;
 
+import java.nio.channels.FileChannel;
+
 /**
  * Write data to the underlying transport (most likely a socket).
  * Do not combine {@link #write(io.helidon.common.buffers.BufferData)} and {@link #writeNow(io.helidon.common.buffers.BufferData)}
@@ -50,6 +52,31 @@ public interface DataWriter extends AutoCloseable {
      */
     void writeNow(BufferData buffer);
 
+    /**
+     * Whether this writer can transfer content of a file directly to the underlying transport,
+     * see {@link #transferNow(java.nio.channels.FileChannel, long, long)}.
+     *
+     * @return whether file transfer is supported, defaults to {@code false}
+     */
+    default boolean supportsTransfer() {
+        return false;
+    }
+
+    /**
+     * Transfer a region of a file to underlying transport blocking until all bytes are written.
+     * Where supported, the bytes are not copied to user space (such as when using {@code sendfile}).
+     * All data written before this method is called is written to the transport before the file content.
+     *
+     * @param file     file channel to transfer from, the channel is not closed by this method
+     * @param position position in the file of the first byte to transfer
+     * @param length   number of bytes to transfer
+     * @throws java.lang.UnsupportedOperationException in case this writer does not support file transfer
+     * @see #supportsTransfer()
+     */
+    default void transferNow(FileChannel file, long position, long length) {
+        throw new UnsupportedOperationException("File transfer is not supported by this writer");
+    }
+
     /**
      * Flushes to the underlying transport any pending data that has been written using
      * either {@link #write(BufferData)} or {@link #write(BufferData...)}.
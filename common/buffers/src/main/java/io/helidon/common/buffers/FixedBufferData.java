@@ -228,6 +228,15 @@ class FixedBufferData implements BufferData {
         return length - writePosition;
     }
 
+    @Override
+    public ByteBuffer[] asByteBuffers() {
+        int available = writePosition - readPosition;
+        if (available == 0) {
+            return new ByteBuffer[0];
+        }
+        return new ByteBuffer[] {ByteBuffer.wrap(bytes, readPosition, available)};
+    }
+
     @Override
     public int get(int index) {
         return bytes[readPosition + index];
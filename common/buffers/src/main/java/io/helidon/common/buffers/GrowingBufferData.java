@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022, 2025 Oracle and/or its affiliates.
+ * Copyright (c) 2022, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -222,6 +222,15 @@ class GrowingBufferData implements BufferData {
         return length - writePosition;
     }
 
+    @Override
+    public ByteBuffer[] asByteBuffers() {
+        int available = writePosition - readPosition;
+        if (available == 0) {
+            return new ByteBuffer[0];
+        }
+        return new ByteBuffer[] {ByteBuffer.wrap(bytes, readPosition, available)};
+    }
+
     @Override
     public int get(int index) {
         return bytes[readPosition + index];
@@ -0,0 +1,34 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.common.buffers;
+
+/**
+ * Supplier of data that reads into a provided buffer (such as a buffer leased from a {@link BufferPool}),
+ * instead of allocating a new array for each read.
+ *
+ * @see DataReader#create(PooledDataSupplier, BufferPool, boolean)
+ */
+@FunctionalInterface
+public interface PooledDataSupplier {
+    /**
+     * Read data into the provided buffer, blocking until at least one byte is available.
+     *
+     * @param buffer buffer to read into, data is always written from index {@code 0}
+     * @return number of bytes read, or {@code -1} if there is no more data available
+     */
+    int read(byte[] buffer);
+}
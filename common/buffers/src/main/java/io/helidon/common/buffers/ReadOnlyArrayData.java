@@ -159,6 +159,15 @@ class ReadOnlyArrayData extends ReadOnlyBufferData {
         throw new UnsupportedOperationException();
     }
 
+    @Override
+    public ByteBuffer[] asByteBuffers() {
+        int available = length - position;
+        if (available == 0) {
+            return new ByteBuffer[0];
+        }
+        return new ByteBuffer[] {ByteBuffer.wrap(bytes, offset + position, available)};
+    }
+
     @Override
     public int get(int index) {
         return bytes[offset + position + index] & 0xFF;
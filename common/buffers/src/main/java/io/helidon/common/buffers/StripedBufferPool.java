@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.common.buffers;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/*
+ * Each stripe is a fixed array of slots, buffers are taken and returned using CAS, so no allocation
+ * happens when leasing from or releasing to a non-empty (non-full) stripe.
+ */
+class StripedBufferPool implements BufferPool {
+    private final int bufferSize;
+    private final int slots;
+    private final int stripeMask;
+    private final AtomicReferenceArray<byte[]>[] stripes;
+
+    @SuppressWarnings("unchecked")
+    StripedBufferPool(int bufferSize, int buffersPerStripe) {
+        if (bufferSize < 1) {
+            throw new IllegalArgumentException("Buffer size must be positive, but is: " + bufferSize);
+        }
+        if (buffersPerStripe < 1) {
+            throw new IllegalArgumentException("Buffers per stripe must be positive, but is: " + buffersPerStripe);
+        }
+        this.bufferSize = bufferSize;
+        this.slots = buffersPerStripe;
+
+        // power of two, so we can use a mask instead of modulo
+        int stripeCount = Integer.highestOneBit(Math.max(1, Runtime.getRuntime().availableProcessors() * 2 - 1)) << 1;
+        this.stripeMask = stripeCount - 1;
+        this.stripes = new AtomicReferenceArray[stripeCount];
+        for (int i = 0; i < stripeCount; i++) {
+            stripes[i] = new AtomicReferenceArray<>(buffersPerStripe);
+        }
+    }
+
+    @Override
+    public byte[] lease() {
+        AtomicReferenceArray<byte[]> stripe = stripe();
+        for (int i = 0; i < slots; i++) {
+            byte[] buffer = stripe.getPlain(i);
+            if (buffer != null && stripe.compareAndSet(i, buffer, null)) {
+                return buffer;
+            }
+        }
+        return new byte[bufferSize];
+    }
+
+    @Override
+    public void release(byte[] buffer) {
+        if (buffer.length != bufferSize) {
+            // not ours
+            return;
+        }
+        AtomicReferenceArray<byte[]> stripe = stripe();
+        for (int i = 0; i < slots; i++) {
+            if (stripe.getPlain(i) == null && stripe.compareAndSet(i, null, buffer)) {
+                return;
+            }
+        }
+        // stripe is full, buffer will be garbage collected
+    }
+
+    @Override
+    public int bufferSize() {
+        return bufferSize;
+    }
+
+    @Override
+    public String toString() {
+        return "BufferPool {bufferSize=" + bufferSize + ", stripes=" + stripes.length + ", buffersPerStripe=" + slots + "}";
+    }
+
+    private AtomicReferenceArray<byte[]> stripe() {
+        long id = Thread.currentThread().threadId();
+        return stripes[(int) (id ^ (id >>> 16)) & stripeMask];
+    }
+}
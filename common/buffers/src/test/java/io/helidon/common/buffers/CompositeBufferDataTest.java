@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022 Oracle and/or its affiliates.
+ * Copyright (c) 2022, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,6 +16,8 @@
 
 package io.helidon.common.buffers;
 
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.stream.Stream;
 
@@ -54,6 +56,24 @@ class CompositeBufferDataTest {
         assertThat(result, is("123456789"));
     }
 
+    @ParameterizedTest
+    @MethodSource("initParams")
+    void testAsByteBuffers(TestContext context) {
+        BufferData combined = context.bufferData();
+        combined.read();
+
+        ByteBuffer[] buffers = combined.asByteBuffers();
+
+        assertThat(buffers.length, is(2));
+        assertThat(StandardCharsets.US_ASCII.decode(buffers[0]).toString(), is("123456"));
+        assertThat(StandardCharsets.US_ASCII.decode(buffers[1]).toString(), is("7890"));
+        // byte buffers do not consume the buffer data
+        assertThat(combined.available(), is(10));
+        combined.skip(8);
+        assertThat(combined.readString(2), is("90"));
+        assertThat(combined.asByteBuffers().length, is(0));
+    }
+
     private record TestContext(String name, BufferData bufferData) {
         @Override
         public String toString() {
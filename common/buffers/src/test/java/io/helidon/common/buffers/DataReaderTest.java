@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2024, 2025 Oracle and/or its affiliates.
+ * Copyright (c) 2024, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -17,15 +17,33 @@
 package io.helidon.common.buffers;
 
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 
 import org.junit.jupiter.api.Test;
 
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.is;
 
 class DataReaderTest {
 
+    @Test
+    void testBeforePull() {
+        AtomicInteger pulls = new AtomicInteger();
+        AtomicReference<byte[]> ref = new AtomicReference<>("0123".getBytes(StandardCharsets.US_ASCII));
+        DataReader dataReader = DataReader.create(() -> ref.getAndSet(null));
+        dataReader.beforePull(pulls::incrementAndGet);
+
+        assertThat(dataReader.readAsciiString(2), is("01"));
+        assertThat(pulls.get(), is(1));
+        // data already pulled does not run the action
+        assertThat(dataReader.readAsciiString(2), is("23"));
+        assertThat(pulls.get(), is(1));
+    }
+
     @Test
     void testFindNewLineWithLoneCR() {
         // reading N bytes at a time until a new line is found
@@ -70,4 +88,75 @@ class DataReaderTest {
         dataReader.skip(n);
         assertThat(dataReader.findNewLine(n), is(1));
     }
+
+    @Test
+    void testPooledReadAcrossBuffers() {
+        TestPool pool = new TestPool(8);
+        DataReader dataReader = DataReader.create(pooledSupplier("GET /path HTTP/1.1\r\nHost: localhost\r\n\r\n"),
+                                                  pool,
+                                                  false);
+
+        assertThat(dataReader.readLine(), is("GET /path HTTP/1.1"));
+        assertThat(dataReader.readLazyString(StandardCharsets.US_ASCII, 5).toString(), is("Host:"));
+        dataReader.skip(1);
+        assertThat(dataReader.readLine(), is("localhost"));
+        assertThat(dataReader.startsWithNewLine(), is(true));
+        // all fully consumed buffers were returned to the pool
+        assertThat(pool.released, hasSize(pool.leased - 1));
+    }
+
+    @Test
+    void testPooledSharedBufferNotReleased() {
+        TestPool pool = new TestPool(4);
+        DataReader dataReader = DataReader.create(pooledSupplier("abcdefghijkl"), pool, false);
+
+        BufferData shared = dataReader.readBuffer(4);
+        assertThat(dataReader.readAsciiString(4), is("efgh"));
+        dataReader.ensureAvailable();
+
+        // first buffer is referenced by the returned buffer data, second one is consumed
+        assertThat(pool.released, hasSize(1));
+        assertThat(shared.readString(4), is("abcd"));
+    }
+
+    private static PooledDataSupplier pooledSupplier(String data) {
+        byte[] bytes = data.getBytes(StandardCharsets.US_ASCII);
+        int[] position = new int[1];
+        return buffer -> {
+            if (position[0] == bytes.length) {
+                return -1;
+            }
+            int toRead = Math.min(buffer.length, bytes.length - position[0]);
+            System.arraycopy(bytes, position[0], buffer, 0, toRead);
+            position[0] += toRead;
+            return toRead;
+        };
+    }
+
+    // never reuses buffers, so we can validate what was released
+    private static final class TestPool implements BufferPool {
+        private final int size;
+        private final List<byte[]> released = new ArrayList<>();
+        private int leased;
+
+        private TestPool(int size) {
+            this.size = size;
+        }
+
+        @Override
+        public byte[] lease() {
+            leased++;
+            return new byte[size];
+        }
+
+        @Override
+        public void release(byte[] buffer) {
+            released.add(buffer);
+        }
+
+        @Override
+        public int bufferSize() {
+            return size;
+        }
+    }
 }
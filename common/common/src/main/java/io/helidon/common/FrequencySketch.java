@@ -0,0 +1,129 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.common;
+
+import java.util.Arrays;
+
+/*
+ * Count-Min sketch of access frequency, used by the TinyLFU admission policy of LruCacheImpl.
+ * Each long holds sixteen 4-bit counters, a key maps to one counter in four different longs. All counters are halved
+ * once the number of increments reaches ten times the table size, so the sketch favors recent frequency.
+ * Not thread safe, guarded by the eviction lock of the cache.
+ */
+final class FrequencySketch {
+    private static final long[] SEEDS = {
+            0xc3a5c85c97cb3127L, 0xb492b66fbe98f273L, 0x9ae16a3b2f90404fL, 0xcbf29ce484222325L};
+    private static final long RESET_MASK = 0x7777777777777777L;
+    private static final long ONE_MASK = 0x1111111111111111L;
+    private static final int MIN_TABLE_SIZE = 16;
+    private static final int MAX_TABLE_SIZE = 1 << 26;
+
+    private long[] table;
+    private int tableMask;
+    private int sampleSize;
+    private int size;
+
+    FrequencySketch() {
+        resize(MIN_TABLE_SIZE);
+    }
+
+    /**
+     * Grow the table, so it has at least one long per expected record.
+     * The table is grown by repeating its content, as the index of a key in a bigger table is equal to its index in
+     * the smaller one modulo the smaller size, so existing frequencies are preserved.
+     *
+     * @param expectedSize number of records in the cache
+     */
+    void ensureCapacity(long expectedSize) {
+        if (expectedSize <= table.length || table.length == MAX_TABLE_SIZE) {
+            return;
+        }
+        int newSize = (int) Math.min(MAX_TABLE_SIZE, Long.highestOneBit(expectedSize - 1) << 1);
+        long[] grown = Arrays.copyOf(table, newSize);
+        for (int i = table.length; i < newSize; i += table.length) {
+            System.arraycopy(table, 0, grown, i, table.length);
+        }
+        table = grown;
+        tableMask = newSize - 1;
+        sampleSize = 10 * newSize;
+    }
+
+    int frequency(Object key) {
+        int hash = spread(key.hashCode());
+        int start = (hash & 3) << 2;
+        int frequency = Integer.MAX_VALUE;
+        for (int i = 0; i < 4; i++) {
+            int index = indexOf(hash, i);
+            int count = (int) ((table[index] >>> ((start + i) << 2)) & 0xfL);
+            frequency = Math.min(frequency, count);
+        }
+        return frequency;
+    }
+
+    void increment(Object key) {
+        int hash = spread(key.hashCode());
+        int start = (hash & 3) << 2;
+        boolean added = false;
+        for (int i = 0; i < 4; i++) {
+            added |= incrementAt(indexOf(hash, i), start + i);
+        }
+        if (added && ++size == sampleSize) {
+            reset();
+        }
+    }
+
+    void clear() {
+        resize(MIN_TABLE_SIZE);
+    }
+
+    private boolean incrementAt(int index, int counter) {
+        int offset = counter << 2;
+        long mask = 0xfL << offset;
+        if ((table[index] & mask) != mask) {
+            table[index] += 1L << offset;
+            return true;
+        }
+        return false;
+    }
+
+    private void reset() {
+        int odd = 0;
+        for (int i = 0; i < table.length; i++) {
+            odd += Long.bitCount(table[i] & ONE_MASK);
+            table[i] = (table[i] >>> 1) & RESET_MASK;
+        }
+        size = (size - (odd >>> 2)) >>> 1;
+    }
+
+    private void resize(int tableSize) {
+        table = new long[tableSize];
+        tableMask = tableSize - 1;
+        sampleSize = 10 * tableSize;
+        size = 0;
+    }
+
+    private int indexOf(int hash, int i) {
+        long result = (hash + SEEDS[i]) * SEEDS[i];
+        result += result >>> 32;
+        return ((int) result) & tableMask;
+    }
+
+    private static int spread(int hash) {
+        int result = ((hash >>> 16) ^ hash) * 0x45d9f3b;
+        result = ((result >>> 16) ^ result) * 0x45d9f3b;
+        return (result >>> 16) ^ result;
+    }
+}
@@ -15,13 +15,17 @@
  */
 package io.helidon.common;
 
+import java.util.Objects;
 import java.util.Optional;
+import java.util.function.BiConsumer;
 import java.util.function.Supplier;
+import java.util.function.ToIntBiFunction;
 
 /**
  * Least recently used cache.
- * This cache has a capacity. When the capacity is reached, the oldest record is removed from the cache when a new one
- * is added.
+ * This cache has a capacity. When the capacity is reached, a record is removed from the cache when a new one
+ * is added. The least recently used record is removed, unless the new record is accessed less frequently than it
+ * (frequency based admission, see {@link #builder()}).
  *
  * @param <K> type of the keys of the map
  * @param <V> type of the values of the map
@@ -57,6 +61,22 @@ public interface LruCache<K, V> {
         return new LruCacheImpl<>(capacity);
     }
 
+    /**
+     * A new builder of a cache, to configure weight based capacity.
+     * <p>
+     * The implementation is safe for concurrent use. Reads do not lock, and records are evicted using a W-TinyLFU policy:
+     * a new record enters a small admission window, and it is only admitted to the main space if it is not used
+     * less frequently than the record that would be evicted to make room for it.
+     *
+     * @param <K> key type
+     * @param <V> value type
+     * @return a new builder
+     */
+    @Api.Preview
+    static <K, V> Builder<K, V> builder() {
+        return new Builder<>();
+    }
+
     /**
      * Get a value from the cache.
      *
@@ -113,4 +133,121 @@ public interface LruCache<K, V> {
      * Clear all records in the cache.
      */
     void clear();
+
+    /**
+     * Statistics of this cache, collected since the cache was created.
+     * Implementations that do not collect statistics return all counts as zero.
+     *
+     * @return cache statistics
+     */
+    @Api.Preview
+    default Statistics statistics() {
+        return new Statistics(0, 0, 0);
+    }
+
+    /**
+     * Statistics of a cache.
+     *
+     * @param hitCount      number of lookups that found a record
+     * @param missCount     number of lookups that did not find a record
+     * @param evictionCount number of records removed from the cache by the eviction policy
+     */
+    @Api.Preview
+    record Statistics(long hitCount, long missCount, long evictionCount) {
+        /**
+         * Number of lookups.
+         *
+         * @return sum of hits and misses
+         */
+        public long requestCount() {
+            return hitCount + missCount;
+        }
+
+        /**
+         * Ratio of lookups that found a record.
+         *
+         * @return hit rate between {@code 0} and {@code 1}, {@code 1} if there were no lookups
+         */
+        public double hitRate() {
+            long requests = requestCount();
+            return requests == 0 ? 1.0 : (double) hitCount / requests;
+        }
+    }
+
+    /**
+     * Fluent API builder for {@link io.helidon.common.LruCache}.
+     *
+     * @param <K> key type
+     * @param <V> value type
+     */
+    @Api.Preview
+    final class Builder<K, V> implements io.helidon.common.Builder<Builder<K, V>, LruCache<K, V>> {
+        private int capacity = DEFAULT_CAPACITY;
+        private long maximumWeight;
+        private ToIntBiFunction<? super K, ? super V> weigher;
+        private BiConsumer<? super K, ? super V> evictionListener;
+
+        private Builder() {
+        }
+
+        @Override
+        public LruCache<K, V> build() {
+            if (weigher == null) {
+                return new LruCacheImpl<>(capacity, capacity, null, evictionListener);
+            }
+            return new LruCacheImpl<>((int) Math.min(Integer.MAX_VALUE, maximumWeight),
+                                      maximumWeight,
+                                      weigher,
+                                      evictionListener);
+        }
+
+        /**
+         * Maximal number of records in the cache.
+         * Ignored when {@link #weigher(long, java.util.function.ToIntBiFunction)} is configured.
+         *
+         * @param capacity capacity of the cache, defaults to {@link io.helidon.common.LruCache#DEFAULT_CAPACITY}
+         * @return updated builder
+         */
+        public Builder<K, V> capacity(int capacity) {
+            if (capacity < 0) {
+                throw new IllegalArgumentException("Capacity must not be negative, but is: " + capacity);
+            }
+            this.capacity = capacity;
+            return this;
+        }
+
+        /**
+         * Limit the cache by the sum of weights of its records, rather than by the number of records.
+         * This can be used for example to limit the number of bytes held by a cache.
+         * {@link io.helidon.common.LruCache#capacity()} of such a cache returns the maximal weight
+         * (limited to {@link Integer#MAX_VALUE}).
+         *
+         * @param maximumWeight maximal sum of weights of all records
+         * @param weigher       function to compute weight of a record, must not return a negative number
+         * @return updated builder
+         */
+        public Builder<K, V> weigher(long maximumWeight, ToIntBiFunction<? super K, ? super V> weigher) {
+            Objects.requireNonNull(weigher);
+            if (maximumWeight < 0) {
+                throw new IllegalArgumentException("Maximum weight must not be negative, but is: " + maximumWeight);
+            }
+            this.maximumWeight = maximumWeight;
+            this.weigher = weigher;
+            return this;
+        }
+
+        /**
+         * Listener notified when the cache evicts a record, for example to release resources associated with it.
+         * It is not notified of records removed by {@link io.helidon.common.LruCache#remove(Object)}
+         * or {@link io.helidon.common.LruCache#clear()}.
+         * The listener is invoked while the cache is locked, so it must be fast and must not use the cache.
+         *
+         * @param evictionListener listener receiving the key and the value of each evicted record
+         * @return updated builder
+         */
+        public Builder<K, V> evictionListener(BiConsumer<? super K, ? super V> evictionListener) {
+            this.evictionListener = Objects.requireNonNull(evictionListener);
+            return this;
+        }
+    }
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2024, 2025 Oracle and/or its affiliates.
+ * Copyright (c) 2024, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -15,104 +15,175 @@
  */
 package io.helidon.common;
 
-import java.util.LinkedHashMap;
 import java.util.Optional;
-import java.util.SequencedMap;
-import java.util.concurrent.locks.Lock;
-import java.util.concurrent.locks.ReadWriteLock;
-import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BiConsumer;
 import java.util.function.Supplier;
+import java.util.function.ToIntBiFunction;
 
 /**
- * Least recently used cache.
- * This cache has a capacity. When the capacity is reached, the oldest record is removed from the cache when a new one
- * is added.
+ * Least recently used cache with a frequency based admission policy (W-TinyLFU).
+ * <p>
+ * Records are stored in a {@link java.util.concurrent.ConcurrentHashMap}, so reads do not lock. Reads are recorded
+ * in striped buffers and applied to the eviction policy in batches (under a lock, when a buffer is full or when
+ * the cache is modified). Modifications are guarded by the eviction lock.
+ * <p>
+ * New records are added to a small admission window (LRU). When the window is full, its least recently used record
+ * is a candidate to enter the main space, which is split into probation and protected segments (SLRU). If the main space
+ * is full, the candidate is compared with the least recently used record of the main space using access frequency
+ * estimated by {@link io.helidon.common.FrequencySketch}, and the less frequently used record is evicted.
+ * Ties are resolved in favor of the candidate, so without a difference in frequency the cache behaves as an LRU cache.
  *
  * @param <K> type of the keys of the map
  * @param <V> type of the values of the map
  */
 final class LruCacheImpl<K, V> implements LruCache<K, V> {
-    private final SequencedMap<K, V> backingMap = new LinkedHashMap<>();
-    private final ReadWriteLock rwLock = new ReentrantReadWriteLock(true);
-    private final Lock readLock = rwLock.readLock();
-    private final Lock writeLock = rwLock.writeLock();
+    private static final int REMOVED = 0;
+    private static final int WINDOW = 1;
+    private static final int PROBATION = 2;
+    private static final int PROTECTED = 3;
+    // percentage of the maximal weight used by the admission window
+    private static final int WINDOW_PERCENT = 1;
+    // percentage of the main space used by the protected segment
+    private static final int PROTECTED_PERCENT = 80;
+    private static final int READ_BUFFER_SIZE = 16;
+    private static final int READ_BUFFER_MASK = READ_BUFFER_SIZE - 1;
+    private static final int MAX_READ_BUFFERS = 16;
 
+    private final ConcurrentHashMap<K, Node<K, V>> data = new ConcurrentHashMap<>();
+    private final ReentrantLock evictionLock = new ReentrantLock();
+    private final ReadBuffer<K, V>[] readBuffers;
+    private final int readBufferMask;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
     private final int capacity;
+    private final ToIntBiFunction<? super K, ? super V> weigher;
+    private final BiConsumer<? super K, ? super V> evictionListener;
+    private final long windowMaximum;
+    private final long mainMaximum;
+    private final long protectedMaximum;
+    // the heaviest record that fits either into the window, or into the main space
+    private final long maximumRecordWeight;
+
+    // guarded by evictionLock
+    private final FrequencySketch sketch = new FrequencySketch();
+    private final AccessQueue<K, V> window = new AccessQueue<>();
+    private final AccessQueue<K, V> probation = new AccessQueue<>();
+    private final AccessQueue<K, V> protectedQueue = new AccessQueue<>();
+    private long windowWeight;
+    private long mainWeight;
+    private long protectedWeight;
 
     LruCacheImpl(int capacity) {
+        this(capacity, capacity, null, null);
+    }
+
+    @SuppressWarnings("unchecked")
+    LruCacheImpl(int capacity,
+                 long maximumWeight,
+                 ToIntBiFunction<? super K, ? super V> weigher,
+                 BiConsumer<? super K, ? super V> evictionListener) {
         this.capacity = capacity;
+        this.weigher = weigher;
+        this.evictionListener = evictionListener;
+        this.windowMaximum = Math.min(maximumWeight, Math.max(1, maximumWeight * WINDOW_PERCENT / 100));
+        this.mainMaximum = maximumWeight - windowMaximum;
+        this.protectedMaximum = mainMaximum * PROTECTED_PERCENT / 100;
+        this.maximumRecordWeight = Math.max(windowMaximum, mainMaximum);
+
+        // power of two, so we can use a mask instead of modulo
+        int bufferCount = Math.min(MAX_READ_BUFFERS,
+                                   Integer.highestOneBit(Math.max(1, Runtime.getRuntime().availableProcessors() - 1)) << 1);
+        this.readBufferMask = bufferCount - 1;
+        this.readBuffers = new ReadBuffer[bufferCount];
+        for (int i = 0; i < bufferCount; i++) {
+            readBuffers[i] = new ReadBuffer<>();
+        }
     }
 
     @Override
     public Optional<V> get(K key) {
-        readLock.lock();
-        V value;
-        try {
-            value = backingMap.get(key);
-        } finally {
-            readLock.unlock();
-        }
-        if (null == value) {
+        Node<K, V> node = data.get(key);
+        if (node == null) {
+            misses.increment();
             return Optional.empty();
         }
-        writeLock.lock();
-        try {
-            // make sure the value is the last in the map (I do ignore a race here, as it is not significant)
-            // if some other thread moved another record to the front, we just move ours before it
-
-            value = backingMap.get(key);
-            if (null == value) {
-                return Optional.empty();
-            }
-            //LRU policy
-            backingMap.putLast(key, value);
-
-            return Optional.of(value);
-        } finally {
-            writeLock.unlock();
-        }
+        hits.increment();
+        V value = node.value;
+        recordRead(node);
+        return Optional.ofNullable(value);
     }
 
     @Override
     public Optional<V> remove(K key) {
-
-        writeLock.lock();
+        evictionLock.lock();
         try {
-            return Optional.ofNullable(backingMap.remove(key));
+            Node<K, V> node = data.remove(key);
+            if (node == null) {
+                return Optional.empty();
+            }
+            unlink(node);
+            return Optional.ofNullable(node.value);
         } finally {
-            writeLock.unlock();
+            evictionLock.unlock();
         }
     }
 
     @Override
     public Optional<V> put(K key, V value) {
-        writeLock.lock();
+        int weight = weight(key, value);
+
+        evictionLock.lock();
         try {
-            V oldValue = backingMap.putLast(key, value);
-            reduceSize();
-            return Optional.ofNullable(oldValue);
-        } finally {
-            writeLock.unlock();
-        }
-    }
+            // apply reads that happened before this write, so the policy sees accesses in order
+            drainReadBuffers();
 
-    private void reduceSize() {
+            Node<K, V> node = data.get(key);
+            if (weight > maximumRecordWeight) {
+                // the record would evict all other records before it is evicted itself, so it is never linked
+                // (and the previous value of the key is no longer valid)
+                if (node == null) {
+                    return Optional.empty();
+                }
+                evict(node);
+                return Optional.ofNullable(node.value);
+            }
+            if (node == null) {
+                node = new Node<>(key, value, weight);
+                data.put(key, node);
+                sketch.ensureCapacity(data.size());
+                sketch.increment(key);
+                node.queue = WINDOW;
+                window.addLast(node);
+                windowWeight += weight;
+                evict();
+                return Optional.empty();
+            }
 
-        while (backingMap.size() > capacity) {
-            backingMap.pollFirstEntry();
+            V oldValue = node.value;
+            node.value = value;
+            updateWeight(node, weight);
+            onAccess(node);
+            evict();
+            return Optional.ofNullable(oldValue);
+        } finally {
+            evictionLock.unlock();
         }
     }
 
     @Override
     public Optional<V> computeValue(K key, Supplier<Optional<V>> valueSupplier) {
-        // get is properly synchronized
         Optional<V> currentValue = get(key);
         if (currentValue.isPresent()) {
             return currentValue;
         }
         Optional<V> newValue = valueSupplier.get();
-        // put is also properly synchronized - nevertheless we may replace the value more then once
-        // if called from parallel threads
+        // we may replace the value more than once if called from parallel threads
         newValue.ifPresent(theValue -> put(key, theValue));
 
         return newValue;
@@ -120,12 +191,7 @@ final class LruCacheImpl<K, V> implements LruCache<K, V> {
 
     @Override
     public int size() {
-        readLock.lock();
-        try {
-            return backingMap.size();
-        } finally {
-            readLock.unlock();
-        }
+        return data.size();
     }
 
     @Override
@@ -135,11 +201,298 @@ final class LruCacheImpl<K, V> implements LruCache<K, V> {
 
     @Override
     public void clear() {
-        writeLock.lock();
+        evictionLock.lock();
         try {
-            backingMap.clear();
+            drainReadBuffers();
+            data.clear();
+            // nodes may still be referenced from read buffers, they must be marked as removed
+            clear(window);
+            clear(probation);
+            clear(protectedQueue);
+            windowWeight = 0;
+            mainWeight = 0;
+            protectedWeight = 0;
+            sketch.clear();
         } finally {
-            writeLock.unlock();
+            evictionLock.unlock();
+        }
+    }
+
+    @Override
+    public Statistics statistics() {
+        return new Statistics(hits.sum(), misses.sum(), evictions.sum());
+    }
+
+    @Override
+    public String toString() {
+        return "LruCache {capacity=" + capacity + ", size=" + size() + ", " + statistics() + "}";
+    }
+
+    private int weight(K key, V value) {
+        if (weigher == null) {
+            return 1;
+        }
+        int weight = weigher.applyAsInt(key, value);
+        if (weight < 0) {
+            throw new IllegalArgumentException("Weight of a cache record must not be negative, but is " + weight
+                                                       + " for key " + key);
+        }
+        return weight;
+    }
+
+    private void recordRead(Node<K, V> node) {
+        long id = Thread.currentThread().threadId();
+        ReadBuffer<K, V> buffer = readBuffers[(int) (id ^ (id >>> 16)) & readBufferMask];
+        if (!buffer.offer(node) && evictionLock.tryLock()) {
+            // buffer is full, apply the reads to the policy, if nobody else is doing it
+            try {
+                drainReadBuffers();
+            } finally {
+                evictionLock.unlock();
+            }
+        }
+    }
+
+    private void drainReadBuffers() {
+        for (ReadBuffer<K, V> buffer : readBuffers) {
+            Node<K, V> node;
+            while ((node = buffer.poll()) != null) {
+                onAccess(node);
+            }
+        }
+    }
+
+    private void onAccess(Node<K, V> node) {
+        switch (node.queue) {
+        case WINDOW -> {
+            sketch.increment(node.key);
+            window.moveToLast(node);
+        }
+        case PROBATION -> {
+            sketch.increment(node.key);
+            probation.remove(node);
+            node.queue = PROTECTED;
+            protectedQueue.addLast(node);
+            protectedWeight += node.weight;
+            demoteProtected();
+        }
+        case PROTECTED -> {
+            sketch.increment(node.key);
+            protectedQueue.moveToLast(node);
+        }
+        default -> {
+            // record was removed after it was read
+        }
+        }
+    }
+
+    private void updateWeight(Node<K, V> node, int weight) {
+        int difference = weight - node.weight;
+        node.weight = weight;
+        switch (node.queue) {
+        case WINDOW -> windowWeight += difference;
+        case PROBATION -> mainWeight += difference;
+        case PROTECTED -> {
+            mainWeight += difference;
+            protectedWeight += difference;
+        }
+        default -> {
+        }
+        }
+    }
+
+    private void demoteProtected() {
+        while (protectedWeight > protectedMaximum) {
+            Node<K, V> node = protectedQueue.pollFirst();
+            protectedWeight -= node.weight;
+            node.queue = PROBATION;
+            probation.addLast(node);
+        }
+    }
+
+    private void evict() {
+        // least recently used records of the window are candidates to enter the main space
+        while (windowWeight > windowMaximum) {
+            Node<K, V> candidate = window.pollFirst();
+            windowWeight -= candidate.weight;
+            candidate.queue = PROBATION;
+            probation.addLast(candidate);
+            mainWeight += candidate.weight;
+            admit(candidate);
+        }
+        // records in the main space may have been updated with a higher weight
+        while (mainWeight > mainMaximum) {
+            Node<K, V> victim = probation.first();
+            evict(victim == null ? protectedQueue.first() : victim);
+        }
+    }
+
+    private void admit(Node<K, V> candidate) {
+        if (candidate.weight > mainMaximum) {
+            // candidate alone is bigger than the main space, do not evict other records to make space for it
+            evict(candidate);
+            return;
+        }
+        while (mainWeight > mainMaximum) {
+            Node<K, V> victim = probation.first();
+            if (victim == candidate) {
+                victim = protectedQueue.first();
+            }
+            if (victim == null) {
+                // only records without weight left
+                evict(candidate);
+                return;
+            }
+            if (sketch.frequency(candidate.key) >= sketch.frequency(victim.key)) {
+                evict(victim);
+            } else {
+                evict(candidate);
+                return;
+            }
+        }
+    }
+
+    private void evict(Node<K, V> node) {
+        data.remove(node.key, node);
+        unlink(node);
+        evictions.increment();
+        if (evictionListener != null) {
+            evictionListener.accept(node.key, node.value);
+        }
+    }
+
+    private void unlink(Node<K, V> node) {
+        switch (node.queue) {
+        case WINDOW -> {
+            window.remove(node);
+            windowWeight -= node.weight;
+        }
+        case PROBATION -> {
+            probation.remove(node);
+            mainWeight -= node.weight;
+        }
+        case PROTECTED -> {
+            protectedQueue.remove(node);
+            mainWeight -= node.weight;
+            protectedWeight -= node.weight;
+        }
+        default -> {
+        }
+        }
+        node.queue = REMOVED;
+    }
+
+    private static <K, V> void clear(AccessQueue<K, V> queue) {
+        Node<K, V> node;
+        while ((node = queue.pollFirst()) != null) {
+            node.queue = REMOVED;
+        }
+    }
+
+    private static final class Node<K, V> {
+        private final K key;
+        private volatile V value;
+
+        // guarded by eviction lock
+        private int weight;
+        private int queue;
+        private Node<K, V> previous;
+        private Node<K, V> next;
+
+        private Node(K key, V value, int weight) {
+            this.key = key;
+            this.value = value;
+            this.weight = weight;
+        }
+    }
+
+    /*
+     * Intrusive doubly linked list of nodes in access order (least recently used first).
+     */
+    private static final class AccessQueue<K, V> {
+        private Node<K, V> first;
+        private Node<K, V> last;
+
+        Node<K, V> first() {
+            return first;
+        }
+
+        Node<K, V> pollFirst() {
+            Node<K, V> node = first;
+            if (node != null) {
+                remove(node);
+            }
+            return node;
+        }
+
+        void addLast(Node<K, V> node) {
+            node.previous = last;
+            node.next = null;
+            if (last == null) {
+                first = node;
+            } else {
+                last.next = node;
+            }
+            last = node;
+        }
+
+        void moveToLast(Node<K, V> node) {
+            if (node != last) {
+                remove(node);
+                addLast(node);
+            }
+        }
+
+        void remove(Node<K, V> node) {
+            if (node.previous == null) {
+                first = node.next;
+            } else {
+                node.previous.next = node.next;
+            }
+            if (node.next == null) {
+                last = node.previous;
+            } else {
+                node.next.previous = node.previous;
+            }
+            node.previous = null;
+            node.next = null;
+        }
+    }
+
+    /*
+     * Bounded buffer of reads, written by many threads, drained by the thread holding the eviction lock.
+     * Reads are dropped when the buffer is full or when a writer loses a race, as they are only a hint for the policy.
+     */
+    private static final class ReadBuffer<K, V> {
+        private final AtomicReferenceArray<Node<K, V>> buffer = new AtomicReferenceArray<>(READ_BUFFER_SIZE);
+        private final AtomicLong writeCounter = new AtomicLong();
+        private volatile long readCounter;
+
+        boolean offer(Node<K, V> node) {
+            long tail = writeCounter.get();
+            if (tail - readCounter >= READ_BUFFER_SIZE) {
+                return false;
+            }
+            if (writeCounter.compareAndSet(tail, tail + 1)) {
+                buffer.lazySet((int) tail & READ_BUFFER_MASK, node);
+            }
+            return true;
+        }
+
+        Node<K, V> poll() {
+            long head = readCounter;
+            if (head == writeCounter.get()) {
+                return null;
+            }
+            int index = (int) head & READ_BUFFER_MASK;
+            Node<K, V> node = buffer.get(index);
+            if (node == null) {
+                // writer has not published the node yet, it will be drained next time
+                return null;
+            }
+            buffer.lazySet(index, null);
+            readCounter = head + 1;
+            return node;
         }
     }
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2019, 2024 Oracle and/or its affiliates.
+ * Copyright (c) 2019, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,12 +16,18 @@
 
 package io.helidon.common;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import org.junit.jupiter.api.Test;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
 
 /**
  * Unit test for {@link io.helidon.common.LruCache}.
@@ -109,4 +115,114 @@ class LruCacheTest {
         assertThat(value, is(Optional.empty()));
 
     }
+
+    @Test
+    void testFrequentRecordNotEvicted() {
+        LruCache<Integer, Integer> theCache = LruCache.create(100);
+        theCache.put(0, 0);
+        for (int i = 0; i < 10; i++) {
+            theCache.get(0);
+        }
+        // a scan of records used just once must not evict a frequently used record
+        for (int i = 1; i < 1000; i++) {
+            theCache.put(i, i);
+        }
+        assertThat(theCache.get(0), is(Optional.of(0)));
+        assertThat(theCache.size(), is(100));
+    }
+
+    @Test
+    void testWeightedCache() {
+        LruCache<String, String> theCache = LruCache.<String, String>builder()
+                .weigher(10, (key, value) -> value.length())
+                .build();
+
+        assertThat(theCache.capacity(), is(10));
+        theCache.put("a", "aaaa");
+        theCache.put("b", "bbbb");
+        assertThat(theCache.size(), is(2));
+        theCache.put("c", "cccc");
+        assertThat(theCache.size(), is(2));
+        assertThat(theCache.get("a"), is(Optional.empty()));
+        assertThat(theCache.get("c"), is(Optional.of("cccc")));
+
+        // a record bigger than capacity is never cached, and does not evict other records
+        theCache.put("d", "ddddddddddd");
+        assertThat(theCache.get("d"), is(Optional.empty()));
+        assertThat(theCache.get("b"), is(Optional.of("bbbb")));
+        assertThat(theCache.get("c"), is(Optional.of("cccc")));
+        assertThat(theCache.size(), is(2));
+    }
+
+    @Test
+    void testEvictionListener() {
+        List<String> evicted = new ArrayList<>();
+        LruCache<String, String> theCache = LruCache.<String, String>builder()
+                .weigher(10, (key, value) -> value.length())
+                .evictionListener((key, value) -> evicted.add(key + "=" + value))
+                .build();
+
+        theCache.put("a", "aaaa");
+        theCache.put("b", "bbbb");
+        theCache.remove("b");
+        theCache.put("c", "cccc");
+        theCache.put("d", "dddd");
+        assertThat(evicted, is(List.of("a=aaaa")));
+    }
+
+    @Test
+    void testStatistics() {
+        LruCache<Integer, Integer> theCache = LruCache.create(1);
+        theCache.put(1, 1);
+        theCache.get(1);
+        theCache.get(2);
+        theCache.put(2, 2);
+
+        LruCache.Statistics statistics = theCache.statistics();
+        assertThat(statistics.hitCount(), is(1L));
+        assertThat(statistics.missCount(), is(1L));
+        assertThat(statistics.evictionCount(), is(1L));
+        assertThat(statistics.hitRate(), is(0.5));
+    }
+
+    @Test
+    void testClear() {
+        LruCache<Integer, Integer> theCache = LruCache.create(10);
+        for (int i = 0; i < 10; i++) {
+            theCache.put(i, i);
+            theCache.get(i);
+        }
+        theCache.clear();
+        assertThat(theCache.size(), is(0));
+        for (int i = 0; i < 10; i++) {
+            theCache.put(i, i);
+        }
+        assertThat(theCache.size(), is(10));
+        assertThat(theCache.get(9), is(Optional.of(9)));
+    }
+
+    @Test
+    void testConcurrentAccess() throws Exception {
+        LruCache<Integer, Integer> theCache = LruCache.create(100);
+        try (ExecutorService executor = Executors.newFixedThreadPool(8)) {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int thread = 0; thread < 8; thread++) {
+                int seed = thread;
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < 10_000; i++) {
+                        int key = (i * 31 + seed) % 500;
+                        Optional<Integer> value = theCache.computeValue(key, () -> Optional.of(key));
+                        assertThat(value, is(Optional.of(key)));
+                        if (i % 100 == 0) {
+                            theCache.remove(key);
+                        }
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        }
+        assertThat(theCache.size(), lessThanOrEqualTo(100));
+    }
 }
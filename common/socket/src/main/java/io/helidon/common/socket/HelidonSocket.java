@@ -16,6 +16,7 @@
 
 package io.helidon.common.socket;
 
+import java.nio.channels.FileChannel;
 import java.util.NoSuchElementException;
 import java.util.function.Supplier;
 
@@ -50,6 +51,30 @@ public interface HelidonSocket extends SocketContext, Supplier<byte[]> {
      */
     void write(BufferData buffer);
 
+    /**
+     * Whether this socket can transfer content of a file directly to the network,
+     * see {@link #transferFrom(java.nio.channels.FileChannel, long, long)}.
+     *
+     * @return whether file transfer is supported, defaults to {@code false}
+     */
+    default boolean supportsFileTransfer() {
+        return false;
+    }
+
+    /**
+     * Transfer a region of a file to the underlying socket. This method blocks until all bytes are written.
+     * Where supported by the operating system, the bytes are not copied to user space (such as when using {@code sendfile}).
+     *
+     * @param file     file channel to transfer from, the channel is not closed by this method
+     * @param position position in the file of the first byte to transfer
+     * @param length   number of bytes to transfer
+     * @throws java.lang.UnsupportedOperationException in case this socket does not support file transfer
+     * @see #supportsFileTransfer()
+     */
+    default void transferFrom(FileChannel file, long position, long length) {
+        throw new UnsupportedOperationException("File transfer is not supported by this socket");
+    }
+
     /**
      * Whether a protocol was negotiated by the socket (such as ALPN when using TLS).
      * @return whether a protocol was negotiated
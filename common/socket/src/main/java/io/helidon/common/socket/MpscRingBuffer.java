@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.common.socket;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/*
+ * Bounded lock-free multi-producer single-consumer ring buffer.
+ * Each slot has a sequence number: a slot at position p is free for a producer when its sequence is p, and contains
+ * an element for the consumer when its sequence is p + 1. Producers claim a position by CAS of the tail, the consumer
+ * releases the slot for the next round by setting its sequence to p + capacity.
+ */
+final class MpscRingBuffer<T> {
+    private final Object[] elements;
+    private final AtomicLongArray sequences;
+    private final AtomicLong tail = new AtomicLong();
+    private final int mask;
+    private final int capacity;
+
+    // only accessed by the consumer thread
+    private long head;
+
+    MpscRingBuffer(int requestedCapacity) {
+        this.capacity = requestedCapacity <= 2 ? 2 : Integer.highestOneBit(requestedCapacity - 1) << 1;
+        this.mask = capacity - 1;
+        this.elements = new Object[capacity];
+        this.sequences = new AtomicLongArray(capacity);
+        for (int i = 0; i < capacity; i++) {
+            sequences.set(i, i);
+        }
+    }
+
+    /**
+     * Add an element, may be called from any thread.
+     *
+     * @param element element to add
+     * @return whether the element was added, {@code false} if the buffer is full
+     */
+    boolean offer(T element) {
+        long position = tail.get();
+        while (true) {
+            int index = (int) position & mask;
+            long difference = sequences.get(index) - position;
+            if (difference == 0) {
+                if (tail.compareAndSet(position, position + 1)) {
+                    elements[index] = element;
+                    // volatile write publishes the element to the consumer
+                    sequences.set(index, position + 1);
+                    return true;
+                }
+                position = tail.get();
+            } else if (difference < 0) {
+                // the slot was not yet consumed in the previous round
+                return false;
+            } else {
+                // another producer claimed this position
+                position = tail.get();
+            }
+        }
+    }
+
+    /**
+     * Remove the next element, must be called only from the consumer thread.
+     *
+     * @return the next element, or {@code null} if the buffer is empty
+     */
+    @SuppressWarnings("unchecked")
+    T poll() {
+        int index = (int) head & mask;
+        if (sequences.get(index) != head + 1) {
+            return null;
+        }
+        T element = (T) elements[index];
+        elements[index] = null;
+        sequences.set(index, head + capacity);
+        head++;
+        return element;
+    }
+
+    /**
+     * Whether there is no element to consume, must be called only from the consumer thread.
+     *
+     * @return whether the buffer is empty
+     */
+    boolean isEmpty() {
+        return sequences.get((int) head & mask) != head + 1;
+    }
+
+    int capacity() {
+        return capacity;
+    }
+}
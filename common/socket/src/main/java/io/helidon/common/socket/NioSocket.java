@@ -16,13 +16,16 @@
 
 package io.helidon.common.socket;
 
+import java.io.EOFException;
 import java.io.IOException;
 import java.io.UncheckedIOException;
 import java.net.InetSocketAddress;
 import java.net.SocketAddress;
 import java.net.UnixDomainSocketAddress;
 import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.channels.SocketChannel;
+import java.nio.channels.WritableByteChannel;
 
 import io.helidon.common.buffers.BufferData;
 
@@ -34,7 +37,6 @@ public sealed class NioSocket implements HelidonSocket permits TlsNioSocket {
     private static final int BUFFER_LENGTH = 8 * 1024;
 
     private final ByteBuffer readBuffer = ByteBuffer.allocate(BUFFER_LENGTH);
-    private final ByteBuffer writeBuffer = ByteBuffer.allocate(BUFFER_LENGTH);
 
     private final SocketChannel delegate;
     private final String childSocketId;
@@ -124,22 +126,36 @@ public sealed class NioSocket implements HelidonSocket permits TlsNioSocket {
 
     @Override
     public void write(BufferData buffer) {
+        // all parts of a composite buffer (such as headers and entity) are written with a single gathering write,
+        // without copying them into an intermediate buffer
+        ByteBuffer[] buffers = buffer.asByteBuffers();
+        long written = 0;
         try {
-            while (!buffer.consumed()) {
-                writeBuffer.clear();
-                buffer.writeTo(writeBuffer, buffer.available());
-                writeBuffer.flip();
-                // SocketChannel.write may complete partially, so we must drain the staged bytes before
-                // advancing the source buffer again.
-                while (writeBuffer.hasRemaining()) {
-                    delegate.write(writeBuffer);
+            int first = 0;
+            // SocketChannel.write may complete partially, so we must continue from the first buffer with remaining bytes
+            while (first < buffers.length) {
+                written += delegate.write(buffers, first, buffers.length - first);
+                while (first < buffers.length && !buffers[first].hasRemaining()) {
+                    first++;
                 }
             }
         } catch (IOException e) {
             throw new UncheckedIOException(e);
+        } finally {
+            buffer.skip((int) written);
         }
     }
 
+    @Override
+    public boolean supportsFileTransfer() {
+        return true;
+    }
+
+    @Override
+    public void transferFrom(FileChannel file, long position, long length) {
+        transfer(file, position, length, delegate);
+    }
+
     @Override
     public byte[] get() {
         try {
@@ -191,6 +207,24 @@ public sealed class NioSocket implements HelidonSocket permits TlsNioSocket {
         }
     }
 
+    static void transfer(FileChannel file, long position, long length, WritableByteChannel target) {
+        try {
+            long current = position;
+            long end = position + length;
+            // a blocking channel may still complete a transfer partially
+            while (current < end) {
+                long transferred = file.transferTo(current, end - current, target);
+                if (transferred == 0 && current >= file.size()) {
+                    throw new EOFException("File was truncated during transfer, expected " + length + " bytes from position "
+                                                   + position + ", but file size is " + file.size());
+                }
+                current += transferred;
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
     SocketAddress localSocketAddress() {
         try {
             return delegate.getLocalAddress();
@@ -22,6 +22,8 @@ import java.io.UncheckedIOException;
 import java.net.InetSocketAddress;
 import java.net.Socket;
 import java.net.SocketAddress;
+import java.nio.channels.FileChannel;
+import java.nio.channels.SocketChannel;
 import java.util.Arrays;
 
 import io.helidon.common.buffers.BufferData;
@@ -133,16 +135,46 @@ public sealed class PlainSocket implements HelidonSocket permits TlsSocket {
         buffer.writeTo(outputStream);
     }
 
+    @Override
+    public boolean supportsFileTransfer() {
+        // only sockets obtained from a socket channel can transfer files directly
+        return delegate.getChannel() != null;
+    }
+
+    @Override
+    public void transferFrom(FileChannel file, long position, long length) {
+        SocketChannel channel = delegate.getChannel();
+        if (channel == null) {
+            throw new UnsupportedOperationException("File transfer is not supported by a socket without a channel");
+        }
+        NioSocket.transfer(file, position, length, channel);
+    }
+
     @Override
     public byte[] get() {
+        int r = read(readBuffer);
+        if (r == -1) {
+            return null; // end of data
+        }
+        return Arrays.copyOf(readBuffer, r);
+    }
+
+    /**
+     * Read data directly into the provided buffer (such as a pooled buffer), blocking until at least one byte
+     * is available. This avoids the copy done by {@link #get()}.
+     *
+     * @param buffer buffer to read into
+     * @return number of bytes read, or {@code -1} in case of end of data
+     * @see io.helidon.common.buffers.DataReader#create(io.helidon.common.buffers.PooledDataSupplier,
+     *         io.helidon.common.buffers.BufferPool, boolean)
+     */
+    public int read(byte[] buffer) {
         try {
-            int r = inputStream.read(readBuffer);
-            if (r == -1) {
-                return null; // end of data
-            } else if (r == 0) {
+            int r = inputStream.read(buffer);
+            if (r == 0) {
                 throw new IllegalStateException("Read 0 bytes, this should never happen with blocking socket");
             }
-            return Arrays.copyOf(readBuffer, r);
+            return r;
         } catch (IOException e) {
             throw new UncheckedIOException(e);
         }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022, 2024 Oracle and/or its affiliates.
+ * Copyright (c) 2022, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -51,8 +51,31 @@ public abstract class SocketWriter implements DataWriter {
                                       HelidonSocket socket,
                                       int writeQueueLength,
                                       boolean smartAsyncWrites) {
+        return create(executor, socket, writeQueueLength, smartAsyncWrites, false);
+    }
+
+    /**
+     * Create a new socket writer.
+     *
+     * @param executor         executor used to create a thread for asynchronous writes
+     * @param socket           socket to write to
+     * @param writeQueueLength maximal number of queued writes, write operation will block if the queue is full; if set to
+     *                         {code 1} or lower, write queue is disabled and writes are direct to socket (blocking)
+     * @param smartAsyncWrites flag to enable smart async writes, see {@link io.helidon.common.socket.SmartSocketWriter}
+     * @param lockFreeWrites   flag to use a lock-free write queue for asynchronous writes, better suited for many threads
+     *                         writing to the same socket (such as HTTP/2 streams); takes precedence over smart async
+     *                         writes
+     * @return a new socket writer
+     */
+    public static SocketWriter create(ExecutorService executor,
+                                      HelidonSocket socket,
+                                      int writeQueueLength,
+                                      boolean smartAsyncWrites,
+                                      boolean lockFreeWrites) {
         if (writeQueueLength <= 1) {
             return new SocketWriterDirect(socket);
+        } else if (lockFreeWrites) {
+            return new SocketWriterLockFree(executor, socket, writeQueueLength);
         } else {
             return smartAsyncWrites
                     ? new SmartSocketWriter(executor, socket, writeQueueLength)
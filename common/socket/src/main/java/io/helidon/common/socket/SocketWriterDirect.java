@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022 Oracle and/or its affiliates.
+ * Copyright (c) 2022, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,6 +16,8 @@
 
 package io.helidon.common.socket;
 
+import java.nio.channels.FileChannel;
+
 import io.helidon.common.buffers.BufferData;
 import io.helidon.common.buffers.DataWriter;
 
@@ -42,4 +44,15 @@ class SocketWriterDirect extends SocketWriter implements DataWriter {
     public void write(BufferData buffer) {
         writeNow(buffer);
     }
+
+    @Override
+    public boolean supportsTransfer() {
+        // all writes are done synchronously, so we can safely write to the socket directly
+        return socket().supportsFileTransfer();
+    }
+
+    @Override
+    public void transferNow(FileChannel file, long position, long length) {
+        socket().transferFrom(file, position, length);
+    }
 }
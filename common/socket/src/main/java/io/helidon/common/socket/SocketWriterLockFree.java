@@ -0,0 +1,187 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.common.socket;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.LockSupport;
+
+import io.helidon.common.buffers.BufferData;
+import io.helidon.common.buffers.CompositeBufferData;
+
+/**
+ * Socket writer used from multiple threads, backed by a lock-free multi-producer single-consumer ring buffer.
+ * Writing threads never take a lock unless the queue is full, the writer thread drains all queued buffers into a
+ * single {@link io.helidon.common.buffers.CompositeBufferData} (without copying) and writes it to the socket at once.
+ */
+class SocketWriterLockFree extends SocketWriter {
+    private static final System.Logger LOGGER = System.getLogger(SocketWriterLockFree.class.getName());
+    private static final long OFFER_TIMEOUT_NANOS = TimeUnit.SECONDS.toNanos(10);
+    private static final long FULL_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(50);
+    private static final int FULL_SPINS = 64;
+    private static final int MAX_DRAIN = 1000;
+
+    private final ExecutorService executor;
+    private final MpscRingBuffer<BufferData> writeQueue;
+    private final CountDownLatch cdl = new CountDownLatch(1);
+    private final AtomicBoolean started = new AtomicBoolean(false);
+    private volatile Throwable caught;
+    private volatile boolean run = true;
+    private volatile boolean parked;
+    private volatile Thread thread;
+
+    /**
+     * A new socket writer.
+     *
+     * @param executor         executor used to create a thread for asynchronous writes
+     * @param socket           socket to write to
+     * @param writeQueueLength maximal number of queued writes (rounded up to a power of two), write operation will
+     *                         block if the queue is full
+     */
+    SocketWriterLockFree(ExecutorService executor, HelidonSocket socket, int writeQueueLength) {
+        super(socket);
+        this.executor = executor;
+        this.writeQueue = new MpscRingBuffer<>(writeQueueLength);
+    }
+
+    @Override
+    public void write(BufferData... buffers) {
+        for (BufferData buffer : buffers) {
+            write(buffer);
+        }
+    }
+
+    @Override
+    public void write(BufferData buffer) {
+        checkRunning();
+        if (!writeQueue.offer(buffer)) {
+            offerFull(buffer);
+        }
+        if (parked) {
+            LockSupport.unpark(thread);
+        }
+    }
+
+    /**
+     * Close this writer. Will attempt to write all enqueued buffers and will stop the thread if created.
+     */
+    @Override
+    public void close() {
+        run = false;
+        if (!started.get()) {
+            // thread never started
+            return;
+        }
+        Thread writerThread = thread;
+        if (writerThread != null) {
+            LockSupport.unpark(writerThread);
+        }
+        try {
+            if (cdl.await(1000, TimeUnit.MILLISECONDS)) {
+                // writer thread finished because we set run to false
+                BufferData available;
+                while ((available = writeQueue.poll()) != null) {
+                    try {
+                        writeNow(available);
+                    } catch (Exception e) {
+                        LOGGER.log(System.Logger.Level.TRACE, "Failed to write last buffers during writer shutdown", e);
+                        // in case we fail to write to socket when closing, it is probably because it is already closed
+                        // we still need to release all buffers
+                    }
+                }
+            }
+            writerThread = thread;
+            if (writerThread != null) {
+                writerThread.interrupt();
+            }
+        } catch (InterruptedException e) {
+            // failed to wait for the writer thread
+        }
+    }
+
+    private void run() {
+        Thread current = Thread.currentThread();
+        current.setName("[" + socket().socketId() + " " + socket().childSocketId() + "]");
+        this.thread = current;
+        try {
+            while (run) {
+                BufferData first = writeQueue.poll();
+                if (first == null) {
+                    awaitData();
+                    continue;
+                }
+                CompositeBufferData toWrite = BufferData.createComposite(first);
+                // we only want to read a certain amount of data, if somebody writes huge amounts
+                // we could spin here forever and run out of memory
+                for (int i = 1; i < MAX_DRAIN; i++) {
+                    BufferData next = writeQueue.poll();
+                    if (next == null) {
+                        break;
+                    }
+                    toWrite.add(next);
+                }
+                writeNow(toWrite);
+            }
+            cdl.countDown();
+        } catch (Throwable e) {
+            this.caught = e;
+            this.run = false;
+        }
+    }
+
+    private void awaitData() {
+        parked = true;
+        // must check after publishing the parked flag, writers check the flag after adding to the queue
+        if (run && writeQueue.isEmpty()) {
+            LockSupport.park(this);
+        }
+        parked = false;
+    }
+
+    private void offerFull(BufferData buffer) {
+        long deadline = System.nanoTime() + OFFER_TIMEOUT_NANOS;
+        int spins = 0;
+        do {
+            checkRunning();
+            if (spins < FULL_SPINS) {
+                spins++;
+                Thread.onSpinWait();
+            } else {
+                if (System.nanoTime() - deadline > 0) {
+                    throw new IllegalStateException("Failed to write data to queue, timed out");
+                }
+                LockSupport.parkNanos(this, FULL_PARK_NANOS);
+                if (Thread.interrupted()) {
+                    throw new IllegalStateException("Interrupted while trying to write to a queue",
+                                                    new InterruptedException());
+                }
+            }
+        } while (!writeQueue.offer(buffer));
+    }
+
+    private void checkRunning() {
+        if (started.compareAndSet(false, true)) {
+            // start writer on first asynchronous write
+            executor.submit(this::run);
+        }
+        if (!run) {
+            throw new SocketWriterException(caught);
+        }
+    }
+}
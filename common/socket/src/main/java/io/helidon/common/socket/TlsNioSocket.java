@@ -132,6 +132,12 @@ public final class TlsNioSocket extends NioSocket {
         return true;
     }
 
+    @Override
+    public boolean supportsFileTransfer() {
+        // data must be encrypted before written to the socket
+        return false;
+    }
+
     @Override
     public boolean protocolNegotiated() {
         String protocol = engine.getApplicationProtocol();
@@ -343,13 +349,17 @@ public final class TlsNioSocket extends NioSocket {
     }
 
     private void doWrite(BufferData buffer) throws IOException {
-        while (!buffer.consumed()) {
-            myAppData.clear();
-            buffer.writeTo(myAppData, buffer.available());
-            myAppData.flip();
-
-            while (myAppData.hasRemaining()) {
-                SSLEngineResult result = wrapAndSend(myAppData, false);
+        // the engine encrypts directly from all parts of the buffer (gathering wrap), no need to stage them in myAppData
+        ByteBuffer[] appData = buffer.asByteBuffers();
+        int first = 0;
+        long consumed = 0;
+        try {
+            while (first < appData.length) {
+                SSLEngineResult result = wrapAndSend(appData, first, false);
+                consumed += result.bytesConsumed();
+                while (first < appData.length && !appData[first].hasRemaining()) {
+                    first++;
+                }
                 SSLEngineResult.Status status = result.getStatus();
                 if (status == SSLEngineResult.Status.CLOSED) {
                     doClosure();
@@ -361,10 +371,16 @@ public final class TlsNioSocket extends NioSocket {
                     doHandshake(handshakeStatus);
                 }
             }
+        } finally {
+            buffer.skip((int) consumed);
         }
     }
 
     private SSLEngineResult wrapAndSend(ByteBuffer appData, boolean ignoreClose) throws SSLException {
+        return wrapAndSend(new ByteBuffer[] {appData}, 0, ignoreClose);
+    }
+
+    private SSLEngineResult wrapAndSend(ByteBuffer[] appData, int offset, boolean ignoreClose) throws SSLException {
         if (closed && !ignoreClose) {
             throw new SSLException("Engine is closed");
         }
@@ -373,7 +389,7 @@ public final class TlsNioSocket extends NioSocket {
 
         myNetData.clear();
         do {
-            result = engine.wrap(appData, myNetData);
+            result = engine.wrap(appData, offset, appData.length - offset, myNetData);
             status = result.getStatus();
             if (status == SSLEngineResult.Status.BUFFER_OVERFLOW) {
                 this.myNetData = reallocate(myNetData,
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022, 2025 Oracle and/or its affiliates.
+ * Copyright (c) 2022, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -97,6 +97,12 @@ public final class TlsSocket extends PlainSocket {
         return true;
     }
 
+    @Override
+    public boolean supportsFileTransfer() {
+        // data must be encrypted before written to the socket
+        return false;
+    }
+
     @Override
     public boolean protocolNegotiated() {
         String protocol = sslSocket.getApplicationProtocol();
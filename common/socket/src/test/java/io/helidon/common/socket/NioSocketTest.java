@@ -103,6 +103,40 @@ public class NioSocketTest {
         assertEquals(expectedText, actualText);
     }
 
+    @Test
+    void compositeBufferWrittenWithSingleGatheringWrite() {
+        byte[] headers = "HTTP/1.1 200 OK\r\nContent-Length: 10\r\n\r\n".getBytes(StandardCharsets.US_ASCII);
+        byte[] json = jsonPayload(100);
+        CapturingSocketChannel channel = new CapturingSocketChannel(Integer.MAX_VALUE);
+        NioSocket socket = NioSocket.client(channel, "test");
+
+        BufferData composite = BufferData.create(BufferData.create(headers),
+                                                 BufferData.create(json, 0, 100),
+                                                 BufferData.create(json, 100, json.length - 100));
+        socket.write(composite);
+
+        assertEquals(1, channel.gatheringWrites());
+        assertEquals(0, composite.available());
+        assertEquals(new String(concat(headers, json), StandardCharsets.UTF_8),
+                     new String(channel.writtenBytes(), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void compositeBufferHandlesPartialGatheringWrites() {
+        byte[] headers = "HTTP/1.1 200 OK\r\n\r\n".getBytes(StandardCharsets.US_ASCII);
+        byte[] json = jsonPayload(50);
+        CapturingSocketChannel channel = new CapturingSocketChannel(11);
+        NioSocket socket = NioSocket.client(channel, "test");
+
+        BufferData composite = BufferData.createComposite(BufferData.create(headers))
+                .add(BufferData.create(json));
+        socket.write(composite);
+
+        assertEquals(0, composite.available());
+        assertEquals(new String(concat(headers, json), StandardCharsets.UTF_8),
+                     new String(channel.writtenBytes(), StandardCharsets.UTF_8));
+    }
+
     private static byte[] chunk(byte[] payload) {
         byte[] size = Integer.toHexString(payload.length).getBytes(StandardCharsets.US_ASCII);
         return concat(size,
@@ -142,6 +176,7 @@ public class NioSocketTest {
     private static final class CapturingSocketChannel extends SocketChannel {
         private final ByteArrayOutputStream written = new ByteArrayOutputStream();
         private final int maxBytesPerWrite;
+        private int gatheringWrites;
 
         private CapturingSocketChannel(int maxBytesPerWrite) {
             super(SelectorProvider.provider());
@@ -152,6 +187,10 @@ public class NioSocketTest {
             return written.toByteArray();
         }
 
+        int gatheringWrites() {
+            return gatheringWrites;
+        }
+
         @Override
         public int write(ByteBuffer src) {
             int writtenBytes = Math.min(maxBytesPerWrite, src.remaining());
@@ -163,13 +202,14 @@ public class NioSocketTest {
 
         @Override
         public long write(ByteBuffer[] srcs, int offset, int length) {
+            gatheringWrites++;
             long totalWritten = 0;
-            for (int i = offset; i < offset + length; i++) {
-                if (!srcs[i].hasRemaining()) {
-                    continue;
-                }
-                totalWritten += write(srcs[i]);
-                break;
+            for (int i = offset; i < offset + length && totalWritten < maxBytesPerWrite; i++) {
+                int toWrite = (int) Math.min(maxBytesPerWrite - totalWritten, srcs[i].remaining());
+                byte[] bytes = new byte[toWrite];
+                srcs[i].get(bytes);
+                written.writeBytes(bytes);
+                totalWritten += toWrite;
             }
             return totalWritten;
         }
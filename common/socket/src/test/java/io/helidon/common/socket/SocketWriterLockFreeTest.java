@@ -0,0 +1,177 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.common.socket;
+
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import io.helidon.common.buffers.BufferData;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+class SocketWriterLockFreeTest {
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setUp() {
+        executor = Executors.newVirtualThreadPerTaskExecutor();
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void testRingBuffer() {
+        MpscRingBuffer<Integer> buffer = new MpscRingBuffer<>(3);
+
+        assertThat(buffer.capacity(), is(4));
+        assertThat(buffer.isEmpty(), is(true));
+        for (int round = 0; round < 3; round++) {
+            for (int i = 0; i < 4; i++) {
+                assertThat(buffer.offer(i), is(true));
+            }
+            assertThat("Buffer is full", buffer.offer(4), is(false));
+            for (int i = 0; i < 4; i++) {
+                assertThat(buffer.poll(), is(i));
+            }
+            assertThat(buffer.poll(), nullValue());
+        }
+    }
+
+    @Test
+    void testConcurrentWriters() throws Exception {
+        int writers = 8;
+        int writesPerWriter = 2000;
+        RecordingSocket socket = new RecordingSocket();
+        SocketWriter writer = SocketWriter.create(executor, socket, 16, false, true);
+
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int w = 0; w < writers; w++) {
+            byte value = (byte) w;
+            futures.add(executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < writesPerWriter; i++) {
+                    writer.write(BufferData.create(new byte[] {value}));
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(10, TimeUnit.SECONDS);
+        }
+        writer.close();
+
+        byte[] written = socket.written();
+        assertThat(written.length, is(writers * writesPerWriter));
+        int[] counts = new int[writers];
+        for (byte b : written) {
+            counts[b]++;
+        }
+        for (int count : counts) {
+            assertThat(count, is(writesPerWriter));
+        }
+    }
+
+    @Test
+    void testOrderFromSingleWriter() {
+        RecordingSocket socket = new RecordingSocket();
+        SocketWriter writer = SocketWriter.create(executor, socket, 4, false, true);
+
+        for (int i = 0; i < 100; i++) {
+            writer.write(BufferData.create(new byte[] {(byte) i}));
+        }
+        writer.close();
+
+        byte[] written = socket.written();
+        assertThat(written.length, is(100));
+        for (int i = 0; i < 100; i++) {
+            assertThat(written[i], is((byte) i));
+        }
+    }
+
+    private static final class RecordingSocket implements HelidonSocket {
+        private final ByteArrayOutputStream written = new ByteArrayOutputStream();
+
+        @Override
+        public void close() {
+        }
+
+        @Override
+        public void idle() {
+        }
+
+        @Override
+        public boolean isConnected() {
+            return true;
+        }
+
+        @Override
+        public synchronized void write(BufferData buffer) {
+            buffer.writeTo(written);
+        }
+
+        @Override
+        public PeerInfo remotePeer() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public PeerInfo localPeer() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public boolean isSecure() {
+            return false;
+        }
+
+        @Override
+        public String socketId() {
+            return "test";
+        }
+
+        @Override
+        public String childSocketId() {
+            return "test";
+        }
+
+        @Override
+        public byte[] get() {
+            return new byte[0];
+        }
+
+        synchronized byte[] written() {
+            return written.toByteArray();
+        }
+    }
+}
@@ -42,6 +42,7 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
@@ -60,9 +61,10 @@ class TlsNioSocketTest {
         when(engine.getSession()).thenReturn(session);
         when(session.getPacketBufferSize()).thenReturn(1);
         when(session.getApplicationBufferSize()).thenReturn(1);
-        when(engine.wrap(any(ByteBuffer.class), any(ByteBuffer.class))).thenAnswer(invocation -> {
-            ByteBuffer src = invocation.getArgument(0);
-            ByteBuffer dst = invocation.getArgument(1);
+        when(engine.wrap(any(ByteBuffer[].class), anyInt(), anyInt(), any(ByteBuffer.class))).thenAnswer(invocation -> {
+            ByteBuffer[] srcs = invocation.getArgument(0);
+            ByteBuffer src = srcs[invocation.<Integer>getArgument(1)];
+            ByteBuffer dst = invocation.getArgument(3);
 
             if (!closing.get()) {
                 int consumed = Math.min(1, src.remaining());
@@ -0,0 +1,188 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.declarative.codegen.grpc;
+
+import java.util.List;
+import java.util.Optional;
+
+import io.helidon.codegen.CodegenUtil;
+import io.helidon.codegen.classmodel.ClassModel;
+import io.helidon.codegen.classmodel.Method;
+import io.helidon.common.types.AccessModifier;
+import io.helidon.common.types.Annotation;
+import io.helidon.common.types.Annotations;
+import io.helidon.common.types.TypeInfo;
+import io.helidon.common.types.TypeName;
+import io.helidon.common.types.TypeNames;
+import io.helidon.common.types.TypedElementInfo;
+import io.helidon.service.codegen.RegistryRoundContext;
+
+import static io.helidon.declarative.codegen.DeclarativeTypes.CONFIG;
+import static io.helidon.declarative.codegen.DeclarativeTypes.SINGLETON_ANNOTATION;
+import static io.helidon.declarative.codegen.grpc.GrpcExtension.GENERATOR;
+import static io.helidon.declarative.codegen.grpc.GrpcTypes.ANNOTATION_CHANNEL;
+import static io.helidon.declarative.codegen.grpc.GrpcTypes.CALL_OPTIONS;
+import static io.helidon.declarative.codegen.grpc.GrpcTypes.CHANNEL;
+import static io.helidon.declarative.codegen.grpc.GrpcTypes.CLIENT_CALLS;
+import static io.helidon.declarative.codegen.grpc.GrpcTypes.GRPC_CLIENT;
+import static io.helidon.declarative.codegen.grpc.GrpcTypes.GRPC_CLIENT_CONFIG;
+import static io.helidon.service.codegen.ServiceCodegenTypes.SERVICE_ANNOTATION_NAMED;
+
+class GrpcClientGenerator {
+    private GrpcClientGenerator() {
+    }
+
+    static void generate(RegistryRoundContext roundContext,
+                         TypeInfo clientInterface,
+                         TypeName generatedClient,
+                         String serviceName,
+                         List<GrpcServiceMethod> methods) {
+
+        TypeName interfaceType = clientInterface.typeName();
+
+        ClassModel.Builder classModel = ClassModel.builder()
+                .copyright(CodegenUtil.copyright(GENERATOR,
+                                                 interfaceType,
+                                                 generatedClient))
+                .addAnnotation(CodegenUtil.generatedAnnotation(GENERATOR,
+                                                               interfaceType,
+                                                               generatedClient,
+                                                               "1",
+                                                               ""))
+                .accessModifier(AccessModifier.PACKAGE_PRIVATE)
+                .type(generatedClient)
+                .addAnnotation(SINGLETON_ANNOTATION)
+                .addInterface(interfaceType);
+
+        GrpcRegistrationGenerator.addConstants(classModel, serviceName, methods);
+
+        classModel.addField(channel -> channel
+                .accessModifier(AccessModifier.PRIVATE)
+                .isFinal(true)
+                .type(CHANNEL)
+                .name("channel"));
+
+        /*
+        the client is obtained from the registry (named by Grpc.GrpcChannel if present),
+        or created from configuration ("grpc.client", or "grpc.client.<channel>")
+         */
+        Optional<String> channelName = clientInterface.findAnnotation(ANNOTATION_CHANNEL)
+                .flatMap(Annotation::stringValue);
+        String configKey = channelName.map(it -> "grpc.client." + it)
+                .orElse("grpc.client");
+
+        classModel.addConstructor(ctr -> ctr
+                .accessModifier(AccessModifier.PACKAGE_PRIVATE)
+                .addParameter(CONFIG, "config")
+                .addParameter(registryClient -> registryClient
+                        .name("registryClient")
+                        .type(TypeName.builder(TypeNames.SUPPLIER)
+                                      .addTypeArgument(TypeName.builder(TypeNames.OPTIONAL)
+                                                               .addTypeArgument(GRPC_CLIENT)
+                                                               .build())
+                                      .build())
+                        .update(it -> channelName.ifPresent(name -> it.addAnnotation(
+                                Annotation.create(SERVICE_ANNOTATION_NAMED, name)))))
+                .addContentLine("this.channel = registryClient.get()")
+                .increaseContentPadding()
+                .increaseContentPadding()
+                .addContent(".orElseGet(() -> ")
+                .addContent(GRPC_CLIENT)
+                .addContent(".create(")
+                .addContent(GRPC_CLIENT_CONFIG)
+                .addContent(".create(config.get(")
+                .addContentLiteral(configKey)
+                .addContentLine("))))")
+                .addContentLine(".channel();")
+                .decreaseContentPadding()
+                .decreaseContentPadding()
+        );
+
+        for (GrpcServiceMethod method : methods) {
+            classModel.addMethod(it -> clientMethod(it, method));
+        }
+
+        classModel.addMethod(toString -> toString
+                .addAnnotation(Annotations.OVERRIDE)
+                .accessModifier(AccessModifier.PUBLIC)
+                .returnType(TypeNames.STRING)
+                .name("toString")
+                .addContent("return ")
+                .addContentLiteral("gRPC client for " + interfaceType.className() + "(" + serviceName + ")")
+                .addContentLine(";")
+        );
+
+        roundContext.addGeneratedType(generatedClient, classModel, interfaceType, clientInterface.originatingElementValue());
+    }
+
+    private static void clientMethod(Method.Builder method, GrpcServiceMethod grpcMethod) {
+        TypedElementInfo element = grpcMethod.element();
+        List<TypedElementInfo> params = element.parameterArguments();
+
+        method.addAnnotation(Annotations.OVERRIDE)
+                .accessModifier(AccessModifier.PUBLIC)
+                .returnType(element.typeName())
+                .name(element.elementName());
+        for (TypedElementInfo param : params) {
+            method.addParameter(param.typeName(), param.elementName());
+        }
+
+        String first = params.getFirst().elementName();
+        switch (grpcMethod.shape()) {
+            case BLOCKING -> method.addContent("return ")
+                    .addContent(CLIENT_CALLS)
+                    .addContent(".")
+                    .addContent(grpcMethod.methodType().equals("UNARY")
+                                        ? "blockingUnaryCall"
+                                        : "blockingServerStreamingCall")
+                    .addContent("(channel, ")
+                    .addContent(grpcMethod.constantName())
+                    .addContent(", ")
+                    .addContent(CALL_OPTIONS)
+                    .addContent(".DEFAULT, ")
+                    .addContent(first)
+                    .addContentLine(");");
+            case OBSERVER -> method.addContent(CLIENT_CALLS)
+                    .addContent(".")
+                    .addContent(grpcMethod.methodType().equals("UNARY")
+                                        ? "asyncUnaryCall"
+                                        : "asyncServerStreamingCall")
+                    .addContent("(channel.newCall(")
+                    .addContent(grpcMethod.constantName())
+                    .addContent(", ")
+                    .addContent(CALL_OPTIONS)
+                    .addContent(".DEFAULT), ")
+                    .addContent(first)
+                    .addContent(", ")
+                    .addContent(params.get(1).elementName())
+                    .addContentLine(");");
+            case STREAMING -> method.addContent("return ")
+                    .addContent(CLIENT_CALLS)
+                    .addContent(".")
+                    .addContent(grpcMethod.methodType().equals("CLIENT_STREAMING")
+                                        ? "asyncClientStreamingCall"
+                                        : "asyncBidiStreamingCall")
+                    .addContent("(channel.newCall(")
+                    .addContent(grpcMethod.constantName())
+                    .addContent(", ")
+                    .addContent(CALL_OPTIONS)
+                    .addContent(".DEFAULT), ")
+                    .addContent(first)
+                    .addContentLine(");");
+            default -> throw new IllegalArgumentException("Unsupported method shape: " + grpcMethod.shape());
+        }
+    }
+}
@@ -0,0 +1,239 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.declarative.codegen.grpc;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import io.helidon.codegen.CodegenException;
+import io.helidon.codegen.ElementInfoPredicates;
+import io.helidon.codegen.TypeHierarchy;
+import io.helidon.common.types.Annotation;
+import io.helidon.common.types.Annotations;
+import io.helidon.common.types.ElementKind;
+import io.helidon.common.types.TypeInfo;
+import io.helidon.common.types.TypeName;
+import io.helidon.common.types.TypedElementInfo;
+import io.helidon.service.codegen.RegistryCodegenContext;
+import io.helidon.service.codegen.RegistryRoundContext;
+import io.helidon.service.codegen.spi.RegistryCodegenExtension;
+
+import static io.helidon.declarative.codegen.grpc.GrpcTypes.ANNOTATION_BIDIRECTIONAL;
+import static io.helidon.declarative.codegen.grpc.GrpcTypes.ANNOTATION_CLIENT_STREAMING;
+import static io.helidon.declarative.codegen.grpc.GrpcTypes.ANNOTATION_MARSHALLER;
+import static io.helidon.declarative.codegen.grpc.GrpcTypes.ANNOTATION_METHOD;
+import static io.helidon.declarative.codegen.grpc.GrpcTypes.ANNOTATION_PROTO;
+import static io.helidon.declarative.codegen.grpc.GrpcTypes.ANNOTATION_SERVER_STREAMING;
+import static io.helidon.declarative.codegen.grpc.GrpcTypes.ANNOTATION_SERVICE;
+import static io.helidon.declarative.codegen.grpc.GrpcTypes.ANNOTATION_UNARY;
+import static io.helidon.declarative.codegen.grpc.GrpcTypes.FILE_DESCRIPTOR;
+import static java.util.function.Predicate.not;
+
+/*
+Classes annotated with Grpc.GrpcService get a generated GrpcServiceRegistration, interfaces get a generated client.
+Method descriptors and marshallers are resolved at build time, so there is no reflection or per-call lookup at runtime.
+ */
+class GrpcExtension implements RegistryCodegenExtension {
+    static final TypeName GENERATOR = TypeName.create(GrpcExtension.class);
+    // UNKNOWN (allowed by Grpc.GrpcMethod) has no corresponding server call
+    private static final List<String> METHOD_TYPES = List.of("UNARY", "SERVER_STREAMING", "CLIENT_STREAMING", "BIDI_STREAMING");
+
+    private final RegistryCodegenContext ctx;
+
+    GrpcExtension(RegistryCodegenContext ctx) {
+        this.ctx = ctx;
+    }
+
+    @Override
+    public void process(RegistryRoundContext roundContext) {
+        Collection<TypeInfo> services = roundContext.annotatedTypes(ANNOTATION_SERVICE);
+
+        for (TypeInfo service : services) {
+            process(roundContext, service);
+        }
+    }
+
+    private void process(RegistryRoundContext roundContext, TypeInfo service) {
+        boolean client = service.kind() == ElementKind.INTERFACE;
+        checkMarshaller(service.annotations(), service.originatingElementValue());
+
+        TypeName serviceType = service.typeName();
+        String serviceName = service.findAnnotation(ANNOTATION_SERVICE)
+                .flatMap(Annotation::stringValue)
+                .filter(not(String::isBlank))
+                .orElseGet(serviceType::className);
+
+        List<GrpcServiceMethod> methods = new ArrayList<>();
+        Set<String> names = new HashSet<>();
+        Set<String> constants = new HashSet<>();
+        Optional<TypedElementInfo> proto = Optional.empty();
+
+        List<TypedElementInfo> elements = service.elementInfo()
+                .stream()
+                .filter(ElementInfoPredicates::isMethod)
+                .filter(not(ElementInfoPredicates::isPrivate))
+                .filter(not(ElementInfoPredicates::isDefault))
+                .toList();
+
+        for (TypedElementInfo element : elements) {
+            List<Annotation> annotations = TypeHierarchy.hierarchyAnnotations(ctx, service, element);
+            if (!client && Annotations.findFirst(ANNOTATION_PROTO, annotations).isPresent()) {
+                proto = Optional.of(protoMethod(element));
+                continue;
+            }
+            if (ElementInfoPredicates.isStatic(element)) {
+                continue;
+            }
+            Optional<String> methodType = methodType(annotations);
+            if (methodType.isEmpty()) {
+                if (client) {
+                    throw new CodegenException("Method " + element.elementName() + " of gRPC client "
+                                                       + serviceType.fqName() + " is not annotated with a gRPC method"
+                                                       + " annotation, and it is not a default method",
+                                               element.originatingElementValue());
+                }
+                continue;
+            }
+            if (!METHOD_TYPES.contains(methodType.get())) {
+                throw new CodegenException("Method " + element.elementName() + " of " + serviceType.fqName()
+                                                   + " has an unsupported gRPC method type " + methodType.get()
+                                                   + ", supported types: " + METHOD_TYPES,
+                                           element.originatingElementValue());
+            }
+            checkMarshaller(annotations, element.originatingElementValue());
+
+            String name = methodName(annotations).orElseGet(element::elementName);
+            if (!names.add(name)) {
+                throw new CodegenException("Duplicate gRPC method name \"" + name + "\" in " + serviceType.fqName(),
+                                           element.originatingElementValue());
+            }
+            String constant = constantName(name);
+            if (!constants.add(constant)) {
+                constant = constant + "_" + methods.size();
+                constants.add(constant);
+            }
+            methods.add(GrpcServiceMethod.create(element, name, constant, methodType.get(), client));
+        }
+
+        if (methods.isEmpty()) {
+            throw new CodegenException("Type " + serviceType.fqName() + " annotated with "
+                                               + ANNOTATION_SERVICE.classNameWithEnclosingNames()
+                                               + " does not declare any gRPC methods",
+                                       service.originatingElementValue());
+        }
+
+        String classNameBase = serviceType.classNameWithEnclosingNames().replace('.', '_');
+        if (client) {
+            TypeName generatedClient = TypeName.builder()
+                    .packageName(serviceType.packageName())
+                    .className(classNameBase + "__GrpcClient")
+                    .build();
+            GrpcClientGenerator.generate(roundContext,
+                                         service,
+                                         generatedClient,
+                                         serviceName,
+                                         methods);
+        } else {
+            TypeName generatedRegistration = TypeName.builder()
+                    .packageName(serviceType.packageName())
+                    .className(classNameBase + "__GrpcRegistration")
+                    .build();
+            GrpcRegistrationGenerator.generate(roundContext,
+                                               service,
+                                               generatedRegistration,
+                                               serviceName,
+                                               methods,
+                                               proto);
+        }
+    }
+
+    private static TypedElementInfo protoMethod(TypedElementInfo element) {
+        if (!element.parameterArguments().isEmpty() || !element.typeName().equals(FILE_DESCRIPTOR)) {
+            throw new CodegenException("Method annotated with " + ANNOTATION_PROTO.classNameWithEnclosingNames()
+                                               + " must not have parameters, and must return "
+                                               + FILE_DESCRIPTOR.fqName(),
+                                       element.originatingElementValue());
+        }
+        return element;
+    }
+
+    private static Optional<String> methodType(List<Annotation> annotations) {
+        if (Annotations.findFirst(ANNOTATION_UNARY, annotations).isPresent()) {
+            return Optional.of("UNARY");
+        }
+        if (Annotations.findFirst(ANNOTATION_SERVER_STREAMING, annotations).isPresent()) {
+            return Optional.of("SERVER_STREAMING");
+        }
+        if (Annotations.findFirst(ANNOTATION_CLIENT_STREAMING, annotations).isPresent()) {
+            return Optional.of("CLIENT_STREAMING");
+        }
+        if (Annotations.findFirst(ANNOTATION_BIDIRECTIONAL, annotations).isPresent()) {
+            return Optional.of("BIDI_STREAMING");
+        }
+        return Annotations.findFirst(ANNOTATION_METHOD, annotations)
+                .flatMap(Annotation::stringValue);
+    }
+
+    private static Optional<String> methodName(List<Annotation> annotations) {
+        for (Annotation annotation : annotations) {
+            TypeName type = annotation.typeName();
+            Optional<String> name;
+            if (type.equals(ANNOTATION_METHOD)) {
+                name = annotation.stringValue("name");
+            } else if (type.equals(ANNOTATION_UNARY)
+                    || type.equals(ANNOTATION_SERVER_STREAMING)
+                    || type.equals(ANNOTATION_CLIENT_STREAMING)
+                    || type.equals(ANNOTATION_BIDIRECTIONAL)) {
+                name = annotation.stringValue();
+            } else {
+                continue;
+            }
+            if (name.isPresent() && !name.get().isBlank()) {
+                return name;
+            }
+        }
+        return Optional.empty();
+    }
+
+    // generated code always uses protocol buffer marshallers, as these can be created without reflection
+    private static void checkMarshaller(Collection<Annotation> annotations, Object originatingElement) {
+        Optional<String> marshaller = Annotations.findFirst(ANNOTATION_MARSHALLER, annotations)
+                .flatMap(Annotation::stringValue);
+        if (marshaller.isPresent()
+                && !marshaller.get().equals("default")
+                && !marshaller.get().equals("proto")) {
+            throw new CodegenException("Marshaller \"" + marshaller.get() + "\" is not supported by declarative gRPC,"
+                                               + " only protocol buffer messages can be used",
+                                       originatingElement);
+        }
+    }
+
+    private static String constantName(String methodName) {
+        StringBuilder result = new StringBuilder("METHOD_");
+        for (int i = 0; i < methodName.length(); i++) {
+            char c = methodName.charAt(i);
+            if (i > 0 && Character.isUpperCase(c) && !Character.isUpperCase(methodName.charAt(i - 1))) {
+                result.append('_');
+            }
+            result.append(Character.isLetterOrDigit(c) ? Character.toUpperCase(c) : '_');
+        }
+        return result.toString();
+    }
+}
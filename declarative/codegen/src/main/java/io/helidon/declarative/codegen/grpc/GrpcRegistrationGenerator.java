@@ -0,0 +1,336 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.declarative.codegen.grpc;
+
+import java.util.List;
+import java.util.Optional;
+
+import io.helidon.codegen.CodegenUtil;
+import io.helidon.codegen.ElementInfoPredicates;
+import io.helidon.codegen.classmodel.ClassModel;
+import io.helidon.codegen.classmodel.ContentBuilder;
+import io.helidon.codegen.classmodel.Method;
+import io.helidon.codegen.classmodel.TypeArgument;
+import io.helidon.common.types.AccessModifier;
+import io.helidon.common.types.Annotations;
+import io.helidon.common.types.TypeInfo;
+import io.helidon.common.types.TypeName;
+import io.helidon.common.types.TypeNames;
+import io.helidon.common.types.TypedElementInfo;
+import io.helidon.service.codegen.RegistryRoundContext;
+
+import static io.helidon.declarative.codegen.DeclarativeTypes.SINGLETON_ANNOTATION;
+import static io.helidon.declarative.codegen.grpc.GrpcExtension.GENERATOR;
+import static io.helidon.declarative.codegen.grpc.GrpcTypes.FILE_DESCRIPTOR;
+import static io.helidon.declarative.codegen.grpc.GrpcTypes.GRPC_SERVICE_REGISTRATION;
+import static io.helidon.declarative.codegen.grpc.GrpcTypes.METHOD_DESCRIPTOR;
+import static io.helidon.declarative.codegen.grpc.GrpcTypes.METHOD_TYPE;
+import static io.helidon.declarative.codegen.grpc.GrpcTypes.PROTO_UTILS;
+import static io.helidon.declarative.codegen.grpc.GrpcTypes.RESPONSE_HELPER;
+import static io.helidon.declarative.codegen.grpc.GrpcTypes.SERVER_CALLS;
+import static io.helidon.declarative.codegen.grpc.GrpcTypes.SERVER_SERVICE_DEFINITION;
+import static io.helidon.declarative.codegen.grpc.GrpcTypes.STREAM_OBSERVER;
+
+class GrpcRegistrationGenerator {
+    private static final TypeName RUNNABLE = TypeName.create(Runnable.class);
+
+    private GrpcRegistrationGenerator() {
+    }
+
+    static void generate(RegistryRoundContext roundContext,
+                         TypeInfo service,
+                         TypeName generatedRegistration,
+                         String serviceName,
+                         List<GrpcServiceMethod> methods,
+                         Optional<TypedElementInfo> proto) {
+
+        TypeName serviceType = service.typeName();
+
+        ClassModel.Builder classModel = ClassModel.builder()
+                .copyright(CodegenUtil.copyright(GENERATOR,
+                                                 serviceType,
+                                                 generatedRegistration))
+                .addAnnotation(CodegenUtil.generatedAnnotation(GENERATOR,
+                                                               serviceType,
+                                                               generatedRegistration,
+                                                               "1",
+                                                               ""))
+                .accessModifier(AccessModifier.PACKAGE_PRIVATE)
+                .type(generatedRegistration)
+                .addAnnotation(SINGLETON_ANNOTATION)
+                .addInterface(GRPC_SERVICE_REGISTRATION);
+
+        addConstants(classModel, serviceName, methods);
+
+        classModel.addField(serviceField -> serviceField
+                .accessModifier(AccessModifier.PRIVATE)
+                .isFinal(true)
+                .type(supplier(serviceType))
+                .name("service"));
+        classModel.addField(definition -> definition
+                .accessModifier(AccessModifier.PRIVATE)
+                .isFinal(true)
+                .type(SERVER_SERVICE_DEFINITION)
+                .name("definition"));
+
+        classModel.addConstructor(ctr -> ctr
+                .accessModifier(AccessModifier.PACKAGE_PRIVATE)
+                .addParameter(supplier(serviceType), "service")
+                .addContentLine("this.service = service;")
+                .addContent("this.definition = ")
+                .addContent(SERVER_SERVICE_DEFINITION)
+                .addContentLine(".builder(SERVICE_NAME)")
+                .increaseContentPadding()
+                .increaseContentPadding()
+                .update(it -> methods.forEach(method -> addMethod(it, method)))
+                .addContentLine(".build();")
+                .decreaseContentPadding()
+                .decreaseContentPadding()
+        );
+
+        classModel.addMethod(serviceMethod -> serviceMethod
+                .addAnnotation(Annotations.OVERRIDE)
+                .accessModifier(AccessModifier.PUBLIC)
+                .returnType(SERVER_SERVICE_DEFINITION)
+                .name("service")
+                .addContentLine("return definition;")
+        );
+
+        proto.ifPresent(protoMethod -> classModel.addMethod(protoMethodBuilder -> protoMethodBuilder
+                .addAnnotation(Annotations.OVERRIDE)
+                .accessModifier(AccessModifier.PUBLIC)
+                .returnType(TypeName.builder(TypeNames.OPTIONAL)
+                                    .addTypeArgument(FILE_DESCRIPTOR)
+                                    .build())
+                .name("proto")
+                .addContent("return ")
+                .addContent(TypeNames.OPTIONAL)
+                .addContent(".of(")
+                .update(it -> {
+                    if (ElementInfoPredicates.isStatic(protoMethod)) {
+                        it.addContent(serviceType);
+                    } else {
+                        it.addContent("service.get()");
+                    }
+                })
+                .addContent(".")
+                .addContent(protoMethod.elementName())
+                .addContentLine("());")
+        ));
+
+        classModel.addMethod(toString -> toString
+                .addAnnotation(Annotations.OVERRIDE)
+                .accessModifier(AccessModifier.PUBLIC)
+                .returnType(TypeNames.STRING)
+                .name("toString")
+                .addContent("return ")
+                .addContentLiteral("gRPC service registration for " + serviceType.className() + "(" + serviceName + ")")
+                .addContentLine(";")
+        );
+
+        if (methods.stream().anyMatch(it -> it.shape() == GrpcServiceMethod.Shape.OBSERVER)) {
+            classModel.addMethod(GrpcRegistrationGenerator::invokeMethod);
+        }
+        if (methods.stream().anyMatch(it -> it.shape() == GrpcServiceMethod.Shape.STREAMING)) {
+            classModel.addMethod(GrpcRegistrationGenerator::invokeStreamingMethod);
+        }
+
+        roundContext.addGeneratedType(generatedRegistration, classModel, serviceType, service.originatingElementValue());
+    }
+
+    /*
+    static final String SERVICE_NAME = "helloworld.Greeter";
+    private static final MethodDescriptor<HelloRequest, HelloReply> METHOD_SAY_HELLO = MethodDescriptor.newBuilder(
+                    ProtoUtils.marshaller(HelloRequest.getDefaultInstance()),
+                    ProtoUtils.marshaller(HelloReply.getDefaultInstance()))
+            .setType(MethodDescriptor.MethodType.UNARY)
+            .setFullMethodName(MethodDescriptor.generateFullMethodName(SERVICE_NAME, "SayHello"))
+            .build();
+     */
+    static void addConstants(ClassModel.Builder classModel, String serviceName, List<GrpcServiceMethod> methods) {
+        classModel.addField(name -> name
+                .accessModifier(AccessModifier.PACKAGE_PRIVATE)
+                .isStatic(true)
+                .isFinal(true)
+                .type(TypeNames.STRING)
+                .name("SERVICE_NAME")
+                .addContentLiteral(serviceName));
+
+        for (GrpcServiceMethod method : methods) {
+            classModel.addField(descriptor -> descriptor
+                    .accessModifier(AccessModifier.PRIVATE)
+                    .isStatic(true)
+                    .isFinal(true)
+                    .type(TypeName.builder(METHOD_DESCRIPTOR)
+                                  .addTypeArgument(method.requestType())
+                                  .addTypeArgument(method.responseType())
+                                  .build())
+                    .name(method.constantName())
+                    .addContent(METHOD_DESCRIPTOR)
+                    .addContentLine(".newBuilder(")
+                    .increaseContentPadding()
+                    .increaseContentPadding()
+                    .update(it -> marshaller(it, method.requestType()))
+                    .addContentLine(",")
+                    .update(it -> marshaller(it, method.responseType()))
+                    .addContentLine(")")
+                    .addContent(".setType(")
+                    .addContent(METHOD_TYPE)
+                    .addContent(".")
+                    .addContent(method.methodType())
+                    .addContentLine(")")
+                    .addContent(".setFullMethodName(")
+                    .addContent(METHOD_DESCRIPTOR)
+                    .addContent(".generateFullMethodName(SERVICE_NAME, ")
+                    .addContentLiteral(method.name())
+                    .addContentLine("))")
+                    .addContent(".build()")
+                    .decreaseContentPadding()
+                    .decreaseContentPadding());
+        }
+    }
+
+    static TypeName supplier(TypeName type) {
+        return TypeName.builder(TypeNames.SUPPLIER)
+                .addTypeArgument(type)
+                .build();
+    }
+
+    private static void marshaller(ContentBuilder<?> content, TypeName messageType) {
+        content.addContent(PROTO_UTILS)
+                .addContent(".marshaller(")
+                .addContent(messageType)
+                .addContent(".getDefaultInstance())");
+    }
+
+    /*
+    .addMethod(METHOD_SAY_HELLO, ServerCalls.asyncUnaryCall((request, response) -> service.get().sayHello(request, response)))
+     */
+    private static void addMethod(ContentBuilder<?> content, GrpcServiceMethod method) {
+        String javaName = method.element().elementName();
+
+        content.addContent(".addMethod(")
+                .addContent(method.constantName())
+                .addContent(", ")
+                .addContent(SERVER_CALLS)
+                .addContent(".")
+                .addContent(serverCall(method.methodType()))
+                .addContent("(");
+
+        // an exception of the service method completes the call with an error status
+        switch (method.shape()) {
+            case OBSERVER -> content.addContent("(request, response) -> invoke(response, () -> service.get().")
+                    .addContent(javaName)
+                    .addContent("(request, response))");
+            case STREAMING -> content.addContent("response -> invokeStreaming(response, () -> service.get().")
+                    .addContent(javaName)
+                    .addContent("(response))");
+            case BLOCKING -> content.addContent("(request, response) -> ")
+                    .addContent(RESPONSE_HELPER)
+                    .addContent(".complete(response, () -> service.get().")
+                    .addContent(javaName)
+                    .addContent("(request))");
+            default -> throw new IllegalArgumentException("Unsupported method shape: " + method.shape());
+        }
+        content.addContentLine("))");
+    }
+
+    /*
+    private static <T> void invoke(StreamObserver<T> response, Runnable method) {
+        try {
+            method.run();
+        } catch (RuntimeException e) {
+            response.onError(e);
+        }
+    }
+     */
+    private static void invokeMethod(Method.Builder method) {
+        TypeName responseType = TypeName.createFromGenericDeclaration("T");
+        method.accessModifier(AccessModifier.PRIVATE)
+                .isStatic(true)
+                .addGenericArgument(TypeArgument.create("T"))
+                .name("invoke")
+                .addParameter(observer(responseType), "response")
+                .addParameter(RUNNABLE, "method")
+                .addContentLine("try {")
+                .addContentLine("method.run();")
+                .addContentLine("} catch (RuntimeException e) {")
+                .addContentLine("response.onError(e);")
+                .addContentLine("}");
+    }
+
+    /*
+    private static <ReqT, ResT> StreamObserver<ReqT> invokeStreaming(StreamObserver<ResT> response,
+                                                                     Supplier<StreamObserver<ReqT>> method) {
+        try {
+            return method.get();
+        } catch (RuntimeException e) {
+            response.onError(e);
+            // the call is closed, requests are ignored
+            return new StreamObserver<>() {...};
+        }
+    }
+     */
+    private static void invokeStreamingMethod(Method.Builder method) {
+        TypeName requestType = TypeName.createFromGenericDeclaration("ReqT");
+        TypeName responseType = TypeName.createFromGenericDeclaration("ResT");
+        method.accessModifier(AccessModifier.PRIVATE)
+                .isStatic(true)
+                .addGenericArgument(TypeArgument.create("ReqT"))
+                .addGenericArgument(TypeArgument.create("ResT"))
+                .returnType(observer(requestType))
+                .name("invokeStreaming")
+                .addParameter(observer(responseType), "response")
+                .addParameter(supplier(observer(requestType)), "method")
+                .addContentLine("try {")
+                .addContentLine("return method.get();")
+                .addContentLine("} catch (RuntimeException e) {")
+                .addContentLine("response.onError(e);")
+                .addContentLine("// the call is closed, requests are ignored")
+                .addContent("return new ")
+                .addContent(STREAM_OBSERVER)
+                .addContentLine("<>() {")
+                .addContentLine("@Override")
+                .addContentLine("public void onNext(ReqT value) {")
+                .addContentLine("}")
+                .addContentLine("")
+                .addContentLine("@Override")
+                .addContentLine("public void onError(Throwable t) {")
+                .addContentLine("}")
+                .addContentLine("")
+                .addContentLine("@Override")
+                .addContentLine("public void onCompleted() {")
+                .addContentLine("}")
+                .addContentLine("};")
+                .addContentLine("}");
+    }
+
+    private static TypeName observer(TypeName type) {
+        return TypeName.builder(STREAM_OBSERVER)
+                .addTypeArgument(type)
+                .build();
+    }
+
+    private static String serverCall(String methodType) {
+        return switch (methodType) {
+            case "UNARY" -> "asyncUnaryCall";
+            case "SERVER_STREAMING" -> "asyncServerStreamingCall";
+            case "CLIENT_STREAMING" -> "asyncClientStreamingCall";
+            case "BIDI_STREAMING" -> "asyncBidiStreamingCall";
+            default -> throw new IllegalArgumentException("Unsupported gRPC method type: " + methodType);
+        };
+    }
+}
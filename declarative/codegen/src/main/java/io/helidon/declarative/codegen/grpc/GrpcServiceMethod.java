@@ -0,0 +1,143 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.declarative.codegen.grpc;
+
+import java.util.Iterator;
+import java.util.List;
+
+import io.helidon.codegen.CodegenException;
+import io.helidon.common.types.TypeName;
+import io.helidon.common.types.TypeNames;
+import io.helidon.common.types.TypedElementInfo;
+
+import static io.helidon.declarative.codegen.grpc.GrpcTypes.STREAM_OBSERVER;
+
+/**
+ * A gRPC method of a service or a client.
+ *
+ * @param element      the annotated method
+ * @param name         gRPC method name
+ * @param constantName name of the generated method descriptor constant
+ * @param methodType   name of the {@code io.grpc.MethodDescriptor.MethodType} constant
+ * @param shape        signature of the annotated method
+ * @param requestType  protocol buffer request message type
+ * @param responseType protocol buffer response message type
+ */
+record GrpcServiceMethod(TypedElementInfo element,
+                         String name,
+                         String constantName,
+                         String methodType,
+                         Shape shape,
+                         TypeName requestType,
+                         TypeName responseType) {
+    private static final TypeName ITERATOR = TypeName.create(Iterator.class);
+
+    static GrpcServiceMethod create(TypedElementInfo element,
+                                    String name,
+                                    String constantName,
+                                    String methodType,
+                                    boolean client) {
+        List<TypedElementInfo> params = element.parameterArguments();
+        TypeName returnType = element.typeName();
+        boolean returnsVoid = returnType.equals(TypeNames.PRIMITIVE_VOID);
+        boolean streamingRequest = methodType.equals("CLIENT_STREAMING") || methodType.equals("BIDI_STREAMING");
+
+        if (streamingRequest) {
+            // StreamObserver<Req> method(StreamObserver<Res> response)
+            if (params.size() == 1 && isObserver(params.getFirst().typeName()) && isObserver(returnType)) {
+                return new GrpcServiceMethod(element,
+                                             name,
+                                             constantName,
+                                             methodType,
+                                             Shape.STREAMING,
+                                             returnType.typeArguments().getFirst(),
+                                             params.getFirst().typeName().typeArguments().getFirst());
+            }
+            throw unsupported(element, methodType, "StreamObserver<Request> method(StreamObserver<Response> response)");
+        }
+        // void method(Req request, StreamObserver<Res> response)
+        if (params.size() == 2 && returnsVoid && isObserver(params.get(1).typeName())) {
+            return new GrpcServiceMethod(element,
+                                         name,
+                                         constantName,
+                                         methodType,
+                                         Shape.OBSERVER,
+                                         params.getFirst().typeName(),
+                                         params.get(1).typeName().typeArguments().getFirst());
+        }
+        if (params.size() == 1 && !returnsVoid) {
+            if (methodType.equals("UNARY")) {
+                // Res method(Req request)
+                return new GrpcServiceMethod(element,
+                                             name,
+                                             constantName,
+                                             methodType,
+                                             Shape.BLOCKING,
+                                             params.getFirst().typeName(),
+                                             returnType);
+            }
+            if (client
+                    && returnType.genericTypeName().equals(ITERATOR)
+                    && returnType.typeArguments().size() == 1) {
+                // Iterator<Res> method(Req request)
+                return new GrpcServiceMethod(element,
+                                             name,
+                                             constantName,
+                                             methodType,
+                                             Shape.BLOCKING,
+                                             params.getFirst().typeName(),
+                                             returnType.typeArguments().getFirst());
+            }
+        }
+        if (methodType.equals("UNARY")) {
+            throw unsupported(element, methodType, "Response method(Request request), "
+                    + "or void method(Request request, StreamObserver<Response> response)");
+        }
+        if (client) {
+            throw unsupported(element, methodType, "Iterator<Response> method(Request request), "
+                    + "or void method(Request request, StreamObserver<Response> response)");
+        }
+        throw unsupported(element, methodType, "void method(Request request, StreamObserver<Response> response)");
+    }
+
+    private static boolean isObserver(TypeName type) {
+        return type.genericTypeName().equals(STREAM_OBSERVER) && type.typeArguments().size() == 1;
+    }
+
+    private static CodegenException unsupported(TypedElementInfo element, String methodType, String expected) {
+        return new CodegenException("Unsupported signature of " + methodType + " gRPC method " + element.elementName()
+                                            + ", expected: " + expected,
+                                    element.originatingElementValue());
+    }
+
+    /**
+     * Signature of a gRPC method.
+     */
+    enum Shape {
+        /**
+         * Request is a parameter, response (or an iterator of responses) is returned.
+         */
+        BLOCKING,
+        /**
+         * Request is the first parameter, responses are sent to a {@code StreamObserver} parameter.
+         */
+        OBSERVER,
+        /**
+         * Responses are sent to a {@code StreamObserver} parameter, requests to the returned {@code StreamObserver}.
+         */
+        STREAMING
+    }
+}
@@ -0,0 +1,49 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.declarative.codegen.grpc;
+
+import io.helidon.common.types.TypeName;
+
+final class GrpcTypes {
+    static final TypeName ANNOTATION_SERVICE = TypeName.create("io.helidon.grpc.api.Grpc.GrpcService");
+    static final TypeName ANNOTATION_PROTO = TypeName.create("io.helidon.grpc.api.Grpc.Proto");
+    static final TypeName ANNOTATION_UNARY = TypeName.create("io.helidon.grpc.api.Grpc.Unary");
+    static final TypeName ANNOTATION_SERVER_STREAMING = TypeName.create("io.helidon.grpc.api.Grpc.ServerStreaming");
+    static final TypeName ANNOTATION_CLIENT_STREAMING = TypeName.create("io.helidon.grpc.api.Grpc.ClientStreaming");
+    static final TypeName ANNOTATION_BIDIRECTIONAL = TypeName.create("io.helidon.grpc.api.Grpc.Bidirectional");
+    static final TypeName ANNOTATION_METHOD = TypeName.create("io.helidon.grpc.api.Grpc.GrpcMethod");
+    static final TypeName ANNOTATION_MARSHALLER = TypeName.create("io.helidon.grpc.api.Grpc.GrpcMarshaller");
+    static final TypeName ANNOTATION_CHANNEL = TypeName.create("io.helidon.grpc.api.Grpc.GrpcChannel");
+
+    static final TypeName METHOD_DESCRIPTOR = TypeName.create("io.grpc.MethodDescriptor");
+    static final TypeName METHOD_TYPE = TypeName.create("io.grpc.MethodDescriptor.MethodType");
+    static final TypeName SERVER_SERVICE_DEFINITION = TypeName.create("io.grpc.ServerServiceDefinition");
+    static final TypeName CALL_OPTIONS = TypeName.create("io.grpc.CallOptions");
+    static final TypeName CHANNEL = TypeName.create("io.grpc.Channel");
+    static final TypeName PROTO_UTILS = TypeName.create("io.grpc.protobuf.ProtoUtils");
+    static final TypeName STREAM_OBSERVER = TypeName.create("io.grpc.stub.StreamObserver");
+    static final TypeName SERVER_CALLS = TypeName.create("io.grpc.stub.ServerCalls");
+    static final TypeName CLIENT_CALLS = TypeName.create("io.grpc.stub.ClientCalls");
+    static final TypeName FILE_DESCRIPTOR = TypeName.create("com.google.protobuf.Descriptors.FileDescriptor");
+
+    static final TypeName GRPC_SERVICE_REGISTRATION = TypeName.create("io.helidon.webserver.grpc.GrpcServiceRegistration");
+    static final TypeName RESPONSE_HELPER = TypeName.create("io.helidon.grpc.core.ResponseHelper");
+    static final TypeName GRPC_CLIENT = TypeName.create("io.helidon.webclient.grpc.GrpcClient");
+    static final TypeName GRPC_CLIENT_CONFIG = TypeName.create("io.helidon.webclient.grpc.GrpcClientConfig");
+
+    private GrpcTypes() {
+    }
+}
@@ -0,0 +1,36 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.declarative.tests.grpc;
+
+import io.helidon.declarative.tests.grpc.Strings.StringMessage;
+import io.helidon.grpc.api.Grpc;
+
+/**
+ * Typed client of {@link io.helidon.declarative.tests.grpc.StringService} using a channel that is not
+ * provided by the service registry, so its gRPC client is created from configuration.
+ */
+@Grpc.GrpcService("StringService")
+@Grpc.GrpcChannel("configured")
+public interface ConfiguredStringClient {
+    /**
+     * Convert the text to upper case.
+     *
+     * @param request message to convert, the text must not be empty
+     * @return converted message
+     */
+    @Grpc.Unary("Upper")
+    StringMessage upper(StringMessage request);
+}
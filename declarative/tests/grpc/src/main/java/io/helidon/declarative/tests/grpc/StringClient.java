@@ -0,0 +1,74 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.declarative.tests.grpc;
+
+import java.util.Iterator;
+
+import io.helidon.declarative.tests.grpc.Strings.StringMessage;
+import io.helidon.grpc.api.Grpc;
+
+import io.grpc.stub.StreamObserver;
+
+/**
+ * Typed client of {@link io.helidon.declarative.tests.grpc.StringService}.
+ */
+@Grpc.GrpcService("StringService")
+public interface StringClient {
+    /**
+     * Convert the text to upper case.
+     *
+     * @param request message to convert, the text must not be empty
+     * @return converted message
+     */
+    @Grpc.Unary("Upper")
+    StringMessage upper(StringMessage request);
+
+    /**
+     * Convert the text to lower case.
+     *
+     * @param request  message to convert, the text must not be empty
+     * @param response observer of the converted message
+     */
+    @Grpc.Unary("Lower")
+    void lower(StringMessage request, StreamObserver<StringMessage> response);
+
+    /**
+     * Split the text into words.
+     *
+     * @param request message to split
+     * @return words
+     */
+    @Grpc.ServerStreaming("Split")
+    Iterator<StringMessage> split(StringMessage request);
+
+    /**
+     * Join words into a single text.
+     *
+     * @param response observer of the joined message
+     * @return observer to send words to
+     */
+    @Grpc.ClientStreaming("Join")
+    StreamObserver<StringMessage> join(StreamObserver<StringMessage> response);
+
+    /**
+     * Echo messages.
+     *
+     * @param response observer of the echoed messages
+     * @return observer to send messages to
+     */
+    @Grpc.Bidirectional("Echo")
+    StreamObserver<StringMessage> echo(StreamObserver<StringMessage> response);
+}
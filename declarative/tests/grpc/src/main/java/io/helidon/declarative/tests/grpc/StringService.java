@@ -0,0 +1,111 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.declarative.tests.grpc;
+
+import java.util.Locale;
+
+import io.helidon.declarative.tests.grpc.Strings.StringMessage;
+import io.helidon.grpc.api.Grpc;
+import io.helidon.service.registry.Service;
+
+import com.google.protobuf.Descriptors;
+import io.grpc.stub.StreamObserver;
+
+@Service.Singleton
+@Grpc.GrpcService("StringService")
+class StringService {
+    @Grpc.Unary("Upper")
+    StringMessage upper(StringMessage request) {
+        if (request.getText().isEmpty()) {
+            throw new IllegalArgumentException("Text must not be empty");
+        }
+        return message(request.getText().toUpperCase(Locale.ROOT));
+    }
+
+    @Grpc.Unary("Lower")
+    void lower(StringMessage request, StreamObserver<StringMessage> response) {
+        if (request.getText().isEmpty()) {
+            throw new IllegalArgumentException("Text must not be empty");
+        }
+        response.onNext(message(request.getText().toLowerCase(Locale.ROOT)));
+        response.onCompleted();
+    }
+
+    @Grpc.ServerStreaming("Split")
+    void split(StringMessage request, StreamObserver<StringMessage> response) {
+        for (String part : request.getText().split(" ")) {
+            response.onNext(message(part));
+        }
+        response.onCompleted();
+    }
+
+    @Grpc.ClientStreaming("Join")
+    StreamObserver<StringMessage> join(StreamObserver<StringMessage> response) {
+        return new StreamObserver<>() {
+            private final StringBuilder joined = new StringBuilder();
+
+            @Override
+            public void onNext(StringMessage value) {
+                if (!joined.isEmpty()) {
+                    joined.append(' ');
+                }
+                joined.append(value.getText());
+            }
+
+            @Override
+            public void onError(Throwable t) {
+                response.onError(t);
+            }
+
+            @Override
+            public void onCompleted() {
+                response.onNext(message(joined.toString()));
+                response.onCompleted();
+            }
+        };
+    }
+
+    @Grpc.Bidirectional("Echo")
+    StreamObserver<StringMessage> echo(StreamObserver<StringMessage> response) {
+        return new StreamObserver<>() {
+            @Override
+            public void onNext(StringMessage value) {
+                response.onNext(value);
+            }
+
+            @Override
+            public void onError(Throwable t) {
+                response.onError(t);
+            }
+
+            @Override
+            public void onCompleted() {
+                response.onCompleted();
+            }
+        };
+    }
+
+    @Grpc.Proto
+    Descriptors.FileDescriptor proto() {
+        return Strings.getDescriptor();
+    }
+
+    private static StringMessage message(String text) {
+        return StringMessage.newBuilder()
+                .setText(text)
+                .build();
+    }
+}
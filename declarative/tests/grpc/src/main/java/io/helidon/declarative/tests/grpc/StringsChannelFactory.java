@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.declarative.tests.grpc;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import io.helidon.config.Config;
+import io.helidon.service.registry.Service;
+import io.helidon.webclient.grpc.GrpcClient;
+import io.helidon.webclient.grpc.GrpcClientConfig;
+import io.helidon.webclient.grpc.GrpcServiceClient;
+import io.helidon.webclient.grpc.GrpcServiceDescriptor;
+
+import io.grpc.CallOptions;
+import io.grpc.Channel;
+import io.grpc.ClientCall;
+import io.grpc.ClientInterceptor;
+import io.grpc.MethodDescriptor;
+
+/**
+ * Provides the gRPC client of the {@value #CHANNEL} channel. Calls made through channels of the client are counted,
+ * so tests can verify which typed clients use it.
+ */
+@Service.Singleton
+@Service.Named(StringsChannelFactory.CHANNEL)
+public class StringsChannelFactory implements Supplier<GrpcClient> {
+    static final String CHANNEL = "strings";
+
+    private final AtomicInteger calls = new AtomicInteger();
+    private final Config config;
+
+    StringsChannelFactory(Config config) {
+        this.config = config;
+    }
+
+    @Override
+    public GrpcClient get() {
+        return new CountingClient(GrpcClient.create(GrpcClientConfig.create(config.get("strings-channel"))));
+    }
+
+    /**
+     * Number of calls made through channels of the provided client.
+     *
+     * @return number of calls
+     */
+    public int calls() {
+        return calls.get();
+    }
+
+    private class CountingClient implements GrpcClient, ClientInterceptor {
+        private final GrpcClient delegate;
+
+        private CountingClient(GrpcClient delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public GrpcServiceClient serviceClient(GrpcServiceDescriptor descriptor) {
+            return delegate.serviceClient(descriptor);
+        }
+
+        @Override
+        public Channel channel() {
+            return delegate.channel(this);
+        }
+
+        @Override
+        public Channel channel(ClientInterceptor... interceptors) {
+            return delegate.channel(interceptors);
+        }
+
+        @Override
+        public GrpcClientConfig clientConfig() {
+            return delegate.clientConfig();
+        }
+
+        @Override
+        public GrpcClientConfig prototype() {
+            return delegate.prototype();
+        }
+
+        @Override
+        public <ReqT, ResT> ClientCall<ReqT, ResT> interceptCall(MethodDescriptor<ReqT, ResT> method,
+                                                                 CallOptions callOptions,
+                                                                 Channel next) {
+            calls.incrementAndGet();
+            return next.newCall(method, callOptions);
+        }
+    }
+}
@@ -0,0 +1,168 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.declarative.tests.grpc;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import io.helidon.declarative.tests.grpc.Strings.StringMessage;
+import io.helidon.webserver.testing.junit5.ServerTest;
+
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import io.grpc.stub.StreamObserver;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+
+@ServerTest
+public class DeclarativeGrpcTest {
+    private final StringClient client;
+    private final NamedStringClient namedClient;
+    private final ConfiguredStringClient configuredClient;
+    private final StringsChannelFactory channelFactory;
+
+    public DeclarativeGrpcTest(StringClient client,
+                               NamedStringClient namedClient,
+                               ConfiguredStringClient configuredClient,
+                               StringsChannelFactory channelFactory) {
+        this.client = client;
+        this.namedClient = namedClient;
+        this.configuredClient = configuredClient;
+        this.channelFactory = channelFactory;
+    }
+
+    @Test
+    public void testUnary() {
+        StringMessage response = client.upper(message("lower case"));
+        assertThat(response.getText(), is("LOWER CASE"));
+    }
+
+    @Test
+    public void testUnaryException() {
+        // the call is closed with an error status, rather than left open (the client has no deadline)
+        StatusRuntimeException e = assertTimeoutPreemptively(Duration.ofSeconds(10),
+                                                             () -> assertThrows(StatusRuntimeException.class,
+                                                                                () -> client.upper(message(""))));
+        assertThat(e.getStatus().getCode(), is(Status.Code.UNKNOWN));
+
+        // same for a method that sends its response to an observer
+        Observer observer = new Observer();
+        client.lower(message(""), observer);
+        ExecutionException observerException = assertThrows(ExecutionException.class, observer::texts);
+        assertThat(observerException.getCause(), instanceOf(StatusRuntimeException.class));
+        e = (StatusRuntimeException) observerException.getCause();
+        assertThat(e.getStatus().getCode(), is(Status.Code.UNKNOWN));
+    }
+
+    @Test
+    public void testRegistryClient() {
+        // a client without a channel uses any gRPC client from the registry
+        int calls = channelFactory.calls();
+        assertThat(client.upper(message("registry")).getText(), is("REGISTRY"));
+        assertThat(channelFactory.calls(), is(calls + 1));
+    }
+
+    @Test
+    public void testNamedChannelClient() {
+        int calls = channelFactory.calls();
+        assertThat(namedClient.upper(message("named")).getText(), is("NAMED"));
+        assertThat(channelFactory.calls(), is(calls + 1));
+    }
+
+    @Test
+    public void testConfiguredChannelClient() {
+        // no gRPC client of this channel is in the registry, it is created from "grpc.client.configured"
+        int calls = channelFactory.calls();
+        assertThat(configuredClient.upper(message("configured")).getText(), is("CONFIGURED"));
+        assertThat(channelFactory.calls(), is(calls));
+    }
+
+    @Test
+    public void testUnaryObserver() throws Exception {
+        Observer observer = new Observer();
+        client.lower(message("UPPER CASE"), observer);
+        assertThat(observer.texts(), contains("upper case"));
+    }
+
+    @Test
+    public void testServerStreaming() {
+        List<String> texts = new ArrayList<>();
+        Iterator<StringMessage> responses = client.split(message("a b c"));
+        responses.forEachRemaining(it -> texts.add(it.getText()));
+        assertThat(texts, contains("a", "b", "c"));
+    }
+
+    @Test
+    public void testClientStreaming() throws Exception {
+        Observer observer = new Observer();
+        StreamObserver<StringMessage> requests = client.join(observer);
+        requests.onNext(message("a"));
+        requests.onNext(message("b"));
+        requests.onCompleted();
+        assertThat(observer.texts(), contains("a b"));
+    }
+
+    @Test
+    public void testBidirectional() throws Exception {
+        Observer observer = new Observer();
+        StreamObserver<StringMessage> requests = client.echo(observer);
+        requests.onNext(message("a"));
+        requests.onNext(message("b"));
+        requests.onCompleted();
+        assertThat(observer.texts(), contains("a", "b"));
+    }
+
+    private static StringMessage message(String text) {
+        return StringMessage.newBuilder()
+                .setText(text)
+                .build();
+    }
+
+    private static class Observer implements StreamObserver<StringMessage> {
+        private final List<String> texts = new ArrayList<>();
+        private final CompletableFuture<List<String>> completed = new CompletableFuture<>();
+
+        @Override
+        public void onNext(StringMessage value) {
+            texts.add(value.getText());
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            completed.completeExceptionally(t);
+        }
+
+        @Override
+        public void onCompleted() {
+            completed.complete(texts);
+        }
+
+        List<String> texts() throws Exception {
+            return completed.get(10, TimeUnit.SECONDS);
+        }
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2023 Oracle and/or its affiliates.
+ * Copyright (c) 2023, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -94,4 +94,14 @@ public final class DateTime {
     public static byte[] http1Bytes() {
         return DateTimeHelper.http1Bytes();
     }
+
+    /**
+     * Complete HTTP/1 {@code Date} header line with current time, terminated by carriage return and new line.
+     * The value is updated once a second, and the returned array must not be modified.
+     *
+     * @return date header bytes for HTTP/1
+     */
+    public static byte[] http1HeaderBytes() {
+        return DateTimeHelper.http1HeaderBytes();
+    }
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2023 Oracle and/or its affiliates.
+ * Copyright (c) 2023, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -44,6 +44,7 @@ final class DateTimeHelper {
     private static volatile ZonedDateTime time;
     private static volatile String rfc1123String;
     private static volatile byte[] http1valueBytes;
+    private static volatile byte[] http1HeaderBytes;
 
     static {
         Map<Long, String> monthName3d = Map.ofEntries(Map.entry(1L, "Jan"),
@@ -160,9 +161,14 @@ final class DateTimeHelper {
         return http1valueBytes;
     }
 
+    static byte[] http1HeaderBytes() {
+        return http1HeaderBytes;
+    }
+
     static void update() {
         time = ZonedDateTime.now();
         rfc1123String = time.format(DateTimeFormatter.RFC_1123_DATE_TIME);
         http1valueBytes = (rfc1123String + "\r\n").getBytes(StandardCharsets.US_ASCII);
+        http1HeaderBytes = ("Date: " + rfc1123String + "\r\n").getBytes(StandardCharsets.US_ASCII);
     }
 }
@@ -0,0 +1,165 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.http;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import io.helidon.common.Api;
+import io.helidon.common.buffers.BufferData;
+
+/**
+ * An immutable set of response headers that is validated and encoded once, and can be shared by many responses.
+ * Use for headers that are the same for most responses (such as {@code Content-Type}, {@code Server},
+ * or CORS headers), and create the template once (for example as a constant).
+ * <p>
+ * When set on {@link io.helidon.http.ServerResponseHeaders} using
+ * {@link io.helidon.http.ServerResponseHeaders#set(HeaderTemplate)}, HTTP/1 responses write the pre-encoded
+ * bytes of the template, unless any of its headers was later modified or removed.
+ * <p>
+ * Example:
+ * <pre>
+ * private static final HeaderTemplate JSON_HEADERS = HeaderTemplate.create(
+ *         HeaderValues.CONTENT_TYPE_JSON,
+ *         HeaderValues.createCached(HeaderNames.SERVER, "Helidon"));
+ *
+ * response.headers().set(JSON_HEADERS);
+ * </pre>
+ */
+@Api.Preview
+public final class HeaderTemplate {
+    private final Header[] headers;
+    private final byte[] http1Bytes;
+
+    private HeaderTemplate(Header[] headers) {
+        this.headers = headers;
+
+        BufferData buffer = BufferData.growing(headers.length * 32);
+        for (Header header : headers) {
+            header.validate();
+            header.writeHttp1Header(buffer);
+        }
+        this.http1Bytes = buffer.readBytes();
+    }
+
+    /**
+     * Create a new template from headers.
+     * If the same header name is used more than once, the last header is used.
+     *
+     * @param headers headers of the template
+     * @return a new header template
+     * @throws IllegalArgumentException in case any of the headers is not valid
+     */
+    public static HeaderTemplate create(Header... headers) {
+        WritableHeaders<?> writable = WritableHeaders.create();
+        for (Header header : headers) {
+            writable.set(header);
+        }
+        return create(writable);
+    }
+
+    /**
+     * Create a new template from headers.
+     *
+     * @param headers headers of the template
+     * @return a new header template
+     * @throws IllegalArgumentException in case any of the headers is not valid
+     */
+    public static HeaderTemplate create(Headers headers) {
+        List<Header> result = new ArrayList<>(headers.size());
+        for (Header header : headers) {
+            // writeable headers are copied when set to headers, so we must use an immutable instance
+            result.add(header instanceof HeaderWriteable ? immutable(header) : header);
+        }
+        return new HeaderTemplate(result.toArray(new Header[0]));
+    }
+
+    /**
+     * Headers of this template.
+     *
+     * @return headers
+     */
+    public List<Header> headers() {
+        return List.of(headers);
+    }
+
+    @Override
+    public String toString() {
+        return "HeaderTemplate" + headers();
+    }
+
+    /*
+     * Whether all headers of this template are still used by the provided headers (same instances).
+     */
+    boolean intact(Headers responseHeaders) {
+        for (Header header : headers) {
+            if (!responseHeaders.contains(header.headerName())
+                    || responseHeaders.get(header.headerName()) != header) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /*
+     * Whether the header instance is part of this template.
+     */
+    boolean contains(Header header) {
+        for (Header templateHeader : headers) {
+            if (templateHeader == header) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    void writeHttp1(BufferData buffer) {
+        buffer.write(http1Bytes);
+    }
+
+    private static Header immutable(Header header) {
+        if (header.valueCount() == 1) {
+            String value = header.get();
+            return new HeaderValueCached(header.headerName(),
+                                         header.changing(),
+                                         header.sensitive(),
+                                         value.getBytes(StandardCharsets.US_ASCII),
+                                         value);
+        }
+        return new ImmutableHeader(header);
+    }
+
+    private static final class ImmutableHeader extends HeaderValueBase {
+        private final List<String> values;
+
+        private ImmutableHeader(Header header) {
+            super(header.headerName(), header.changing(), header.sensitive(), header.get());
+            this.values = List.copyOf(header.allValues());
+        }
+
+        @Override
+        public List<String> allValues() {
+            return values;
+        }
+
+        @Override
+        public int valueCount() {
+            return values.size();
+        }
+    }
+}
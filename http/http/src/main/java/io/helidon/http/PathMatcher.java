@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022, 2025 Oracle and/or its affiliates.
+ * Copyright (c) 2022, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -52,4 +52,16 @@ public interface PathMatcher {
     default Optional<String> matchingElement() {
         return Optional.empty();
     }
+
+    /**
+     * Segment template of this matcher, used to pre-compute routing tables.
+     * The template must describe a superset of the paths accepted by both {@link #match(UriPath)} and
+     * {@link #prefixMatch(UriPath)}, as the matcher itself is always consulted for the final decision.
+     *
+     * @return template of this matcher, or empty if the matcher cannot be described by a template (such as when
+     *         it uses custom regular expressions)
+     */
+    default Optional<PathMatchers.Template> template() {
+        return Optional.empty();
+    }
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022, 2025 Oracle and/or its affiliates.
+ * Copyright (c) 2022, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,8 +16,10 @@
 
 package io.helidon.http;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
@@ -274,6 +276,67 @@ public final class PathMatchers {
         builder.append(')');
     }
 
+    // segments of a literal path (must start with a slash), or null if the path cannot be used in a template
+    private static List<String> literalSegments(String path) {
+        if (path.isEmpty() || path.charAt(0) != '/') {
+            return null;
+        }
+        for (int i = 0; i < path.length(); i++) {
+            char ch = path.charAt(i);
+            // encoded, matrix parameter, or glob characters may match in ways a plain segment comparison would not
+            if (ch == '%' || ch == ';' || ch == '*') {
+                return null;
+            }
+        }
+        if (path.length() == 1) {
+            return List.of();
+        }
+        return List.of(path.substring(1).split("/", -1));
+    }
+
+    private static Template patternTemplate(String sourcePattern) {
+        String path = sourcePattern;
+        boolean prefix = false;
+        if (path.endsWith("/*")) {
+            prefix = true;
+            path = path.substring(0, path.length() - 2);
+        }
+        if (path.isEmpty() || path.charAt(0) != '/') {
+            return null;
+        }
+        for (int i = 0; i < path.length(); i++) {
+            char ch = path.charAt(i);
+            if (ch == '%' || ch == ';' || ch == '*' || ch == '[' || ch == ']' || ch == '\\') {
+                return null;
+            }
+        }
+        String[] parts = path.substring(1).split("/", -1);
+        List<String> segments = new ArrayList<>(parts.length);
+        for (int i = 0; i < parts.length; i++) {
+            String part = parts[i];
+            int open = part.indexOf('{');
+            int close = part.indexOf('}');
+            if (open == -1 && close == -1) {
+                segments.add(part);
+                continue;
+            }
+            // only parameters spanning a whole segment can be indexed
+            if (open != 0 || close != part.length() - 1 || part.indexOf('{', 1) != -1 || part.indexOf(':') != -1) {
+                return null;
+            }
+            if (part.length() > 2 && part.charAt(1) == '+') {
+                // greedy parameter may span any number of segments, only supported as the last segment
+                if (i != parts.length - 1) {
+                    return null;
+                }
+                prefix = true;
+                break;
+            }
+            segments.add(Template.PARAMETER);
+        }
+        return new Template(List.copyOf(segments), prefix);
+    }
+
     private static String fixPrefix(String pathToMatch) {
         if (pathToMatch.isEmpty()) {
             return "/";
@@ -288,6 +351,7 @@ public final class PathMatchers {
         private final boolean isRoot;
         private final String path;
         private final String pathWithTrailingSlash;
+        private final Optional<Template> template;
 
         ExactPathMatcher(String path) {
             // We work with decoded URIs
@@ -295,6 +359,13 @@ public final class PathMatchers {
             this.pathWithTrailingSlash = this.path + "/";
             // optimization - this happens one per lifetime of the server, but the check is happening for every request
             this.isRoot = "/".equals(this.path);
+            // encoded characters are excluded, as raw path is matched as well
+            List<String> segments = path.indexOf('%') == -1 ? literalSegments(this.path) : null;
+            if (segments == null) {
+                this.template = Optional.empty();
+            } else {
+                this.template = Optional.of(new Template(isRoot ? List.of("") : segments, false));
+            }
         }
 
         @Override
@@ -345,6 +416,11 @@ public final class PathMatchers {
             return Optional.of(path);
         }
 
+        @Override
+        public Optional<Template> template() {
+            return template;
+        }
+
         @Override
         public String toString() {
             return "exact: " + path;
@@ -354,13 +430,26 @@ public final class PathMatchers {
     static final class PrefixPathMatcher implements PathMatcher {
         private final String prefix;
         private final String exactMatch;
+        private final Optional<Template> template;
 
         PrefixPathMatcher(String prefix) {
             this.prefix = prefix;
             if (prefix.endsWith("/")) {
                 exactMatch = prefix.substring(0, prefix.length() - 1);
+                List<String> segments = literalSegments(prefix);
+                if (segments == null) {
+                    template = Optional.empty();
+                } else {
+                    // drop the trailing empty segment, remaining segments are matched by the prefix flag
+                    template = Optional.of(new Template(segments.isEmpty()
+                                                                ? segments
+                                                                : segments.subList(0, segments.size() - 1),
+                                                        true));
+                }
             } else {
                 exactMatch = prefix;
+                // prefix that does not end with a slash may end in the middle of a segment
+                template = Optional.empty();
             }
         }
 
@@ -420,6 +509,11 @@ public final class PathMatchers {
             return Optional.of(exactMatch + "/*");
         }
 
+        @Override
+        public Optional<Template> template() {
+            return template;
+        }
+
         @Override
         public String toString() {
             return "prefix: " + prefix;
@@ -434,6 +528,7 @@ public final class PathMatchers {
         private final Pattern leftPattern;
         private final String patternString;
         private final String sourcePattern;
+        private final Optional<Template> template;
 
         PatternPathMatcher(String pattern, Map<String, String> paramToGroupName, String sourcePattern) {
             this.patternString = pattern;
@@ -441,6 +536,7 @@ public final class PathMatchers {
             this.leftPattern = Pattern.compile(pattern + "(?<" + RIGHT_PART_PARAM_NAME + ">/.+)?");
             this.paramToGroupName = paramToGroupName;
             this.sourcePattern = sourcePattern;
+            this.template = Optional.ofNullable(patternTemplate(sourcePattern));
         }
 
         @Override
@@ -490,6 +586,11 @@ public final class PathMatchers {
             return Optional.of(sourcePattern);
         }
 
+        @Override
+        public Optional<Template> template() {
+            return template;
+        }
+
         private Parameters extractParams(Matcher matcher) {
             // Old school, but slightly faster than stream.
             Map<String, String> params = new HashMap<>(paramToGroupName.size());
@@ -504,6 +605,8 @@ public final class PathMatchers {
     }
 
     static class AnyMatcher implements PathMatcher {
+        private static final Optional<Template> TEMPLATE = Optional.of(new Template(List.of(), true));
+
         @Override
         public MatchResult match(UriPath uriPath) {
             return new MatchResult(true, new NoParamRoutedPath(uriPath));
@@ -516,6 +619,11 @@ public final class PathMatchers {
                                          uriPath);
         }
 
+        @Override
+        public Optional<Template> template() {
+            return TEMPLATE;
+        }
+
         @Override
         public String toString() {
             return "any path";
@@ -695,4 +803,22 @@ public final class PathMatchers {
             return NOT_ACCEPTED;
         }
     }
+
+    /**
+     * Segment template of a path matcher.
+     * A template describes a superset of paths a {@link io.helidon.http.PathMatcher} may accept, and can be used to
+     * pre-compute routing tables. The matcher itself must still be used to validate the path.
+     *
+     * @param segments decoded path segments (without the leading slash), {@link #PARAMETER} marks a segment that
+     *                 may have any value
+     * @param prefix   whether the matcher may accept any number of segments following the template segments
+     * @see io.helidon.http.PathMatcher#template()
+     */
+    public record Template(List<String> segments, boolean prefix) {
+        /**
+         * Segment that matches any value (such as a path parameter).
+         * Literal segments of a template never contain this character.
+         */
+        public static final String PARAMETER = "*";
+    }
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022, 2025 Oracle and/or its affiliates.
+ * Copyright (c) 2022, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -22,6 +22,7 @@ import java.time.Instant;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
 
+import io.helidon.common.buffers.BufferData;
 import io.helidon.common.media.type.MediaType;
 
 import static io.helidon.http.HeaderNames.EXPIRES;
@@ -185,4 +186,34 @@ public interface ServerResponseHeaders extends ClientResponseHeaders,
         return set(HeaderValues.create(EXPIRES, ZonedDateTime.ofInstant(dateTime, ZoneId.systemDefault())
                 .format(DateTime.RFC_1123_DATE_TIME)));
     }
+
+    /**
+     * Set all headers of a pre-encoded header template.
+     * HTTP/1 responses write the pre-encoded bytes of the template, as long as none of its headers
+     * is modified or removed after this method is called.
+     *
+     * @param template header template
+     * @return updated headers
+     */
+    default ServerResponseHeaders set(HeaderTemplate template) {
+        for (Header header : template.headers()) {
+            set(header);
+        }
+        return this;
+    }
+
+    /**
+     * Write all headers in HTTP/1 format (each header line terminated by carriage return and new line).
+     *
+     * @param buffer   buffer to write to
+     * @param validate whether to validate headers before writing them
+     */
+    default void writeHttp1(BufferData buffer, boolean validate) {
+        if (validate) {
+            forEach(Header::validate);
+        }
+        for (Header header : this) {
+            header.writeHttp1Header(buffer);
+        }
+    }
 }
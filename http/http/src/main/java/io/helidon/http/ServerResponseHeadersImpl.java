@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022, 2025 Oracle and/or its affiliates.
+ * Copyright (c) 2022, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -22,11 +22,15 @@ import java.util.List;
 import java.util.function.Predicate;
 
 import io.helidon.common.LazyValue;
+import io.helidon.common.buffers.BufferData;
 
 class ServerResponseHeadersImpl extends HeadersImpl<ServerResponseHeaders> implements ServerResponseHeaders {
     private static final LazyValue<ZonedDateTime> START_OF_YEAR_1970 = LazyValue.create(
             () -> ZonedDateTime.of(1970, 1, 1, 0, 0, 0, 0, ZoneId.of("GMT+0")));
 
+    // last template set on these headers, written as pre-encoded bytes if still intact
+    private HeaderTemplate template;
+
     ServerResponseHeadersImpl() {
     }
 
@@ -34,6 +38,42 @@ class ServerResponseHeadersImpl extends HeadersImpl<ServerResponseHeaders> imple
         super(existing);
     }
 
+    @Override
+    public ServerResponseHeaders set(HeaderTemplate template) {
+        ServerResponseHeaders.super.set(template);
+        this.template = template;
+        return this;
+    }
+
+    @Override
+    public ServerResponseHeaders clear() {
+        template = null;
+        return super.clear();
+    }
+
+    @Override
+    public void writeHttp1(BufferData buffer, boolean validate) {
+        HeaderTemplate used = template;
+        if (used == null || !used.intact(this)) {
+            ServerResponseHeaders.super.writeHttp1(buffer, validate);
+            return;
+        }
+        // template headers are validated when the template is created
+        if (validate) {
+            for (Header header : this) {
+                if (!used.contains(header)) {
+                    header.validate();
+                }
+            }
+        }
+        used.writeHttp1(buffer);
+        for (Header header : this) {
+            if (!used.contains(header)) {
+                header.writeHttp1Header(buffer);
+            }
+        }
+    }
+
     @Override
     public ServerResponseHeaders addCookie(SetCookie cookie) {
         add(HeaderValues.create(HeaderNames.SET_COOKIE, cookie.toString()));
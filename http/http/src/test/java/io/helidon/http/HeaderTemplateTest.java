@@ -0,0 +1,124 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.http;
+
+import java.nio.charset.StandardCharsets;
+
+import io.helidon.common.buffers.BufferData;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.containsString;
+import static org.hamcrest.CoreMatchers.endsWith;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.collection.IsCollectionWithSize.hasSize;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class HeaderTemplateTest {
+    private static final Header SERVER = HeaderValues.createCached(HeaderNames.SERVER, "Helidon");
+    private static final HeaderTemplate TEMPLATE = HeaderTemplate.create(HeaderValues.CONTENT_TYPE_JSON, SERVER);
+
+    @Test
+    void testTemplateWritten() {
+        ServerResponseHeaders headers = ServerResponseHeaders.create();
+        headers.set(TEMPLATE);
+        headers.set(HeaderValues.create(HeaderNames.CONTENT_LENGTH, 42));
+
+        assertThat(TEMPLATE.intact(headers), is(true));
+        String written = http1(headers);
+
+        assertThat(written, containsString("Content-Type: application/json\r\n"));
+        assertThat(written, containsString("Server: Helidon\r\n"));
+        assertThat(written, endsWith("Content-Length: 42\r\n"));
+    }
+
+    @Test
+    void testModifiedTemplateHeader() {
+        ServerResponseHeaders headers = ServerResponseHeaders.create();
+        headers.set(TEMPLATE);
+        headers.set(HeaderValues.create(HeaderNames.SERVER, "Other"));
+
+        String written = http1(headers);
+
+        assertThat(written, containsString("Content-Type: application/json\r\n"));
+        assertThat(written, containsString("Server: Other\r\n"));
+        assertThat(written, not(containsString("Helidon")));
+    }
+
+    @Test
+    void testRemovedTemplateHeader() {
+        ServerResponseHeaders headers = ServerResponseHeaders.create();
+        headers.set(TEMPLATE);
+        headers.remove(HeaderNames.CONTENT_TYPE);
+
+        assertThat(http1(headers), is("Server: Helidon\r\n"));
+    }
+
+    @Test
+    void testClearedHeaders() {
+        ServerResponseHeaders headers = ServerResponseHeaders.create();
+        headers.set(TEMPLATE);
+        headers.clear();
+
+        assertThat(http1(headers), is(""));
+    }
+
+    @Test
+    void testDuplicateNames() {
+        HeaderTemplate template = HeaderTemplate.create(HeaderValues.create(HeaderNames.SERVER, "First"),
+                                                        HeaderValues.create(HeaderNames.SERVER, "Second"));
+
+        assertThat(template.headers(), hasSize(1));
+        assertThat(template.headers().getFirst().get(), is("Second"));
+    }
+
+    @Test
+    void testWriteableHeader() {
+        HeaderTemplate template = HeaderTemplate.create(HeaderValues.create(HeaderNames.SERVER, "Helidon"),
+                                                        HeaderValues.create(HeaderNames.VARY, "Origin", "Accept"));
+        ServerResponseHeaders headers = ServerResponseHeaders.create();
+        headers.set(template);
+        headers.set(HeaderValues.CONTENT_LENGTH_ZERO);
+
+        assertThat(template.intact(headers), is(true));
+        String written = http1(headers);
+        assertThat(written, containsString("Server: Helidon\r\n"));
+        assertThat(written, containsString("Vary: Origin\r\nVary: Accept\r\n"));
+        assertThat(written, endsWith("Content-Length: 0\r\n"));
+    }
+
+    @Test
+    void testInvalidHeader() {
+        assertThrows(IllegalArgumentException.class,
+                     () -> HeaderTemplate.create(HeaderValues.create(HeaderNames.SERVER, "Bad\nvalue")));
+    }
+
+    @Test
+    void testDateHeaderBytes() {
+        String dateLine = new String(DateTime.http1HeaderBytes(), StandardCharsets.US_ASCII);
+
+        assertThat(dateLine, is("Date: " + new String(DateTime.http1Bytes(), StandardCharsets.US_ASCII)));
+    }
+
+    private static String http1(ServerResponseHeaders headers) {
+        BufferData buffer = BufferData.growing(128);
+        headers.writeHttp1(buffer, true);
+        return new String(buffer.readBytes(), StandardCharsets.US_ASCII);
+    }
+}
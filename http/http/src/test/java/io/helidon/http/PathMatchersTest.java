@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022, 2025 Oracle and/or its affiliates.
+ * Copyright (c) 2022, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,7 +16,9 @@
 
 package io.helidon.http;
 
+import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.stream.Stream;
@@ -131,6 +133,24 @@ class PathMatchersTest {
         assertThat(match.accepted(), is(true));
     }
 
+    @Test
+    void testTemplates() {
+        assertThat(template("/greet/me"), is(new PathMatchers.Template(List.of("greet", "me"), false)));
+        assertThat(template("/"), is(new PathMatchers.Template(List.of(""), false)));
+        assertThat(template("/greet/*"), is(new PathMatchers.Template(List.of("greet"), true)));
+        assertThat(template("/users/{id}/name"), is(new PathMatchers.Template(List.of("users", "*", "name"), false)));
+        assertThat(template("/users/{id}/*"), is(new PathMatchers.Template(List.of("users", "*"), true)));
+        assertThat(template("/files/{+path}"), is(new PathMatchers.Template(List.of("files"), true)));
+        assertThat(PathMatchers.any().template(), is(Optional.of(new PathMatchers.Template(List.of(), true))));
+
+        // cannot be described by segments
+        assertThat(PathMatchers.create("/{id:\\w{2}}/name").template(), is(Optional.empty()));
+        assertThat(PathMatchers.create("/foo[/{:.*}]").template(), is(Optional.empty()));
+        assertThat(PathMatchers.create("/user-{id}").template(), is(Optional.empty()));
+        assertThat(PathMatchers.create("/greet/a%20b").template(), is(Optional.empty()));
+        assertThat(PathMatchers.prefix("/gre").template(), is(Optional.empty()));
+    }
+
     @Test
     void testPatternSimpleVar() {
         String pathVarPattern = "(?<var1>[^/]+)";
@@ -199,6 +219,12 @@ class PathMatchersTest {
         };
     }
 
+    private static PathMatchers.Template template(String pathPattern) {
+        return PathMatchers.create(pathPattern)
+                .template()
+                .orElseThrow(() -> new AssertionError("Template should be available for " + pathPattern));
+    }
+
     private void patternTest(boolean matches, String patternString, String input) {
         patternTest(matches, patternString, input, Map.of());
     }
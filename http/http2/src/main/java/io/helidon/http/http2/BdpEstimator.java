@@ -0,0 +1,166 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.http.http2;
+
+import java.util.function.LongSupplier;
+
+import io.helidon.common.buffers.BufferData;
+
+import static java.lang.System.Logger.Level.DEBUG;
+
+/**
+ * Estimates the bandwidth-delay product (BDP) of an HTTP/2 connection to auto-tune inbound flow control windows.
+ * <p>
+ * When a DATA frame is received and no BDP ping is in flight, a PING frame is sent, and bytes received until
+ * the PING is acknowledged are counted. This sample approximates the BDP of the connection. If the sample gets close
+ * to the current window size (so the window may be limiting throughput), and the bandwidth measured
+ * is the highest so far, the window is grown to twice the sample, up to the configured maximum.
+ * <p>
+ * This class is not thread safe, it is expected to be used only by the thread reading frames of the connection.
+ */
+public final class BdpEstimator {
+    private static final System.Logger LOGGER = System.getLogger(FlowControl.class.getName() + ".bdp");
+    // payload of PING frames sent by the estimator, to distinguish them from other PING frames
+    private static final long PING_PAYLOAD = 0x020410100C0E0707L;
+    // sample must reach this fraction of the window to grow it
+    private static final double SAMPLE_THRESHOLD = 2.0 / 3;
+    private static final int GROWTH_FACTOR = 2;
+    // weight of a new round trip time sample, once the first samples were averaged
+    private static final double RTT_ALPHA = 0.9;
+    private static final int RTT_INITIAL_SAMPLES = 10;
+
+    private final int maxWindowSize;
+    private final LongSupplier clock;
+
+    private int windowSize;
+    private boolean pingInFlight;
+    private long pingSentAt;
+    private long sample;
+    private int sampleCount;
+    private double rtt;
+    private double maxBandwidth;
+
+    private BdpEstimator(int initialWindowSize, int maxWindowSize, LongSupplier clock) {
+        this.windowSize = initialWindowSize;
+        this.maxWindowSize = Math.max(initialWindowSize, maxWindowSize);
+        this.clock = clock;
+    }
+
+    /**
+     * Create a new estimator.
+     *
+     * @param initialWindowSize window size currently used for connection and streams
+     * @param maxWindowSize     maximal window size the estimator may grow windows to
+     * @return a new estimator
+     */
+    public static BdpEstimator create(int initialWindowSize, int maxWindowSize) {
+        return new BdpEstimator(initialWindowSize, maxWindowSize, System::nanoTime);
+    }
+
+    static BdpEstimator create(int initialWindowSize, int maxWindowSize, LongSupplier clock) {
+        return new BdpEstimator(initialWindowSize, maxWindowSize, clock);
+    }
+
+    /**
+     * Account for a received DATA frame.
+     * If this method returns {@code true}, the caller must send {@link #ping()} to the other side right away.
+     *
+     * @param length length of the DATA frame
+     * @return whether to send a BDP ping
+     */
+    public boolean dataReceived(int length) {
+        if (windowSize >= maxWindowSize) {
+            return false;
+        }
+        if (pingInFlight) {
+            sample += length;
+            return false;
+        }
+        pingInFlight = true;
+        sample = length;
+        sampleCount++;
+        pingSentAt = clock.getAsLong();
+        return true;
+    }
+
+    /**
+     * A new BDP ping frame.
+     *
+     * @return ping frame to send
+     */
+    public Http2Ping ping() {
+        return Http2Ping.create(BufferData.create(Long.BYTES).writeInt64(PING_PAYLOAD));
+    }
+
+    /**
+     * Whether an acknowledged ping was sent by this estimator.
+     *
+     * @param payload payload of the PING frame with ACK flag
+     * @return whether this is an acknowledgement of a BDP ping
+     */
+    public boolean isBdpPing(long payload) {
+        return payload == PING_PAYLOAD;
+    }
+
+    /**
+     * Account for an acknowledgement of the BDP ping.
+     * If a new window size is returned, the caller must grow the inbound connection window
+     * (see {@link ConnectionFlowControl#growInboundWindowSize(int)}), advertise the new size
+     * as {@link Http2Setting#INITIAL_WINDOW_SIZE}, and grow the inbound windows of existing streams.
+     *
+     * @return new window size, or {@code 0} if the window should not change
+     */
+    public int pingAcknowledged() {
+        if (!pingInFlight) {
+            return 0;
+        }
+        pingInFlight = false;
+        double rttSample = Math.max(1, clock.getAsLong() - pingSentAt);
+        if (sampleCount < RTT_INITIAL_SAMPLES) {
+            rtt += (rttSample - rtt) / sampleCount;
+        } else {
+            rtt += (rttSample - rtt) * RTT_ALPHA;
+        }
+        // bytes per nanosecond, the round trip time is inflated, as data may still be arriving when the ack is received
+        double bandwidth = sample / (rtt * 1.5);
+        if (bandwidth > maxBandwidth) {
+            maxBandwidth = bandwidth;
+        }
+        if (sample < SAMPLE_THRESHOLD * windowSize || bandwidth < maxBandwidth) {
+            return 0;
+        }
+        int newWindowSize = (int) Math.min(maxWindowSize, (long) GROWTH_FACTOR * sample);
+        if (newWindowSize <= windowSize) {
+            return 0;
+        }
+        if (LOGGER.isLoggable(DEBUG)) {
+            LOGGER.log(DEBUG, String.format("BDP sample %d, rtt %.3f ms, window %d -> %d",
+                                            sample, rtt / 1_000_000, windowSize, newWindowSize));
+        }
+        windowSize = newWindowSize;
+        return newWindowSize;
+    }
+
+    /**
+     * Current window size.
+     *
+     * @return window size
+     */
+    public int windowSize() {
+        return windowSize;
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2023, 2025 Oracle and/or its affiliates.
+ * Copyright (c) 2023, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -38,6 +38,8 @@ public class ConnectionFlowControl {
 
     private volatile int maxFrameSize = WindowSize.DEFAULT_MAX_FRAME_SIZE;
     private volatile int initialWindowSize = WindowSize.DEFAULT_WIN_SIZE;
+    // inbound window size, grows when auto-tuned
+    private volatile int inboundWindowSize;
 
     private ConnectionFlowControl(Type type,
                                   int initialWindowSize,
@@ -47,6 +49,7 @@ public class ConnectionFlowControl {
         this.type = type;
         this.windowUpdateWriter = windowUpdateWriter;
         this.timeout = timeout;
+        this.inboundWindowSize = initialWindowSize;
         this.inboundConnectionWindowSize =
                 WindowSize.createInbound(type,
                                          0,
@@ -79,6 +82,8 @@ public class ConnectionFlowControl {
 
     /**
      * Create stream specific inbound and outbound flow control.
+     * If inbound windows were grown by {@link #growInboundWindowSize(int)}, the grown size is used
+     * when larger than the provided initial window size.
      *
      * @param streamId stream id
      * @param outboundInitialWindowSize initial window size for inbound flow control.
@@ -91,7 +96,7 @@ public class ConnectionFlowControl {
         return new StreamFlowControl(
                 type,
                 streamId,
-                outboundInitialWindowSize,
+                Math.max(outboundInitialWindowSize, inboundWindowSize),
                 outboundMaxFrameSize,
                 this,
                 windowUpdateWriter
@@ -118,6 +123,25 @@ public class ConnectionFlowControl {
         return inboundConnectionWindowSize.decrementWindowSize(decrement);
     }
 
+    /**
+     * Grow the inbound connection flow control window, and the initial inbound window of new streams.
+     * Sends WINDOW_UPDATE frame with the difference to the other side.
+     * Used when windows are auto-tuned by {@link BdpEstimator}; the caller is responsible for advertising
+     * the new size with {@link Http2Setting#INITIAL_WINDOW_SIZE} and for growing inbound windows of existing streams
+     * (see {@link FlowControl#resetStreamWindowSize(int)}).
+     *
+     * @param windowSize new window size, ignored if not larger than the current size
+     */
+    public void growInboundWindowSize(int windowSize) {
+        int increment = windowSize - inboundWindowSize;
+        if (increment <= 0) {
+            return;
+        }
+        inboundWindowSize = windowSize;
+        inboundConnectionWindowSize.resetWindowSize(windowSize);
+        windowUpdateWriter.accept(0, new Http2WindowUpdate(increment));
+    }
+
     /**
      * Reset MAX_FRAME_SIZE for all streams, existing and future ones.
      *
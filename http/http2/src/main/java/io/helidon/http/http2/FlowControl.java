@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022, 2023 Oracle and/or its affiliates.
+ * Copyright (c) 2022, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -52,6 +52,26 @@ public interface FlowControl {
          * @param increment increment in bytes
          */
         void incrementWindowSize(int increment);
+
+        /**
+         * Increment window size of the connection only. Used together with {@link #incrementStreamWindowSize(int)}
+         * by receivers that replenish the window of a stream only once its data is consumed, so that a slow
+         * consumer does not stall other streams of the same connection.
+         *
+         * @param increment increment in bytes
+         */
+        default void incrementConnectionWindowSize(int increment) {
+        }
+
+        /**
+         * Increment window size of the stream only, see {@link #incrementConnectionWindowSize(int)}.
+         * Implementations that cannot update the windows separately update both of them.
+         *
+         * @param increment increment in bytes
+         */
+        default void incrementStreamWindowSize(int increment) {
+            incrementWindowSize(increment);
+        }
     }
 
     /**
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022, 2023 Oracle and/or its affiliates.
+ * Copyright (c) 2022, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -114,16 +114,26 @@ abstract class FlowControlImpl implements FlowControl {
 
         @Override
         public void incrementWindowSize(int increment) {
-            long strRemaining = streamWindowSize.incrementWindowSize(increment);
-            if (LOGGER_OUTBOUND.isLoggable(DEBUG)) {
-                LOGGER_INBOUND.log(DEBUG, String.format("%s IFC STR %d: +%d(%d)", type, streamId(), increment, strRemaining));
-            }
+            incrementStreamWindowSize(increment);
+            incrementConnectionWindowSize(increment);
+        }
+
+        @Override
+        public void incrementConnectionWindowSize(int increment) {
             long conRemaining = connectionWindowSize.incrementWindowSize(increment);
             if (LOGGER_OUTBOUND.isLoggable(DEBUG)) {
                 LOGGER_INBOUND.log(DEBUG, String.format("%s IFC STR 0: +%d(%d)", type, increment, conRemaining));
             }
         }
 
+        @Override
+        public void incrementStreamWindowSize(int increment) {
+            long strRemaining = streamWindowSize.incrementWindowSize(increment);
+            if (LOGGER_OUTBOUND.isLoggable(DEBUG)) {
+                LOGGER_INBOUND.log(DEBUG, String.format("%s IFC STR %d: +%d(%d)", type, streamId(), increment, strRemaining));
+            }
+        }
+
     }
 
     static class Outbound extends FlowControlImpl implements FlowControl.Outbound {
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022, 2023 Oracle and/or its affiliates.
+ * Copyright (c) 2022, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -52,6 +52,16 @@ class FlowControlNoop implements FlowControl {
             connectionWindowSize.incrementWindowSize(increment);
         }
 
+        @Override
+        public void incrementConnectionWindowSize(int increment) {
+            connectionWindowSize.incrementWindowSize(increment);
+        }
+
+        @Override
+        public void incrementStreamWindowSize(int increment) {
+            streamWindowSize.incrementWindowSize(increment);
+        }
+
     }
 
     static class Outbound extends FlowControlNoop implements FlowControl.Outbound {
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022, 2025 Oracle and/or its affiliates.
+ * Copyright (c) 2022, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -36,6 +36,7 @@ public class Http2ConnectionWriter implements Http2StreamWriter {
     private final Http2Headers.DynamicTable outboundDynamicTable;
     private final Http2HuffmanEncoder responseHuffman;
     private final BufferData headerBuffer = BufferData.growing(512);
+    private final Http2DataScheduler dataScheduler;
 
     /**
      * A new writer.
@@ -45,7 +46,23 @@ public class Http2ConnectionWriter implements Http2StreamWriter {
      * @param sendFrameListeners send frame listeners
      */
     public Http2ConnectionWriter(SocketContext ctx, DataWriter writer, List<Http2FrameListener> sendFrameListeners) {
+        this(ctx, writer, sendFrameListeners, null);
+    }
+
+    /**
+     * A new writer that schedules DATA frames of concurrent streams using the provided scheduler.
+     *
+     * @param ctx                connection context
+     * @param writer             data writer
+     * @param sendFrameListeners send frame listeners
+     * @param dataScheduler      scheduler of DATA frames, {@code null} to write frames in the order they are requested
+     */
+    public Http2ConnectionWriter(SocketContext ctx,
+                                 DataWriter writer,
+                                 List<Http2FrameListener> sendFrameListeners,
+                                 Http2DataScheduler dataScheduler) {
         this.ctx = ctx;
+        this.dataScheduler = dataScheduler;
         this.listener = Http2FrameListener.create(sendFrameListeners);
         this.writer = writer;
 
@@ -176,6 +193,26 @@ public class Http2ConnectionWriter implements Http2StreamWriter {
         }
     }
 
+    // write the part of the frame the windows allow, within the turn of the stream, so the window is sized,
+    // used and decremented before another stream sizes its frame
+    private Http2FrameData[] scheduledWrite(Http2FrameData frame, FlowControl.Outbound flowControl) {
+        if (dataScheduler != null) {
+            dataScheduler.acquire(frame.header().streamId(), frame.header().length());
+        }
+        try {
+            Http2FrameData[] splitFrames = flowControl.cut(frame);
+            if (splitFrames.length > 0) {
+                lockedWrite(splitFrames[0]);
+                flowControl.decrementWindowSize(splitFrames[0].header().length());
+            }
+            return splitFrames;
+        } finally {
+            if (dataScheduler != null) {
+                dataScheduler.release();
+            }
+        }
+    }
+
     private void lock() {
         try {
             streamLock.lockInterruptibly();
@@ -204,20 +241,14 @@ public class Http2ConnectionWriter implements Http2StreamWriter {
     private void splitAndWrite(Http2FrameData frame, FlowControl.Outbound flowControl) {
         Http2FrameData currFrame = frame;
         while (true) {
-            Http2FrameData[] splitFrames = flowControl.cut(currFrame);
+            Http2FrameData[] splitFrames = scheduledWrite(currFrame, flowControl);
             if (splitFrames.length == 1) {
-                // windows are wide enough
-                lockedWrite(currFrame);
-                flowControl.decrementWindowSize(currFrame.header().length());
+                // windows were wide enough
                 break;
-            } else if (splitFrames.length == 0) {
-                // block until window update
-                flowControl.blockTillUpdate();
-            } else if (splitFrames.length == 2) {
-                // write send-able part and block until window update with the rest
-                lockedWrite(splitFrames[0]);
-                flowControl.decrementWindowSize(splitFrames[0].header().length());
-                flowControl.blockTillUpdate();
+            }
+            // block until window update (without the turn of the stream), with the whole frame, or the rest of it
+            flowControl.blockTillUpdate();
+            if (splitFrames.length == 2) {
                 currFrame = splitFrames[1];
             }
         }
@@ -0,0 +1,206 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.http.http2;
+
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Scheduler of outbound DATA frames of streams sharing a connection.
+ * <p>
+ * Each stream writes its frames from its own thread. When more than one stream waits to write a DATA frame,
+ * the next stream is chosen as follows (RFC 9218, section 10):
+ * <ul>
+ *     <li>streams with lower urgency value are served first</li>
+ *     <li>of the same urgency, non-incremental streams are served one by one, in the order of stream ids</li>
+ *     <li>incremental streams of the same urgency share the connection using deficit round-robin, where each
+ *     stream receives the configured quantum of bytes per round</li>
+ * </ul>
+ * Other frames (headers, control frames) are not scheduled.
+ */
+public final class Http2DataScheduler {
+    private final ReentrantLock lock = new ReentrantLock();
+    // all fields below are guarded by the lock
+    private final Map<Integer, StreamEntry> entries = new HashMap<>();
+    private final ArrayDeque<StreamEntry>[] waiting;
+    private final int quantum;
+    private boolean busy;
+
+    @SuppressWarnings("unchecked")
+    private Http2DataScheduler(int quantum) {
+        this.quantum = quantum;
+        this.waiting = new ArrayDeque[Http2StreamPriority.MAX_URGENCY + 1];
+        for (int i = 0; i < waiting.length; i++) {
+            waiting[i] = new ArrayDeque<>();
+        }
+    }
+
+    /**
+     * Create a new scheduler.
+     *
+     * @param quantum number of bytes an incremental stream may send per round, when competing with
+     *                other incremental streams of the same urgency
+     * @return a new scheduler
+     */
+    public static Http2DataScheduler create(int quantum) {
+        if (quantum < 1) {
+            throw new IllegalArgumentException("Quantum must be a positive number, but is: " + quantum);
+        }
+        return new Http2DataScheduler(quantum);
+    }
+
+    /**
+     * Update priority of a stream. Takes effect for the next frame of the stream.
+     *
+     * @param streamId stream id
+     * @param priority new priority
+     */
+    public void priority(int streamId, Http2StreamPriority priority) {
+        lock.lock();
+        try {
+            entry(streamId).priority = priority;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Remove a stream that will not write any more data.
+     *
+     * @param streamId stream id
+     */
+    public void remove(int streamId) {
+        lock.lock();
+        try {
+            entries.remove(streamId);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Wait until the stream may write a DATA frame. Each call must be followed by {@link #release()}
+     * once the frame is written.
+     *
+     * @param streamId stream id
+     * @param size     size of the frame payload
+     */
+    void acquire(int streamId, int size) {
+        lock.lock();
+        try {
+            if (!busy) {
+                // nobody is writing data, no need to schedule
+                busy = true;
+                return;
+            }
+            StreamEntry entry = entry(streamId);
+            entry.size = size;
+            entry.granted = false;
+            entry.urgency = entry.priority.urgency();
+            waiting[entry.urgency].addLast(entry);
+            while (!entry.granted) {
+                try {
+                    entry.condition.await();
+                } catch (InterruptedException e) {
+                    if (entry.granted) {
+                        // we got our turn, but will not use it
+                        releaseLocked();
+                    } else {
+                        waiting[entry.urgency].remove(entry);
+                    }
+                    Thread.currentThread().interrupt();
+                    throw new IllegalStateException("Interrupted", e);
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Allow the next waiting stream to write its DATA frame.
+     */
+    void release() {
+        lock.lock();
+        try {
+            releaseLocked();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void releaseLocked() {
+        StreamEntry next = next();
+        if (next == null) {
+            busy = false;
+        } else {
+            next.granted = true;
+            next.condition.signal();
+        }
+    }
+
+    private StreamEntry next() {
+        for (ArrayDeque<StreamEntry> queue : waiting) {
+            if (queue.isEmpty()) {
+                continue;
+            }
+            StreamEntry sequential = null;
+            for (StreamEntry entry : queue) {
+                if (!entry.priority.incremental() && (sequential == null || entry.streamId < sequential.streamId)) {
+                    sequential = entry;
+                }
+            }
+            if (sequential != null) {
+                queue.remove(sequential);
+                return sequential;
+            }
+            // deficit round-robin, ends as each visit increases the deficit
+            while (true) {
+                StreamEntry entry = queue.pollFirst();
+                if (entry.deficit >= entry.size) {
+                    entry.deficit -= entry.size;
+                    return entry;
+                }
+                entry.deficit += quantum;
+                queue.addLast(entry);
+            }
+        }
+        return null;
+    }
+
+    private StreamEntry entry(int streamId) {
+        return entries.computeIfAbsent(streamId, it -> new StreamEntry(it, lock.newCondition()));
+    }
+
+    private static final class StreamEntry {
+        private final int streamId;
+        private final Condition condition;
+        private Http2StreamPriority priority = Http2StreamPriority.DEFAULT;
+        private int urgency;
+        private long deficit;
+        private int size;
+        private boolean granted;
+
+        private StreamEntry(int streamId, Condition condition) {
+            this.streamId = streamId;
+            this.condition = condition;
+        }
+    }
+}
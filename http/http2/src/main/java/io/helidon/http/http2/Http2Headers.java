@@ -17,7 +17,6 @@
 package io.helidon.http.http2;
 
 import java.nio.charset.StandardCharsets;
-import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
@@ -74,7 +73,7 @@ public class Http2Headers {
      * Header name of the status pseudo header.
      */
     public static final HeaderName STATUS_NAME = HeaderNames.create(STATUS);
-    static final DynamicHeader EMPTY_HEADER_RECORD = new DynamicHeader(null, null, 0);
+    static final DynamicHeader EMPTY_HEADER_RECORD = new DynamicHeader(null, null, 0, 0);
     private static final System.Logger LOGGER = System.getLogger(Http2Headers.class.getName());
     private static final String TRAILERS = "trailers";
     private static final String HTTP = "http";
@@ -702,6 +701,8 @@ public class Http2Headers {
                              boolean neverIndex) {
         IndexedHeaderRecord record = table.find(name, value);
         HeaderApproach approach;
+        // never indexed headers must not be added to the table, as the peer would not add them either (RFC 7541 §6.2.3)
+        shouldIndex = shouldIndex && !neverIndex && table.fits(name, value);
 
         if (record == null) {
             // neither name nor value exists in an index
@@ -1138,7 +1139,17 @@ public class Http2Headers {
      * The table caches header names and values and then uses indexes only when transferring headers over network.
      */
     public static class DynamicTable {
-        private final List<DynamicHeader> headers = new ArrayList<>();
+        private static final int INITIAL_CAPACITY = 16;
+
+        // ring buffer of entries, oldest entry at tail, newest at (tail + count - 1)
+        private DynamicHeader[] entries = new DynamicHeader[INITIAL_CAPACITY];
+        private int tail;
+        private int count;
+        // number of entries ever added, sequence of an entry is used to compute its index
+        private long insertions;
+        // lookup indexes, only created when the table is used for encoding (decoder only uses indexes to get entries)
+        private Map<String, DynamicHeader> byName;
+        private Map<NameValue, DynamicHeader> byNameValue;
         private volatile long protocolMaxTableSize;
         private long maxTableSize;
         private int currentTableSize;
@@ -1184,35 +1195,24 @@ public class Http2Headers {
                 throw new Http2Exception(Http2ErrorCode.COMPRESSION, "Attempt to set larger size than protocol max");
             }
             this.maxTableSize = number;
-            if (maxTableSize == 0) {
-                headers.clear();
-                currentTableSize = 0;
-            }
             while (maxTableSize < currentTableSize) {
                 evict();
             }
         }
 
         int add(HeaderName headerName, String headerValue) {
-            String name = headerName.lowerCase();
-            int size = name.length() + headerValue.getBytes(StandardCharsets.US_ASCII).length + 32;
-
-            if (currentTableSize + size <= maxTableSize) {
-                // fast path
-                return add(headerName, headerValue, size);
-            }
+            int size = size(headerName, headerValue);
 
             while ((currentTableSize + size) > maxTableSize) {
+                if (count == 0) {
+                    throw new Http2Exception(Http2ErrorCode.COMPRESSION,
+                                             "Cannot add header record, max table size too low. "
+                                                     + "current size: " + currentTableSize + ", max size: " + maxTableSize
+                                                     + ", header size: " + size);
+                }
                 evict();
             }
 
-            if (maxTableSize - currentTableSize < size) {
-                throw new Http2Exception(Http2ErrorCode.COMPRESSION,
-                                         "Cannot add header record, max table size too low. "
-                                                 + "current size: " + currentTableSize + ", max size: " + maxTableSize + ","
-                                                 + " header size: " + size);
-            }
-
             return add(headerName, headerValue, size);
         }
 
@@ -1228,63 +1228,125 @@ public class Http2Headers {
             return currentTableSize;
         }
 
-        private IndexedHeaderRecord find(HeaderName headerName, String headerValue) {
+        /*
+        Whether the header can be added to this table. Adding a header larger than the table would evict all entries,
+        and the peer would do the same.
+         */
+        boolean fits(HeaderName headerName, String headerValue) {
+            return size(headerName, headerValue) <= maxTableSize;
+        }
+
+        private static int size(HeaderName headerName, String headerValue) {
+            // header values are US-ASCII, so the number of characters is the number of octets
+            return headerName.lowerCase().length() + headerValue.length() + 32;
+        }
+
+        IndexedHeaderRecord find(HeaderName headerName, String headerValue) {
             StaticHeader staticHeader = StaticHeader.find(headerName, headerValue);
-            IndexedHeaderRecord candidate = null;
 
+            if (staticHeader != null
+                    && staticHeader.name.equals(headerName)
+                    && staticHeader.hasValue
+                    && staticHeader.value().equals(headerValue)) {
+                return staticHeader;
+            }
+            if (count == 0) {
+                return staticHeader;
+            }
+            if (byName == null) {
+                createIndexes();
+            }
+
+            String name = headerName.lowerCase();
+            DynamicHeader header = byNameValue.get(new NameValue(name, headerValue));
+            if (header != null) {
+                return new IndexedHeader(header, index(header));
+            }
             if (staticHeader != null) {
-                if (staticHeader.name.equals(headerName)
-                        && staticHeader.hasValue
-                        && staticHeader.value().equals(headerValue)) {
-                    return staticHeader;
-                }
-                candidate = staticHeader;
+                return staticHeader;
             }
-            for (int i = 0; i < headers.size(); i++) {
-                DynamicHeader header = headers.get(i);
-                if (header.headerName.equals(headerName)) {
-                    if (header.value().equals(headerValue)) {
-                        return new IndexedHeader(header, StaticHeader.MAX_INDEX + i + 1);
-                    }
-                    if (candidate == null) {
-                        candidate = new IndexedHeader(header, StaticHeader.MAX_INDEX + i + 1);
-                    }
-                }
+            header = byName.get(name);
+            if (header != null) {
+                return new IndexedHeader(header, index(header));
             }
+            return null;
+        }
 
-            return candidate;
+        private int index(DynamicHeader header) {
+            return StaticHeader.MAX_INDEX + (int) (insertions - header.sequence());
+        }
+
+        private void createIndexes() {
+            byName = new HashMap<>();
+            byNameValue = new HashMap<>();
+            // from oldest to newest, so the newest entry of the same name (or name and value) wins
+            for (int i = 0; i < count; i++) {
+                addToIndexes(entries[(tail + i) & (entries.length - 1)]);
+            }
+        }
+
+        private void addToIndexes(DynamicHeader header) {
+            String name = header.headerName().lowerCase();
+            byName.put(name, header);
+            byNameValue.put(new NameValue(name, header.value()), header);
         }
 
         private void evict() {
-            if (headers.isEmpty()) {
+            if (count == 0) {
                 currentTableSize = 0;
                 return;
             }
-            DynamicHeader removed = headers.remove(headers.size() - 1);
-
-            if (removed != null) {
-                currentTableSize -= removed.size();
+            DynamicHeader removed = entries[tail];
+            entries[tail] = null;
+            tail = (tail + 1) & (entries.length - 1);
+            count--;
+            currentTableSize -= removed.size();
+
+            if (byName != null) {
+                // a newer entry with the same key replaced the mapping, so we only remove the mapping of this entry
+                String name = removed.headerName().lowerCase();
+                byName.remove(name, removed);
+                byNameValue.remove(new NameValue(name, removed.value()), removed);
             }
         }
 
         private int add(HeaderName name, String value, int size) {
-            headers.add(0, new DynamicHeader(name, value, size));
+            if (count == entries.length) {
+                grow();
+            }
+            DynamicHeader header = new DynamicHeader(name, value, size, insertions++);
+            entries[(tail + count) & (entries.length - 1)] = header;
+            count++;
             currentTableSize += size;
+            if (byName != null) {
+                addToIndexes(header);
+            }
             return 0;
         }
 
+        private void grow() {
+            DynamicHeader[] newEntries = new DynamicHeader[entries.length * 2];
+            for (int i = 0; i < count; i++) {
+                newEntries[i] = entries[(tail + i) & (entries.length - 1)];
+            }
+            entries = newEntries;
+            tail = 0;
+        }
+
         private HeaderRecord doGet(int index) {
-            try {
-                // table is 1 based, list is 0 based
-                return headers.get(index - 1);
-            } catch (IndexOutOfBoundsException e) {
+            // table is 1 based, the newest entry has index 1
+            if (index < 1 || index > count) {
                 throw new Http2Exception(Http2ErrorCode.PROTOCOL,
                                          "Dynamic table does not contain required header at index " + index);
             }
+            return entries[(tail + count - index) & (entries.length - 1)];
         }
     }
 
-    private record DynamicHeader(HeaderName headerName, String value, int size) implements HeaderRecord {
+    private record DynamicHeader(HeaderName headerName, String value, int size, long sequence) implements HeaderRecord {
+    }
+
+    private record NameValue(String name, String value) {
     }
 
     private record IndexedHeader(HeaderRecord delegate, int index) implements IndexedHeaderRecord {
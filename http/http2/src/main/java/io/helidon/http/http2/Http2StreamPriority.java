@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.http.http2;
+
+import io.helidon.http.HeaderName;
+import io.helidon.http.HeaderNames;
+
+/**
+ * Priority of a stream as defined by RFC 9218 (Extensible Prioritization Scheme for HTTP).
+ * Unlike the deprecated {@link io.helidon.http.http2.Http2Priority} frame, this priority is sent
+ * as a {@code priority} header.
+ *
+ * @param urgency     urgency between {@code 0} (highest) and {@code 7} (lowest)
+ * @param incremental whether the response can be processed incrementally, so it can share bandwidth with other
+ *                    incremental responses of the same urgency
+ */
+public record Http2StreamPriority(int urgency, boolean incremental) {
+    /**
+     * Name of the {@code priority} header.
+     */
+    public static final HeaderName HEADER_NAME = HeaderNames.create("priority");
+    /**
+     * Highest urgency.
+     */
+    public static final int MIN_URGENCY = 0;
+    /**
+     * Lowest urgency.
+     */
+    public static final int MAX_URGENCY = 7;
+    /**
+     * Default priority, urgency {@code 3}, not incremental.
+     */
+    public static final Http2StreamPriority DEFAULT = new Http2StreamPriority(3, false);
+
+    /**
+     * Create a new priority.
+     *
+     * @param urgency     urgency between {@link #MIN_URGENCY} and {@link #MAX_URGENCY}
+     * @param incremental whether the response is incremental
+     */
+    public Http2StreamPriority {
+        if (urgency < MIN_URGENCY || urgency > MAX_URGENCY) {
+            throw new IllegalArgumentException("Urgency must be between " + MIN_URGENCY + " and " + MAX_URGENCY
+                                                       + ", but is: " + urgency);
+        }
+    }
+
+    /**
+     * Parse the value of the {@code priority} header (such as {@code u=5, i}).
+     * As required by RFC 9218, unknown parameters and invalid values are ignored and the default is used instead.
+     *
+     * @param value header value
+     * @return parsed priority
+     */
+    public static Http2StreamPriority parse(String value) {
+        int urgency = DEFAULT.urgency();
+        boolean incremental = DEFAULT.incremental();
+
+        for (String member : value.split(",")) {
+            String parameter = member.strip();
+            int paramStart = parameter.indexOf(';');
+            if (paramStart != -1) {
+                parameter = parameter.substring(0, paramStart);
+            }
+            int eq = parameter.indexOf('=');
+            String key = eq == -1 ? parameter : parameter.substring(0, eq).strip();
+            String paramValue = eq == -1 ? null : parameter.substring(eq + 1).strip();
+
+            if ("u".equals(key) && paramValue != null) {
+                try {
+                    int parsed = Integer.parseInt(paramValue);
+                    if (parsed >= MIN_URGENCY && parsed <= MAX_URGENCY) {
+                        urgency = parsed;
+                    }
+                } catch (NumberFormatException ignored) {
+                    // invalid value, use default
+                }
+            } else if ("i".equals(key)) {
+                if (paramValue == null || "?1".equals(paramValue)) {
+                    incremental = true;
+                } else if ("?0".equals(paramValue)) {
+                    incremental = false;
+                }
+            }
+        }
+
+        if (urgency == DEFAULT.urgency() && incremental == DEFAULT.incremental()) {
+            return DEFAULT;
+        }
+        return new Http2StreamPriority(urgency, incremental);
+    }
+}
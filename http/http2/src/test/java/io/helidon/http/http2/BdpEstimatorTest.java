@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.http.http2;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+class BdpEstimatorTest {
+    private static final long RTT = 50_000_000; // 50 ms
+
+    private final AtomicLong clock = new AtomicLong();
+
+    @Test
+    void testGrowsWindowWhenSampleReachesWindow() {
+        BdpEstimator estimator = BdpEstimator.create(65_535, 1_048_576, clock::get);
+        assertThat(roundTrip(estimator, 4, 16_384), is(131_072));
+        assertThat(estimator.windowSize(), is(131_072));
+        // window grows as long as it limits the throughput
+        assertThat(roundTrip(estimator, 8, 16_384), is(262_144));
+    }
+
+    @Test
+    void testKeepsWindowForSmallSample() {
+        BdpEstimator estimator = BdpEstimator.create(65_535, 1_048_576, clock::get);
+        assertThat(roundTrip(estimator, 1, 16_384), is(0));
+        assertThat(estimator.windowSize(), is(65_535));
+    }
+
+    @Test
+    void testKeepsWindowForLowerBandwidth() {
+        BdpEstimator estimator = BdpEstimator.create(65_535, 1_048_576, clock::get);
+        assertThat(roundTrip(estimator, 4, 16_384), is(131_072));
+        // the same amount of data, but over a longer round trip
+        assertThat(estimator.dataReceived(16_384), is(true));
+        for (int i = 1; i < 8; i++) {
+            estimator.dataReceived(16_384);
+        }
+        clock.addAndGet(RTT * 4);
+        assertThat(estimator.pingAcknowledged(), is(0));
+    }
+
+    @Test
+    void testLimitedByMaxWindowSize() {
+        BdpEstimator estimator = BdpEstimator.create(65_535, 100_000, clock::get);
+        assertThat(roundTrip(estimator, 4, 16_384), is(100_000));
+        // no more pings once the maximum is reached
+        assertThat(estimator.dataReceived(16_384), is(false));
+    }
+
+    @Test
+    void testSinglePingInFlight() {
+        BdpEstimator estimator = BdpEstimator.create(65_535, 1_048_576, clock::get);
+        assertThat(estimator.dataReceived(100), is(true));
+        assertThat(estimator.dataReceived(100), is(false));
+        estimator.pingAcknowledged();
+        assertThat(estimator.dataReceived(100), is(true));
+    }
+
+    @Test
+    void testPingPayload() {
+        BdpEstimator estimator = BdpEstimator.create(65_535, 1_048_576, clock::get);
+        Http2Ping ping = estimator.ping();
+        assertThat(ping.data().available(), is(8));
+        assertThat(estimator.isBdpPing(ping.data().readLong()), is(true));
+        assertThat(estimator.isBdpPing(1), is(false));
+    }
+
+    private int roundTrip(BdpEstimator estimator, int frames, int frameSize) {
+        assertThat(estimator.dataReceived(frameSize), is(true));
+        for (int i = 1; i < frames; i++) {
+            assertThat(estimator.dataReceived(frameSize), is(false));
+        }
+        clock.addAndGet(RTT);
+        return estimator.pingAcknowledged();
+    }
+}
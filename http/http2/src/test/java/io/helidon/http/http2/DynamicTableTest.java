@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022, 2025 Oracle and/or its affiliates.
+ * Copyright (c) 2022, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,14 +16,21 @@
 
 package io.helidon.http.http2;
 
+import io.helidon.http.HeaderName;
 import io.helidon.http.HeaderNames;
 
 import org.junit.jupiter.api.Test;
 
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 class DynamicTableTest {
+    private static final HeaderName NAME = HeaderNames.create("h");
+    // name (1) + value (3) + 32
+    private static final int ENTRY_SIZE = 36;
+
     @Test
     void testDynamicTable() {
         Http2Settings settings = Http2Settings.builder()
@@ -107,6 +114,129 @@ class DynamicTableTest {
         testRecord(table, Http2Headers.StaticHeader.MAX_INDEX + 2, "c", "c");
     }
 
+    @Test
+    void testWraparound() {
+        Http2Headers.DynamicTable table = Http2Headers.DynamicTable.create(10 * ENTRY_SIZE);
+        // more entries than the initial capacity of the ring buffer, while only 10 fit the table
+        for (int i = 0; i < 30; i++) {
+            table.add(NAME, value(i));
+        }
+
+        assertThat(table.currentTableSize(), is(10 * ENTRY_SIZE));
+        for (int i = 0; i < 10; i++) {
+            testRecord(table, Http2Headers.StaticHeader.MAX_INDEX + 1 + i, "h", value(29 - i));
+        }
+        testFind(table, value(25), Http2Headers.StaticHeader.MAX_INDEX + 5);
+        // evicted value, name is found in the newest entry
+        testFind(table, value(19), Http2Headers.StaticHeader.MAX_INDEX + 1, value(29));
+    }
+
+    @Test
+    void testGrowAfterWraparound() {
+        Http2Headers.DynamicTable table = Http2Headers.DynamicTable.create(40 * ENTRY_SIZE);
+        table.maxTableSize(10 * ENTRY_SIZE);
+        for (int i = 0; i < 30; i++) {
+            table.add(NAME, value(i));
+        }
+        testFind(table, value(20), Http2Headers.StaticHeader.MAX_INDEX + 10);
+
+        // grows the ring buffer twice, starting in the middle of it
+        table.maxTableSize(40 * ENTRY_SIZE);
+        for (int i = 30; i < 60; i++) {
+            table.add(NAME, value(i));
+        }
+
+        assertThat(table.currentTableSize(), is(40 * ENTRY_SIZE));
+        for (int i = 0; i < 40; i++) {
+            testRecord(table, Http2Headers.StaticHeader.MAX_INDEX + 1 + i, "h", value(59 - i));
+        }
+        testFind(table, value(20), Http2Headers.StaticHeader.MAX_INDEX + 40);
+        testFind(table, value(59), Http2Headers.StaticHeader.MAX_INDEX + 1);
+        assertThrows(Http2Exception.class, () -> table.get(Http2Headers.StaticHeader.MAX_INDEX + 41));
+    }
+
+    @Test
+    void testExactDynamicMatchOverStaticName() {
+        Http2Headers.DynamicTable table = Http2Headers.DynamicTable.create(4096);
+        table.add(HeaderNames.CONTENT_TYPE, "text/plain");
+
+        // static table only contains the name
+        Http2Headers.IndexedHeaderRecord found = table.find(HeaderNames.CONTENT_TYPE, "text/plain");
+        assertThat(found.index(), is(Http2Headers.StaticHeader.MAX_INDEX + 1));
+        assertThat(found.value(), is("text/plain"));
+
+        found = table.find(HeaderNames.CONTENT_TYPE, "text/html");
+        assertThat(found.index(), is(Http2Headers.StaticHeader.CONTENT_TYPE.index()));
+
+        // exact static match is preferred
+        table.add(Http2Headers.METHOD_NAME, "GET");
+        found = table.find(Http2Headers.METHOD_NAME, "GET");
+        assertThat(found.index(), is(Http2Headers.StaticHeader.METHOD_GET.index()));
+    }
+
+    @Test
+    void testEvictOlderDuplicate() {
+        // room for two entries
+        Http2Headers.DynamicTable table = Http2Headers.DynamicTable.create(2 * ENTRY_SIZE);
+        table.add(NAME, value(1));
+        // indexes are created on first lookup, the following entries update them
+        testFind(table, value(1), Http2Headers.StaticHeader.MAX_INDEX + 1);
+        table.add(NAME, value(1));
+        testFind(table, value(1), Http2Headers.StaticHeader.MAX_INDEX + 1);
+
+        // evicts the older duplicate, the newer one is still found
+        table.add(HeaderNames.create("x"), value(2));
+        testFind(table, value(1), Http2Headers.StaticHeader.MAX_INDEX + 2);
+
+        // same for name only matches
+        table.add(NAME, value(3));
+        testFind(table, value(4), Http2Headers.StaticHeader.MAX_INDEX + 1, value(3));
+        table.add(HeaderNames.create("x"), value(5));
+        testFind(table, value(4), Http2Headers.StaticHeader.MAX_INDEX + 2, value(3));
+        testFind(table, value(1), Http2Headers.StaticHeader.MAX_INDEX + 2, value(3));
+    }
+
+    @Test
+    void testShrinkTableSize() {
+        Http2Headers.DynamicTable table = Http2Headers.DynamicTable.create(3 * ENTRY_SIZE);
+        table.add(NAME, value(1));
+        table.add(NAME, value(2));
+        table.add(HeaderNames.create("x"), value(3));
+        testFind(table, value(1), Http2Headers.StaticHeader.MAX_INDEX + 3);
+
+        // oldest entries are evicted
+        table.maxTableSize(ENTRY_SIZE + 10);
+        assertThat(table.currentTableSize(), is(ENTRY_SIZE));
+        testRecord(table, Http2Headers.StaticHeader.MAX_INDEX + 1, "x", value(3));
+        assertThat(table.find(NAME, value(1)), is(nullValue()));
+        assertThrows(Http2Exception.class, () -> table.get(Http2Headers.StaticHeader.MAX_INDEX + 2));
+
+        table.maxTableSize(0);
+        assertThat(table.currentTableSize(), is(0));
+        assertThat(table.find(HeaderNames.create("x"), value(3)), is(nullValue()));
+        assertThrows(Http2Exception.class, () -> table.add(NAME, value(4)));
+
+        // size can be increased up to the protocol max
+        table.maxTableSize(3 * ENTRY_SIZE);
+        table.add(NAME, value(4));
+        testFind(table, value(4), Http2Headers.StaticHeader.MAX_INDEX + 1);
+        assertThrows(Http2Exception.class, () -> table.maxTableSize(4 * ENTRY_SIZE));
+    }
+
+    private static String value(int i) {
+        return String.format("v%02d", i);
+    }
+
+    private void testFind(Http2Headers.DynamicTable table, String value, int expectedIndex) {
+        testFind(table, value, expectedIndex, value);
+    }
+
+    private void testFind(Http2Headers.DynamicTable table, String value, int expectedIndex, String expectedValue) {
+        Http2Headers.IndexedHeaderRecord found = table.find(NAME, value);
+        assertThat(found.index(), is(expectedIndex));
+        assertThat(found.value(), is(expectedValue));
+    }
+
     private void testRecord(Http2Headers.DynamicTable table,
                             int index,
                             String expectedName,
@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.http.http2;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+
+class Http2DataSchedulerTest {
+    private final List<Integer> order = new CopyOnWriteArrayList<>();
+
+    @Test
+    void testUrgencyAndStreamOrder() throws InterruptedException {
+        Http2DataScheduler scheduler = Http2DataScheduler.create(16384);
+        scheduler.priority(3, new Http2StreamPriority(5, false));
+        scheduler.priority(5, new Http2StreamPriority(0, false));
+        scheduler.priority(9, new Http2StreamPriority(3, false));
+        scheduler.priority(7, new Http2StreamPriority(3, false));
+
+        // stream 1 is writing, others must wait
+        scheduler.acquire(1, 100);
+        List<Thread> threads = List.of(waitingWriter(scheduler, 3, 100),
+                                       waitingWriter(scheduler, 5, 100),
+                                       waitingWriter(scheduler, 9, 100),
+                                       waitingWriter(scheduler, 7, 100));
+        scheduler.release();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        // urgency first, then stream id for non-incremental streams
+        assertThat(order, contains(5, 7, 9, 3));
+    }
+
+    @Test
+    void testDeficitRoundRobin() throws InterruptedException {
+        Http2DataScheduler scheduler = Http2DataScheduler.create(100);
+        scheduler.priority(3, new Http2StreamPriority(3, true));
+        scheduler.priority(5, new Http2StreamPriority(3, true));
+
+        scheduler.acquire(1, 100);
+        // large frame waits first, but needs more rounds to collect enough deficit
+        Thread large = waitingWriter(scheduler, 3, 300);
+        Thread small = waitingWriter(scheduler, 5, 100);
+        scheduler.release();
+        large.join();
+        small.join();
+
+        assertThat(order, contains(5, 3));
+    }
+
+    private Thread waitingWriter(Http2DataScheduler scheduler, int streamId, int size) {
+        Thread thread = Thread.ofPlatform().start(() -> {
+            scheduler.acquire(streamId, size);
+            order.add(streamId);
+            scheduler.release();
+        });
+        // wait until the thread is parked in the scheduler, to have a deterministic order of waiting streams
+        while (thread.getState() != Thread.State.WAITING) {
+            Thread.onSpinWait();
+        }
+        return thread;
+    }
+}
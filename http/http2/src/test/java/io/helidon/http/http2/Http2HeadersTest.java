@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022, 2024 Oracle and/or its affiliates.
+ * Copyright (c) 2022, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -21,6 +21,7 @@ import java.util.HexFormat;
 import io.helidon.common.buffers.BufferData;
 import io.helidon.http.HeaderName;
 import io.helidon.http.HeaderNames;
+import io.helidon.http.HeaderValues;
 import io.helidon.http.Headers;
 import io.helidon.http.Method;
 import io.helidon.http.WritableHeaders;
@@ -251,8 +252,60 @@ class Http2HeadersTest {
         assertThat(headerRecord.value(), is("www.example.com"));
     }
 
+    @Test
+    void testNeverIndexedNotInserted() {
+        DynamicTable dynamicTable = DynamicTable.create(Http2Settings.create());
+        WritableHeaders<?> headers = WritableHeaders.create();
+        headers.set(HeaderValues.create(HeaderNames.AUTHORIZATION, false, true, "secret"));
+        Http2Headers http2Headers = Http2Headers.create(headers);
+
+        BufferData buffer = BufferData.growing(32);
+        http2Headers.write(dynamicTable, Http2HuffmanEncoder.create(), buffer);
+
+        assertThat(dynamicTable.currentTableSize(), is(0));
+        // literal header field never indexed, indexed name (RFC 7541 §6.2.3)
+        assertThat(buffer.get(0) & 0xF0, is(0b00010000));
+
+        DynamicTable decoderTable = DynamicTable.create(Http2Settings.create());
+        Http2Headers decoded = headers(buffer, decoderTable);
+        assertThat(decoded.httpHeaders().get(HeaderNames.AUTHORIZATION).get(), is("secret"));
+        assertThat(decoderTable.currentTableSize(), is(0));
+    }
+
+    @Test
+    void testOversizedHeaderNotInserted() {
+        DynamicTable dynamicTable = DynamicTable.create(128);
+        WritableHeaders<?> headers = WritableHeaders.create();
+        headers.set(CUSTOM_HEADER_NAME, "custom-value");
+        BufferData buffer = BufferData.growing(32);
+        Http2Headers.create(headers).write(dynamicTable, Http2HuffmanEncoder.create(), buffer);
+        int tableSize = dynamicTable.currentTableSize();
+        assertThat(tableSize, is(54));
+
+        // larger than the table, must not evict existing entries
+        String largeValue = "x".repeat(128);
+        headers = WritableHeaders.create();
+        headers.set(HeaderNames.create("large-key"), largeValue);
+        buffer = BufferData.growing(256);
+        Http2Headers.create(headers).write(dynamicTable, Http2HuffmanEncoder.create(), buffer);
+
+        assertThat(dynamicTable.currentTableSize(), is(tableSize));
+        HeaderRecord headerRecord = dynamicTable.get(Http2Headers.StaticHeader.MAX_INDEX + 1);
+        assertThat(headerRecord.headerName(), is(CUSTOM_HEADER_NAME));
+        // literal header field without indexing, new name (RFC 7541 §6.2.2)
+        assertThat(buffer.get(0) & 0xFF, is(0));
+
+        DynamicTable decoderTable = DynamicTable.create(128);
+        Http2Headers decoded = headers(buffer, decoderTable);
+        assertThat(decoded.httpHeaders().get(HeaderNames.create("large-key")).get(), is(largeValue));
+        assertThat(decoderTable.currentTableSize(), is(0));
+    }
+
     private Http2Headers headers(String hexEncoded, DynamicTable dynamicTable) {
-        BufferData data = data(hexEncoded);
+        return headers(data(hexEncoded), dynamicTable);
+    }
+
+    private Http2Headers headers(BufferData data, DynamicTable dynamicTable) {
         Http2FrameHeader header = Http2FrameHeader.create(data.available(),
                                                           Http2FrameTypes.HEADERS,
                                                           Http2Flag.HeaderFlags.create(Http2Flag.END_OF_HEADERS),
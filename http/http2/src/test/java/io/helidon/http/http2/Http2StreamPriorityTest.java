@@ -0,0 +1,42 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.http.http2;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+class Http2StreamPriorityTest {
+    @ParameterizedTest
+    @CsvSource(delimiter = '|', value = {
+            "u=5, i|5|true",
+            "u=0|0|false",
+            "i|3|true",
+            "i=?0, u=1|1|false",
+            "u=7;foo=bar, i=?1|7|true",
+            "u=9, i|3|true",
+            "u=x|3|false",
+            "foo, bar=1|3|false"
+    })
+    void testParse(String value, int urgency, boolean incremental) {
+        Http2StreamPriority priority = Http2StreamPriority.parse(value);
+
+        assertThat(priority.urgency(), is(urgency));
+        assertThat(priority.incremental(), is(incremental));
+    }
+}
@@ -21,16 +21,21 @@ import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.io.Reader;
 import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 
 import io.helidon.common.GenericType;
+import io.helidon.common.buffers.BufferData;
+import io.helidon.common.buffers.BufferDataSource;
 import io.helidon.http.Headers;
 import io.helidon.http.media.EntityReaderBase;
 import io.helidon.json.JsonParser;
 import io.helidon.json.JsonValue;
 
 class JsonValueReader<T extends JsonValue> extends EntityReaderBase<T> {
+    private static final int CHUNK_SIZE = 16 * 1024;
+
     JsonValueReader() {
     }
 
@@ -53,6 +58,9 @@ class JsonValueReader<T extends JsonValue> extends EntityReaderBase<T> {
     }
 
     private T read(GenericType<T> type, InputStream in) {
+        if (in instanceof BufferDataSource source) {
+            return type.cast(read(source));
+        }
         return type.cast(JsonParser.create(in)
                                  .readJsonValue());
     }
@@ -65,4 +73,72 @@ class JsonValueReader<T extends JsonValue> extends EntityReaderBase<T> {
             throw new UncheckedIOException(e);
         }
     }
+
+    private static JsonValue read(BufferDataSource source) {
+        BufferData first = source.readBuffer(CHUNK_SIZE);
+        BufferData second = first == null ? null : source.readBuffer(CHUNK_SIZE);
+        if (first != null && second == null) {
+            // the whole entity was received in a single buffer, parse it in place
+            ByteBuffer[] buffers = first.asByteBuffers();
+            if (buffers.length == 1 && buffers[0].hasArray()) {
+                ByteBuffer buffer = buffers[0];
+                return JsonParser.create(buffer.array(), buffer.arrayOffset() + buffer.position(), buffer.remaining())
+                        .readJsonValue();
+            }
+        }
+        return JsonParser.create(new SourceInputStream(source, first, second))
+                .readJsonValue();
+    }
+
+    /**
+     * Copies the buffers of a source directly into the parser buffer, without intermediate arrays.
+     */
+    private static final class SourceInputStream extends InputStream {
+        private final BufferDataSource source;
+
+        private BufferData current;
+        private BufferData next;
+        private boolean finished;
+
+        private SourceInputStream(BufferDataSource source, BufferData first, BufferData second) {
+            this.source = source;
+            this.current = first;
+            this.next = second;
+            this.finished = first == null;
+        }
+
+        @Override
+        public int read() {
+            if (!ensureBuffer(1)) {
+                return -1;
+            }
+            return current.read();
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) {
+            if (len == 0) {
+                return 0;
+            }
+            int read = 0;
+            // fill the parser buffer from as many buffers as needed, the whole entity is read anyway
+            while (read < len && ensureBuffer(len - read)) {
+                read += current.read(b, off + read, len - read);
+            }
+            return read == 0 ? -1 : read;
+        }
+
+        private boolean ensureBuffer(int estimate) {
+            while (!finished && (current == null || current.available() == 0)) {
+                if (next == null) {
+                    current = source.readBuffer(Math.max(estimate, CHUNK_SIZE));
+                    finished = current == null;
+                } else {
+                    current = next;
+                    next = null;
+                }
+            }
+            return !finished;
+        }
+    }
 }
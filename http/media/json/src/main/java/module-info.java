@@ -39,6 +39,7 @@ module io.helidon.http.media.json {
     requires transitive io.helidon.config;
     requires transitive io.helidon.json;
     requires io.helidon.common;
+    requires io.helidon.common.buffers;
 
     exports io.helidon.http.media.json;
 
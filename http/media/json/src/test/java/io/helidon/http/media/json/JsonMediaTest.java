@@ -21,10 +21,14 @@ import java.io.ByteArrayOutputStream;
 import java.io.InputStream;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Deque;
 import java.util.List;
 
 import io.helidon.common.GenericType;
+import io.helidon.common.buffers.BufferData;
+import io.helidon.common.buffers.BufferDataSource;
 import io.helidon.common.media.type.MediaTypes;
 import io.helidon.common.testing.http.junit5.HttpHeaderMatcher;
 import io.helidon.http.HeaderNames;
@@ -232,6 +236,36 @@ class JsonMediaTest {
         assertThat(httpException.status(), is(Status.UNSUPPORTED_MEDIA_TYPE_415));
     }
 
+    @Test
+    void testReadClientSingleBuffer() {
+        WritableHeaders<?> requestHeaders = WritableHeaders.create();
+        WritableHeaders<?> responseHeaders = WritableHeaders.create();
+        responseHeaders.contentType(MediaTypes.APPLICATION_JSON);
+
+        MediaSupport.ReaderResponse<JsonObject> res = provider.reader(JSON_OBJECT_TYPE, requestHeaders, responseHeaders);
+        BufferSourceStream is = new BufferSourceStream("{\"title\": \"utf-8: řžýčň\"}");
+        JsonObject jsonObject = res.supplier().get()
+                .read(JSON_OBJECT_TYPE, is, requestHeaders, responseHeaders);
+
+        assertThat(jsonObject.stringValue("title", "wrong"), is("utf-8: řžýčň"));
+        assertThat(is.buffers.isEmpty(), is(true));
+    }
+
+    @Test
+    void testReadClientMultipleBuffers() {
+        WritableHeaders<?> requestHeaders = WritableHeaders.create();
+        WritableHeaders<?> responseHeaders = WritableHeaders.create();
+        responseHeaders.contentType(MediaTypes.APPLICATION_JSON);
+
+        MediaSupport.ReaderResponse<JsonObject> res = provider.reader(JSON_OBJECT_TYPE, requestHeaders, responseHeaders);
+        BufferSourceStream is = new BufferSourceStream("{\"title\": ", "", "\"utf-8: ř", "žýčň\"}");
+        JsonObject jsonObject = res.supplier().get()
+                .read(JSON_OBJECT_TYPE, is, requestHeaders, responseHeaders);
+
+        assertThat(jsonObject.stringValue("title", "wrong"), is("utf-8: řžýčň"));
+        assertThat(is.buffers.isEmpty(), is(true));
+    }
+
     private JsonObject createObject(String title) {
         return JsonObject.builder()
                 .set("title", title)
@@ -245,4 +279,25 @@ class JsonMediaTest {
         }
         return JsonArray.create(objects);
     }
+
+    // input stream of an entity that provides the buffers it has read, must not be read as a stream
+    private static final class BufferSourceStream extends InputStream implements BufferDataSource {
+        private final Deque<BufferData> buffers = new ArrayDeque<>();
+
+        private BufferSourceStream(String... parts) {
+            for (String part : parts) {
+                buffers.add(BufferData.create(part.getBytes(StandardCharsets.UTF_8)));
+            }
+        }
+
+        @Override
+        public BufferData readBuffer(int estimate) {
+            return buffers.poll();
+        }
+
+        @Override
+        public int read() {
+            throw new UnsupportedOperationException("Entity must be read as buffers");
+        }
+    }
 }
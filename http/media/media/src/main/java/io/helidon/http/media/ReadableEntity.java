@@ -22,6 +22,7 @@ import java.io.UncheckedIOException;
 import java.util.Optional;
 
 import io.helidon.common.GenericType;
+import io.helidon.common.buffers.BufferDataSource;
 
 /**
  * Readable HTTP entity.
@@ -37,6 +38,24 @@ public interface ReadableEntity {
      */
     InputStream inputStream();
 
+    /**
+     * Pull based access to the bytes of the entity as a sequence of buffers.
+     * Where supported, the buffers are the ones read from the connection, without copying them into an intermediate
+     * array, which makes this the preferred way to forward or inspect large entities.
+     * Cannot be combined with {@link #inputStream()}, {@link #as(Class)} or {@link #as(io.helidon.common.GenericType)}.
+     * <p>
+     * The entity is fully processed once {@link BufferDataSource#readBuffer(int)} returns {@code null}.
+     *
+     * @return source of entity buffers
+     */
+    default BufferDataSource bufferSource() {
+        InputStream inputStream = inputStream();
+        if (inputStream instanceof BufferDataSource source) {
+            return source;
+        }
+        return estimate -> BufferDataSource.readBuffer(inputStream, estimate);
+    }
+
     /**
      * If called before {@link #inputStream()}, it will buffer the entity and support
      * multiple calls to {@link #inputStream()} after that. Normally, {@link #inputStream()}
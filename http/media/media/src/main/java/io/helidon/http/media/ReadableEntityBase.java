@@ -29,6 +29,7 @@ import java.util.function.Function;
 
 import io.helidon.common.GenericType;
 import io.helidon.common.buffers.BufferData;
+import io.helidon.common.buffers.BufferDataSource;
 
 /**
  * Base for readable entities.
@@ -269,7 +270,7 @@ public abstract class ReadableEntityBase implements ReadableEntity {
         }
     }
 
-    private static class RequestingInputStream extends InputStream {
+    private static class RequestingInputStream extends InputStream implements BufferDataSource {
         private final Function<Integer, BufferData> bufferFunction;
         private final Runnable entityProcessedRunnable;
 
@@ -316,6 +317,22 @@ public abstract class ReadableEntityBase implements ReadableEntity {
             return currentBuffer.read(b, off, len);
         }
 
+        @Override
+        public BufferData readBuffer(int estimate) {
+            if (finished) {
+                return null;
+            }
+            do {
+                ensureBuffer(Math.max(estimate, 1));
+            } while (!finished && currentBuffer != null && currentBuffer.consumed());
+            if (finished || currentBuffer == null) {
+                return null;
+            }
+            BufferData result = currentBuffer;
+            currentBuffer = null;
+            return result;
+        }
+
         private void ensureBuffer(int estimate) {
             if (currentBuffer != null && currentBuffer.consumed()) {
                 currentBuffer = null;
@@ -25,12 +25,15 @@ import java.util.function.Function;
 
 import io.helidon.common.GenericType;
 import io.helidon.common.buffers.BufferData;
+import io.helidon.common.buffers.BufferDataSource;
 
 import org.junit.jupiter.api.Test;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 class ReadableEntityBaseTest {
@@ -123,6 +126,44 @@ class ReadableEntityBaseTest {
         }
     }
 
+    @Test
+    void testBufferSource() {
+        BufferData first = BufferData.create("first");
+        BufferData second = BufferData.create("second");
+        AtomicInteger reads = new AtomicInteger();
+        AtomicInteger processed = new AtomicInteger();
+        ReadableEntityBase entityBase = new ReadableEntityImpl(estimate -> switch (reads.getAndIncrement()) {
+            case 0 -> first;
+            case 1 -> BufferData.create(0);
+            case 2 -> second;
+            default -> BufferData.empty();
+        }, processed::incrementAndGet, 1024);
+
+        BufferDataSource source = entityBase.bufferSource();
+        // buffers are provided as they were read, not copied
+        assertThat(source.readBuffer(1), sameInstance(first));
+        assertThat(source.readBuffer(1), sameInstance(second));
+        assertThat(processed.get(), is(0));
+        assertThat(source.readBuffer(1), is(nullValue()));
+        assertThat(processed.get(), is(1));
+        assertThat(source.readBuffer(1), is(nullValue()));
+        assertThat(processed.get(), is(1));
+        assertThrows(IllegalStateException.class, entityBase::inputStream);
+    }
+
+    @Test
+    void testBufferSourceAfterBuffer() {
+        ReadableEntityBase entityBase = new ReadableEntityImpl(new Readable(), 1024);
+        entityBase.buffer();
+        BufferDataSource source = entityBase.bufferSource();
+        int total = 0;
+        BufferData data;
+        while ((data = source.readBuffer(100)) != null) {
+            total += data.available();
+        }
+        assertThat(total, is(1024));
+    }
+
     static class Readable implements Function<Integer, BufferData> {
         private boolean done;
 
@@ -140,7 +181,13 @@ class ReadableEntityBaseTest {
 
         protected ReadableEntityImpl(Function<Integer, BufferData> readEntityFunction,
                                      int maxBufferedEntityLength) {
-            super(readEntityFunction, () -> { }, maxBufferedEntityLength);
+            this(readEntityFunction, () -> { }, maxBufferedEntityLength);
+        }
+
+        protected ReadableEntityImpl(Function<Integer, BufferData> readEntityFunction,
+                                     Runnable entityProcessedRunnable,
+                                     int maxBufferedEntityLength) {
+            super(readEntityFunction, entityProcessedRunnable, maxBufferedEntityLength);
         }
 
         @Override
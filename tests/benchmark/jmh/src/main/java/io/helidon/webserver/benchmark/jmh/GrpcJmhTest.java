@@ -0,0 +1,133 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.webserver.benchmark.jmh;
+
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.util.Iterator;
+
+import io.helidon.logging.common.LogConfig;
+import io.helidon.webclient.grpc.GrpcClient;
+import io.helidon.webclient.grpc.GrpcClientMethodDescriptor;
+import io.helidon.webclient.grpc.GrpcServiceClient;
+import io.helidon.webclient.grpc.GrpcServiceDescriptor;
+import io.helidon.webserver.WebServer;
+import io.helidon.webserver.grpc.GrpcRouting;
+
+import com.google.protobuf.ByteString;
+import io.grpc.stub.StreamObserver;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * gRPC unary and server streaming calls between the Helidon gRPC client and server over loopback (HTTP/2 with
+ * prior knowledge, no TLS).
+ */
+@State(Scope.Benchmark)
+public class GrpcJmhTest {
+    private static final String SERVICE = "EchoService";
+    private static final int STREAM_MESSAGES = 10;
+
+    @Param({"16", "16384"})
+    private int payloadSize;
+
+    private WebServer server;
+    private GrpcServiceClient client;
+    private Echo.EchoMessage unaryRequest;
+    private Echo.EchoMessage streamRequest;
+
+    @Setup
+    public void setup() {
+        LogConfig.configureRuntime();
+
+        server = WebServer.builder()
+                .bindAddress(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0))
+                .addRouting(GrpcRouting.builder()
+                                    .unary(Echo.getDescriptor(), SERVICE, "Echo", GrpcJmhTest::echo)
+                                    .serverStream(Echo.getDescriptor(), SERVICE, "Stream", GrpcJmhTest::stream))
+                .build()
+                .start();
+
+        GrpcServiceDescriptor descriptor = GrpcServiceDescriptor.builder()
+                .serviceName(SERVICE)
+                .putMethod("Echo",
+                           GrpcClientMethodDescriptor.unary(SERVICE, "Echo")
+                                   .requestType(Echo.EchoMessage.class)
+                                   .responseType(Echo.EchoMessage.class)
+                                   .build())
+                .putMethod("Stream",
+                           GrpcClientMethodDescriptor.serverStreaming(SERVICE, "Stream")
+                                   .requestType(Echo.EchoMessage.class)
+                                   .responseType(Echo.EchoMessage.class)
+                                   .build())
+                .build();
+
+        client = GrpcClient.builder()
+                .tls(tls -> tls.enabled(false))
+                .baseUri("http://localhost:" + server.port())
+                .build()
+                .serviceClient(descriptor);
+
+        ByteString payload = ByteString.copyFrom(new byte[payloadSize]);
+        unaryRequest = Echo.EchoMessage.newBuilder()
+                .setPayload(payload)
+                .build();
+        streamRequest = Echo.EchoMessage.newBuilder()
+                .setPayload(payload)
+                .setCount(STREAM_MESSAGES)
+                .build();
+    }
+
+    @TearDown
+    public void tearDown() {
+        server.stop();
+    }
+
+    @Benchmark
+    public void unary(Blackhole bh) {
+        Echo.EchoMessage response = client.unary("Echo", unaryRequest);
+        bh.consume(response);
+    }
+
+    @Benchmark
+    public void serverStream(Blackhole bh) {
+        Iterator<Echo.EchoMessage> responses = client.serverStream("Stream", streamRequest);
+        while (responses.hasNext()) {
+            bh.consume(responses.next());
+        }
+    }
+
+    private static void echo(Echo.EchoMessage request, StreamObserver<Echo.EchoMessage> observer) {
+        observer.onNext(request);
+        observer.onCompleted();
+    }
+
+    private static void stream(Echo.EchoMessage request, StreamObserver<Echo.EchoMessage> observer) {
+        Echo.EchoMessage response = Echo.EchoMessage.newBuilder()
+                .setPayload(request.getPayload())
+                .build();
+        for (int i = 0; i < request.getCount(); i++) {
+            observer.onNext(response);
+        }
+        observer.onCompleted();
+    }
+}
@@ -0,0 +1,138 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.webserver.benchmark.jmh;
+
+import java.util.List;
+
+import io.helidon.common.buffers.BufferData;
+import io.helidon.common.buffers.DataReader;
+import io.helidon.common.buffers.DataWriter;
+import io.helidon.common.socket.PeerInfo;
+import io.helidon.common.socket.SocketContext;
+import io.helidon.http.http2.Http2ConnectionWriter;
+import io.helidon.http.http2.Http2Flag;
+import io.helidon.http.http2.Http2FrameData;
+import io.helidon.http.http2.Http2FrameHeader;
+import io.helidon.http.http2.Http2FrameTypes;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * HTTP/2 DATA frame serialization through {@link io.helidon.http.http2.Http2ConnectionWriter} and parsing of
+ * frame header and payload from a connection {@link io.helidon.common.buffers.DataReader}.
+ */
+@State(Scope.Thread)
+public class Http2FrameJmhTest {
+    @Param({"16", "1024", "16384"})
+    private int payloadSize;
+
+    private Http2ConnectionWriter writer;
+    private byte[] payload;
+    private DataReader reader;
+
+    @Setup
+    public void setup() {
+        writer = new Http2ConnectionWriter(new Context(), new DiscardingWriter(), List.of());
+        payload = new byte[payloadSize];
+
+        BufferData frame = BufferData.growing(payloadSize + Http2FrameHeader.LENGTH);
+        frame.write(Http2FrameHeader.create(payloadSize,
+                                            Http2FrameTypes.DATA,
+                                            Http2Flag.DataFlags.create(0),
+                                            1)
+                            .write());
+        frame.write(payload);
+        byte[] frameBytes = frame.readBytes();
+        // endless stream of frames
+        reader = DataReader.create(() -> frameBytes);
+    }
+
+    @Benchmark
+    public void write() {
+        Http2FrameHeader header = Http2FrameHeader.create(payloadSize,
+                                                          Http2FrameTypes.DATA,
+                                                          Http2Flag.DataFlags.create(0),
+                                                          1);
+        writer.write(new Http2FrameData(header, BufferData.create(payload)));
+    }
+
+    @Benchmark
+    public void read(Blackhole bh) {
+        // the same steps as the server connection reading a frame
+        Http2FrameHeader header = Http2FrameHeader.create(reader.readBuffer(Http2FrameHeader.LENGTH));
+        header.type().checkLength(header.length());
+        Http2Flag.DataFlags flags = header.flags(Http2FrameTypes.DATA);
+        bh.consume(flags.endOfStream());
+        bh.consume(reader.readBuffer(header.length()));
+    }
+
+    private static final class DiscardingWriter implements DataWriter {
+        @Override
+        public void write(BufferData... buffers) {
+            writeNow(buffers);
+        }
+
+        @Override
+        public void write(BufferData buffer) {
+            writeNow(buffer);
+        }
+
+        @Override
+        public void writeNow(BufferData... buffers) {
+            for (BufferData buffer : buffers) {
+                writeNow(buffer);
+            }
+        }
+
+        @Override
+        public void writeNow(BufferData buffer) {
+            buffer.skip(buffer.available());
+        }
+    }
+
+    private static final class Context implements SocketContext {
+        @Override
+        public PeerInfo remotePeer() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public PeerInfo localPeer() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public boolean isSecure() {
+            return false;
+        }
+
+        @Override
+        public String socketId() {
+            return "jmh";
+        }
+
+        @Override
+        public String childSocketId() {
+            return "jmh";
+        }
+    }
+}
@@ -0,0 +1,123 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.webserver.benchmark.jmh;
+
+import io.helidon.common.buffers.BufferData;
+import io.helidon.http.HeaderNames;
+import io.helidon.http.Method;
+import io.helidon.http.WritableHeaders;
+import io.helidon.http.http2.Http2Flag;
+import io.helidon.http.http2.Http2FrameData;
+import io.helidon.http.http2.Http2FrameHeader;
+import io.helidon.http.http2.Http2FrameTypes;
+import io.helidon.http.http2.Http2Headers;
+import io.helidon.http.http2.Http2HuffmanDecoder;
+import io.helidon.http.http2.Http2HuffmanEncoder;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * HPACK encoding and decoding (including Huffman coding of string literals) of a typical browser request.
+ * The {@code first} benchmarks use an empty dynamic table (first request on a connection), the {@code repeated}
+ * benchmarks reuse the dynamic table (subsequent requests on the same connection).
+ */
+@State(Scope.Thread)
+public class Http2HpackJmhTest {
+    private static final Http2Flag.HeaderFlags FLAGS = Http2Flag.HeaderFlags.create(Http2Flag.END_OF_HEADERS
+                                                                                           | Http2Flag.END_OF_STREAM);
+    private static final int TABLE_SIZE = 4096;
+
+    private final Http2HuffmanEncoder encoder = Http2HuffmanEncoder.create();
+    private final Http2HuffmanDecoder decoder = Http2HuffmanDecoder.create();
+    private final BufferData encodeBuffer = BufferData.growing(512);
+
+    private Http2Headers headers;
+    private Http2Headers.DynamicTable encodeTable;
+    private Http2Headers.DynamicTable decodeTable;
+    private byte[] encodedFirst;
+    private byte[] encodedRepeated;
+
+    @Setup
+    public void setup() {
+        WritableHeaders<?> httpHeaders = WritableHeaders.create()
+                .set(HeaderNames.ACCEPT, "text/html,application/xhtml+xml,application/xml;q=0.9,*/*;q=0.8")
+                .set(HeaderNames.ACCEPT_ENCODING, "gzip, deflate, br")
+                .set(HeaderNames.ACCEPT_LANGUAGE, "en-US,en;q=0.5")
+                .set(HeaderNames.USER_AGENT, "Mozilla/5.0 (X11; Linux x86_64; rv:128.0) Gecko/20100101 Firefox/128.0")
+                .set(HeaderNames.COOKIE, "JSESSIONID=7c8a9e0f1b2d3c4e5f60718293a4b5c6; theme=dark")
+                .set(HeaderNames.CACHE_CONTROL, "no-cache");
+        headers = Http2Headers.create(httpHeaders)
+                .method(Method.GET)
+                .scheme("https")
+                .authority("www.example.com")
+                .path("/api/v1/greet/Joe?lang=en");
+
+        Http2Headers.DynamicTable table = Http2Headers.DynamicTable.create(TABLE_SIZE);
+        encodedFirst = encode(table);
+        encodedRepeated = encode(table);
+
+        encodeTable = Http2Headers.DynamicTable.create(TABLE_SIZE);
+        encode(encodeTable);
+        decodeTable = Http2Headers.DynamicTable.create(TABLE_SIZE);
+        decode(decodeTable, encodedFirst);
+
+        // sanity check, so we do not measure failures
+        String path = decode(Http2Headers.DynamicTable.create(TABLE_SIZE), encodedFirst).path();
+        if (!"/api/v1/greet/Joe?lang=en".equals(path)) {
+            throw new IllegalStateException("Invalid decoded path: " + path);
+        }
+    }
+
+    @Benchmark
+    public void encodeFirst(Blackhole bh) {
+        encodeBuffer.clear();
+        headers.write(Http2Headers.DynamicTable.create(TABLE_SIZE), encoder, encodeBuffer);
+        bh.consume(encodeBuffer.available());
+    }
+
+    @Benchmark
+    public void encodeRepeated(Blackhole bh) {
+        encodeBuffer.clear();
+        headers.write(encodeTable, encoder, encodeBuffer);
+        bh.consume(encodeBuffer.available());
+    }
+
+    @Benchmark
+    public void decodeFirst(Blackhole bh) {
+        bh.consume(decode(Http2Headers.DynamicTable.create(TABLE_SIZE), encodedFirst));
+    }
+
+    @Benchmark
+    public void decodeRepeated(Blackhole bh) {
+        bh.consume(decode(decodeTable, encodedRepeated));
+    }
+
+    private byte[] encode(Http2Headers.DynamicTable table) {
+        BufferData buffer = BufferData.growing(512);
+        headers.write(table, encoder, buffer);
+        return buffer.readBytes();
+    }
+
+    private Http2Headers decode(Http2Headers.DynamicTable table, byte[] encoded) {
+        Http2FrameHeader frameHeader = Http2FrameHeader.create(encoded.length, Http2FrameTypes.HEADERS, FLAGS, 1);
+        return Http2Headers.create(null, table, decoder, new Http2FrameData(frameHeader, BufferData.create(encoded)));
+    }
+}
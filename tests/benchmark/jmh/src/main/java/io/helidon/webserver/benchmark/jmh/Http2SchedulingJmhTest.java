@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.webserver.benchmark.jmh;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import io.helidon.http.Method;
+import io.helidon.logging.common.LogConfig;
+import io.helidon.webserver.WebServer;
+import io.helidon.webserver.http2.Http2Config;
+import io.helidon.webserver.http2.Http2Route;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Latency of small HTTP/2 responses sharing a connection with concurrent bulk downloads.
+ * Quantum {@code 0} disables scheduling of DATA frames, other values use the deficit round-robin scheduler,
+ * where small responses request a higher urgency (RFC 9218 {@code priority} header) than bulk downloads.
+ */
+@State(Scope.Benchmark)
+public class Http2SchedulingJmhTest {
+    private static final byte[] BULK = new byte[4 * 1024 * 1024];
+    private static final byte[] SMALL = new byte[128];
+    private static final int BULK_DOWNLOADS = 4;
+
+    @Param({"0", "16384"})
+    private int quantum;
+
+    private WebServer server;
+    private HttpClient client;
+    private HttpRequest smallRequest;
+    private List<Thread> bulkThreads;
+    private volatile boolean running;
+
+    @Setup
+    public void setup() {
+        LogConfig.configureRuntime();
+
+        server = WebServer.builder()
+                .host("127.0.0.1")
+                .addProtocol(Http2Config.builder()
+                                     .dataSchedulerQuantum(quantum)
+                                     .build())
+                .routing(router -> router
+                        .route(Http2Route.route(Method.GET, "/bulk", (req, res) -> res.send(BULK)))
+                        .route(Http2Route.route(Method.GET, "/small", (req, res) -> res.send(SMALL))))
+                .build()
+                .start();
+
+        // a single client multiplexes all requests to the same server over one connection
+        client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_2)
+                .connectTimeout(Duration.ofSeconds(10))
+                .build();
+        String base = "http://localhost:" + server.port();
+        smallRequest = HttpRequest.newBuilder(URI.create(base + "/small"))
+                .header("priority", "u=0")
+                .build();
+        HttpRequest bulkRequest = HttpRequest.newBuilder(URI.create(base + "/bulk"))
+                .header("priority", "u=5, i")
+                .build();
+
+        running = true;
+        bulkThreads = new ArrayList<>();
+        for (int i = 0; i < BULK_DOWNLOADS; i++) {
+            bulkThreads.add(Thread.ofVirtual().start(() -> {
+                while (running) {
+                    try {
+                        client.send(bulkRequest, HttpResponse.BodyHandlers.discarding());
+                    } catch (IOException e) {
+                        // ignored, the download is repeated
+                    } catch (InterruptedException e) {
+                        return;
+                    }
+                }
+            }));
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws InterruptedException {
+        running = false;
+        for (Thread bulkThread : bulkThreads) {
+            bulkThread.join();
+        }
+        server.stop();
+    }
+
+    @Benchmark
+    public void small(Blackhole bh) throws IOException, InterruptedException {
+        bh.consume(client.send(smallRequest, HttpResponse.BodyHandlers.ofByteArray()));
+    }
+}
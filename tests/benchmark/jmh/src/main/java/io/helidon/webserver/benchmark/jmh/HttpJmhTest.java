@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022, 2023 Oracle and/or its affiliates.
+ * Copyright (c) 2022, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -17,6 +17,9 @@
 package io.helidon.webserver.benchmark.jmh;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.Socket;
 import java.net.URI;
 import java.net.http.HttpClient;
 import java.net.http.HttpRequest;
@@ -33,9 +36,11 @@ import io.helidon.webserver.WebServer;
 import io.helidon.webserver.http.Handler;
 import io.helidon.webserver.http.ServerRequest;
 import io.helidon.webserver.http.ServerResponse;
+import io.helidon.webserver.http1.Http1Config;
 import io.helidon.webserver.http1.Http1Route;
 
 import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
 import org.openjdk.jmh.annotations.Scope;
 import org.openjdk.jmh.annotations.Setup;
 import org.openjdk.jmh.annotations.State;
@@ -49,7 +54,12 @@ public class HttpJmhTest {
     private static final Header CONTENT_LENGTH = HeaderValues.createCached(HeaderNames.CONTENT_LENGTH, "13");
     private static final Header SERVER = HeaderValues.createCached(HeaderNames.SERVER, "Helidon");
     private static final byte[] RESPONSE_BYTES = "Hello, World!".getBytes(StandardCharsets.UTF_8);
+    private static final int PIPELINED_REQUESTS = 16;
+    private static final byte[] PIPELINED_BYTES = "GET /plaintext HTTP/1.1\r\nHost: localhost\r\n\r\n"
+            .repeat(PIPELINED_REQUESTS)
+            .getBytes(StandardCharsets.US_ASCII);
     private WebServer server;
+    private WebServer batchingServer;
     private int serverPort;
     private HttpClient http1Client;
     private HttpClient http2Client;
@@ -73,6 +83,21 @@ public class HttpJmhTest {
 
         serverPort = server.port();
 
+        batchingServer = WebServer.builder()
+                .connectionOptions(builder -> builder
+                        .readTimeout(Duration.ZERO)
+                        .connectTimeout(Duration.ZERO)
+                        .socketSendBufferSize(64000)
+                        .socketReceiveBufferSize(64000))
+                .addProtocol(Http1Config.builder()
+                                     .batchPipelinedResponses(true)
+                                     .build())
+                .host("127.0.0.1")
+                .backlog(8192)
+                .routing(router -> router.route(Http1Route.route(Method.GET, "/plaintext", new PlaintextHandler())))
+                .build()
+                .start();
+
         http2Client = HttpClient.newBuilder()
                 .version(HttpClient.Version.HTTP_2)
                 .connectTimeout(Duration.ofSeconds(10))
@@ -87,6 +112,7 @@ public class HttpJmhTest {
     @TearDown
     public void tearDown() {
         server.stop();
+        batchingServer.stop();
     }
 
     @Benchmark
@@ -109,6 +135,63 @@ public class HttpJmhTest {
         bh.consume(response);
     }
 
+    @Benchmark
+    @OperationsPerInvocation(PIPELINED_REQUESTS)
+    public void http1Pipelined(PipelinedConnection connection) throws IOException {
+        connection.exchange(connection.plain);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(PIPELINED_REQUESTS)
+    public void http1PipelinedBatched(PipelinedConnection connection) throws IOException {
+        connection.exchange(connection.batching);
+    }
+
+    /**
+     * A connection per benchmark thread, that sends all requests at once, and then reads all responses.
+     */
+    @State(Scope.Thread)
+    public static class PipelinedConnection {
+        private final byte[] buffer = new byte[64 * 1024];
+        private Socket plain;
+        private Socket batching;
+
+        @Setup
+        public void setup(HttpJmhTest benchmark) throws IOException {
+            plain = new Socket("127.0.0.1", benchmark.serverPort);
+            plain.setTcpNoDelay(true);
+            batching = new Socket("127.0.0.1", benchmark.batchingServer.port());
+            batching.setTcpNoDelay(true);
+        }
+
+        @TearDown
+        public void tearDown() throws IOException {
+            plain.close();
+            batching.close();
+        }
+
+        void exchange(Socket socket) throws IOException {
+            OutputStream out = socket.getOutputStream();
+            out.write(PIPELINED_BYTES);
+            out.flush();
+
+            // each response entity ends with "!", which is not present in the response status and headers
+            InputStream in = socket.getInputStream();
+            int responses = 0;
+            while (responses < PIPELINED_REQUESTS) {
+                int read = in.read(buffer);
+                if (read == -1) {
+                    throw new IOException("Connection closed after " + responses + " responses");
+                }
+                for (int i = 0; i < read; i++) {
+                    if (buffer[i] == '!') {
+                        responses++;
+                    }
+                }
+            }
+        }
+    }
+
     private static class PlaintextHandler implements Handler {
         @Override
         public void handle(ServerRequest req, ServerResponse res) {
@@ -0,0 +1,122 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.webserver.benchmark.jmh;
+
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import io.helidon.common.GenericType;
+import io.helidon.json.JsonGenerator;
+import io.helidon.json.JsonParser;
+import io.helidon.json.binding.JsonBinding;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Parsing and generating of a typical REST payload (an order with items), comparing the streaming
+ * {@code io.helidon.json} API with {@link io.helidon.json.binding.JsonBinding}.
+ */
+@State(Scope.Benchmark)
+public class JsonJmhTest {
+    private static final GenericType<Map<String, Object>> MAP_TYPE = new GenericType<>() { };
+
+    @Param({"1", "100"})
+    private int items;
+
+    private JsonBinding binding;
+    private Map<String, Object> order;
+    private byte[] json;
+
+    @Setup
+    public void setup() {
+        binding = JsonBinding.create();
+
+        List<Object> orderItems = new ArrayList<>();
+        for (int i = 0; i < items; i++) {
+            Map<String, Object> item = new LinkedHashMap<>();
+            item.put("sku", "SKU-" + i);
+            item.put("name", "Item number " + i);
+            item.put("quantity", i % 5 + 1);
+            item.put("price", 9.99 + i);
+            item.put("available", i % 2 == 0);
+            orderItems.add(item);
+        }
+        order = new LinkedHashMap<>();
+        order.put("id", 123456789L);
+        order.put("customer", "Joe \"The Tester\" Doe");
+        order.put("currency", "EUR");
+        order.put("paid", true);
+        order.put("items", orderItems);
+
+        json = generate();
+    }
+
+    @Benchmark
+    public void parse(Blackhole bh) {
+        bh.consume(JsonParser.create(json).readJsonValue());
+    }
+
+    @Benchmark
+    public void parseBinding(Blackhole bh) {
+        bh.consume(binding.deserialize(json, MAP_TYPE));
+    }
+
+    @Benchmark
+    public void generate(Blackhole bh) {
+        bh.consume(generate());
+    }
+
+    @Benchmark
+    public void generateBinding(Blackhole bh) {
+        bh.consume(binding.serializeToBytes(order));
+    }
+
+    @SuppressWarnings("unchecked")
+    private byte[] generate() {
+        ByteArrayOutputStream baos = new ByteArrayOutputStream(256 * items);
+        JsonGenerator generator = JsonGenerator.create(baos);
+        generator.writeObjectStart()
+                .write("id", (long) order.get("id"))
+                .write("customer", (String) order.get("customer"))
+                .write("currency", (String) order.get("currency"))
+                .write("paid", (boolean) order.get("paid"))
+                .writeKey("items")
+                .writeArrayStart();
+        for (Object it : (List<Object>) order.get("items")) {
+            Map<String, Object> item = (Map<String, Object>) it;
+            generator.writeObjectStart()
+                    .write("sku", (String) item.get("sku"))
+                    .write("name", (String) item.get("name"))
+                    .write("quantity", (int) item.get("quantity"))
+                    .write("price", (double) item.get("price"))
+                    .write("available", (boolean) item.get("available"))
+                    .writeObjectEnd();
+        }
+        generator.writeArrayEnd()
+                .writeObjectEnd();
+        generator.close();
+        return baos.toByteArray();
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.webserver.benchmark.jmh;
+
+import io.helidon.common.uri.UriPath;
+import io.helidon.http.PathMatcher;
+import io.helidon.http.PathMatchers;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Matching of request paths by the path matchers used by routing: exact, prefix, and patterns with parameters
+ * and globs. The {@code miss} benchmark measures rejection, the most common result when routing.
+ */
+@State(Scope.Benchmark)
+public class PathMatchersJmhTest {
+    private final PathMatcher exact = PathMatchers.create("/api/v1/users");
+    private final PathMatcher prefix = PathMatchers.create("/api/v1/*");
+    private final PathMatcher parameters = PathMatchers.create("/api/v1/users/{id}/orders/{orderId}");
+    private final PathMatcher glob = PathMatchers.create("/static/*/images/*.png");
+
+    private final UriPath exactPath = UriPath.create("/api/v1/users");
+    private final UriPath parametersPath = UriPath.create("/api/v1/users/42/orders/1234");
+    private final UriPath globPath = UriPath.create("/static/theme/images/logo.png");
+    private final UriPath missPath = UriPath.create("/api/v2/customers/42");
+
+    @Benchmark
+    public void exact(Blackhole bh) {
+        bh.consume(exact.match(exactPath));
+    }
+
+    @Benchmark
+    public void prefix(Blackhole bh) {
+        bh.consume(prefix.prefixMatch(parametersPath));
+    }
+
+    @Benchmark
+    public void parameters(Blackhole bh) {
+        PathMatchers.MatchResult result = parameters.match(parametersPath);
+        bh.consume(result.path().pathParameters().get("orderId"));
+    }
+
+    @Benchmark
+    public void glob(Blackhole bh) {
+        bh.consume(glob.match(globPath));
+    }
+
+    @Benchmark
+    public void miss(Blackhole bh) {
+        bh.consume(exact.match(missPath));
+        bh.consume(prefix.prefixMatch(missPath));
+        bh.consume(parameters.match(missPath));
+        bh.consume(glob.match(missPath));
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.webserver.benchmark.jmh;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import io.helidon.common.buffers.BufferPool;
+import io.helidon.common.buffers.DataReader;
+import io.helidon.http.HeaderNames;
+import io.helidon.http.HttpPrologue;
+import io.helidon.http.WritableHeaders;
+import io.helidon.webserver.http1.Http1Headers;
+import io.helidon.webserver.http1.Http1Prologue;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Parsing of requests on a keep-alive connection, where each socket read returns a single request.
+ * Compares copying each read into a new array with reading into pooled buffers, run with {@code -prof gc}
+ * to see allocation rate per request.
+ */
+@State(Scope.Thread)
+public class PooledReadJmhTest {
+    private static final byte[] REQUEST = """
+            GET /plaintext HTTP/1.1\r
+            Host: localhost:8080\r
+            User-Agent: curl/7.68.0\r
+            Accept: */*\r
+            \r
+            """.getBytes(StandardCharsets.UTF_8);
+    private static final int SOCKET_BUFFER_SIZE = 8 * 1024;
+
+    private final byte[] socketBuffer = new byte[SOCKET_BUFFER_SIZE];
+    private DataReader copyingReader;
+    private DataReader pooledReader;
+
+    @Setup
+    public void setup() {
+        // simulates PlainSocket.get() - read into a socket buffer and copy
+        copyingReader = DataReader.create(() -> {
+            int read = readSocket(socketBuffer);
+            return Arrays.copyOf(socketBuffer, read);
+        });
+        pooledReader = DataReader.create(PooledReadJmhTest::readSocket,
+                                         BufferPool.create(SOCKET_BUFFER_SIZE, 32),
+                                         false);
+    }
+
+    @Benchmark
+    public void copying(Blackhole bh) {
+        readRequest(bh, copyingReader);
+    }
+
+    @Benchmark
+    public void pooled(Blackhole bh) {
+        readRequest(bh, pooledReader);
+    }
+
+    private static int readSocket(byte[] buffer) {
+        System.arraycopy(REQUEST, 0, buffer, 0, REQUEST.length);
+        return REQUEST.length;
+    }
+
+    private static void readRequest(Blackhole bh, DataReader reader) {
+        Http1Prologue prologue = new Http1Prologue(reader, 1024, false);
+        Http1Headers headers = new Http1Headers(reader, 4096, false);
+
+        HttpPrologue httpPrologue = prologue.readPrologue();
+        WritableHeaders<?> httpHeaders = headers.readHeaders(httpPrologue);
+
+        bh.consume(httpHeaders.contains(HeaderNames.CONTENT_LENGTH));
+        bh.consume(httpHeaders.get(HeaderNames.HOST).get());
+    }
+}
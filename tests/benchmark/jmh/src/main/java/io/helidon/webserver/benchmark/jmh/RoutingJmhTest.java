@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.webserver.benchmark.jmh;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+
+import io.helidon.logging.common.LogConfig;
+import io.helidon.webserver.WebServer;
+import io.helidon.webserver.http.HttpRouting;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Compares linear and compiled routing, requests always hit the last registered route, which is the worst case
+ * for linear routing.
+ */
+@State(Scope.Benchmark)
+public class RoutingJmhTest {
+    @Param({"10", "100", "1000"})
+    private int routes;
+
+    @Param({"false", "true"})
+    private boolean compiled;
+
+    private WebServer server;
+    private HttpClient client;
+    private URI exactUri;
+    private URI paramUri;
+
+    @Setup
+    public void setup() {
+        LogConfig.configureRuntime();
+
+        HttpRouting.Builder routing = HttpRouting.builder()
+                .compiledRouting(compiled);
+        for (int i = 0; i < routes; i++) {
+            String prefix = "/api/v1/resource" + i;
+            routing.get(prefix, (req, res) -> res.send("list"))
+                    .get(prefix + "/{id}", (req, res) -> res.send(req.path().pathParameters().get("id")))
+                    .post(prefix + "/{id}/items/{item}", (req, res) -> res.send("item"));
+        }
+
+        server = WebServer.builder()
+                .host("127.0.0.1")
+                .routing(routing)
+                .build()
+                .start();
+
+        client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(10))
+                .build();
+
+        String base = "http://localhost:" + server.port() + "/api/v1/resource" + (routes - 1);
+        exactUri = URI.create(base);
+        paramUri = URI.create(base + "/42");
+    }
+
+    @TearDown
+    public void tearDown() {
+        server.stop();
+    }
+
+    @Benchmark
+    public void exact(Blackhole bh) throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder()
+                .GET()
+                .uri(exactUri)
+                .build();
+        bh.consume(client.send(request, HttpResponse.BodyHandlers.ofByteArray()));
+    }
+
+    @Benchmark
+    public void parameter(Blackhole bh) throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder()
+                .GET()
+                .uri(paramUri)
+                .build();
+        bh.consume(client.send(request, HttpResponse.BodyHandlers.ofByteArray()));
+    }
+}
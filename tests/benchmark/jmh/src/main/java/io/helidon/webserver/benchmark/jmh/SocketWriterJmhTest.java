@@ -0,0 +1,125 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.webserver.benchmark.jmh;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.LongAdder;
+
+import io.helidon.common.buffers.BufferData;
+import io.helidon.common.socket.HelidonSocket;
+import io.helidon.common.socket.PeerInfo;
+import io.helidon.common.socket.SocketWriter;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+
+/**
+ * Many threads writing small buffers (such as HTTP/2 frames of concurrent streams) to a single socket writer.
+ * Compares the blocking queue of the async writer, the smart writer, and the lock-free writer.
+ */
+@State(Scope.Benchmark)
+@Threads(16)
+public class SocketWriterJmhTest {
+    private static final byte[] FRAME = new byte[128];
+
+    @Param({"async", "smart", "lock-free"})
+    private String writerType;
+
+    private ExecutorService executor;
+    private SocketWriter writer;
+
+    @Setup
+    public void setup() {
+        executor = Executors.newVirtualThreadPerTaskExecutor();
+        writer = SocketWriter.create(executor,
+                                     new DiscardingSocket(),
+                                     4000,
+                                     writerType.equals("smart"),
+                                     writerType.equals("lock-free"));
+    }
+
+    @TearDown
+    public void tearDown() {
+        writer.close();
+        executor.shutdownNow();
+    }
+
+    @Benchmark
+    public void write() {
+        writer.write(BufferData.create(FRAME));
+    }
+
+    private static final class DiscardingSocket implements HelidonSocket {
+        private final LongAdder written = new LongAdder();
+
+        @Override
+        public void close() {
+        }
+
+        @Override
+        public void idle() {
+        }
+
+        @Override
+        public boolean isConnected() {
+            return true;
+        }
+
+        @Override
+        public void write(BufferData buffer) {
+            // consume the data, the same as a socket would
+            written.add(buffer.available());
+            buffer.skip(buffer.available());
+        }
+
+        @Override
+        public PeerInfo remotePeer() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public PeerInfo localPeer() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public boolean isSecure() {
+            return false;
+        }
+
+        @Override
+        public String socketId() {
+            return "jmh";
+        }
+
+        @Override
+        public String childSocketId() {
+            return "jmh";
+        }
+
+        @Override
+        public byte[] get() {
+            return new byte[0];
+        }
+    }
+}
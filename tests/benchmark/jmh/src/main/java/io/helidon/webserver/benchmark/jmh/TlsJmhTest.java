@@ -0,0 +1,200 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.webserver.benchmark.jmh;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.StandardSocketOptions;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.net.ssl.SSLContext;
+import javax.net.ssl.SSLEngine;
+
+import io.helidon.common.buffers.BufferData;
+import io.helidon.common.configurable.Resource;
+import io.helidon.common.pki.Keys;
+import io.helidon.common.socket.TlsNioSocket;
+import io.helidon.common.tls.Tls;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * TLS handshake and record throughput of {@link io.helidon.common.socket.TlsNioSocket} over loopback.
+ * The server side echoes all data it receives.
+ */
+@State(Scope.Thread)
+public class TlsJmhTest {
+    @Param({"1024", "16384"})
+    private int recordSize;
+
+    private final AtomicInteger connectionCounter = new AtomicInteger();
+
+    private ExecutorService executor;
+    private ServerSocketChannel serverChannel;
+    private SSLContext serverContext;
+    private SSLContext clientContext;
+    private InetSocketAddress address;
+    private TlsNioSocket client;
+    private byte[] payload;
+
+    @Setup
+    public void setup() throws IOException {
+        Keys privateKeyConfig = Keys.builder()
+                .keystore(store -> store
+                        .passphrase("password")
+                        .keystore(Resource.create("server.p12")))
+                .build();
+        serverContext = Tls.builder()
+                .privateKey(privateKeyConfig)
+                .privateKeyCertChain(privateKeyConfig)
+                .build()
+                .sslContext();
+        clientContext = Tls.builder()
+                .trust(trust -> trust
+                        .keystore(store -> store
+                                .passphrase("password")
+                                .trustStore(true)
+                                .keystore(Resource.create("client.p12"))))
+                .build()
+                .sslContext();
+
+        executor = Executors.newVirtualThreadPerTaskExecutor();
+        serverChannel = ServerSocketChannel.open();
+        serverChannel.bind(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0));
+        address = (InetSocketAddress) serverChannel.getLocalAddress();
+        executor.submit(this::accept);
+
+        payload = new byte[recordSize];
+        client = connect(false);
+        // complete the handshake, so throughput does not include it
+        echo(client, new byte[1]);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        client.close();
+        serverChannel.close();
+        executor.shutdownNow();
+    }
+
+    /**
+     * Full handshake on a new connection, followed by a single byte round trip.
+     */
+    @Benchmark
+    public void handshake() {
+        TlsNioSocket socket = connect(false);
+        try {
+            echo(socket, new byte[1]);
+        } finally {
+            socket.close();
+        }
+    }
+
+    /**
+     * Abbreviated handshake resuming a cached session, followed by a single byte round trip.
+     */
+    @Benchmark
+    public void resumedHandshake() {
+        TlsNioSocket socket = connect(true);
+        try {
+            echo(socket, new byte[1]);
+        } finally {
+            socket.close();
+        }
+    }
+
+    /**
+     * Round trip of {@code recordSize} bytes over an established connection.
+     */
+    @Benchmark
+    public void roundTrip() {
+        echo(client, payload);
+    }
+
+    private static void echo(TlsNioSocket socket, byte[] data) {
+        socket.write(BufferData.create(data));
+        int received = 0;
+        while (received < data.length) {
+            byte[] bytes = socket.get();
+            if (bytes == null) {
+                throw new IllegalStateException("Connection closed by server");
+            }
+            received += bytes.length;
+        }
+    }
+
+    private TlsNioSocket connect(boolean resume) {
+        try {
+            SocketChannel channel = SocketChannel.open(address);
+            channel.setOption(StandardSocketOptions.TCP_NODELAY, true);
+            // sessions are only cached and resumed for engines that know the peer
+            SSLEngine engine = resume
+                    ? clientContext.createSSLEngine(address.getHostString(), address.getPort())
+                    : clientContext.createSSLEngine();
+            return TlsNioSocket.client(channel, engine, "jmh-client");
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void accept() {
+        while (serverChannel.isOpen()) {
+            try {
+                SocketChannel channel = serverChannel.accept();
+                channel.setOption(StandardSocketOptions.TCP_NODELAY, true);
+                executor.submit(() -> serve(channel));
+            } catch (IOException e) {
+                // server channel closed
+                return;
+            }
+        }
+    }
+
+    private void serve(SocketChannel channel) {
+        TlsNioSocket socket = TlsNioSocket.server(channel,
+                                                  serverContext.createSSLEngine(),
+                                                  "jmh-server",
+                                                  String.valueOf(connectionCounter.incrementAndGet()));
+        try {
+            byte[] bytes;
+            while ((bytes = socket.get()) != null) {
+                if (bytes.length > 0) {
+                    socket.write(BufferData.create(bytes));
+                }
+            }
+        } catch (Exception e) {
+            // connection closed by client
+        } finally {
+            try {
+                channel.close();
+            } catch (IOException ignored) {
+                // ignored
+            }
+        }
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022, 2023 Oracle and/or its affiliates.
+ * Copyright (c) 2022, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -23,6 +23,8 @@ import java.nio.file.StandardOpenOption;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.StringJoiner;
+import java.util.TreeMap;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -44,24 +46,37 @@ public class BaseLine {
             .build();
 
     private String benchmark;
+    private Map<String, String> params;
     private PrimaryMetric primaryMetric;
 
     public BaseLine() {
     }
 
-    public BaseLine(String benchmark, double score, String scoreUnit) {
+    public BaseLine(String benchmark, Map<String, String> params, double score, String scoreUnit) {
         this.benchmark = benchmark;
+        this.params = params;
         this.primaryMetric = new PrimaryMetric(score, scoreUnit);
     }
 
     public static BaseLine create(RunResult runResult) {
         return new BaseLine(
                 runResult.getParams().getBenchmark(),
+                params(runResult),
                 runResult.getPrimaryResult().getScore(),
                 runResult.getPrimaryResult().getScoreUnit()
         );
     }
 
+    /**
+     * Key of a benchmark result, benchmarks with {@code @Param} have one result for each combination of parameters.
+     *
+     * @param runResult result of a benchmark run
+     * @return key of the result
+     */
+    public static String key(RunResult runResult) {
+        return key(runResult.getParams().getBenchmark(), params(runResult));
+    }
+
     public static void save(Path file, Map<String, BaseLine> baseLineMap) throws IOException {
         OutputStream outputStream = Files.newOutputStream(file, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING);
         JSON_B.toJson(baseLineMap.values(), outputStream);
@@ -73,16 +88,45 @@ public class BaseLine {
         List<BaseLine> baseLines = JSON_B.fromJson(Files.newInputStream(file, StandardOpenOption.READ),
                                                    new ArrayList<BaseLine>() {
                                                    }.getClass().getGenericSuperclass());
-        return baseLines.stream().collect(Collectors.toMap(BaseLine::getBenchmark, Function.identity()));
+        return baseLines.stream().collect(Collectors.toMap(BaseLine::key, Function.identity()));
     }
 
     public String getBenchmark() {
         return benchmark;
     }
 
+    public Map<String, String> getParams() {
+        return params == null ? Map.of() : params;
+    }
+
+    public String key() {
+        return key(benchmark, getParams());
+    }
+
     public String simpleBenchmarkName() {
         String[] fqdn = getBenchmark().split("\\.");
-        return String.format("%s.%s", fqdn[fqdn.length - 2], fqdn[fqdn.length - 1]);
+        return String.format("%s.%s", fqdn[fqdn.length - 2], fqdn[fqdn.length - 1]) + paramsSuffix(getParams());
+    }
+
+    private static Map<String, String> params(RunResult runResult) {
+        Map<String, String> result = new TreeMap<>();
+        for (String key : runResult.getParams().getParamsKeys()) {
+            result.put(key, runResult.getParams().getParam(key));
+        }
+        return result;
+    }
+
+    private static String key(String benchmark, Map<String, String> params) {
+        return benchmark + paramsSuffix(params);
+    }
+
+    private static String paramsSuffix(Map<String, String> params) {
+        if (params.isEmpty()) {
+            return "";
+        }
+        StringJoiner joiner = new StringJoiner(", ", " [", "]");
+        new TreeMap<>(params).forEach((name, value) -> joiner.add(name + "=" + value));
+        return joiner.toString();
     }
 
     public PrimaryMetric getPrimaryMetric() {
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022, 2023 Oracle and/or its affiliates.
+ * Copyright (c) 2022, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -36,8 +36,7 @@ public class Histogram {
     public static Histogram create(Collection<RunResult> results, Map<String, BaseLine> baseLineMap) {
         Histogram histogram = new Histogram();
         for (var result : results) {
-            String benchmarkName = result.getParams().getBenchmark();
-            BaseLine baseLine = baseLineMap.computeIfAbsent(benchmarkName, s -> BaseLine.create(result));
+            BaseLine baseLine = baseLineMap.computeIfAbsent(BaseLine.key(result), s -> BaseLine.create(result));
 
             double baseLineScore = baseLine.getPrimaryMetric().getScore();
             double resultScore = result.getPrimaryResult().getScore();
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022, 2023 Oracle and/or its affiliates.
+ * Copyright (c) 2022, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -41,14 +41,16 @@ public class JunitJmhRunnerTest {
     private static final String ERROR_MARGIN_PERCENT_DEFAULT = "15";
     private static final int ERROR_MARGIN =
             Integer.parseInt(System.getProperty("webserver.jmh.errorMargin", ERROR_MARGIN_PERCENT_DEFAULT));
+    private static final String INCLUDE = System.getProperty("webserver.jmh.include", ".*JmhTest");
+    private static final Path RESULT = Path.of(System.getProperty("webserver.jmh.result", "./target/benchmark-result.json"));
 
     static Stream<Histogram.Benchmark> httpBenchmarks() throws RunnerException, IOException {
         Options opt = new OptionsBuilder()
-                .include(".*JmhTest")
+                .include(INCLUDE)
                 .forks(1)
                 .threads(8)
                 .resultFormat(ResultFormatType.JSON)
-                .result("./target/benchmark-result.json")
+                .result(RESULT.toString())
                 .warmupIterations(10)
                 .warmupTime(TimeValue.seconds(1))
                 .measurementIterations(8)
@@ -63,8 +65,8 @@ public class JunitJmhRunnerTest {
         Map<String, BaseLine> baseLineMap;
         if (resetBaseline || !baseLineFile.exists()) {
             Files.deleteIfExists(baseLineFile.toPath());
-            baseLineMap = BaseLine.load(Path.of("./target/benchmark-result.json"));
-            Files.copy(Path.of("./target/benchmark-result.json"), baseLineFile.toPath());
+            baseLineMap = BaseLine.load(RESULT);
+            Files.copy(RESULT, baseLineFile.toPath());
         } else {
             baseLineMap = BaseLine.load(baseLineFile.toPath());
         }
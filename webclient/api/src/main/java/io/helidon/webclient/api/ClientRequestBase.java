@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2023, 2025 Oracle and/or its affiliates.
+ * Copyright (c) 2023, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -445,7 +445,8 @@ public abstract class ClientRequestBase<T extends ClientRequest<T>, R extends Ht
                                                                         requestId,
                                                                         whenComplete,
                                                                         whenSent,
-                                                                        properties);
+                                                                        properties,
+                                                                        readTimeout);
 
         WebClientService.Chain last = httpCallChain;
 
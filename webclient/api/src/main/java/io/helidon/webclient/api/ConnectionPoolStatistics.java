@@ -0,0 +1,76 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.webclient.api;
+
+/**
+ * Statistics of a pool of connections to a single remote endpoint.
+ * Values are computed when the method is called, so an instance can be used as a source for gauges.
+ *
+ * @see io.helidon.webclient.api.WebClientServiceResponse#connectionPool()
+ */
+public interface ConnectionPoolStatistics {
+    /**
+     * Number of open connections in the pool.
+     *
+     * @return number of connections
+     */
+    int connections();
+
+    /**
+     * Maximal number of connections the pool may open.
+     *
+     * @return maximal number of connections
+     */
+    int maxConnections();
+
+    /**
+     * Number of requests in progress over all connections of the pool (such as active HTTP/2 streams).
+     *
+     * @return number of active requests
+     */
+    long activeRequests();
+
+    /**
+     * Maximal number of concurrent requests the open connections can handle (such as sum of
+     * {@code MAX_CONCURRENT_STREAMS} advertised by the server for each HTTP/2 connection).
+     *
+     * @return maximal number of concurrent requests, {@link Long#MAX_VALUE} if not limited
+     */
+    long maxConcurrentRequests();
+
+    /**
+     * Number of requests waiting for a connection, as the pool has reached its limits.
+     *
+     * @return number of waiting requests, {@code 0} if the pool does not limit connections
+     */
+    default int waitingRequests() {
+        return 0;
+    }
+
+    /**
+     * Ratio of active requests to the maximal number of concurrent requests of the open connections.
+     *
+     * @return utilization between {@code 0} and {@code 1}, {@code 0} if there is no limit
+     */
+    default double utilization() {
+        long max = maxConcurrentRequests();
+        if (max <= 0 || max == Long.MAX_VALUE) {
+            return 0;
+        }
+        return Math.min(1.0, (double) activeRequests() / max);
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2023 Oracle and/or its affiliates.
+ * Copyright (c) 2023, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,6 +16,8 @@
 
 package io.helidon.webclient.api;
 
+import java.util.Optional;
+
 import io.helidon.webclient.spi.WebClientService;
 
 class ServiceChainImpl implements WebClientService.Chain {
@@ -31,4 +33,10 @@ class ServiceChainImpl implements WebClientService.Chain {
     public WebClientServiceResponse proceed(WebClientServiceRequest clientRequest) {
         return service.handle(next, clientRequest);
     }
+
+    @Override
+    public Optional<WebClientService.Chain> copy() {
+        return next.copy()
+                .map(it -> new ServiceChainImpl(it, service));
+    }
 }
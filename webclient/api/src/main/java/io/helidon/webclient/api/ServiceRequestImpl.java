@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2023 Oracle and/or its affiliates.
+ * Copyright (c) 2023, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,8 +16,10 @@
 
 package io.helidon.webclient.api;
 
+import java.time.Duration;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Optional;
 import java.util.concurrent.CompletionStage;
 
 import io.helidon.common.context.Context;
@@ -33,6 +35,7 @@ class ServiceRequestImpl implements WebClientServiceRequest {
     private final Context context;
     private final CompletionStage<WebClientServiceResponse> whenComplete;
     private final CompletionStage<WebClientServiceRequest> whenSent;
+    private final Duration readTimeout;
 
     private String requestId;
 
@@ -44,7 +47,8 @@ class ServiceRequestImpl implements WebClientServiceRequest {
                        String requestId,
                        CompletionStage<WebClientServiceResponse> whenComplete,
                        CompletionStage<WebClientServiceRequest> whenSent,
-                       Map<String, String> properties) {
+                       Map<String, String> properties,
+                       Duration readTimeout) {
         this.uri = uri;
         this.method = method;
         this.protocolId = protocolId;
@@ -54,6 +58,7 @@ class ServiceRequestImpl implements WebClientServiceRequest {
         this.whenComplete = whenComplete;
         this.whenSent = whenSent;
         this.properties = new HashMap<>(properties);
+        this.readTimeout = readTimeout;
     }
 
     @Override
@@ -105,4 +110,9 @@ class ServiceRequestImpl implements WebClientServiceRequest {
     public Map<String, String> properties() {
         return properties;
     }
+
+    @Override
+    public Optional<Duration> readTimeout() {
+        return Optional.ofNullable(readTimeout);
+    }
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2020, 2023 Oracle and/or its affiliates.
+ * Copyright (c) 2020, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,7 +16,9 @@
 
 package io.helidon.webclient.api;
 
+import java.time.Duration;
 import java.util.Map;
+import java.util.Optional;
 import java.util.concurrent.CompletionStage;
 
 import io.helidon.common.context.Context;
@@ -101,4 +103,15 @@ public interface WebClientServiceRequest {
      * @return properties that were configured (mutable)
      */
     Map<String, String> properties();
+
+    /**
+     * Read timeout of this request, if known.
+     * A service waiting for a response on behalf of this request (rather than reading it from a connection)
+     * should not wait longer than this.
+     *
+     * @return read timeout of the request
+     */
+    default Optional<Duration> readTimeout() {
+        return Optional.empty();
+    }
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2020, 2023 Oracle and/or its affiliates.
+ * Copyright (c) 2020, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -17,6 +17,7 @@
 package io.helidon.webclient.api;
 
 import java.io.InputStream;
+import java.time.Duration;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 
@@ -69,6 +70,22 @@ interface WebClientServiceResponseBlueprint {
      */
     ReleasableResource connection();
 
+    /**
+     * Statistics of the connection pool the {@link #connection()} was obtained from.
+     *
+     * @return connection pool statistics, or empty if the connection is not pooled, or the protocol does not
+     *         provide statistics
+     */
+    Optional<ConnectionPoolStatistics> connectionPool();
+
+    /**
+     * Time it took to obtain the {@link #connection()} from the connection pool, including the time to open
+     * a new connection, or to wait for one if the pool limits were reached.
+     *
+     * @return connection acquire time, or empty if the connection is not pooled
+     */
+    Optional<Duration> connectionAcquireTime();
+
     /**
      * Completable future to be completed by the client response when the entity is fully read.
      *
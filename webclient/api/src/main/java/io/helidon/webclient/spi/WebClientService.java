@@ -16,6 +16,8 @@
 
 package io.helidon.webclient.spi;
 
+import java.util.Optional;
+
 import io.helidon.config.NamedService;
 import io.helidon.webclient.api.WebClientServiceRequest;
 import io.helidon.webclient.api.WebClientServiceResponse;
@@ -58,5 +60,24 @@ public interface WebClientService extends NamedService {
          * @return response from the next service or HTTP call
          */
         WebClientServiceResponse proceed(WebClientServiceRequest clientRequest);
+
+        /**
+         * Create a copy of this chain, that invokes the next services and a new HTTP call independently of this chain.
+         * The copy may proceed concurrently with this chain, such as to send a hedged request to another endpoint
+         * while waiting for the response to the original request.
+         * <p>
+         * The copy must proceed with its own request instance (with its own URI and headers), as both HTTP calls
+         * modify the request.
+         * The copy does not complete the {@link WebClientServiceRequest#whenSent()} and
+         * {@link WebClientServiceRequest#whenComplete()} futures of the original request, the
+         * caller must complete them from the call it uses.
+         * Only requests that can be sent more than once can be copied (e.g. not requests that write their entity
+         * to an output stream, or that use an explicit connection).
+         *
+         * @return a copy of this chain, or empty if this request cannot be sent again
+         */
+        default Optional<Chain> copy() {
+            return Optional.empty();
+        }
     }
 }
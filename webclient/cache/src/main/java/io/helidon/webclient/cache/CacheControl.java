@@ -0,0 +1,128 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.webclient.cache;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.OptionalLong;
+
+import io.helidon.http.HeaderNames;
+import io.helidon.http.Headers;
+
+/**
+ * Directives of {@code Cache-Control} request or response header (RFC 9111, section 5.2).
+ * Directive names are case-insensitive, values may be quoted. Unknown directives are ignored by users of this class.
+ */
+final class CacheControl {
+    static final CacheControl EMPTY = new CacheControl(Map.of());
+
+    private final Map<String, String> directives;
+
+    private CacheControl(Map<String, String> directives) {
+        this.directives = directives;
+    }
+
+    static CacheControl create(Headers headers) {
+        if (!headers.contains(HeaderNames.CACHE_CONTROL)) {
+            return EMPTY;
+        }
+        return parse(headers.values(HeaderNames.CACHE_CONTROL));
+    }
+
+    static CacheControl parse(List<String> values) {
+        Map<String, String> directives = new HashMap<>();
+        for (String value : values) {
+            int index = 0;
+            int length = value.length();
+            while (index < length) {
+                int end = index;
+                while (end < length && value.charAt(end) != ',' && value.charAt(end) != '=') {
+                    end++;
+                }
+                String name = value.substring(index, end).trim().toLowerCase(Locale.ROOT);
+                String argument = "";
+                if (end < length && value.charAt(end) == '=') {
+                    index = end + 1;
+                    if (index < length && value.charAt(index) == '"') {
+                        // quoted string, such as a list of field names of no-cache="Set-Cookie, Set-Cookie2"
+                        end = value.indexOf('"', index + 1);
+                        if (end < 0) {
+                            end = length;
+                        }
+                        argument = value.substring(index + 1, end);
+                        end = value.indexOf(',', end);
+                        if (end < 0) {
+                            end = length;
+                        }
+                    } else {
+                        end = value.indexOf(',', index);
+                        if (end < 0) {
+                            end = length;
+                        }
+                        argument = value.substring(index, end).trim();
+                    }
+                }
+                if (!name.isEmpty()) {
+                    directives.putIfAbsent(name, argument);
+                }
+                index = end + 1;
+            }
+        }
+        return directives.isEmpty() ? EMPTY : new CacheControl(directives);
+    }
+
+    boolean has(String directive) {
+        return directives.containsKey(directive);
+    }
+
+    /**
+     * Delta-seconds argument of a directive.
+     *
+     * @param directive name of the directive
+     * @return seconds, empty if the directive is not present, or its argument is invalid
+     */
+    OptionalLong seconds(String directive) {
+        String argument = directives.get(directive);
+        if (argument == null || argument.isEmpty()) {
+            return OptionalLong.empty();
+        }
+        try {
+            long seconds = Long.parseLong(argument);
+            return seconds < 0 ? OptionalLong.empty() : OptionalLong.of(seconds);
+        } catch (NumberFormatException e) {
+            // RFC 9111 section 1.2.2 - too large values are treated as the greatest positive integer
+            return argument.chars().allMatch(Character::isDigit)
+                    ? OptionalLong.of(Integer.MAX_VALUE)
+                    : OptionalLong.empty();
+        }
+    }
+
+    boolean noStore() {
+        return has("no-store");
+    }
+
+    boolean noCache() {
+        return has("no-cache");
+    }
+
+    @Override
+    public String toString() {
+        return directives.toString();
+    }
+}
@@ -0,0 +1,483 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.webclient.cache;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import io.helidon.http.ClientResponseHeaders;
+import io.helidon.http.DateTime;
+import io.helidon.http.Header;
+import io.helidon.http.HeaderName;
+import io.helidon.http.HeaderNames;
+import io.helidon.http.Headers;
+import io.helidon.http.Status;
+import io.helidon.http.WritableHeaders;
+
+/**
+ * A stored response, with its age and freshness computed as specified by RFC 9111, section 4.2.
+ * Instances are immutable, a revalidated response is a new instance.
+ */
+final class CachedResponse {
+    private static final int MAGIC = 0x48435231;
+    private static final long SECOND = TimeUnit.SECONDS.toMillis(1);
+    private static final long MAX_HEURISTIC_FRESHNESS = TimeUnit.DAYS.toMillis(1);
+    // RFC 9110 section 15.1 - status codes that are heuristically cacheable
+    private static final Set<Integer> HEURISTICALLY_CACHEABLE = Set.of(200, 203, 204, 300, 301, 308, 404, 405, 410, 414,
+                                                                       501);
+    // RFC 9111 section 3.1 - connection specific fields are not stored
+    private static final Set<HeaderName> NOT_STORED = Set.of(HeaderNames.CONNECTION,
+                                                             HeaderNames.create("Keep-Alive"),
+                                                             HeaderNames.create("Proxy-Connection"),
+                                                             HeaderNames.PROXY_AUTHENTICATE,
+                                                             HeaderNames.TE,
+                                                             HeaderNames.TRAILER,
+                                                             HeaderNames.TRANSFER_ENCODING,
+                                                             HeaderNames.UPGRADE);
+    // RFC 9111 section 3.2 - fields of a 304 response that do not update the stored response
+    private static final Set<HeaderName> NOT_UPDATED = Set.of(HeaderNames.CONTENT_LENGTH,
+                                                              HeaderNames.CONTENT_ENCODING,
+                                                              HeaderNames.CONTENT_TYPE);
+
+    private final String key;
+    private final int status;
+    private final WritableHeaders<?> headers;
+    private final Map<String, List<String>> vary;
+    private final byte[] entity;
+    private final long requestTime;
+    private final long responseTime;
+    private final CacheControl control;
+    private final long correctedInitialAge;
+    private final OptionalLong date;
+
+    private CachedResponse(String key,
+                           int status,
+                           WritableHeaders<?> headers,
+                           Map<String, List<String>> vary,
+                           byte[] entity,
+                           long requestTime,
+                           long responseTime) {
+        this.key = key;
+        this.status = status;
+        this.headers = headers;
+        this.vary = vary;
+        this.entity = entity;
+        this.requestTime = requestTime;
+        this.responseTime = responseTime;
+        this.control = CacheControl.create(headers);
+        this.date = time(headers, HeaderNames.DATE);
+
+        // RFC 9111 section 4.2.3
+        long apparentAge = Math.max(0, responseTime - date.orElse(responseTime));
+        long responseDelay = responseTime - requestTime;
+        long correctedAgeValue = ageValue(headers) + responseDelay;
+        this.correctedInitialAge = Math.max(apparentAge, correctedAgeValue);
+    }
+
+    /**
+     * Create a stored response from a response received from the origin.
+     *
+     * @param key             cache key
+     * @param status          response status
+     * @param responseHeaders response headers
+     * @param requestHeaders  headers of the request, to store the fields nominated by {@code Vary}
+     * @param entity          response entity
+     * @param requestTime     time the request was sent, in milliseconds
+     * @param responseTime    time the response was received, in milliseconds
+     * @return a new stored response
+     */
+    static CachedResponse create(String key,
+                                 Status status,
+                                 Headers responseHeaders,
+                                 Headers requestHeaders,
+                                 byte[] entity,
+                                 long requestTime,
+                                 long responseTime) {
+        WritableHeaders<?> headers = WritableHeaders.create();
+        for (Header header : responseHeaders) {
+            if (!NOT_STORED.contains(header.headerName())) {
+                headers.set(header);
+            }
+        }
+        Map<String, List<String>> vary = new LinkedHashMap<>();
+        for (String name : varyNames(responseHeaders)) {
+            HeaderName headerName = HeaderNames.create(name);
+            vary.put(name, requestHeaders.contains(headerName) ? requestHeaders.values(headerName) : List.of());
+        }
+        return new CachedResponse(key, status.code(), headers, vary, entity, requestTime, responseTime);
+    }
+
+    /**
+     * Whether a response may be stored (RFC 9111 section 3).
+     *
+     * @param status          response status
+     * @param responseHeaders response headers
+     * @param requestHeaders  request headers
+     * @param requestControl  cache control of the request
+     * @param shared          whether the cache is shared
+     * @return whether the response can be stored
+     */
+    static boolean storable(Status status,
+                            Headers responseHeaders,
+                            Headers requestHeaders,
+                            CacheControl requestControl,
+                            boolean shared) {
+        int code = status.code();
+        if (code < 200 || code == Status.PARTIAL_CONTENT_206.code() || code == Status.NOT_MODIFIED_304.code()) {
+            return false;
+        }
+        CacheControl responseControl = CacheControl.create(responseHeaders);
+        if (requestControl.noStore() || responseControl.noStore()) {
+            return false;
+        }
+        if (shared && responseControl.has("private")) {
+            return false;
+        }
+        if (shared
+                && requestHeaders.contains(HeaderNames.AUTHORIZATION)
+                && !(responseControl.has("public") || responseControl.has("must-revalidate")
+                             || responseControl.has("s-maxage"))) {
+            return false;
+        }
+        if (varyNames(responseHeaders).contains("*")) {
+            return false;
+        }
+        if (responseControl.has("public")
+                || responseControl.seconds("max-age").isPresent()
+                || (shared && responseControl.seconds("s-maxage").isPresent())
+                || responseHeaders.contains(HeaderNames.EXPIRES)) {
+            return true;
+        }
+        // without explicit freshness, only worth storing if it can be revalidated, or is heuristically fresh
+        return HEURISTICALLY_CACHEABLE.contains(code)
+                && (responseHeaders.contains(HeaderNames.ETAG) || responseHeaders.contains(HeaderNames.LAST_MODIFIED));
+    }
+
+    static CachedResponse read(DataInputStream in) throws IOException {
+        if (in.readInt() != MAGIC) {
+            throw new IOException("Not a cached response");
+        }
+        String key = in.readUTF();
+        int status = in.readInt();
+        long requestTime = in.readLong();
+        long responseTime = in.readLong();
+        WritableHeaders<?> headers = WritableHeaders.create();
+        for (Map.Entry<String, List<String>> entry : readFields(in).entrySet()) {
+            headers.set(HeaderNames.create(entry.getKey()), entry.getValue());
+        }
+        Map<String, List<String>> vary = readFields(in);
+        byte[] entity = in.readNBytes(in.readInt());
+        return new CachedResponse(key, status, headers, vary, entity, requestTime, responseTime);
+    }
+
+    void write(DataOutputStream out) throws IOException {
+        out.writeInt(MAGIC);
+        out.writeUTF(key);
+        out.writeInt(status);
+        out.writeLong(requestTime);
+        out.writeLong(responseTime);
+        Map<String, List<String>> fields = new LinkedHashMap<>();
+        headers.forEach(it -> fields.put(it.name(), it.allValues()));
+        writeFields(out, fields);
+        writeFields(out, vary);
+        out.writeInt(entity.length);
+        out.write(entity);
+    }
+
+    String key() {
+        return key;
+    }
+
+    Status status() {
+        return Status.create(status);
+    }
+
+    byte[] entity() {
+        return entity;
+    }
+
+    /**
+     * Approximate memory used by this response.
+     *
+     * @return weight in bytes
+     */
+    long weight() {
+        long weight = 64L + entity.length + key.length();
+        for (Header header : headers) {
+            weight += header.name().length() + header.values().length();
+        }
+        return weight;
+    }
+
+    /**
+     * Whether this response can be used for a request, based on the fields nominated by {@code Vary}.
+     *
+     * @param requestHeaders headers of the request
+     * @return whether the request headers match the headers of the request this response was stored for
+     */
+    boolean matches(Headers requestHeaders) {
+        for (Map.Entry<String, List<String>> entry : vary.entrySet()) {
+            HeaderName name = HeaderNames.create(entry.getKey());
+            List<String> values = requestHeaders.contains(name) ? requestHeaders.values(name) : List.of();
+            if (!values.equals(entry.getValue())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Current age (RFC 9111 section 4.2.3).
+     *
+     * @param now current time in milliseconds
+     * @return age in milliseconds
+     */
+    long age(long now) {
+        return correctedInitialAge + Math.max(0, now - responseTime);
+    }
+
+    /**
+     * Freshness lifetime (RFC 9111 section 4.2.1), heuristic lifetime is 10% of time since last modification, up
+     * to a day (section 4.2.2).
+     *
+     * @param shared whether the cache is shared
+     * @return freshness lifetime in milliseconds
+     */
+    long freshnessLifetime(boolean shared) {
+        if (shared) {
+            OptionalLong sMaxAge = control.seconds("s-maxage");
+            if (sMaxAge.isPresent()) {
+                return sMaxAge.getAsLong() * SECOND;
+            }
+        }
+        OptionalLong maxAge = control.seconds("max-age");
+        if (maxAge.isPresent()) {
+            return maxAge.getAsLong() * SECOND;
+        }
+        if (headers.contains(HeaderNames.EXPIRES)) {
+            // invalid Expires, such as "0", means already expired
+            OptionalLong expires = time(headers, HeaderNames.EXPIRES);
+            return expires.isPresent() ? Math.max(0, expires.getAsLong() - date.orElse(responseTime)) : 0;
+        }
+        OptionalLong lastModified = time(headers, HeaderNames.LAST_MODIFIED);
+        if (lastModified.isPresent() && HEURISTICALLY_CACHEABLE.contains(status)) {
+            long sinceModified = date.orElse(responseTime) - lastModified.getAsLong();
+            return Math.min(MAX_HEURISTIC_FRESHNESS, Math.max(0, sinceModified / 10));
+        }
+        return 0;
+    }
+
+    /**
+     * Whether this response can be used without validation (RFC 9111 section 4.2 and 5.2.1).
+     *
+     * @param requestControl cache control of the request
+     * @param shared         whether the cache is shared
+     * @param now            current time in milliseconds
+     * @return whether the response is fresh enough for the request
+     */
+    boolean fresh(CacheControl requestControl, boolean shared, long now) {
+        if (control.noCache()) {
+            return false;
+        }
+        long age = age(now);
+        long lifetime = freshnessLifetime(shared);
+        OptionalLong maxAge = requestControl.seconds("max-age");
+        if (maxAge.isPresent() && age > maxAge.getAsLong() * SECOND) {
+            return false;
+        }
+        OptionalLong minFresh = requestControl.seconds("min-fresh");
+        if (minFresh.isPresent() && lifetime - age < minFresh.getAsLong() * SECOND) {
+            return false;
+        }
+        if (age < lifetime) {
+            return true;
+        }
+        if (mustRevalidate(shared) || !requestControl.has("max-stale")) {
+            return false;
+        }
+        OptionalLong maxStale = requestControl.seconds("max-stale");
+        return maxStale.isEmpty() || age - lifetime <= maxStale.getAsLong() * SECOND;
+    }
+
+    /**
+     * Whether this stale response can be used while it is revalidated in the background (RFC 5861).
+     * Limits of the request on the age of the response apply before the window of the response.
+     *
+     * @param requestControl cache control of the request
+     * @param shared         whether the cache is shared
+     * @param now            current time in milliseconds
+     * @return whether within the {@code stale-while-revalidate} window
+     */
+    boolean staleWhileRevalidate(CacheControl requestControl, boolean shared, long now) {
+        OptionalLong window = control.seconds("stale-while-revalidate");
+        if (window.isEmpty() || control.noCache() || mustRevalidate(shared)) {
+            return false;
+        }
+        if (requestControl.noCache() || requestControl.has("min-fresh")) {
+            return false;
+        }
+        long age = age(now);
+        OptionalLong maxAge = requestControl.seconds("max-age");
+        if (maxAge.isPresent() && age > maxAge.getAsLong() * SECOND) {
+            return false;
+        }
+        long staleness = age - freshnessLifetime(shared);
+        OptionalLong maxStale = requestControl.seconds("max-stale");
+        if (maxStale.isPresent() && staleness > maxStale.getAsLong() * SECOND) {
+            return false;
+        }
+        return staleness <= window.getAsLong() * SECOND;
+    }
+
+    /**
+     * Whether a conditional request can be sent to validate this response.
+     *
+     * @return whether the response has an entity tag or last modification time
+     */
+    boolean hasValidators() {
+        return headers.contains(HeaderNames.ETAG) || headers.contains(HeaderNames.LAST_MODIFIED);
+    }
+
+    /**
+     * Add preconditions to validate this response (RFC 9111 section 4.3.1).
+     *
+     * @param requestHeaders headers of the request to update
+     */
+    void addValidators(WritableHeaders<?> requestHeaders) {
+        if (headers.contains(HeaderNames.ETAG)) {
+            requestHeaders.set(HeaderNames.IF_NONE_MATCH, headers.get(HeaderNames.ETAG).values());
+        }
+        if (headers.contains(HeaderNames.LAST_MODIFIED)) {
+            requestHeaders.set(HeaderNames.IF_MODIFIED_SINCE, headers.get(HeaderNames.LAST_MODIFIED).values());
+        }
+    }
+
+    /**
+     * A copy of this response, updated with a {@code 304 Not Modified} response (RFC 9111 section 4.3.4).
+     *
+     * @param notModified  headers of the 304 response
+     * @param requestTime  time the conditional request was sent, in milliseconds
+     * @param responseTime time the 304 response was received, in milliseconds
+     * @return updated response
+     */
+    CachedResponse revalidated(Headers notModified, long requestTime, long responseTime) {
+        WritableHeaders<?> updated = WritableHeaders.create(headers);
+        if (!notModified.contains(HeaderNames.AGE)) {
+            updated.remove(HeaderNames.AGE);
+        }
+        for (Header header : notModified) {
+            HeaderName name = header.headerName();
+            if (!NOT_STORED.contains(name) && !NOT_UPDATED.contains(name)) {
+                updated.set(header);
+            }
+        }
+        return new CachedResponse(key, status, updated, vary, entity, requestTime, responseTime);
+    }
+
+    /**
+     * Headers of the response to return to the client, with its current {@code Age}.
+     *
+     * @param now current time in milliseconds
+     * @return response headers
+     */
+    ClientResponseHeaders responseHeaders(long now) {
+        WritableHeaders<?> response = WritableHeaders.create(headers);
+        response.set(HeaderNames.AGE, age(now) / SECOND);
+        return ClientResponseHeaders.create(response);
+    }
+
+    @Override
+    public String toString() {
+        return key + " " + status;
+    }
+
+    private boolean mustRevalidate(boolean shared) {
+        return control.has("must-revalidate") || (shared && control.has("proxy-revalidate"));
+    }
+
+    private static List<String> varyNames(Headers headers) {
+        if (!headers.contains(HeaderNames.VARY)) {
+            return List.of();
+        }
+        List<String> names = new ArrayList<>();
+        for (String value : headers.get(HeaderNames.VARY).allValues(true)) {
+            String name = value.trim().toLowerCase(Locale.ROOT);
+            if (!name.isEmpty()) {
+                names.add(name);
+            }
+        }
+        return names;
+    }
+
+    private static long ageValue(Headers headers) {
+        if (!headers.contains(HeaderNames.AGE)) {
+            return 0;
+        }
+        try {
+            return Math.max(0, Long.parseLong(headers.get(HeaderNames.AGE).get().trim())) * SECOND;
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+
+    private static OptionalLong time(Headers headers, HeaderName name) {
+        if (!headers.contains(name)) {
+            return OptionalLong.empty();
+        }
+        try {
+            return OptionalLong.of(DateTime.parse(headers.get(name).get()).toInstant().toEpochMilli());
+        } catch (DateTimeParseException e) {
+            return OptionalLong.empty();
+        }
+    }
+
+    private static Map<String, List<String>> readFields(DataInputStream in) throws IOException {
+        int count = in.readInt();
+        Map<String, List<String>> fields = new LinkedHashMap<>();
+        for (int i = 0; i < count; i++) {
+            String name = in.readUTF();
+            int valueCount = in.readInt();
+            List<String> values = new ArrayList<>(valueCount);
+            for (int j = 0; j < valueCount; j++) {
+                values.add(in.readUTF());
+            }
+            fields.put(name, values);
+        }
+        return fields;
+    }
+
+    private static void writeFields(DataOutputStream out, Map<String, List<String>> fields) throws IOException {
+        out.writeInt(fields.size());
+        for (Map.Entry<String, List<String>> entry : fields.entrySet()) {
+            out.writeUTF(entry.getKey());
+            out.writeInt(entry.getValue().size());
+            for (String value : entry.getValue()) {
+                out.writeUTF(value);
+            }
+        }
+    }
+}
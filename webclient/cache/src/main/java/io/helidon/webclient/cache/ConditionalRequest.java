@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.webclient.cache;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletionStage;
+
+import io.helidon.common.context.Context;
+import io.helidon.http.ClientRequestHeaders;
+import io.helidon.http.Method;
+import io.helidon.http.WritableHeaders;
+import io.helidon.webclient.api.ClientUri;
+import io.helidon.webclient.api.WebClientServiceRequest;
+import io.helidon.webclient.api.WebClientServiceResponse;
+
+/**
+ * A request sent to validate a stored response. It has its own copy of the headers, with the preconditions
+ * of the stored response, so the headers of the original request are not modified; everything else is the original
+ * request.
+ */
+class ConditionalRequest implements WebClientServiceRequest {
+    private final WebClientServiceRequest delegate;
+    private final ClientRequestHeaders headers;
+
+    ConditionalRequest(WebClientServiceRequest delegate, CachedResponse cached) {
+        this.delegate = delegate;
+        WritableHeaders<?> headers = WritableHeaders.create(delegate.headers());
+        cached.addValidators(headers);
+        this.headers = ClientRequestHeaders.create(headers);
+    }
+
+    @Override
+    public ClientUri uri() {
+        return delegate.uri();
+    }
+
+    @Override
+    public Method method() {
+        return delegate.method();
+    }
+
+    @Override
+    public String protocolId() {
+        return delegate.protocolId();
+    }
+
+    @Override
+    public ClientRequestHeaders headers() {
+        return headers;
+    }
+
+    @Override
+    public Context context() {
+        return delegate.context();
+    }
+
+    @Override
+    public String requestId() {
+        return delegate.requestId();
+    }
+
+    @Override
+    public void requestId(String requestId) {
+        delegate.requestId(requestId);
+    }
+
+    @Override
+    public CompletionStage<WebClientServiceRequest> whenSent() {
+        return delegate.whenSent();
+    }
+
+    @Override
+    public CompletionStage<WebClientServiceResponse> whenComplete() {
+        return delegate.whenComplete();
+    }
+
+    @Override
+    public Map<String, String> properties() {
+        return delegate.properties();
+    }
+
+    @Override
+    public Optional<Duration> readTimeout() {
+        return delegate.readTimeout();
+    }
+}
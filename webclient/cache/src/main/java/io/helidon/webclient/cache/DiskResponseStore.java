@@ -0,0 +1,215 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.webclient.cache;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * On-disk store, with a file per response, bounded by total size of the files, evicting least recently used responses.
+ * Files are written to a temporary file and moved in place, so readers never see a partially written response.
+ * Responses stored before a restart are used, ordered by their last modification for eviction.
+ */
+class DiskResponseStore implements ResponseStore {
+    private static final System.Logger LOGGER = System.getLogger(DiskResponseStore.class.getName());
+    private static final String SUFFIX = ".cache";
+    private static final String TEMP_SUFFIX = ".tmp";
+
+    private final ReentrantLock lock = new ReentrantLock();
+    // file name to file size, access order, eldest is least recently used
+    private final LinkedHashMap<String, Long> files = new LinkedHashMap<>(16, 0.75f, true);
+    private final Path directory;
+    private final long maxSize;
+    private long size;
+
+    DiskResponseStore(Path directory, long maxSize) {
+        this.directory = directory;
+        this.maxSize = maxSize;
+        try {
+            Files.createDirectories(directory);
+            load();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to open cache directory " + directory, e);
+        }
+    }
+
+    @Override
+    public CachedResponse get(String key) {
+        String fileName = fileName(key);
+        lock.lock();
+        try {
+            if (!files.containsKey(fileName)) {
+                return null;
+            }
+            // access moves the file to the end of the eviction order
+            files.get(fileName);
+        } finally {
+            lock.unlock();
+        }
+        Path file = directory.resolve(fileName);
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            CachedResponse response = CachedResponse.read(in);
+            return key.equals(response.key()) ? response : null;
+        } catch (NoSuchFileException e) {
+            // removed concurrently
+            return null;
+        } catch (IOException e) {
+            LOGGER.log(System.Logger.Level.DEBUG, "Failed to read cached response from " + file + ", removing it", e);
+            remove(key);
+            return null;
+        }
+    }
+
+    @Override
+    public void put(CachedResponse response) {
+        String fileName = fileName(response.key());
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(response.entity().length + 512);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            response.write(out);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        long fileSize = bytes.size();
+        if (fileSize > maxSize) {
+            remove(response.key());
+            return;
+        }
+        Path file = directory.resolve(fileName);
+        try {
+            Path temp = Files.createTempFile(directory, fileName, TEMP_SUFFIX);
+            try {
+                Files.write(temp, bytes.toByteArray());
+                Files.move(temp, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } finally {
+                Files.deleteIfExists(temp);
+            }
+        } catch (IOException e) {
+            LOGGER.log(System.Logger.Level.DEBUG, "Failed to store cached response to " + file, e);
+            return;
+        }
+        List<String> evicted = new ArrayList<>();
+        lock.lock();
+        try {
+            Long previous = files.put(fileName, fileSize);
+            size += fileSize - (previous == null ? 0 : previous);
+            Iterator<Map.Entry<String, Long>> iterator = files.entrySet().iterator();
+            while (size > maxSize && iterator.hasNext()) {
+                Map.Entry<String, Long> eldest = iterator.next();
+                size -= eldest.getValue();
+                evicted.add(eldest.getKey());
+                iterator.remove();
+            }
+        } finally {
+            lock.unlock();
+        }
+        evicted.forEach(this::delete);
+    }
+
+    @Override
+    public void remove(String key) {
+        String fileName = fileName(key);
+        lock.lock();
+        try {
+            Long removed = files.remove(fileName);
+            if (removed == null) {
+                return;
+            }
+            size -= removed;
+        } finally {
+            lock.unlock();
+        }
+        delete(fileName);
+    }
+
+    long size() {
+        lock.lock();
+        try {
+            return size;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void load() throws IOException {
+        record StoredFile(String name, long size, FileTime lastModified) {
+        }
+        List<StoredFile> stored = new ArrayList<>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory)) {
+            for (Path file : stream) {
+                String name = file.getFileName().toString();
+                if (name.endsWith(TEMP_SUFFIX)) {
+                    // left over by a failed write
+                    Files.deleteIfExists(file);
+                } else if (name.endsWith(SUFFIX) && Files.isRegularFile(file)) {
+                    stored.add(new StoredFile(name, Files.size(file), Files.getLastModifiedTime(file)));
+                }
+            }
+        }
+        stored.sort(Comparator.comparing(StoredFile::lastModified));
+        List<String> evicted = new ArrayList<>();
+        for (StoredFile file : stored) {
+            files.put(file.name(), file.size());
+            size += file.size();
+        }
+        Iterator<Map.Entry<String, Long>> iterator = files.entrySet().iterator();
+        while (size > maxSize && iterator.hasNext()) {
+            Map.Entry<String, Long> eldest = iterator.next();
+            size -= eldest.getValue();
+            evicted.add(eldest.getKey());
+            iterator.remove();
+        }
+        evicted.forEach(this::delete);
+    }
+
+    private void delete(String fileName) {
+        try {
+            Files.deleteIfExists(directory.resolve(fileName));
+        } catch (IOException e) {
+            LOGGER.log(System.Logger.Level.DEBUG, "Failed to delete cached response " + fileName, e);
+        }
+    }
+
+    private static String fileName(String key) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(key.getBytes(StandardCharsets.UTF_8))) + SUFFIX;
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
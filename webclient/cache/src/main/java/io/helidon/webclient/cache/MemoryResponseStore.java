@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.webclient.cache;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * In-memory store bounded by total weight of responses, evicting least recently used responses.
+ */
+class MemoryResponseStore implements ResponseStore {
+    private final ReentrantLock lock = new ReentrantLock();
+    // access order, eldest is least recently used
+    private final LinkedHashMap<String, CachedResponse> responses = new LinkedHashMap<>(16, 0.75f, true);
+    private final long maxWeight;
+    private long weight;
+
+    MemoryResponseStore(long maxWeight) {
+        this.maxWeight = maxWeight;
+    }
+
+    @Override
+    public CachedResponse get(String key) {
+        lock.lock();
+        try {
+            return responses.get(key);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void put(CachedResponse response) {
+        long responseWeight = response.weight();
+        lock.lock();
+        try {
+            CachedResponse previous = responses.remove(response.key());
+            if (previous != null) {
+                weight -= previous.weight();
+            }
+            if (responseWeight > maxWeight) {
+                return;
+            }
+            responses.put(response.key(), response);
+            weight += responseWeight;
+            Iterator<Map.Entry<String, CachedResponse>> iterator = responses.entrySet().iterator();
+            while (weight > maxWeight && iterator.hasNext()) {
+                weight -= iterator.next().getValue().weight();
+                iterator.remove();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void remove(String key) {
+        lock.lock();
+        try {
+            CachedResponse removed = responses.remove(key);
+            if (removed != null) {
+                weight -= removed.weight();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    long weight() {
+        lock.lock();
+        try {
+            return weight;
+        } finally {
+            lock.unlock();
+        }
+    }
+}
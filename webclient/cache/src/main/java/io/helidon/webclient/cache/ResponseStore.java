@@ -0,0 +1,45 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.webclient.cache;
+
+/**
+ * Storage of cached responses. Implementations must be thread safe and bounded.
+ */
+interface ResponseStore {
+    /**
+     * Stored response.
+     *
+     * @param key cache key
+     * @return stored response, or {@code null} if none is stored for the key
+     */
+    CachedResponse get(String key);
+
+    /**
+     * Store a response, replacing a response stored with the same key. The store may decide not to store it, such as
+     * when it exceeds the capacity of the store.
+     *
+     * @param response response to store
+     */
+    void put(CachedResponse response);
+
+    /**
+     * Remove a stored response.
+     *
+     * @param key cache key
+     */
+    void remove(String key);
+}
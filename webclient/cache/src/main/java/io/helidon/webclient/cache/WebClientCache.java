@@ -0,0 +1,411 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.webclient.cache;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.SequenceInputStream;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Consumer;
+
+import io.helidon.builder.api.RuntimeType;
+import io.helidon.common.context.Contexts;
+import io.helidon.http.ClientResponseHeaders;
+import io.helidon.http.HeaderName;
+import io.helidon.http.HeaderNames;
+import io.helidon.http.Headers;
+import io.helidon.http.Method;
+import io.helidon.http.Status;
+import io.helidon.http.WritableHeaders;
+import io.helidon.webclient.api.ReleasableResource;
+import io.helidon.webclient.api.WebClientServiceRequest;
+import io.helidon.webclient.api.WebClientServiceResponse;
+import io.helidon.webclient.spi.WebClientService;
+
+/**
+ * Client service caching responses to {@code GET} requests, as specified by RFC 9111.
+ * <p>
+ * A stored response is returned without a request to the server while it is fresh, as defined by
+ * {@code Cache-Control}, {@code Expires}, or heuristically from {@code Last-Modified}. A stale response is validated
+ * with a conditional request ({@code If-None-Match} or {@code If-Modified-Since}), and returned if the server
+ * responds with {@code 304 Not Modified}. Within its {@code stale-while-revalidate} window, a stale response is
+ * returned immediately and validated in the background.
+ * <p>
+ * Concurrent requests that miss the cache for the same URI are coalesced: a single request is sent to the server,
+ * and the others wait for its response and use it if it can be stored.
+ * <p>
+ * A single response is stored per URI, requests that do not match the fields nominated by its {@code Vary} header
+ * replace it. Successful responses to unsafe methods (such as {@code POST}) invalidate the stored response
+ * for the URI, and for its {@code Location} and {@code Content-Location}.
+ *
+ * @see io.helidon.webclient.cache.WebClientCacheConfig
+ */
+public final class WebClientCache implements WebClientService, RuntimeType.Api<WebClientCacheConfig> {
+    private static final System.Logger LOGGER = System.getLogger(WebClientCache.class.getName());
+    private static final ExecutorService EXECUTOR = Executors.newThreadPerTaskExecutor(Thread.ofVirtual()
+                                                                                                .name("helidon-client-cache-",
+                                                                                                      0)
+                                                                                                .factory());
+    private static final ReleasableResource NO_CONNECTION = () -> {
+    };
+
+    private final WebClientCacheConfig prototype;
+    private final ResponseStore store;
+    private final Clock clock;
+    private final boolean shared;
+    private final int maxEntitySize;
+    // requests to the server in progress, completed with the stored response, or null if it was not stored
+    private final Map<String, CompletableFuture<CachedResponse>> inProgress = new ConcurrentHashMap<>();
+
+    private WebClientCache(WebClientCacheConfig config) {
+        this.prototype = config;
+        this.store = config.directory()
+                .<ResponseStore>map(it -> new DiskResponseStore(it, config.maxDiskSize().toBytes()))
+                .orElseGet(() -> new MemoryResponseStore(config.maxMemorySize().toBytes()));
+        this.clock = config.clock().orElseGet(Clock::systemUTC);
+        this.shared = config.shared();
+        this.maxEntitySize = (int) Math.min(Integer.MAX_VALUE - 8, config.maxEntitySize().toBytes());
+    }
+
+    /**
+     * Create a new cache with default configuration.
+     *
+     * @return a new cache
+     */
+    public static WebClientCache create() {
+        return builder().build();
+    }
+
+    /**
+     * Create a cache from its configuration.
+     *
+     * @param config configuration of the cache
+     * @return a new cache
+     */
+    public static WebClientCache create(WebClientCacheConfig config) {
+        return new WebClientCache(config);
+    }
+
+    /**
+     * Create a cache updating its configuration.
+     *
+     * @param configConsumer consumer to update cache configuration
+     * @return a new cache
+     */
+    public static WebClientCache create(Consumer<WebClientCacheConfig.Builder> configConsumer) {
+        return builder()
+                .update(configConsumer)
+                .build();
+    }
+
+    /**
+     * A new builder to create a customized cache.
+     *
+     * @return builder of the cache configuration
+     */
+    public static WebClientCacheConfig.Builder builder() {
+        return WebClientCacheConfig.builder();
+    }
+
+    @Override
+    public WebClientCacheConfig prototype() {
+        return prototype;
+    }
+
+    @Override
+    public String name() {
+        return prototype.name();
+    }
+
+    @Override
+    public String type() {
+        return "cache";
+    }
+
+    @Override
+    public WebClientServiceResponse handle(Chain chain, WebClientServiceRequest request) {
+        Method method = request.method();
+        if (!Method.GET.equals(method)) {
+            WebClientServiceResponse response = chain.proceed(request);
+            if (!(Method.HEAD.equals(method) || Method.OPTIONS.equals(method) || Method.TRACE.equals(method))) {
+                invalidate(request, response);
+            }
+            return response;
+        }
+
+        CacheControl requestControl = CacheControl.create(request.headers());
+        if (requestControl.noStore()) {
+            return chain.proceed(request);
+        }
+        String key = key(request.uri().toUri());
+        boolean noCache = requestControl.noCache() || request.headers().contains(HeaderNames.PRAGMA)
+                && request.headers().get(HeaderNames.PRAGMA).allValues(true).contains("no-cache");
+
+        CachedResponse cached = store.get(key);
+        if (cached != null && !cached.matches(request.headers())) {
+            cached = null;
+        }
+        if (cached != null && !noCache) {
+            long now = clock.millis();
+            if (cached.fresh(requestControl, shared, now)) {
+                return cachedResponse(request, cached, now);
+            }
+            if (cached.staleWhileRevalidate(requestControl, shared, now)) {
+                revalidate(chain, request, key, cached);
+                return cachedResponse(request, cached, now);
+            }
+        }
+        if (requestControl.has("only-if-cached")) {
+            // RFC 9111 section 5.2.1.7
+            return gatewayTimeout(request);
+        }
+        return fetch(chain, request, key, cached);
+    }
+
+    private WebClientServiceResponse fetch(Chain chain,
+                                           WebClientServiceRequest request,
+                                           String key,
+                                           CachedResponse cached) {
+        CompletableFuture<CachedResponse> result = new CompletableFuture<>();
+        CompletableFuture<CachedResponse> existing = inProgress.putIfAbsent(key, result);
+        if (existing != null) {
+            // another request to the server for the same URI is in progress, use its response if it was stored,
+            // and do not wait for it longer than for a response from the server
+            CachedResponse response = await(existing, request.readTimeout());
+            if (response != null && response.matches(request.headers())) {
+                return cachedResponse(request, response, clock.millis());
+            }
+            return exchange(chain, request, key, cached, null);
+        }
+        try {
+            return exchange(chain, request, key, cached, result);
+        } finally {
+            inProgress.remove(key, result);
+            result.complete(null);
+        }
+    }
+
+    private void revalidate(Chain chain, WebClientServiceRequest request, String key, CachedResponse cached) {
+        Optional<Chain> copy = chain.copy();
+        if (copy.isEmpty()) {
+            return;
+        }
+        CompletableFuture<CachedResponse> result = new CompletableFuture<>();
+        if (inProgress.putIfAbsent(key, result) != null) {
+            // already being revalidated
+            return;
+        }
+        WebClientServiceRequest revalidationRequest = new RevalidationRequest(request);
+        EXECUTOR.submit(() -> Contexts.runInContext(revalidationRequest.context(), () -> {
+            try {
+                discard(exchange(copy.get(), revalidationRequest, key, cached, result));
+            } catch (RuntimeException e) {
+                LOGGER.log(System.Logger.Level.DEBUG, "Failed to revalidate cached response for " + key, e);
+            } finally {
+                inProgress.remove(key, result);
+                result.complete(null);
+            }
+        }));
+    }
+
+    private WebClientServiceResponse exchange(Chain chain,
+                                              WebClientServiceRequest request,
+                                              String key,
+                                              CachedResponse cached,
+                                              CompletableFuture<CachedResponse> result) {
+        Headers requestHeaders = request.headers();
+        // only validate if the request is not already conditional (in which case the user handles 304 responses)
+        boolean validating = cached != null
+                && cached.hasValidators()
+                && !requestHeaders.contains(HeaderNames.IF_NONE_MATCH)
+                && !requestHeaders.contains(HeaderNames.IF_MODIFIED_SINCE);
+
+        long requestTime = clock.millis();
+        WebClientServiceResponse response = chain.proceed(validating ? new ConditionalRequest(request, cached) : request);
+        long responseTime = clock.millis();
+        Status status = response.status();
+
+        if (validating && status.code() == Status.NOT_MODIFIED_304.code()) {
+            // the connection is released here, the response returned instead of it has no connection
+            discard(response);
+            CachedResponse updated = cached.revalidated(response.headers(), requestTime, responseTime);
+            store.put(updated);
+            if (result != null) {
+                result.complete(updated);
+            }
+            return cachedResponse(request, updated, responseTime);
+        }
+        if (!CachedResponse.storable(status, response.headers(), requestHeaders, CacheControl.create(requestHeaders),
+                                     shared)) {
+            if (cached != null && CacheControl.create(response.headers()).noStore()) {
+                store.remove(key);
+            }
+            return response;
+        }
+
+        byte[] entity;
+        Optional<InputStream> inputStream = response.inputStream();
+        if (inputStream.isEmpty()) {
+            entity = new byte[0];
+        } else {
+            if (response.headers().contentLength().orElse(0) > maxEntitySize) {
+                return response;
+            }
+            InputStream in = inputStream.get();
+            try {
+                entity = in.readNBytes(maxEntitySize + 1);
+            } catch (IOException e) {
+                response.connection().closeResource();
+                throw new UncheckedIOException(e);
+            }
+            if (entity.length > maxEntitySize) {
+                // too large to cache, return what was already read followed by the rest of the entity
+                return WebClientServiceResponse.builder()
+                        .from(response)
+                        .inputStream(new SequenceInputStream(new ByteArrayInputStream(entity), in))
+                        .build();
+            }
+        }
+        CachedResponse stored = CachedResponse.create(key, status, response.headers(), requestHeaders, entity,
+                                                      requestTime, responseTime);
+        store.put(stored);
+        if (result != null) {
+            result.complete(stored);
+        }
+        if (inputStream.isEmpty()) {
+            return response;
+        }
+        return WebClientServiceResponse.builder()
+                .from(response)
+                .inputStream(new ByteArrayInputStream(entity))
+                .build();
+    }
+
+    private void invalidate(WebClientServiceRequest request, WebClientServiceResponse response) {
+        // RFC 9111 section 4.4
+        int code = response.status().code();
+        if (code < 200 || code >= 400) {
+            return;
+        }
+        URI uri = request.uri().toUri();
+        store.remove(key(uri));
+        invalidate(uri, response.headers(), HeaderNames.LOCATION);
+        invalidate(uri, response.headers(), HeaderNames.CONTENT_LOCATION);
+    }
+
+    private void invalidate(URI requestUri, Headers headers, HeaderName headerName) {
+        headers.first(headerName).ifPresent(location -> {
+            try {
+                URI uri = requestUri.resolve(location);
+                // only the same origin, so a server cannot invalidate responses of other servers
+                if (origin(uri).equals(origin(requestUri))) {
+                    store.remove(key(uri));
+                }
+            } catch (IllegalArgumentException e) {
+                LOGGER.log(System.Logger.Level.TRACE, "Invalid " + headerName.defaultCase() + ": " + location, e);
+            }
+        });
+    }
+
+    private WebClientServiceResponse cachedResponse(WebClientServiceRequest request, CachedResponse cached, long now) {
+        WebClientServiceResponse.Builder builder = WebClientServiceResponse.builder()
+                .serviceRequest(request)
+                .status(cached.status())
+                .headers(cached.responseHeaders(now))
+                .connection(NO_CONNECTION)
+                .whenComplete(request.whenComplete().toCompletableFuture());
+        if (cached.entity().length > 0) {
+            builder.inputStream(new ByteArrayInputStream(cached.entity()));
+        }
+        return builder.build();
+    }
+
+    private WebClientServiceResponse gatewayTimeout(WebClientServiceRequest request) {
+        return WebClientServiceResponse.builder()
+                .serviceRequest(request)
+                .status(Status.GATEWAY_TIMEOUT_504)
+                .headers(ClientResponseHeaders.create(WritableHeaders.create()
+                                                              .set(HeaderNames.CONTENT_LENGTH, 0)))
+                .connection(NO_CONNECTION)
+                .whenComplete(request.whenComplete().toCompletableFuture())
+                .build();
+    }
+
+    // null if the response was not stored, or it took too long
+    private static CachedResponse await(CompletableFuture<CachedResponse> future, Optional<Duration> timeout) {
+        try {
+            // zero read timeout is infinite, as for sockets
+            Optional<Duration> bound = timeout.filter(Duration::isPositive);
+            if (bound.isEmpty()) {
+                return future.get();
+            }
+            return future.get(bound.get().toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for a response", e);
+        } catch (ExecutionException | TimeoutException e) {
+            return null;
+        }
+    }
+
+    // read the rest of the entity and release the connection, as the response is not returned to the user
+    private static void discard(WebClientServiceResponse response) {
+        try {
+            Optional<InputStream> inputStream = response.inputStream();
+            if (inputStream.isPresent()) {
+                try (InputStream in = inputStream.get()) {
+                    in.transferTo(OutputStream.nullOutputStream());
+                }
+            }
+            response.connection().releaseResource();
+        } catch (IOException | RuntimeException e) {
+            response.connection().closeResource();
+        }
+    }
+
+    private static String origin(URI uri) {
+        String scheme = uri.getScheme() == null ? "http" : uri.getScheme().toLowerCase(Locale.ROOT);
+        int port = uri.getPort();
+        if (port == -1) {
+            port = "https".equals(scheme) ? 443 : 80;
+        }
+        String host = uri.getHost() == null ? "" : uri.getHost().toLowerCase(Locale.ROOT);
+        return scheme + "://" + host + ":" + port;
+    }
+
+    // scheme, host and port are normalized, fragment is not part of the key
+    static String key(URI uri) {
+        String path = uri.getRawPath() == null || uri.getRawPath().isEmpty() ? "/" : uri.getRawPath();
+        String query = uri.getRawQuery();
+        return origin(uri) + path + (query == null ? "" : "?" + query);
+    }
+}
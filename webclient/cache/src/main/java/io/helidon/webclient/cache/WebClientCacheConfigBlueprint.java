@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.webclient.cache;
+
+import java.nio.file.Path;
+import java.time.Clock;
+import java.util.Optional;
+
+import io.helidon.builder.api.Option;
+import io.helidon.builder.api.Prototype;
+import io.helidon.common.Size;
+
+/**
+ * Configuration of {@link WebClientCache}.
+ */
+@Prototype.Blueprint
+@Prototype.Configured
+interface WebClientCacheConfigBlueprint extends Prototype.Factory<WebClientCache> {
+    /**
+     * Maximal total size of responses cached in memory, computed from the size of their entity and headers.
+     * Least recently used responses are evicted when exceeded.
+     *
+     * @return maximal size of the in-memory cache
+     */
+    @Option.Configured
+    @Option.Default("16 MB")
+    Size maxMemorySize();
+
+    /**
+     * Directory to cache responses in, instead of memory.
+     * The cache survives restarts of the application, and is bounded by {@link #maxDiskSize()}.
+     *
+     * @return directory of the on-disk cache, if responses should be cached on disk
+     */
+    @Option.Configured
+    Optional<Path> directory();
+
+    /**
+     * Maximal total size of files of the on-disk cache.
+     * Least recently used responses are evicted when exceeded.
+     *
+     * @return maximal size of the on-disk cache
+     * @see #directory()
+     */
+    @Option.Configured
+    @Option.Default("256 MB")
+    Size maxDiskSize();
+
+    /**
+     * Maximal size of a response entity to be cached. Larger responses are passed through without caching.
+     *
+     * @return maximal entity size
+     */
+    @Option.Configured
+    @Option.Default("1 MB")
+    Size maxEntitySize();
+
+    /**
+     * Whether this is a shared cache (such as a cache used by a gateway on behalf of many users), or a private cache
+     * (default) used on behalf of a single user.
+     * A shared cache does not store responses with {@code Cache-Control: private}, nor responses to requests with
+     * {@code Authorization} unless explicitly allowed by the response, and honors {@code s-maxage}.
+     *
+     * @return whether the cache is shared
+     */
+    @Option.Configured
+    @Option.DefaultBoolean(false)
+    boolean shared();
+
+    /**
+     * Clock used to compute age and freshness of cached responses.
+     *
+     * @return clock, defaults to system clock
+     */
+    Optional<Clock> clock();
+
+    /**
+     * Name of the service.
+     *
+     * @return name of the service
+     */
+    @Option.Configured
+    @Option.Default("cache")
+    String name();
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.webclient.cache;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.helidon.http.HeaderNames;
+import io.helidon.http.Status;
+import io.helidon.webclient.api.HttpClientRequest;
+import io.helidon.webclient.api.HttpClientResponse;
+import io.helidon.webclient.api.WebClient;
+import io.helidon.webserver.WebServer;
+import io.helidon.webserver.http.HttpRouting;
+import io.helidon.webserver.testing.junit5.ServerTest;
+import io.helidon.webserver.testing.junit5.SetUpRoute;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+@ServerTest
+class WebClientCacheServerTest {
+    private static final String ETAG = "\"v1\"";
+    private static final AtomicInteger REQUESTS = new AtomicInteger();
+    private static final AtomicInteger CONDITIONAL_REQUESTS = new AtomicInteger();
+    private static final Set<Integer> CLIENT_PORTS = ConcurrentHashMap.newKeySet();
+
+    private final WebClient client;
+
+    WebClientCacheServerTest(WebServer server) {
+        this.client = WebClient.builder()
+                .baseUri("http://localhost:" + server.port())
+                .addService(WebClientCache.create())
+                .build();
+    }
+
+    @SetUpRoute
+    static void routing(HttpRouting.Builder builder) {
+        builder.get("/revalidated", (req, res) -> {
+            REQUESTS.incrementAndGet();
+            CLIENT_PORTS.add(req.remotePeer().port());
+            res.header(HeaderNames.ETAG, ETAG)
+                    .header(HeaderNames.CACHE_CONTROL, "no-cache");
+            if (req.headers().first(HeaderNames.IF_NONE_MATCH).map(ETAG::equals).orElse(false)) {
+                CONDITIONAL_REQUESTS.incrementAndGet();
+                res.status(Status.NOT_MODIFIED_304).send();
+            } else {
+                res.send("stored entity");
+            }
+        });
+    }
+
+    @Test
+    void testRevalidationReusesConnection() {
+        for (int i = 0; i < 4; i++) {
+            HttpClientRequest request = client.get("/revalidated");
+            try (HttpClientResponse response = request.request()) {
+                assertThat(response.status(), is(Status.OK_200));
+                assertThat(response.as(String.class), is("stored entity"));
+            }
+            assertThat(request.headers().contains(HeaderNames.IF_NONE_MATCH), is(false));
+        }
+
+        assertThat(REQUESTS.get(), is(4));
+        assertThat(CONDITIONAL_REQUESTS.get(), is(3));
+        // the connection is released once after each exchange, and kept alive for the next one
+        assertThat(CLIENT_PORTS.size(), is(1));
+    }
+}
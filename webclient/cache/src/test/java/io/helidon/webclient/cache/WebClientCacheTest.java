@@ -0,0 +1,510 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.webclient.cache;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+import io.helidon.common.Size;
+import io.helidon.common.context.Context;
+import io.helidon.http.ClientRequestHeaders;
+import io.helidon.http.ClientResponseHeaders;
+import io.helidon.http.HeaderNames;
+import io.helidon.http.Method;
+import io.helidon.http.Status;
+import io.helidon.http.WritableHeaders;
+import io.helidon.webclient.api.ClientUri;
+import io.helidon.webclient.api.WebClientServiceRequest;
+import io.helidon.webclient.api.WebClientServiceResponse;
+import io.helidon.webclient.spi.WebClientService;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+class WebClientCacheTest {
+    private static final String URI_1 = "http://example.com/resource";
+
+    private final MutableClock clock = new MutableClock();
+    private StubChain chain;
+
+    @BeforeEach
+    void setUp() {
+        chain = new StubChain();
+    }
+
+    @Test
+    void testFreshResponseServedFromCache() {
+        chain.respond(request -> response(request, Status.OK_200, "first", "Cache-Control", "max-age=60"));
+        WebClientCache cache = cache();
+
+        assertThat(entity(cache.handle(chain, request(Method.GET, URI_1))), is("first"));
+        clock.advance(Duration.ofSeconds(30));
+        WebClientServiceResponse cached = cache.handle(chain, request(Method.GET, URI_1));
+
+        assertThat(entity(cached), is("first"));
+        assertThat(cached.headers().first(HeaderNames.AGE).orElse(null), is("30"));
+        assertThat(chain.calls.get(), is(1));
+    }
+
+    @Test
+    void testStaleResponseRevalidated() {
+        chain.respond(request -> response(request, Status.OK_200, "first",
+                                          "Cache-Control", "max-age=10",
+                                          "ETag", "\"v1\""));
+        WebClientCache cache = cache();
+        cache.handle(chain, request(Method.GET, URI_1));
+
+        clock.advance(Duration.ofSeconds(11));
+        chain.respond(request -> response(request, Status.NOT_MODIFIED_304, null,
+                                          "Cache-Control", "max-age=10",
+                                          "ETag", "\"v1\""));
+        WebClientServiceRequest request = request(Method.GET, URI_1);
+        WebClientServiceResponse revalidated = cache.handle(chain, request);
+
+        assertThat(revalidated.status(), is(Status.OK_200));
+        assertThat(entity(revalidated), is("first"));
+        assertThat(chain.requests.getLast().headers().first(HeaderNames.IF_NONE_MATCH).orElse(null), is("\"v1\""));
+        // preconditions are only added to the request sent to the server
+        assertThat(request.headers().contains(HeaderNames.IF_NONE_MATCH), is(false));
+
+        // revalidation refreshed the response
+        clock.advance(Duration.ofSeconds(5));
+        cache.handle(chain, request(Method.GET, URI_1));
+        assertThat(chain.calls.get(), is(2));
+    }
+
+    @Test
+    void testNoStore() {
+        chain.respond(request -> response(request, Status.OK_200, "data", "Cache-Control", "no-store"));
+        WebClientCache cache = cache();
+
+        cache.handle(chain, request(Method.GET, URI_1));
+        cache.handle(chain, request(Method.GET, URI_1));
+        assertThat(chain.calls.get(), is(2));
+    }
+
+    @Test
+    void testRequestNoCache() {
+        chain.respond(request -> response(request, Status.OK_200, "data", "Cache-Control", "max-age=60"));
+        WebClientCache cache = cache();
+        cache.handle(chain, request(Method.GET, URI_1));
+
+        WebClientServiceRequest request = request(Method.GET, URI_1);
+        request.headers().set(HeaderNames.CACHE_CONTROL, "no-cache");
+        cache.handle(chain, request);
+        assertThat(chain.calls.get(), is(2));
+    }
+
+    @Test
+    void testOnlyIfCached() {
+        WebClientCache cache = cache();
+        WebClientServiceRequest request = request(Method.GET, URI_1);
+        request.headers().set(HeaderNames.CACHE_CONTROL, "only-if-cached");
+
+        assertThat(cache.handle(chain, request).status(), is(Status.GATEWAY_TIMEOUT_504));
+        assertThat(chain.calls.get(), is(0));
+    }
+
+    @Test
+    void testVary() {
+        chain.respond(request -> response(request, Status.OK_200,
+                                          request.headers().first(HeaderNames.ACCEPT_LANGUAGE).orElse("none"),
+                                          "Cache-Control", "max-age=60",
+                                          "Vary", "Accept-Language"));
+        WebClientCache cache = cache();
+
+        assertThat(entity(cache.handle(chain, request(Method.GET, URI_1, "Accept-Language", "en"))), is("en"));
+        assertThat(entity(cache.handle(chain, request(Method.GET, URI_1, "Accept-Language", "en"))), is("en"));
+        assertThat(chain.calls.get(), is(1));
+        assertThat(entity(cache.handle(chain, request(Method.GET, URI_1, "Accept-Language", "cs"))), is("cs"));
+        assertThat(chain.calls.get(), is(2));
+    }
+
+    @Test
+    void testUnsafeMethodInvalidates() {
+        chain.respond(request -> response(request, Status.OK_200, "data", "Cache-Control", "max-age=60"));
+        WebClientCache cache = cache();
+        cache.handle(chain, request(Method.GET, URI_1));
+
+        cache.handle(chain, request(Method.POST, URI_1));
+        cache.handle(chain, request(Method.GET, URI_1));
+        assertThat(chain.calls.get(), is(3));
+    }
+
+    @Test
+    void testLocationOfOtherPortNotInvalidated() {
+        chain.respond(request -> response(request, Status.OK_200, "data", "Cache-Control", "max-age=60"));
+        WebClientCache cache = cache();
+        cache.handle(chain, request(Method.GET, "http://example.com:8080/resource"));
+
+        chain.respond(request -> response(request, Status.CREATED_201, null,
+                                          "Location", "http://example.com:8080/resource"));
+        cache.handle(chain, request(Method.POST, "http://example.com/resources"));
+
+        chain.respond(request -> response(request, Status.OK_200, "data", "Cache-Control", "max-age=60"));
+        cache.handle(chain, request(Method.GET, "http://example.com:8080/resource"));
+        assertThat(chain.calls.get(), is(2));
+    }
+
+    @Test
+    void testLargeEntityNotStored() {
+        String large = "x".repeat(2048);
+        chain.respond(request -> response(request, Status.OK_200, large, "Cache-Control", "max-age=60"));
+        WebClientCache cache = WebClientCache.create(builder -> builder.clock(clock).maxEntitySize(Size.create(1024)));
+
+        assertThat(entity(cache.handle(chain, request(Method.GET, URI_1))), is(large));
+        cache.handle(chain, request(Method.GET, URI_1));
+        assertThat(chain.calls.get(), is(2));
+    }
+
+    @Test
+    void testStaleWhileRevalidate() throws Exception {
+        chain.respond(request -> response(request, Status.OK_200, "first",
+                                          "Cache-Control", "max-age=10, stale-while-revalidate=30"));
+        WebClientCache cache = cache();
+        cache.handle(chain, request(Method.GET, URI_1));
+
+        clock.advance(Duration.ofSeconds(20));
+        CountDownLatch revalidated = new CountDownLatch(1);
+        chain.respond(request -> {
+            revalidated.countDown();
+            return response(request, Status.OK_200, "second", "Cache-Control", "max-age=10");
+        });
+
+        // stale response returned immediately, revalidated in the background
+        assertThat(entity(cache.handle(chain, request(Method.GET, URI_1))), is("first"));
+        assertThat(revalidated.await(10, TimeUnit.SECONDS), is(true));
+        String entity = "first";
+        for (int i = 0; i < 100 && entity.equals("first"); i++) {
+            Thread.sleep(10);
+            entity = entity(cache.handle(chain, request(Method.GET, URI_1)));
+        }
+        assertThat(entity, is("second"));
+        assertThat(chain.calls.get(), is(2));
+    }
+
+    @Test
+    void testStaleWhileRevalidateHonoursRequestLimits() {
+        chain.respond(request -> response(request, Status.OK_200, "first",
+                                          "Cache-Control", "max-age=10, stale-while-revalidate=30"));
+        WebClientCache cache = cache();
+        cache.handle(chain, request(Method.GET, URI_1));
+
+        clock.advance(Duration.ofSeconds(20));
+        chain.respond(request -> response(request, Status.OK_200, "second",
+                                          "Cache-Control", "max-age=10, stale-while-revalidate=30"));
+
+        // response is older than the request accepts, fetched from the server before responding
+        assertThat(entity(cache.handle(chain, request(Method.GET, URI_1, "Cache-Control", "max-age=15"))), is("second"));
+        assertThat(chain.calls.get(), is(2));
+
+        clock.advance(Duration.ofSeconds(20));
+        chain.respond(request -> response(request, Status.OK_200, "third", "Cache-Control", "max-age=10"));
+        assertThat(entity(cache.handle(chain, request(Method.GET, URI_1, "Cache-Control", "no-cache"))), is("third"));
+        assertThat(chain.calls.get(), is(3));
+    }
+
+    @Test
+    void testConcurrentMissesCoalesced() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        chain.respond(request -> {
+            try {
+                release.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return response(request, Status.OK_200, "data", "Cache-Control", "max-age=60");
+        });
+        WebClientCache cache = cache();
+
+        List<Future<String>> results = new ArrayList<>();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < 8; i++) {
+                results.add(executor.submit(() -> entity(cache.handle(chain, request(Method.GET, URI_1)))));
+            }
+            for (int i = 0; i < 100 && chain.calls.get() == 0; i++) {
+                Thread.sleep(10);
+            }
+            // give the other requests time to wait for the first one
+            Thread.sleep(100);
+            release.countDown();
+            for (Future<String> result : results) {
+                assertThat(result.get(10, TimeUnit.SECONDS), is("data"));
+            }
+        }
+        assertThat(chain.calls.get(), is(1));
+    }
+
+    @Test
+    void testCoalescedWaitBoundedByReadTimeout() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        chain.respond(request -> {
+            if (chain.calls.get() == 1) {
+                try {
+                    release.await(10, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            return response(request, Status.OK_200, "data", "Cache-Control", "max-age=60");
+        });
+        WebClientCache cache = cache();
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            Future<String> first = executor.submit(() -> entity(cache.handle(chain, request(Method.GET, URI_1))));
+            for (int i = 0; i < 100 && chain.calls.get() == 0; i++) {
+                Thread.sleep(10);
+            }
+            StubRequest waiting = (StubRequest) request(Method.GET, URI_1);
+            waiting.readTimeout = Duration.ofMillis(100);
+
+            // does not wait for the stalled request longer than its read timeout, and sends its own request
+            assertThat(entity(cache.handle(chain, waiting)), is("data"));
+            assertThat(chain.calls.get(), is(2));
+            release.countDown();
+            assertThat(first.get(10, TimeUnit.SECONDS), is("data"));
+        }
+    }
+
+    @Test
+    void testDiskStore(@TempDir Path directory) throws IOException {
+        chain.respond(request -> response(request, Status.OK_200, "persisted",
+                                          "Cache-Control", "max-age=60",
+                                          "Content-Type", "text/plain"));
+        WebClientCache cache = WebClientCache.create(builder -> builder.clock(clock).directory(directory));
+        cache.handle(chain, request(Method.GET, URI_1));
+
+        try (var files = Files.list(directory)) {
+            assertThat(files.count(), is(1L));
+        }
+
+        // a new cache instance reads the stored response
+        WebClientCache restarted = WebClientCache.create(builder -> builder.clock(clock).directory(directory));
+        WebClientServiceResponse response = restarted.handle(chain, request(Method.GET, URI_1));
+        assertThat(entity(response), is("persisted"));
+        assertThat(response.headers().first(HeaderNames.CONTENT_TYPE).orElse(null), is("text/plain"));
+        assertThat(chain.calls.get(), is(1));
+    }
+
+    @Test
+    void testKey() {
+        assertThat(WebClientCache.key(URI.create("HTTP://Example.COM/a?b=c#d")), is("http://example.com:80/a?b=c"));
+        assertThat(WebClientCache.key(URI.create("https://example.com")), is("https://example.com:443/"));
+    }
+
+    private WebClientCache cache() {
+        return WebClientCache.create(builder -> builder.clock(clock));
+    }
+
+    private static WebClientServiceRequest request(Method method, String uri, String... headers) {
+        StubRequest request = new StubRequest(method, URI.create(uri));
+        for (int i = 0; i < headers.length; i += 2) {
+            request.headers().set(HeaderNames.create(headers[i]), headers[i + 1]);
+        }
+        return request;
+    }
+
+    private static WebClientServiceResponse response(WebClientServiceRequest request,
+                                                     Status status,
+                                                     String entity,
+                                                     String... headers) {
+        WritableHeaders<?> responseHeaders = WritableHeaders.create();
+        for (int i = 0; i < headers.length; i += 2) {
+            responseHeaders.set(HeaderNames.create(headers[i]), headers[i + 1]);
+        }
+        WebClientServiceResponse.Builder builder = WebClientServiceResponse.builder()
+                .serviceRequest(request)
+                .status(status)
+                .connection(() -> {
+                })
+                .whenComplete(new CompletableFuture<>());
+        if (entity == null) {
+            responseHeaders.set(HeaderNames.CONTENT_LENGTH, 0);
+        } else {
+            byte[] bytes = entity.getBytes(StandardCharsets.UTF_8);
+            responseHeaders.set(HeaderNames.CONTENT_LENGTH, bytes.length);
+            builder.inputStream(new ByteArrayInputStream(bytes));
+        }
+        return builder.headers(ClientResponseHeaders.create(responseHeaders))
+                .build();
+    }
+
+    private static String entity(WebClientServiceResponse response) {
+        Optional<InputStream> inputStream = response.inputStream();
+        if (inputStream.isEmpty()) {
+            return "";
+        }
+        try (InputStream in = inputStream.get()) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static final class StubChain implements WebClientService.Chain {
+        private final AtomicInteger calls = new AtomicInteger();
+        private final List<WebClientServiceRequest> requests = new CopyOnWriteArrayList<>();
+        private volatile Function<WebClientServiceRequest, WebClientServiceResponse> responder;
+
+        void respond(Function<WebClientServiceRequest, WebClientServiceResponse> responder) {
+            this.responder = responder;
+        }
+
+        @Override
+        public WebClientServiceResponse proceed(WebClientServiceRequest clientRequest) {
+            calls.incrementAndGet();
+            requests.add(clientRequest);
+            return responder.apply(clientRequest);
+        }
+
+        @Override
+        public Optional<WebClientService.Chain> copy() {
+            return Optional.of(this);
+        }
+    }
+
+    private static final class StubRequest implements WebClientServiceRequest {
+        private final Method method;
+        private final ClientUri uri;
+        private final ClientRequestHeaders headers = ClientRequestHeaders.create(WritableHeaders.create());
+        private final Map<String, String> properties = new ConcurrentHashMap<>();
+        private final Context context = Context.create();
+        private final CompletableFuture<WebClientServiceRequest> whenSent = new CompletableFuture<>();
+        private final CompletableFuture<WebClientServiceResponse> whenComplete = new CompletableFuture<>();
+        private String requestId = "test";
+        private volatile Duration readTimeout;
+
+        private StubRequest(Method method, URI uri) {
+            this.method = method;
+            this.uri = ClientUri.create(uri);
+        }
+
+        @Override
+        public ClientUri uri() {
+            return uri;
+        }
+
+        @Override
+        public Method method() {
+            return method;
+        }
+
+        @Override
+        public String protocolId() {
+            return "http/1.1";
+        }
+
+        @Override
+        public ClientRequestHeaders headers() {
+            return headers;
+        }
+
+        @Override
+        public Context context() {
+            return context;
+        }
+
+        @Override
+        public String requestId() {
+            return requestId;
+        }
+
+        @Override
+        public void requestId(String requestId) {
+            this.requestId = requestId;
+        }
+
+        @Override
+        public CompletionStage<WebClientServiceRequest> whenSent() {
+            return whenSent;
+        }
+
+        @Override
+        public CompletionStage<WebClientServiceResponse> whenComplete() {
+            return whenComplete;
+        }
+
+        @Override
+        public Map<String, String> properties() {
+            return properties;
+        }
+
+        @Override
+        public Optional<Duration> readTimeout() {
+            return Optional.ofNullable(readTimeout);
+        }
+    }
+
+    private static final class MutableClock extends Clock {
+        private final AtomicLong millis = new AtomicLong(Instant.parse("2026-01-01T00:00:00Z").toEpochMilli());
+
+        void advance(Duration duration) {
+            millis.addAndGet(duration.toMillis());
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public long millis() {
+            return millis.get();
+        }
+
+        @Override
+        public Instant instant() {
+            return Instant.ofEpochMilli(millis());
+        }
+    }
+}
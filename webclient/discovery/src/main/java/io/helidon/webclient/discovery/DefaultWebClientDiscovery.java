@@ -17,6 +17,7 @@ package io.helidon.webclient.discovery;
 
 import java.lang.System.Logger;
 import java.net.URI;
+import java.time.Duration;
 import java.util.AbstractMap.SimpleEntry;
 import java.util.ArrayList;
 import java.util.Collection;
@@ -25,9 +26,13 @@ import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Optional;
+import java.util.SequencedSet;
+import java.util.Set;
 import java.util.regex.Pattern;
 
 import io.helidon.common.uri.UriInfo;
+import io.helidon.discovery.DiscoveredUri;
+import io.helidon.http.Method;
 import io.helidon.webclient.api.ClientUri;
 import io.helidon.webclient.api.WebClientServiceRequest;
 import io.helidon.webclient.api.WebClientServiceResponse;
@@ -55,6 +60,10 @@ final class DefaultWebClientDiscovery implements WebClientDiscovery {
 
     private static final Logger LOGGER = getLogger(DefaultWebClientDiscovery.class.getName());
 
+    // Idempotent methods (RFC 9110, section 9.2.2), the only ones that may be hedged.
+    private static final Set<Method> IDEMPOTENT_METHODS =
+        Set.of(Method.GET, Method.HEAD, Method.OPTIONS, Method.TRACE, Method.PUT, Method.DELETE);
+
 
     /*
      * Instance fields.
@@ -66,6 +75,9 @@ final class DefaultWebClientDiscovery implements WebClientDiscovery {
     // Immutable. Thread-safe.
     private final Collection<? extends Entry<? extends URI, ? extends String>> discoveryNames;
 
+    // Thread-safe. Null if neither latency-aware selection nor hedging is enabled.
+    private final LatencyTracker latencies;
+
 
     /*
      * Constructors.
@@ -98,6 +110,13 @@ final class DefaultWebClientDiscovery implements WebClientDiscovery {
             .reversed());
         this.discoveryNames = unmodifiableList(l);
         LOGGER.log(DEBUG, "Discovery names: {0}", this.discoveryNames);
+        if (prototype.latencyAware() || prototype.hedging()) {
+            this.latencies = new LatencyTracker(prototype.latencyDecay(),
+                                                prototype.hedgeDelayPercentile(),
+                                                prototype.minHedgeDelay());
+        } else {
+            this.latencies = null;
+        }
     }
 
 
@@ -130,46 +149,82 @@ final class DefaultWebClientDiscovery implements WebClientDiscovery {
         }
         LOGGER.log(DEBUG, "DiscoveryRequest: {0}", discoveryRequest);
 
-        URI discoveredUri = this.prototype()
+        SequencedSet<DiscoveredUri> discoveredUris = this.prototype()
             .discovery()
-            .uris(discoveryRequest.discoveryName(), discoveryRequest.defaultUri())
-            .getFirst()
-            .uri();
-        LOGGER.log(DEBUG, "URI discovered for {0}: {1}", discoveryRequest.discoveryName(), discoveredUri);
-
-        // (Edge case. Eureka in particular does not contractually guarantee whether a URI it returns will be opaque or
-        // not. An opaque URI could conceivably be OK in some possible worlds, but ClientUri doesn't handle opaque
-        // URIs. Just skip it.)
-        if (discoveredUri.isOpaque()) {
-            LOGGER.log(DEBUG, "Discarding discovered opaque URI {0}; ClientUri does not support opaque URIs", discoveredUri);
+            .uris(discoveryRequest.discoveryName(), discoveryRequest.defaultUri());
+        if (this.latencies == null) {
+            URI discoveredUri = discoveredUris.getFirst().uri();
+            LOGGER.log(DEBUG, "URI discovered for {0}: {1}", discoveryRequest.discoveryName(), discoveredUri);
+
+            // (Edge case. Eureka in particular does not contractually guarantee whether a URI it returns will be opaque
+            // or not. An opaque URI could conceivably be OK in some possible worlds, but ClientUri doesn't handle opaque
+            // URIs. Just skip it.)
+            if (discoveredUri.isOpaque()) {
+                LOGGER.log(DEBUG,
+                           "Discarding discovered opaque URI {0}; ClientUri does not support opaque URIs",
+                           discoveredUri);
+                return chain.proceed(request);
+            }
+            reroute(clientUri, discoveryRequest, discoveredUri);
             return chain.proceed(request);
         }
 
-        // Resolve the extra path against the discovered URI, deliberately using fully defined
-        // java.net.URI#resolve(String) semantics (which reifies RFC 2396 semantics
-        // (https://www.rfc-editor.org/rfc/rfc2396#section-5.2)).
-        LOGGER.log(DEBUG, "Resolving {0} against {1}", discoveryRequest.extraPath(), discoveredUri);
-        discoveredUri = discoveredUri.resolve(discoveryRequest.extraPath());
-        LOGGER.log(DEBUG, "Resolution result: {0}", discoveredUri);
-
-        // Install (raw) path, (possibly) new scheme, host, and port.  Deliberately leave existing query and fragment
-        // alone.
-        clientUri.path(discoveredUri.getRawPath());
-        String discoveredScheme = discoveredUri.getScheme();
-        if (discoveredScheme != null) {
-            clientUri.scheme(discoveredScheme);
+        // Latency-aware selection and/or hedging.
+        List<URI> candidates = new ArrayList<>(discoveredUris.size());
+        for (DiscoveredUri discoveredUri : discoveredUris) {
+            if (discoveredUri.uri().isOpaque()) {
+                LOGGER.log(DEBUG,
+                           "Discarding discovered opaque URI {0}; ClientUri does not support opaque URIs",
+                           discoveredUri.uri());
+            } else {
+                candidates.add(discoveredUri.uri());
+            }
         }
-        String discoveredHost = discoveredUri.getHost();
-        if (discoveredHost != null) {
-            clientUri.host(discoveredHost);
+        if (candidates.isEmpty()) {
+            return chain.proceed(request);
         }
-        int discoveredPort = discoveredUri.getPort();
-        if (discoveredPort >= 0) {
-            clientUri.port(discoveredPort);
+        URI selectedUri = this.select(candidates);
+        LOGGER.log(DEBUG, "URI selected for {0}: {1}", discoveryRequest.discoveryName(), selectedUri);
+
+        Duration hedgeDelay = null;
+        Chain primaryChain = null;
+        Chain hedgeChain = null;
+        if (this.prototype.hedging() && candidates.size() > 1 && IDEMPOTENT_METHODS.contains(request.method())) {
+            hedgeDelay = this.latencies.hedgeDelay(discoveryRequest.discoveryName()).orElse(null);
+            if (hedgeDelay != null) {
+                // Both requests are sent with copies of the chain, so that only the winner completes the futures of
+                // the request.
+                primaryChain = chain.copy().orElse(null);
+                hedgeChain = primaryChain == null ? null : chain.copy().orElse(null);
+            }
+        }
+        if (hedgeChain == null) {
+            reroute(clientUri, discoveryRequest, selectedUri);
+            long start = this.latencies.start(selectedUri);
+            WebClientServiceResponse response;
+            try {
+                response = chain.proceed(request);
+            } catch (RuntimeException e) {
+                this.latencies.fail(selectedUri, start);
+                throw e;
+            }
+            this.latencies.complete(discoveryRequest.discoveryName(), selectedUri, start);
+            return response;
         }
 
-        LOGGER.log(DEBUG, "Final ClientUri: {0}", clientUri);
-        return chain.proceed(request);
+        // Copy the request before it is rerouted and sent.
+        HedgedCall.HedgeRequest hedgeRequest = HedgedCall.copy(request);
+        List<URI> others = new ArrayList<>(candidates);
+        others.remove(selectedUri);
+        URI hedgeUri = this.select(others);
+        reroute(clientUri, discoveryRequest, selectedUri);
+        reroute(hedgeRequest.uri(), discoveryRequest, hedgeUri);
+        return new HedgedCall(this.latencies, discoveryRequest.discoveryName())
+            .invoke(primaryChain, request, selectedUri, hedgeChain, hedgeRequest, hedgeUri, hedgeDelay);
+    }
+
+    private URI select(List<URI> candidates) {
+        return this.prototype.latencyAware() ? this.latencies.select(candidates) : candidates.getFirst();
     }
 
     Collection<? extends Entry<? extends URI, ? extends String>> discoveryNames() {
@@ -234,6 +289,41 @@ final class DefaultWebClientDiscovery implements WebClientDiscovery {
         return ClientUri.create(u).toUri();
     }
 
+    /**
+     * Installs information from the supplied discovered {@link URI} on the supplied {@link ClientUri}.
+     *
+     * @param clientUri the {@link ClientUri} to alter; must not be {@code null}
+     * @param discoveryRequest the {@link DiscoveryRequest} the {@link URI} was discovered for; must not be {@code null}
+     * @param discoveredUri the discovered, non-opaque {@link URI}; must not be {@code null}
+     * @see WebClientDiscovery#handle(Chain, WebClientServiceRequest)
+     */
+    private static void reroute(ClientUri clientUri, DiscoveryRequest discoveryRequest, URI discoveredUri) {
+        // Resolve the extra path against the discovered URI, deliberately using fully defined
+        // java.net.URI#resolve(String) semantics (which reifies RFC 2396 semantics
+        // (https://www.rfc-editor.org/rfc/rfc2396#section-5.2)).
+        LOGGER.log(DEBUG, "Resolving {0} against {1}", discoveryRequest.extraPath(), discoveredUri);
+        discoveredUri = discoveredUri.resolve(discoveryRequest.extraPath());
+        LOGGER.log(DEBUG, "Resolution result: {0}", discoveredUri);
+
+        // Install (raw) path, (possibly) new scheme, host, and port.  Deliberately leave existing query and fragment
+        // alone.
+        clientUri.path(discoveredUri.getRawPath());
+        String discoveredScheme = discoveredUri.getScheme();
+        if (discoveredScheme != null) {
+            clientUri.scheme(discoveredScheme);
+        }
+        String discoveredHost = discoveredUri.getHost();
+        if (discoveredHost != null) {
+            clientUri.host(discoveredHost);
+        }
+        int discoveredPort = discoveredUri.getPort();
+        if (discoveredPort >= 0) {
+            clientUri.port(discoveredPort);
+        }
+
+        LOGGER.log(DEBUG, "Final ClientUri: {0}", clientUri);
+    }
+
 
     /*
      * Inner and nested classes.
@@ -0,0 +1,439 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.webclient.discovery;
+
+import java.lang.System.Logger;
+import java.net.URI;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import io.helidon.common.context.Context;
+import io.helidon.common.context.Contexts;
+import io.helidon.http.ClientRequestHeaders;
+import io.helidon.http.Method;
+import io.helidon.http.WritableHeaders;
+import io.helidon.webclient.api.ClientUri;
+import io.helidon.webclient.api.WebClientServiceRequest;
+import io.helidon.webclient.api.WebClientServiceResponse;
+import io.helidon.webclient.spi.WebClientService.Chain;
+
+import static java.lang.System.Logger.Level.DEBUG;
+import static java.lang.System.getLogger;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A single request that is sent to a discovered {@link URI} and, if no response arrives within a delay, also to another
+ * discovered {@link URI}; the first response wins, and the other request is cancelled.
+ *
+ * <p>Both requests are sent from new virtual threads, within the {@linkplain WebClientServiceRequest#context() context}
+ * of the original request, while the calling thread waits for the winner. A losing request that is still in flight is
+ * cancelled by interrupting its thread, which closes its connection; a losing response that has already arrived has its
+ * connection closed, as its entity will never be read.</p>
+ *
+ * <p>Each request is a {@linkplain #copy(WebClientServiceRequest) copy} of the original request, sent with its own
+ * {@linkplain Chain#copy() copy} of the chain, with its own {@linkplain WebClientServiceRequest#whenSent() futures}; only
+ * the futures of the winner are forwarded to the original request.</p>
+ *
+ * @see WebClientDiscoveryConfig#hedging()
+ * @see Chain#copy()
+ */
+final class HedgedCall {
+
+
+    /*
+     * Static fields.
+     */
+
+
+    private static final Logger LOGGER = getLogger(HedgedCall.class.getName());
+
+
+    /*
+     * Instance fields.
+     */
+
+
+    private final LatencyTracker latencies;
+
+    private final String discoveryName;
+
+    private final ReentrantLock lock;
+
+    private final Condition completed;
+
+    // Guarded by lock.
+    private Attempt winner;
+
+    // Guarded by lock.
+    private boolean decided;
+
+
+    /*
+     * Constructors.
+     */
+
+
+    HedgedCall(LatencyTracker latencies, String discoveryName) {
+        super();
+        this.latencies = requireNonNull(latencies, "latencies");
+        this.discoveryName = requireNonNull(discoveryName, "discoveryName");
+        this.lock = new ReentrantLock();
+        this.completed = this.lock.newCondition();
+    }
+
+
+    /*
+     * Instance methods.
+     */
+
+
+    /**
+     * Sends the supplied request using the supplied {@link Chain} and, if no response arrives within the supplied delay,
+     * sends the supplied hedged request using the supplied copy of the {@link Chain}, returning the first response.
+     *
+     * @param chain a {@linkplain Chain#copy() copy} of the {@link Chain} to send the request with; must not be {@code
+     * null}
+     * @param request the original request, already rerouted to {@code uri}; must not be {@code null}
+     * @param uri the {@link URI} the request is sent to; must not be {@code null}
+     * @param hedgeChain a {@linkplain Chain#copy() copy} of {@code chain}; must not be {@code null}
+     * @param hedgeRequest a {@linkplain #copy(WebClientServiceRequest) copy} of the original request, already rerouted
+     * to {@code hedgeUri}; must not be {@code null}
+     * @param hedgeUri the {@link URI} the hedged request is sent to; must not be {@code null}
+     * @param delay the delay after which the hedged request is sent; must not be {@code null}
+     * @return the first response; never {@code null}
+     * @exception RuntimeException if both requests fail, or the request fails before the hedged request is sent
+     * @exception IllegalStateException if the calling thread is interrupted while waiting for a response
+     */
+    WebClientServiceResponse invoke(Chain chain,
+                                    WebClientServiceRequest request,
+                                    URI uri,
+                                    Chain hedgeChain,
+                                    HedgeRequest hedgeRequest,
+                                    URI hedgeUri,
+                                    Duration delay) {
+        hedgeRequest.requestId(request.requestId() + "-hedge");
+        Attempt primary = this.start(chain, copy(request), uri);
+        Attempt hedge = null;
+        this.lock.lock();
+        try {
+            long remaining = delay.toNanos();
+            while (!primary.done && remaining > 0) {
+                remaining = this.completed.awaitNanos(remaining);
+            }
+            if (!primary.done) {
+                LOGGER.log(DEBUG, "No response from {0} within {1}; hedging to {2}", uri, delay, hedgeUri);
+                hedge = this.start(hedgeChain, hedgeRequest, hedgeUri);
+            }
+            while (this.winner == null && !(primary.done && (hedge == null || hedge.done))) {
+                this.completed.await();
+            }
+            this.decided = true;
+        } catch (InterruptedException e) {
+            this.decided = true;
+            primary.cancel();
+            if (hedge != null) {
+                hedge.cancel();
+            }
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for a response from " + uri, e);
+        } finally {
+            this.lock.unlock();
+        }
+
+        Attempt winner = this.winner;
+        if (winner == null) {
+            // Both failed (or the primary failed before the hedged request was sent)
+            RuntimeException failure = primary.failure;
+            if (hedge != null) {
+                failure.addSuppressed(hedge.failure);
+            }
+            throw failure;
+        }
+        Attempt loser = winner == primary ? hedge : primary;
+        if (loser != null) {
+            LOGGER.log(DEBUG, "Response from {0} won; cancelling request to {1}", winner.uri, loser.uri);
+            loser.cancel();
+        }
+        winner.request.forward(request);
+        return winner.response;
+    }
+
+    private Attempt start(Chain chain, HedgeRequest request, URI uri) {
+        Attempt attempt = new Attempt(request, uri, this.latencies.start(uri));
+        Context context = request.context();
+        attempt.thread = Thread.ofVirtual()
+            .start(() -> Contexts.runInContext(context, () -> attempt.run(chain)));
+        return attempt;
+    }
+
+
+    /*
+     * Static methods.
+     */
+
+
+    /**
+     * Returns a copy of the supplied {@link WebClientServiceRequest}, with its own {@linkplain
+     * WebClientServiceRequest#uri() URI}, {@linkplain WebClientServiceRequest#headers() headers}, {@linkplain
+     * WebClientServiceRequest#properties() properties}, and {@linkplain WebClientServiceRequest#whenSent() futures},
+     * taken before the supplied request is sent.
+     *
+     * @param request the request to copy; must not be {@code null}
+     * @return a copy of the supplied request; never {@code null}
+     */
+    static HedgeRequest copy(WebClientServiceRequest request) {
+        return new HedgeRequest(request);
+    }
+
+
+    /*
+     * Inner and nested classes.
+     */
+
+
+    private final class Attempt {
+
+        private final HedgeRequest request;
+
+        private final URI uri;
+
+        private final long start;
+
+        private Thread thread;
+
+        // Guarded by lock.
+        private boolean done;
+
+        // Guarded by lock.
+        private WebClientServiceResponse response;
+
+        // Guarded by lock.
+        private RuntimeException failure;
+
+        // Guarded by lock.
+        private boolean cancelled;
+
+        private Attempt(HedgeRequest request, URI uri, long start) {
+            super();
+            this.request = request;
+            this.uri = uri;
+            this.start = start;
+        }
+
+        private void run(Chain chain) {
+            WebClientServiceResponse response = null;
+            RuntimeException failure = null;
+            try {
+                response = chain.proceed(this.request);
+            } catch (RuntimeException e) {
+                failure = e;
+            } finally {
+                if (response == null && failure == null) {
+                    // An Error, which is propagated to the uncaught exception handler of this thread
+                    failure = new IllegalStateException("Request to " + this.uri + " failed");
+                }
+                this.complete(response, failure);
+            }
+        }
+
+        private void complete(WebClientServiceResponse response, RuntimeException failure) {
+            boolean lost;
+            boolean cancelled;
+            lock.lock();
+            try {
+                this.done = true;
+                this.response = response;
+                this.failure = failure;
+                lost = response != null && (winner != null || decided);
+                if (response != null && !lost) {
+                    winner = this;
+                }
+                cancelled = this.cancelled;
+                completed.signalAll();
+            } finally {
+                lock.unlock();
+            }
+            if (response == null) {
+                if (cancelled) {
+                    latencies.cancel(this.uri, this.start);
+                } else {
+                    latencies.fail(this.uri, this.start);
+                }
+                this.request.fail(failure);
+                LOGGER.log(DEBUG, "Request to {0} failed: {1}", this.uri, failure);
+            } else {
+                latencies.complete(discoveryName, this.uri, this.start);
+                this.request.complete(response);
+                if (lost) {
+                    close(response);
+                }
+            }
+        }
+
+        private void cancel() {
+            boolean running;
+            lock.lock();
+            try {
+                running = !this.done;
+                this.cancelled = running;
+            } finally {
+                lock.unlock();
+            }
+            if (running) {
+                // The thread closes the response by itself, should it arrive anyway
+                this.thread.interrupt();
+            } else if (this.response != null) {
+                close(this.response);
+            }
+        }
+
+        private void close(WebClientServiceResponse response) {
+            try {
+                response.connection().closeResource();
+            } catch (RuntimeException e) {
+                LOGGER.log(DEBUG, "Failed to close the connection of a cancelled request to " + this.uri, e);
+            }
+        }
+
+    }
+
+    static final class HedgeRequest implements WebClientServiceRequest {
+
+        private final WebClientServiceRequest delegate;
+
+        private final ClientUri uri;
+
+        private final ClientRequestHeaders headers;
+
+        private final Map<String, String> properties;
+
+        private final CompletableFuture<WebClientServiceRequest> whenSent;
+
+        private final CompletableFuture<WebClientServiceResponse> whenComplete;
+
+        private String requestId;
+
+        private HedgeRequest(WebClientServiceRequest delegate) {
+            super();
+            this.delegate = delegate;
+            this.uri = ClientUri.create(delegate.uri());
+            this.headers = ClientRequestHeaders.create(WritableHeaders.create(delegate.headers()));
+            this.properties = new HashMap<>(delegate.properties());
+            this.whenSent = new CompletableFuture<>();
+            this.whenComplete = new CompletableFuture<>();
+            this.requestId = delegate.requestId();
+        }
+
+        @Override // WebClientServiceRequest
+        public ClientUri uri() {
+            return this.uri;
+        }
+
+        @Override // WebClientServiceRequest
+        public Method method() {
+            return this.delegate.method();
+        }
+
+        @Override // WebClientServiceRequest
+        public String protocolId() {
+            return this.delegate.protocolId();
+        }
+
+        @Override // WebClientServiceRequest
+        public ClientRequestHeaders headers() {
+            return this.headers;
+        }
+
+        @Override // WebClientServiceRequest
+        public Context context() {
+            return this.delegate.context();
+        }
+
+        @Override // WebClientServiceRequest
+        public String requestId() {
+            return this.requestId;
+        }
+
+        @Override // WebClientServiceRequest
+        public void requestId(String requestId) {
+            this.requestId = requestId;
+        }
+
+        @Override // WebClientServiceRequest
+        public CompletionStage<WebClientServiceRequest> whenSent() {
+            return this.whenSent;
+        }
+
+        @Override // WebClientServiceRequest
+        public CompletionStage<WebClientServiceResponse> whenComplete() {
+            return this.whenComplete;
+        }
+
+        @Override // WebClientServiceRequest
+        public Map<String, String> properties() {
+            return this.properties;
+        }
+
+        @Override // WebClientServiceRequest
+        public Optional<Duration> readTimeout() {
+            return this.delegate.readTimeout();
+        }
+
+        private void complete(WebClientServiceResponse response) {
+            // The request was sent, as its response arrived
+            this.whenSent.complete(this);
+            response.whenComplete().whenComplete((r, t) -> {
+                if (t == null) {
+                    this.whenComplete.complete(r);
+                } else {
+                    this.whenComplete.completeExceptionally(t);
+                }
+            });
+        }
+
+        private void fail(RuntimeException failure) {
+            this.whenSent.completeExceptionally(failure);
+            this.whenComplete.completeExceptionally(failure);
+        }
+
+        private void forward(WebClientServiceRequest target) {
+            CompletableFuture<WebClientServiceRequest> targetSent = target.whenSent().toCompletableFuture();
+            CompletableFuture<WebClientServiceResponse> targetComplete = target.whenComplete().toCompletableFuture();
+            this.whenSent.whenComplete((r, t) -> {
+                if (t == null) {
+                    targetSent.complete(target);
+                } else {
+                    targetSent.completeExceptionally(t);
+                }
+            });
+            this.whenComplete.whenComplete((r, t) -> {
+                if (t == null) {
+                    targetComplete.complete(r);
+                } else {
+                    targetComplete.completeExceptionally(t);
+                }
+            });
+        }
+
+    }
+
+}
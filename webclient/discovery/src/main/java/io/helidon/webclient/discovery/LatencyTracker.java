@@ -0,0 +1,359 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.webclient.discovery;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Tracks the latency of requests to discovered {@link URI}s, selects the {@link URI} to use for a request, and computes
+ * the delay after which a hedged request should be sent.
+ *
+ * <p>The cost of a {@link URI} is its peak exponentially weighted moving average (peak EWMA) latency multiplied by the
+ * number of requests in flight to it, plus one. An observed latency higher than the average replaces it, so that a
+ * slow {@link URI} is avoided immediately, while lower latencies are averaged in over the {@linkplain
+ * WebClientDiscoveryConfig#latencyDecay() decay time}. The average also decays towards zero while a {@link URI} is not
+ * used, so that it is tried again eventually.</p>
+ *
+ * <p>Selection uses the "power of two choices": two {@link URI}s are chosen at random, and the one with the lower cost
+ * is used. This avoids both the herd behavior of always using the cheapest {@link URI} and the cost of comparing all of
+ * them.</p>
+ *
+ * <p>Instances of this class are safe for concurrent use by multiple threads.</p>
+ *
+ * @see WebClientDiscoveryConfig#latencyAware()
+ * @see WebClientDiscoveryConfig#hedging()
+ */
+final class LatencyTracker {
+
+
+    /*
+     * Static fields.
+     */
+
+
+    // Cost of a URI that has requests in flight, but no observed latency yet; high enough to prefer any URI with an
+    // observed latency.
+    private static final double PENALTY = (double) (Long.MAX_VALUE >> 16);
+
+    // Number of latencies kept to compute the hedge delay percentile.
+    private static final int WINDOW_SIZE = 256;
+
+    // Number of latencies that must be observed before the hedge delay percentile is computed.
+    private static final int MIN_SAMPLES = 32;
+
+    // Number of latencies observed before the hedge delay percentile is computed again.
+    private static final int RECOMPUTE_INTERVAL = 32;
+
+    // Number of selections after which URIs not used for a long time are forgotten.
+    private static final int PRUNE_INTERVAL = 1024;
+
+
+    /*
+     * Instance fields.
+     */
+
+
+    private final double decayNanos;
+
+    private final double percentile;
+
+    private final long minHedgeDelayNanos;
+
+    private final LongSupplier clock;
+
+    private final Map<URI, Endpoint> endpoints;
+
+    private final Map<String, Window> windows;
+
+    private final AtomicInteger selections;
+
+
+    /*
+     * Constructors.
+     */
+
+
+    LatencyTracker(Duration decay, double percentile, Duration minHedgeDelay) {
+        this(decay, percentile, minHedgeDelay, System::nanoTime);
+    }
+
+    LatencyTracker(Duration decay, double percentile, Duration minHedgeDelay, LongSupplier clock) {
+        super();
+        if (decay.isNegative() || decay.isZero()) {
+            throw new IllegalArgumentException("decay: " + decay);
+        }
+        if (!(percentile > 0 && percentile < 1)) {
+            throw new IllegalArgumentException("percentile: " + percentile);
+        }
+        this.decayNanos = decay.toNanos();
+        this.percentile = percentile;
+        this.minHedgeDelayNanos = requireNonNull(minHedgeDelay, "minHedgeDelay").toNanos();
+        this.clock = requireNonNull(clock, "clock");
+        this.endpoints = new ConcurrentHashMap<>();
+        this.windows = new ConcurrentHashMap<>();
+        this.selections = new AtomicInteger();
+    }
+
+
+    /*
+     * Instance methods.
+     */
+
+
+    /**
+     * Selects one of the supplied {@link URI}s using the power of two choices.
+     *
+     * @param uris the candidate {@link URI}s; must not be {@code null} or empty
+     * @return the selected {@link URI}; never {@code null}
+     */
+    URI select(List<URI> uris) {
+        if (this.selections.incrementAndGet() % PRUNE_INTERVAL == 0) {
+            this.prune();
+        }
+        int size = uris.size();
+        if (size == 1) {
+            return uris.getFirst();
+        }
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int first = random.nextInt(size);
+        int second = random.nextInt(size - 1);
+        if (second >= first) {
+            ++second;
+        }
+        long now = this.clock.getAsLong();
+        URI a = uris.get(first);
+        URI b = uris.get(second);
+        return this.cost(a, now) <= this.cost(b, now) ? a : b;
+    }
+
+    /**
+     * Records the start of a request to the supplied {@link URI}.
+     *
+     * @param uri the {@link URI}; must not be {@code null}
+     * @return the start time to be supplied to {@link #complete(String, URI, long)},
+     * {@link #cancel(URI, long)} or {@link #fail(URI, long)}
+     */
+    long start(URI uri) {
+        this.endpoint(uri).pending.incrementAndGet();
+        return this.clock.getAsLong();
+    }
+
+    /**
+     * Records the response to a request to the supplied {@link URI}, started at the supplied time.
+     *
+     * @param discoveryName the discovery name the {@link URI} was discovered for; must not be {@code null}
+     * @param uri the {@link URI}; must not be {@code null}
+     * @param start the value returned by {@link #start(URI)}
+     * @return the observed latency in nanoseconds
+     */
+    long complete(String discoveryName, URI uri, long start) {
+        long now = this.clock.getAsLong();
+        long latency = now - start;
+        Endpoint endpoint = this.endpoint(uri);
+        endpoint.pending.decrementAndGet();
+        endpoint.observe(latency, now, this.decayNanos);
+        this.windows.computeIfAbsent(discoveryName, n -> new Window()).add(latency, this.percentile);
+        return latency;
+    }
+
+    /**
+     * Records a request to the supplied {@link URI}, started at the supplied time, that was cancelled.
+     *
+     * <p>The time a cancelled request took says nothing about the latency of the {@link URI}, so it is not observed.</p>
+     *
+     * @param uri the {@link URI}; must not be {@code null}
+     * @param start the value returned by {@link #start(URI)}
+     */
+    void cancel(URI uri, long start) {
+        this.endpoint(uri).pending.decrementAndGet();
+    }
+
+    /**
+     * Records a request to the supplied {@link URI}, started at the supplied time, that failed.
+     *
+     * <p>A {@link URI} that fails fast must not look faster than the others, or it would attract all requests. The
+     * failure is therefore observed as a latency of at least the {@linkplain WebClientDiscoveryConfig#latencyDecay()
+     * decay time}, so that the {@link URI} is avoided until the penalty has decayed. It is not used to compute the hedge
+     * delay.</p>
+     *
+     * @param uri the {@link URI}; must not be {@code null}
+     * @param start the value returned by {@link #start(URI)}
+     */
+    void fail(URI uri, long start) {
+        long now = this.clock.getAsLong();
+        Endpoint endpoint = this.endpoint(uri);
+        endpoint.pending.decrementAndGet();
+        endpoint.observe(Math.max(now - start, (long) this.decayNanos), now, this.decayNanos);
+    }
+
+    /**
+     * Returns the delay after which a hedged request should be sent for the supplied discovery name.
+     *
+     * @param discoveryName the discovery name; must not be {@code null}
+     * @return the delay, or an empty {@link Optional} if not enough latencies have been observed yet
+     */
+    Optional<Duration> hedgeDelay(String discoveryName) {
+        Window window = this.windows.get(discoveryName);
+        if (window == null) {
+            return Optional.empty();
+        }
+        long delay = window.percentile();
+        if (delay < 0) {
+            return Optional.empty();
+        }
+        return Optional.of(Duration.ofNanos(Math.max(delay, this.minHedgeDelayNanos)));
+    }
+
+    double cost(URI uri, long now) {
+        Endpoint endpoint = this.endpoints.get(uri);
+        return endpoint == null ? 0 : endpoint.cost(now, this.decayNanos);
+    }
+
+    private Endpoint endpoint(URI uri) {
+        return this.endpoints.computeIfAbsent(uri, u -> new Endpoint(this.clock.getAsLong()));
+    }
+
+    private void prune() {
+        // Forget URIs that are no longer discovered, once their average has decayed to nothing anyway
+        long now = this.clock.getAsLong();
+        long idle = (long) (this.decayNanos * 16);
+        this.endpoints.values().removeIf(e -> e.pending.get() == 0 && now - e.stamp() > idle);
+    }
+
+
+    /*
+     * Inner and nested classes.
+     */
+
+
+    private static final class Endpoint {
+
+        private final ReentrantLock lock = new ReentrantLock();
+
+        private final AtomicInteger pending = new AtomicInteger();
+
+        // Guarded by lock.
+        private double average;
+
+        // Guarded by lock.
+        private long stamp;
+
+        // Guarded by lock.
+        private boolean observed;
+
+        private Endpoint(long now) {
+            super();
+            this.stamp = now;
+        }
+
+        private void observe(long latency, long now, double decayNanos) {
+            this.lock.lock();
+            try {
+                if (!this.observed || latency > this.average) {
+                    // Peak: use a higher latency right away
+                    this.average = latency;
+                    this.observed = true;
+                } else {
+                    double weight = Math.exp(-Math.max(0, now - this.stamp) / decayNanos);
+                    this.average = this.average * weight + latency * (1 - weight);
+                }
+                this.stamp = now;
+            } finally {
+                this.lock.unlock();
+            }
+        }
+
+        private double cost(long now, double decayNanos) {
+            int pending = this.pending.get();
+            this.lock.lock();
+            try {
+                if (!this.observed) {
+                    return pending == 0 ? 0 : PENALTY + pending;
+                }
+                double average = this.average * Math.exp(-Math.max(0, now - this.stamp) / decayNanos);
+                return average * (pending + 1);
+            } finally {
+                this.lock.unlock();
+            }
+        }
+
+        private long stamp() {
+            this.lock.lock();
+            try {
+                return this.stamp;
+            } finally {
+                this.lock.unlock();
+            }
+        }
+
+    }
+
+    private static final class Window {
+
+        private final ReentrantLock lock = new ReentrantLock();
+
+        // Guarded by lock.
+        private final long[] latencies = new long[WINDOW_SIZE];
+
+        // Guarded by lock.
+        private long count;
+
+        // Guarded by lock.
+        private long percentile = -1;
+
+        private Window() {
+            super();
+        }
+
+        private void add(long latency, double percentile) {
+            this.lock.lock();
+            try {
+                this.latencies[(int) (this.count++ % WINDOW_SIZE)] = latency;
+                if (this.count >= MIN_SAMPLES && this.count % RECOMPUTE_INTERVAL == 0) {
+                    int size = (int) Math.min(this.count, WINDOW_SIZE);
+                    long[] sorted = Arrays.copyOf(this.latencies, size);
+                    Arrays.sort(sorted);
+                    this.percentile = sorted[Math.min(size - 1, (int) (size * percentile))];
+                }
+            } finally {
+                this.lock.unlock();
+            }
+        }
+
+        private long percentile() {
+            this.lock.lock();
+            try {
+                return this.percentile;
+            } finally {
+                this.lock.unlock();
+            }
+        }
+
+    }
+
+}
@@ -93,7 +93,9 @@ public interface WebClientDiscovery extends RuntimeType.Api<WebClientDiscoveryCo
      * URI. If this cannot happen for any reason, the implementation must call {@link Chain#proceed(WebClientRequest)
      * chain.proceed(request)} and return the result.</li>
      *
-     * <li>Call {@link Chain#proceed(WebClientRequest) chain.proceed(request)} and return the result.</li>
+     * <li>Call {@link Chain#proceed(WebClientRequest) chain.proceed(request)} and return the result. An implementation
+     * may additionally send a copy of the request, rerouted to another discovered URI, using a {@linkplain Chain#copy()
+     * copy of the chain}, and return whichever result arrives first.</li>
      *
      * </ol>
      *
@@ -197,8 +199,9 @@ public interface WebClientDiscovery extends RuntimeType.Api<WebClientDiscoveryCo
      *  {@linkplain #prototype() prototype} is used to {@linkplain io.helidon.discovery.Discovery#uris(String,
      *  java.net.URI) issue a discovery request using the discovery name (<i>e.g.</i> <code><b>S1</b></code>) and prefix
      *  URI (<i>e.g.</i> <code><b>http://service1.example.com:80/</b></code>)}. The first of the URIs returned is the
-     *  <dfn>discovered URI</dfn>; see {@link io.helidon.discovery.Discovery#uris(String, java.net.URI)} for more
-     *  details. For this example, presume the discovered URI is, <i>e.g.</i>,
+     *  <dfn>discovered URI</dfn>, unless {@linkplain WebClientDiscoveryConfig#latencyAware() latency-aware selection}
+     *  is enabled, in which case the discovered URI is chosen by observed latency; see {@link
+     *  io.helidon.discovery.Discovery#uris(String, java.net.URI)} for more details. For this example, presume the discovered URI is, <i>e.g.</i>,
      *  <code><b>http://23.192.228.84:80/v1/</b></code>.</li>
      *
      *  <li>A <dfn>new raw path</dfn> is formed by first {@linkplain java.net.URI#resolve(String) <dfn>resolving</dfn>}
@@ -226,6 +229,11 @@ public interface WebClientDiscovery extends RuntimeType.Api<WebClientDiscoveryCo
      * <p>Finally, including when any error is encountered, {@link Chain#proceed(WebClientServiceRequest)
      * chain.proceed(request)} is invoked, and the result is returned.</p>
      *
+     * <p>If {@linkplain WebClientDiscoveryConfig#hedging() hedging} is enabled, and no response arrives within a
+     * {@linkplain WebClientDiscoveryConfig#hedgeDelayPercentile() percentile} of recently observed latencies, a copy of
+     * the request, rerouted in the same way to another discovered URI, is sent using a {@linkplain Chain#copy() copy of
+     * the chain}. The first response is returned, and the other request is cancelled.</p>
+     *
      * <h5>Configuration Examples</h5>
      *
      * <p>A minimal example of (YAML) configuration follows:</p>
@@ -16,6 +16,7 @@
 package io.helidon.webclient.discovery;
 
 import java.net.URI;
+import java.time.Duration;
 import java.util.Map;
 
 import io.helidon.builder.api.Option;
@@ -50,6 +51,70 @@ interface WebClientDiscoveryConfigBlueprint extends Prototype.Factory<WebClientD
     @Option.Configured
     Map<String, URI> prefixUris();
 
+    /**
+     * Whether to select among the {@linkplain Discovery#uris(String, URI) discovered URIs} by their observed latency
+     * ({@code false} by default, in which case the first discovered URI is always used).
+     *
+     * <p>When enabled, a moving average of response latency, biased towards recent peaks, is maintained for each
+     * discovered URI, and multiplied by the number of requests in flight to it. For each request, two discovered URIs
+     * are chosen at random, and the one with the lower cost is used.</p>
+     *
+     * @return whether to use latency-aware selection
+     * @see #latencyDecay()
+     */
+    @Option.Configured
+    @Option.DefaultBoolean(false)
+    boolean latencyAware();
+
+    /**
+     * The time over which an observed latency loses most of its weight in the moving average ({@code 10} seconds by
+     * default).
+     *
+     * @return the decay time of observed latencies
+     * @see #latencyAware()
+     */
+    @Option.Configured
+    @Option.Default("PT10S")
+    Duration latencyDecay();
+
+    /**
+     * Whether to send a hedged request to another discovered URI when a response does not arrive in time ({@code false}
+     * by default).
+     *
+     * <p>The hedged request is sent once the {@linkplain #hedgeDelayPercentile() percentile} of recently observed
+     * latencies has passed, only for idempotent methods, and only when more than one URI is discovered. The first
+     * response wins, and the other request is cancelled. Hedging is not done until enough latencies have been observed,
+     * and only for requests that can be sent more than once (such as HTTP/1.1 requests with an entity that is not
+     * written to an output stream).</p>
+     *
+     * @return whether to send hedged requests
+     * @see io.helidon.webclient.spi.WebClientService.Chain#copy()
+     */
+    @Option.Configured
+    @Option.DefaultBoolean(false)
+    boolean hedging();
+
+    /**
+     * The percentile of recently observed latencies after which a hedged request is sent ({@code 0.95} by default).
+     *
+     * @return the percentile, between {@code 0} and {@code 1}
+     * @see #hedging()
+     */
+    @Option.Configured
+    @Option.DefaultDouble(0.95)
+    double hedgeDelayPercentile();
+
+    /**
+     * The minimal delay before a hedged request is sent, regardless of observed latencies ({@code 10} milliseconds by
+     * default).
+     *
+     * @return the minimal hedge delay
+     * @see #hedging()
+     */
+    @Option.Configured
+    @Option.Default("PT0.01S")
+    Duration minHedgeDelay();
+
     /**
      * The name to assign to the runtime type ({@code discovery} by default).
      *
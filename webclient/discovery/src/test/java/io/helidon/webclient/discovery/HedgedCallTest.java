@@ -0,0 +1,359 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.webclient.discovery;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+
+import io.helidon.common.context.Context;
+import io.helidon.http.ClientRequestHeaders;
+import io.helidon.http.Method;
+import io.helidon.http.Status;
+import io.helidon.http.WritableHeaders;
+import io.helidon.webclient.api.ClientUri;
+import io.helidon.webclient.api.WebClientServiceRequest;
+import io.helidon.webclient.api.WebClientServiceResponse;
+import io.helidon.webclient.spi.WebClientService.Chain;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.arrayWithSize;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class HedgedCallTest {
+
+    private static final URI PRIMARY = URI.create("http://primary.example.com:80/");
+
+    private static final URI HEDGE = URI.create("http://hedge.example.com:80/");
+
+    private static final Duration DECAY = Duration.ofSeconds(10);
+
+    private LatencyTracker tracker;
+
+    private StubRequest request;
+
+    private HedgedCallTest() {
+        super();
+    }
+
+    @BeforeEach
+    void setup() {
+        this.tracker = new LatencyTracker(DECAY, 0.9, Duration.ZERO);
+        this.request = new StubRequest(PRIMARY);
+    }
+
+    @Test
+    void testPrimaryWinsBeforeDelay() {
+        StubChain primary = new StubChain(r -> response(r));
+        StubChain hedge = new StubChain(r -> response(r));
+
+        WebClientServiceResponse response = this.invoke(primary, hedge, Duration.ofSeconds(10));
+
+        assertThat(primary.calls.get(), is(1));
+        assertThat(hedge.calls.get(), is(0));
+        assertThat(response.serviceRequest(), sameInstance(primary.request.get()));
+        // The futures of the winner are forwarded to the original request
+        assertThat(this.request.whenSent.join(), sameInstance(this.request));
+        assertThat(this.request.whenComplete.isDone(), is(false));
+        response.whenComplete().complete(response);
+        assertThat(this.request.whenComplete.join(), sameInstance(response));
+    }
+
+    @Test
+    void testHedgeWinsAndPrimaryIsCancelled() throws InterruptedException {
+        CountDownLatch interrupted = new CountDownLatch(1);
+        StubChain primary = new StubChain(r -> {
+            try {
+                Thread.sleep(Duration.ofSeconds(30));
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+                throw new IllegalStateException("Cancelled", e);
+            }
+            return response(r);
+        });
+        StubChain hedge = new StubChain(r -> response(r));
+
+        WebClientServiceResponse response = this.invoke(primary, hedge, Duration.ofMillis(10));
+
+        assertThat(response.serviceRequest(), sameInstance(hedge.request.get()));
+        assertThat(response.serviceRequest().requestId(), is("test-hedge"));
+        assertThat(interrupted.await(10, TimeUnit.SECONDS), is(true));
+        // The cancelled primary request fails its own futures, not those of the original request
+        WebClientServiceRequest primaryRequest = primary.request.get();
+        assertThrows(Exception.class, () -> primaryRequest.whenComplete().toCompletableFuture().get(10, TimeUnit.SECONDS));
+        assertThat(this.request.whenSent.join(), sameInstance(this.request));
+        response.whenComplete().complete(response);
+        assertThat(this.request.whenComplete.join(), sameInstance(response));
+        // The cancellation is not observed as a latency
+        assertThat(this.tracker.cost(PRIMARY, System.nanoTime()), is(0.0));
+    }
+
+    @Test
+    void testLosingResponseIsClosedAndNotForwarded() throws InterruptedException {
+        CountDownLatch primaryClosed = new CountDownLatch(1);
+        StubChain primary = new StubChain(r -> {
+            // Ignores the cancellation, and responds once the hedged request has won
+            this.request.whenSent.join();
+            return response(r, primaryClosed::countDown);
+        });
+        StubChain hedge = new StubChain(r -> response(r));
+
+        WebClientServiceResponse response = this.invoke(primary, hedge, Duration.ofMillis(10));
+
+        assertThat(response.serviceRequest(), sameInstance(hedge.request.get()));
+        // The losing response is closed, as its entity will never be read
+        assertThat(primaryClosed.await(10, TimeUnit.SECONDS), is(true));
+        WebClientServiceRequest primaryRequest = primary.request.get();
+        assertThat(primaryRequest.whenSent().toCompletableFuture().isDone(), is(true));
+        assertThat(this.request.whenComplete.isDone(), is(false));
+        response.whenComplete().complete(response);
+        assertThat(this.request.whenComplete.join(), sameInstance(response));
+    }
+
+    @Test
+    void testPrimaryFailsBeforeDelay() {
+        StubChain primary = new StubChain(r -> {
+            throw new IllegalStateException("primary");
+        });
+        StubChain hedge = new StubChain(r -> {
+            throw new IllegalStateException("hedge");
+        });
+
+        IllegalStateException e = assertThrows(IllegalStateException.class,
+                                               () -> this.invoke(primary, hedge, Duration.ofSeconds(10)));
+
+        assertThat(e.getMessage(), is("primary"));
+        assertThat(hedge.calls.get(), is(0));
+        assertThat(this.request.whenSent.isDone(), is(false));
+        assertThat(this.request.whenComplete.isDone(), is(false));
+        WebClientServiceRequest primaryRequest = primary.request.get();
+        assertThrows(Exception.class, () -> primaryRequest.whenComplete().toCompletableFuture().get(10, TimeUnit.SECONDS));
+        // A failure is observed as a penalty, so that a URI that fails fast does not attract requests
+        assertThat(this.tracker.cost(PRIMARY, System.nanoTime()), greaterThanOrEqualTo(DECAY.toNanos() * 0.9));
+    }
+
+    @Test
+    void testBothFail() {
+        CountDownLatch hedgeFailed = new CountDownLatch(1);
+        StubChain primary = new StubChain(r -> {
+            try {
+                hedgeFailed.await();
+            } catch (InterruptedException e) {
+                throw new IllegalStateException(e);
+            }
+            throw new IllegalStateException("primary");
+        });
+        StubChain hedge = new StubChain(r -> {
+            hedgeFailed.countDown();
+            throw new IllegalStateException("hedge");
+        });
+
+        IllegalStateException e = assertThrows(IllegalStateException.class,
+                                               () -> this.invoke(primary, hedge, Duration.ofMillis(10)));
+
+        assertThat(e.getMessage(), is("primary"));
+        assertThat(e.getSuppressed(), arrayWithSize(1));
+        assertThat(e.getSuppressed()[0].getMessage(), is("hedge"));
+    }
+
+    @Test
+    void testFailedPrimaryLosesToHedge() {
+        CountDownLatch hedgeSent = new CountDownLatch(1);
+        StubChain primary = new StubChain(r -> {
+            try {
+                hedgeSent.await();
+            } catch (InterruptedException e) {
+                throw new IllegalStateException(e);
+            }
+            throw new IllegalStateException("primary");
+        });
+        StubChain hedge = new StubChain(r -> response(r));
+        hedge.onProceed = hedgeSent::countDown;
+
+        WebClientServiceResponse response = this.invoke(primary, hedge, Duration.ofMillis(10));
+
+        assertThat(response.serviceRequest(), sameInstance(hedge.request.get()));
+        assertThat(this.request.whenSent.join(), sameInstance(this.request));
+    }
+
+    @Test
+    void testInterruptCancelsBoth() throws InterruptedException {
+        CountDownLatch started = new CountDownLatch(2);
+        CountDownLatch cancelled = new CountDownLatch(2);
+        Function<WebClientServiceRequest, WebClientServiceResponse> blocking = r -> {
+            started.countDown();
+            try {
+                Thread.sleep(Duration.ofSeconds(30));
+            } catch (InterruptedException e) {
+                cancelled.countDown();
+                throw new IllegalStateException("Cancelled", e);
+            }
+            return response(r);
+        };
+        StubChain primary = new StubChain(blocking);
+        StubChain hedge = new StubChain(blocking);
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        Thread caller = Thread.ofVirtual().start(() -> {
+            try {
+                this.invoke(primary, hedge, Duration.ofMillis(10));
+            } catch (Throwable t) {
+                failure.set(t);
+            }
+        });
+
+        assertThat(started.await(10, TimeUnit.SECONDS), is(true));
+        caller.interrupt();
+        caller.join(Duration.ofSeconds(10));
+
+        assertThat(failure.get(), instanceOf(IllegalStateException.class));
+        assertThat(cancelled.await(10, TimeUnit.SECONDS), is(true));
+        assertThat(this.request.whenSent.isDone(), is(false));
+    }
+
+    private WebClientServiceResponse invoke(StubChain primary, StubChain hedge, Duration delay) {
+        HedgedCall.HedgeRequest hedgeRequest = HedgedCall.copy(this.request);
+        hedgeRequest.uri().host(HEDGE.getHost());
+        return new HedgedCall(this.tracker, "test")
+            .invoke(primary, this.request, PRIMARY, hedge, hedgeRequest, HEDGE, delay);
+    }
+
+    private static WebClientServiceResponse response(WebClientServiceRequest request) {
+        return response(request, () -> { });
+    }
+
+    private static WebClientServiceResponse response(WebClientServiceRequest request, Runnable close) {
+        return WebClientServiceResponse.builder()
+            .serviceRequest(request)
+            .status(Status.OK_200)
+            .connection(close::run)
+            .whenComplete(new CompletableFuture<>())
+            .build();
+    }
+
+    private static final class StubChain implements Chain {
+
+        private final AtomicInteger calls = new AtomicInteger();
+
+        private final AtomicReference<WebClientServiceRequest> request = new AtomicReference<>();
+
+        private final Function<WebClientServiceRequest, WebClientServiceResponse> responder;
+
+        private volatile Runnable onProceed = () -> { };
+
+        private StubChain(Function<WebClientServiceRequest, WebClientServiceResponse> responder) {
+            super();
+            this.responder = responder;
+        }
+
+        @Override // Chain
+        public WebClientServiceResponse proceed(WebClientServiceRequest request) {
+            this.calls.incrementAndGet();
+            this.request.set(request);
+            this.onProceed.run();
+            return this.responder.apply(request);
+        }
+
+    }
+
+    private static final class StubRequest implements WebClientServiceRequest {
+
+        private final ClientUri uri;
+
+        private final ClientRequestHeaders headers = ClientRequestHeaders.create(WritableHeaders.create());
+
+        private final Map<String, String> properties = new ConcurrentHashMap<>();
+
+        private final Context context = Context.create();
+
+        private final CompletableFuture<WebClientServiceRequest> whenSent = new CompletableFuture<>();
+
+        private final CompletableFuture<WebClientServiceResponse> whenComplete = new CompletableFuture<>();
+
+        private String requestId = "test";
+
+        private StubRequest(URI uri) {
+            super();
+            this.uri = ClientUri.create(uri);
+        }
+
+        @Override // WebClientServiceRequest
+        public ClientUri uri() {
+            return this.uri;
+        }
+
+        @Override // WebClientServiceRequest
+        public Method method() {
+            return Method.GET;
+        }
+
+        @Override // WebClientServiceRequest
+        public String protocolId() {
+            return "http/1.1";
+        }
+
+        @Override // WebClientServiceRequest
+        public ClientRequestHeaders headers() {
+            return this.headers;
+        }
+
+        @Override // WebClientServiceRequest
+        public Context context() {
+            return this.context;
+        }
+
+        @Override // WebClientServiceRequest
+        public String requestId() {
+            return this.requestId;
+        }
+
+        @Override // WebClientServiceRequest
+        public void requestId(String requestId) {
+            this.requestId = requestId;
+        }
+
+        @Override // WebClientServiceRequest
+        public CompletionStage<WebClientServiceRequest> whenSent() {
+            return this.whenSent;
+        }
+
+        @Override // WebClientServiceRequest
+        public CompletionStage<WebClientServiceResponse> whenComplete() {
+            return this.whenComplete;
+        }
+
+        @Override // WebClientServiceRequest
+        public Map<String, String> properties() {
+            return this.properties;
+        }
+
+    }
+
+}
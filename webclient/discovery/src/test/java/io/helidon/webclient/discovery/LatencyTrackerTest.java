@@ -0,0 +1,143 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.webclient.discovery;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThan;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class LatencyTrackerTest {
+
+    private static final URI FAST = URI.create("http://fast.example.com:80/");
+
+    private static final URI SLOW = URI.create("http://slow.example.com:80/");
+
+    private static final long MILLIS = Duration.ofMillis(1).toNanos();
+
+    private AtomicLong clock;
+
+    private LatencyTracker tracker;
+
+    private LatencyTrackerTest() {
+        super();
+    }
+
+    @BeforeEach
+    void setup() {
+        this.clock = new AtomicLong();
+        this.tracker = new LatencyTracker(Duration.ofSeconds(10), 0.9, Duration.ofMillis(5), this.clock::get);
+    }
+
+    @Test
+    void testSelectsLowerLatency() {
+        this.observe(FAST, 10);
+        this.observe(SLOW, 100);
+        // With two candidates, both are always compared
+        for (int i = 0; i < 10; i++) {
+            assertThat(this.tracker.select(List.of(FAST, SLOW)), is(FAST));
+            assertThat(this.tracker.select(List.of(SLOW, FAST)), is(FAST));
+        }
+    }
+
+    @Test
+    void testPendingRequestsIncreaseCost() {
+        this.observe(FAST, 10);
+        this.observe(SLOW, 30);
+        // Each request in flight multiplies the cost
+        this.tracker.start(FAST);
+        this.tracker.start(FAST);
+        this.tracker.start(FAST);
+        assertThat(this.tracker.select(List.of(FAST, SLOW)), is(SLOW));
+    }
+
+    @Test
+    void testUnobservedUriIsTriedOnce() {
+        this.observe(SLOW, 100);
+        URI unknown = URI.create("http://unknown.example.com:80/");
+        assertThat(this.tracker.select(List.of(SLOW, unknown)), is(unknown));
+        // While its first request is in flight, it is not selected again
+        this.tracker.start(unknown);
+        assertThat(this.tracker.select(List.of(SLOW, unknown)), is(SLOW));
+    }
+
+    @Test
+    void testPeakIsUsedImmediately() {
+        for (int i = 0; i < 10; i++) {
+            this.observe(FAST, 10);
+        }
+        this.observe(FAST, 500);
+        assertThat(this.tracker.cost(FAST, this.clock.get()), is((double) 500 * MILLIS));
+        // A lower latency is averaged in
+        this.observe(FAST, 10);
+        double cost = this.tracker.cost(FAST, this.clock.get());
+        assertThat(cost, lessThan((double) 500 * MILLIS));
+        assertThat(cost, greaterThan((double) 10 * MILLIS));
+    }
+
+    @Test
+    void testCostDecaysWhenIdle() {
+        this.observe(SLOW, 100);
+        double cost = this.tracker.cost(SLOW, this.clock.get());
+        this.clock.addAndGet(Duration.ofSeconds(30).toNanos());
+        assertThat(this.tracker.cost(SLOW, this.clock.get()), lessThan(cost / 10));
+    }
+
+    @Test
+    void testHedgeDelay() {
+        assertThat(this.tracker.hedgeDelay("s1").isPresent(), is(false));
+        for (int i = 1; i <= 128; i++) {
+            this.observe("s1", FAST, i);
+        }
+        // 90th percentile of 1..128 milliseconds
+        assertThat(this.tracker.hedgeDelay("s1").get().toMillis(), is(116L));
+        assertThat(this.tracker.hedgeDelay("s2").isPresent(), is(false));
+    }
+
+    @Test
+    void testMinHedgeDelay() {
+        for (int i = 0; i < 100; i++) {
+            this.observe("s1", FAST, 1);
+        }
+        assertThat(this.tracker.hedgeDelay("s1").get(), is(Duration.ofMillis(5)));
+    }
+
+    @Test
+    void testInvalidPercentile() {
+        assertThrows(IllegalArgumentException.class,
+                     () -> new LatencyTracker(Duration.ofSeconds(10), 1.0, Duration.ZERO));
+    }
+
+    private void observe(URI uri, long millis) {
+        this.observe("test", uri, millis);
+    }
+
+    private void observe(String discoveryName, URI uri, long millis) {
+        long start = this.tracker.start(uri);
+        this.clock.addAndGet(millis * MILLIS);
+        this.tracker.complete(discoveryName, uri, start);
+    }
+
+}
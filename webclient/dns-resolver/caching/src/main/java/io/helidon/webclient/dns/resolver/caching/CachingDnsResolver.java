@@ -0,0 +1,122 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.webclient.dns.resolver.caching;
+
+import java.net.InetAddress;
+import java.util.Objects;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+
+import io.helidon.builder.api.RuntimeType;
+import io.helidon.webclient.api.DnsAddressLookup;
+import io.helidon.webclient.api.RuntimeUnknownHostException;
+import io.helidon.webclient.spi.DnsResolver;
+
+/**
+ * DNS resolver that caches resolved addresses for their time to live.
+ * <p>
+ * Lookups are done in virtual threads and do not block requests for cached host names. Concurrent requests
+ * for the same host name share a single lookup, host names in use are looked up again before their addresses expire,
+ * and expired addresses are used for a while if a lookup fails.
+ *
+ * @see io.helidon.webclient.dns.resolver.caching.CachingDnsResolverConfig
+ */
+public final class CachingDnsResolver implements DnsResolver, RuntimeType.Api<CachingDnsResolverConfig> {
+    private static final ExecutorService EXECUTOR = Executors.newThreadPerTaskExecutor(Thread.ofVirtual()
+                                                                                                .name("helidon-dns-", 0)
+                                                                                                .factory());
+
+    private final CachingDnsResolverConfig prototype;
+    private final DnsCache cache;
+    private final boolean roundRobin;
+
+    private CachingDnsResolver(CachingDnsResolverConfig config) {
+        this.prototype = config;
+        this.cache = new DnsCache(config.lookup().orElseGet(() -> DnsLookup.system(config.defaultTtl())),
+                                  EXECUTOR,
+                                  System::nanoTime,
+                                  config.minTtl(),
+                                  config.maxTtl(),
+                                  config.staleTtl(),
+                                  config.lookupTimeout(),
+                                  config.refreshAhead(),
+                                  config.maxEntries());
+        this.roundRobin = config.roundRobin();
+    }
+
+    /**
+     * Create a new resolver with default configuration.
+     *
+     * @return a new resolver
+     */
+    public static CachingDnsResolver create() {
+        return builder().build();
+    }
+
+    /**
+     * Create a resolver from its configuration.
+     *
+     * @param config configuration of the resolver
+     * @return a new resolver
+     */
+    public static CachingDnsResolver create(CachingDnsResolverConfig config) {
+        return new CachingDnsResolver(config);
+    }
+
+    /**
+     * Create a resolver updating its configuration.
+     *
+     * @param configConsumer consumer to update resolver configuration
+     * @return a new resolver
+     */
+    public static CachingDnsResolver create(Consumer<CachingDnsResolverConfig.Builder> configConsumer) {
+        return builder()
+                .update(configConsumer)
+                .build();
+    }
+
+    /**
+     * A new builder to create a customized resolver.
+     *
+     * @return builder of the resolver configuration
+     */
+    public static CachingDnsResolverConfig.Builder builder() {
+        return CachingDnsResolverConfig.builder();
+    }
+
+    @Override
+    public CachingDnsResolverConfig prototype() {
+        return prototype;
+    }
+
+    @Override
+    public InetAddress resolveAddress(String hostname, DnsAddressLookup dnsAddressLookup) {
+        Objects.requireNonNull(hostname);
+        Objects.requireNonNull(dnsAddressLookup);
+
+        DnsCache.Resolved resolved = cache.resolve(hostname);
+        InetAddress[] addresses = dnsAddressLookup.filter(resolved.addresses());
+        if (addresses.length == 0) {
+            throw new RuntimeUnknownHostException("No IP version " + dnsAddressLookup.name() + " found for host " + hostname);
+        }
+        if (roundRobin) {
+            return addresses[Math.floorMod(resolved.next(), addresses.length)];
+        }
+        return addresses[0];
+    }
+}
@@ -0,0 +1,113 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.webclient.dns.resolver.caching;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import io.helidon.builder.api.Option;
+import io.helidon.builder.api.Prototype;
+
+/**
+ * Configuration of {@link CachingDnsResolver}.
+ */
+@Prototype.Blueprint
+@Prototype.Configured
+interface CachingDnsResolverConfigBlueprint extends Prototype.Factory<CachingDnsResolver> {
+    /**
+     * Lookup used to resolve host names.
+     * If not configured, {@link DnsLookup#system(java.time.Duration)} is used with {@link #defaultTtl()}.
+     *
+     * @return DNS lookup
+     */
+    Optional<DnsLookup> lookup();
+
+    /**
+     * Time to live of addresses resolved by the system lookup, which does not provide the time to live of records.
+     *
+     * @return default time to live
+     */
+    @Option.Configured
+    @Option.Default("PT30S")
+    Duration defaultTtl();
+
+    /**
+     * Minimal time to cache resolved addresses for, even if their time to live is shorter.
+     *
+     * @return minimal time to live
+     */
+    @Option.Configured
+    @Option.Default("PT1S")
+    Duration minTtl();
+
+    /**
+     * Maximal time to cache resolved addresses for, even if their time to live is longer.
+     *
+     * @return maximal time to live
+     */
+    @Option.Configured
+    @Option.Default("PT10M")
+    Duration maxTtl();
+
+    /**
+     * Fraction of the time to live after which a host name that is still in use is looked up again in the background,
+     * so that requests do not wait for the lookup when the addresses expire.
+     * Use {@code 1} to disable refresh ahead of expiry.
+     *
+     * @return fraction of the time to live, between {@code 0} and {@code 1}
+     */
+    @Option.Configured
+    @Option.DefaultDouble(0.8)
+    double refreshAhead();
+
+    /**
+     * How long to keep using expired addresses when a new lookup fails or times out.
+     *
+     * @return time to use stale addresses for
+     */
+    @Option.Configured
+    @Option.Default("PT5M")
+    Duration staleTtl();
+
+    /**
+     * Maximal time to wait for a lookup. When exceeded, stale addresses are used if available, otherwise
+     * the resolution fails. The lookup itself continues, and its result is cached.
+     *
+     * @return lookup timeout
+     */
+    @Option.Configured
+    @Option.Default("PT5S")
+    Duration lookupTimeout();
+
+    /**
+     * Maximal number of cached host names. When exceeded, the least recently used host names are removed.
+     *
+     * @return maximal number of cached host names
+     */
+    @Option.Configured
+    @Option.DefaultInt(10000)
+    int maxEntries();
+
+    /**
+     * Whether to cycle through the resolved addresses, rather than always using the first one.
+     *
+     * @return whether to use round-robin
+     */
+    @Option.Configured
+    @Option.DefaultBoolean(false)
+    boolean roundRobin();
+}
@@ -0,0 +1,46 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.webclient.dns.resolver.caching;
+
+import io.helidon.common.Api;
+import io.helidon.common.Weight;
+import io.helidon.common.Weighted;
+import io.helidon.webclient.spi.DnsResolver;
+import io.helidon.webclient.spi.DnsResolverProvider;
+
+/**
+ * Provider of the {@link CachingDnsResolver} instance.
+ */
+@Weight(Weighted.DEFAULT_WEIGHT)
+public final class CachingDnsResolverProvider implements DnsResolverProvider {
+    /**
+     * Required public constructor for {@link java.util.ServiceLoader}.
+     */
+    @Api.Internal
+    public CachingDnsResolverProvider() {
+    }
+
+    @Override
+    public String resolverName() {
+        return "caching";
+    }
+
+    @Override
+    public DnsResolver createDnsResolver() {
+        return CachingDnsResolver.create();
+    }
+}
@@ -0,0 +1,288 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.webclient.dns.resolver.caching;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+
+import io.helidon.webclient.api.RuntimeUnknownHostException;
+
+import static java.lang.System.Logger.Level.DEBUG;
+import static java.lang.System.Logger.Level.WARNING;
+
+/**
+ * Cache of resolved addresses.
+ * <p>
+ * Each host name is looked up at most once at a time; concurrent requests for the same host name wait for the
+ * same lookup. Requests for a host name that is cached are served without waiting, and if the addresses are close to
+ * their expiry, a lookup is started in the background. When a lookup fails, expired addresses are used until
+ * the configured stale time passes.
+ */
+final class DnsCache {
+    private static final System.Logger LOGGER = System.getLogger(DnsCache.class.getName());
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final ReentrantLock evictionLock = new ReentrantLock();
+    private final DnsLookup lookup;
+    private final Executor executor;
+    private final LongSupplier clock;
+    private final long minTtl;
+    private final long maxTtl;
+    private final long staleTtl;
+    private final long lookupTimeout;
+    private final double refreshAhead;
+    private final int maxEntries;
+
+    DnsCache(DnsLookup lookup,
+             Executor executor,
+             LongSupplier clock,
+             Duration minTtl,
+             Duration maxTtl,
+             Duration staleTtl,
+             Duration lookupTimeout,
+             double refreshAhead,
+             int maxEntries) {
+        if (!(refreshAhead > 0 && refreshAhead <= 1)) {
+            throw new IllegalArgumentException("Refresh ahead must be greater than 0 and at most 1, but is: "
+                                                       + refreshAhead);
+        }
+        if (maxEntries < 1) {
+            throw new IllegalArgumentException("Maximal number of entries must be positive, but is: " + maxEntries);
+        }
+        if (minTtl.compareTo(maxTtl) > 0) {
+            throw new IllegalArgumentException("Minimal TTL " + minTtl + " is greater than maximal TTL " + maxTtl);
+        }
+        this.lookup = lookup;
+        this.executor = executor;
+        this.clock = clock;
+        this.minTtl = minTtl.toNanos();
+        this.maxTtl = maxTtl.toNanos();
+        this.staleTtl = staleTtl.toNanos();
+        this.lookupTimeout = lookupTimeout.toNanos();
+        this.refreshAhead = refreshAhead;
+        this.maxEntries = maxEntries;
+    }
+
+    /**
+     * Addresses of the host name, looking them up if not cached, or expired.
+     *
+     * @param hostname host name
+     * @return resolved addresses
+     * @throws io.helidon.webclient.api.RuntimeUnknownHostException if the host name cannot be resolved
+     */
+    Resolved resolve(String hostname) {
+        long now = clock.getAsLong();
+        Entry entry = entries.get(hostname);
+        if (entry == null) {
+            entry = entries.computeIfAbsent(hostname, Entry::new);
+            if (entries.size() > maxEntries) {
+                evict();
+            }
+        }
+        entry.lastAccess = now;
+
+        Resolved resolved = entry.resolved;
+        if (resolved != null && now - resolved.expiresAt < 0) {
+            if (now - resolved.refreshAt >= 0) {
+                // still valid, but in use close to its expiry; refresh in the background
+                entry.refresh();
+            }
+            return resolved;
+        }
+
+        Throwable failure;
+        try {
+            return entry.refresh().get(lookupTimeout, TimeUnit.NANOSECONDS);
+        } catch (ExecutionException e) {
+            failure = e.getCause();
+        } catch (TimeoutException e) {
+            failure = e;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            failure = e;
+        }
+
+        // a concurrent lookup may have succeeded meanwhile
+        resolved = entry.resolved;
+        if (resolved != null && now - resolved.staleUntil < 0) {
+            if (LOGGER.isLoggable(WARNING)) {
+                LOGGER.log(WARNING, "Lookup of host " + hostname + " failed, using expired addresses "
+                        + List.of(resolved.addresses), failure);
+            }
+            return resolved;
+        }
+        if (failure instanceof UnknownHostException e) {
+            throw new RuntimeUnknownHostException(e);
+        }
+        RuntimeUnknownHostException e = new RuntimeUnknownHostException(failure instanceof TimeoutException
+                                                                                ? "Lookup of host " + hostname
+                                                                                        + " timed out"
+                                                                                : "Lookup of host " + hostname
+                                                                                        + " failed");
+        e.initCause(failure);
+        throw e;
+    }
+
+    int size() {
+        return entries.size();
+    }
+
+    private void evict() {
+        if (!evictionLock.tryLock()) {
+            // another thread is already evicting
+            return;
+        }
+        try {
+            int toRemove = entries.size() - maxEntries;
+            if (toRemove <= 0) {
+                return;
+            }
+            // remove a bit more, so we do not need to evict on each new host name
+            toRemove += maxEntries / 10;
+            List<Entry> candidates = new ArrayList<>(entries.values());
+            candidates.sort(Comparator.comparingLong(it -> it.lastAccess));
+            for (int i = 0; i < toRemove && i < candidates.size(); i++) {
+                Entry entry = candidates.get(i);
+                entries.remove(entry.hostname, entry);
+            }
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    private Resolved resolved(DnsLookup.Result result) {
+        long now = clock.getAsLong();
+        long ttl = Math.clamp(result.ttl().toNanos(), minTtl, maxTtl);
+        return new Resolved(result.addresses().toArray(new InetAddress[0]),
+                            now + (long) (ttl * refreshAhead),
+                            now + ttl,
+                            now + ttl + staleTtl);
+    }
+
+    /**
+     * Cached addresses of a host name.
+     */
+    static final class Resolved {
+        private final AtomicInteger next = new AtomicInteger();
+        private final InetAddress[] addresses;
+        private final long refreshAt;
+        private final long expiresAt;
+        private final long staleUntil;
+
+        private Resolved(InetAddress[] addresses, long refreshAt, long expiresAt, long staleUntil) {
+            this.addresses = addresses;
+            this.refreshAt = refreshAt;
+            this.expiresAt = expiresAt;
+            this.staleUntil = staleUntil;
+        }
+
+        /**
+         * Resolved addresses. The array must not be modified.
+         *
+         * @return addresses
+         */
+        InetAddress[] addresses() {
+            return addresses;
+        }
+
+        /**
+         * Index of the next address to use, for round-robin.
+         *
+         * @return next index (not bounded by the number of addresses)
+         */
+        int next() {
+            return next.getAndIncrement();
+        }
+    }
+
+    private final class Entry {
+        private final ReentrantLock lock = new ReentrantLock();
+        private final String hostname;
+        private volatile Resolved resolved;
+        private volatile long lastAccess;
+        // guarded by lock
+        private CompletableFuture<Resolved> inFlight;
+
+        private Entry(String hostname) {
+            this.hostname = hostname;
+        }
+
+        private CompletableFuture<Resolved> refresh() {
+            lock.lock();
+            try {
+                if (inFlight == null) {
+                    CompletableFuture<Resolved> future = new CompletableFuture<>();
+                    inFlight = future;
+                    try {
+                        executor.execute(() -> lookup(future));
+                    } catch (RuntimeException e) {
+                        inFlight = null;
+                        future.completeExceptionally(e);
+                    }
+                    return future;
+                }
+                return inFlight;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private void lookup(CompletableFuture<Resolved> future) {
+            Resolved result = null;
+            Throwable failure = null;
+            try {
+                DnsLookup.Result lookupResult = DnsCache.this.lookup.lookup(hostname);
+                if (lookupResult.addresses().isEmpty()) {
+                    throw new UnknownHostException("No address found for host " + hostname);
+                }
+                result = resolved(lookupResult);
+                resolved = result;
+                if (LOGGER.isLoggable(DEBUG)) {
+                    LOGGER.log(DEBUG, "Resolved host " + hostname + " to " + lookupResult.addresses()
+                            + ", TTL " + lookupResult.ttl());
+                }
+            } catch (Throwable e) {
+                failure = e;
+            }
+            lock.lock();
+            try {
+                inFlight = null;
+            } finally {
+                lock.unlock();
+            }
+            if (failure == null) {
+                future.complete(result);
+            } else {
+                future.completeExceptionally(failure);
+            }
+        }
+    }
+}
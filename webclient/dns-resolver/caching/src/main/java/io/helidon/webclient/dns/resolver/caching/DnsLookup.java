@@ -0,0 +1,89 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.webclient.dns.resolver.caching;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Lookup of the addresses of a host name, together with the time they may be cached for.
+ * <p>
+ * The {@link #system(java.time.Duration) system lookup} is used by default. As the JDK does not expose the time to live
+ * of DNS records, a custom lookup (such as one using a DNS client library, or an in-process stub in tests) can be
+ * configured to honor the time to live of each record.
+ * <p>
+ * Lookups are invoked from a dedicated virtual thread, and may block.
+ *
+ * @see CachingDnsResolverConfig#lookup()
+ */
+@FunctionalInterface
+public interface DnsLookup {
+    /**
+     * Lookup using {@link java.net.InetAddress#getAllByName(String)}, with a fixed time to live.
+     * Note that the JVM may cache the addresses as well, as configured by the {@code networkaddress.cache.ttl}
+     * security property.
+     *
+     * @param ttl time to live of the addresses
+     * @return system lookup
+     */
+    static DnsLookup system(Duration ttl) {
+        Objects.requireNonNull(ttl);
+        return hostname -> Result.create(ttl, InetAddress.getAllByName(hostname));
+    }
+
+    /**
+     * Lookup the addresses of a host name.
+     *
+     * @param hostname host name to lookup
+     * @return addresses and their time to live
+     * @throws java.net.UnknownHostException if the host name cannot be resolved
+     */
+    Result lookup(String hostname) throws UnknownHostException;
+
+    /**
+     * Result of a lookup.
+     *
+     * @param addresses addresses of the host name, in the order they should be used
+     * @param ttl       time to live of the addresses (the minimal time to live of the records if they differ)
+     */
+    record Result(List<InetAddress> addresses, Duration ttl) {
+        /**
+         * Create a new result.
+         *
+         * @param addresses addresses of the host name, in the order they should be used
+         * @param ttl       time to live of the addresses
+         */
+        public Result {
+            Objects.requireNonNull(ttl);
+            addresses = List.copyOf(addresses);
+        }
+
+        /**
+         * Create a new result.
+         *
+         * @param ttl       time to live of the addresses
+         * @param addresses addresses of the host name, in the order they should be used
+         * @return a new result
+         */
+        public static Result create(Duration ttl, InetAddress... addresses) {
+            return new Result(List.of(addresses), ttl);
+        }
+    }
+}
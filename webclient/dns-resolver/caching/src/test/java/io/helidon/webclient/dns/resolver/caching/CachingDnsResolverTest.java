@@ -0,0 +1,311 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.webclient.dns.resolver.caching;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import io.helidon.webclient.api.DnsAddressLookup;
+import io.helidon.webclient.api.RuntimeUnknownHostException;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class CachingDnsResolverTest {
+    private static final InetAddress ADDRESS_1 = address(10, 0, 0, 1);
+    private static final InetAddress ADDRESS_2 = address(10, 0, 0, 2);
+    private static final InetAddress ADDRESS_V6 = v6Address();
+    private static final Duration TTL = Duration.ofSeconds(60);
+
+    private final AtomicLong clock = new AtomicLong();
+    private StubLookup lookup;
+
+    @BeforeEach
+    void setUp() {
+        lookup = new StubLookup();
+    }
+
+    @Test
+    void testCachedForTtl() {
+        lookup.answer("example.com", TTL, ADDRESS_1);
+        DnsCache cache = cache(Runnable::run);
+
+        assertThat(List.of(cache.resolve("example.com").addresses()), is(List.of(ADDRESS_1)));
+        advance(Duration.ofSeconds(30));
+        cache.resolve("example.com");
+        assertThat(lookup.count("example.com"), is(1));
+
+        lookup.answer("example.com", TTL, ADDRESS_2);
+        advance(Duration.ofSeconds(31));
+        assertThat(List.of(cache.resolve("example.com").addresses()), is(List.of(ADDRESS_2)));
+        assertThat(lookup.count("example.com"), is(2));
+    }
+
+    @Test
+    void testTtlClamped() {
+        lookup.answer("short.example.com", Duration.ZERO, ADDRESS_1);
+        DnsCache cache = cache(Runnable::run);
+
+        cache.resolve("short.example.com");
+        cache.resolve("short.example.com");
+        // minimal TTL is one second
+        assertThat(lookup.count("short.example.com"), is(1));
+        advance(Duration.ofSeconds(1));
+        cache.resolve("short.example.com");
+        assertThat(lookup.count("short.example.com"), is(2));
+    }
+
+    @Test
+    void testConcurrentLookupsCoalesced() throws Exception {
+        CountDownLatch lookupStarted = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger lookups = new AtomicInteger();
+        DnsLookup blocking = hostname -> {
+            lookups.incrementAndGet();
+            lookupStarted.countDown();
+            try {
+                release.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                throw new IllegalStateException(e);
+            }
+            return DnsLookup.Result.create(TTL, ADDRESS_1);
+        };
+        DnsCache cache = new DnsCache(blocking,
+                                      Executors.newVirtualThreadPerTaskExecutor(),
+                                      clock::get,
+                                      Duration.ofSeconds(1),
+                                      Duration.ofMinutes(10),
+                                      Duration.ofMinutes(5),
+                                      Duration.ofSeconds(10),
+                                      0.8,
+                                      100);
+
+        List<Future<DnsCache.Resolved>> futures = new ArrayList<>();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < 50; i++) {
+                futures.add(executor.submit(() -> cache.resolve("example.com")));
+            }
+            assertThat(lookupStarted.await(10, TimeUnit.SECONDS), is(true));
+            release.countDown();
+            for (Future<DnsCache.Resolved> future : futures) {
+                assertThat(List.of(future.get(10, TimeUnit.SECONDS).addresses()), is(List.of(ADDRESS_1)));
+            }
+        }
+        assertThat(lookups.get(), is(1));
+    }
+
+    @Test
+    void testRefreshAhead() {
+        lookup.answer("example.com", TTL, ADDRESS_1);
+        DnsCache cache = cache(Runnable::run);
+        cache.resolve("example.com");
+
+        lookup.answer("example.com", TTL, ADDRESS_2);
+        advance(Duration.ofSeconds(50));
+        // used after 80% of TTL, refreshed (synchronously with this executor) before expiry
+        cache.resolve("example.com");
+        assertThat(lookup.count("example.com"), is(2));
+        assertThat(List.of(cache.resolve("example.com").addresses()), is(List.of(ADDRESS_2)));
+
+        advance(Duration.ofSeconds(20));
+        // new TTL started with the refresh, no lookup needed
+        cache.resolve("example.com");
+        assertThat(lookup.count("example.com"), is(2));
+    }
+
+    @Test
+    void testStaleOnFailure() {
+        lookup.answer("example.com", TTL, ADDRESS_1);
+        DnsCache cache = cache(Runnable::run);
+        cache.resolve("example.com");
+
+        lookup.fail("example.com");
+        advance(Duration.ofSeconds(61));
+        assertThat(List.of(cache.resolve("example.com").addresses()), is(List.of(ADDRESS_1)));
+
+        // stale time is five minutes
+        advance(Duration.ofMinutes(5));
+        assertThrows(RuntimeUnknownHostException.class, () -> cache.resolve("example.com"));
+    }
+
+    @Test
+    void testFailureNotCached() {
+        lookup.fail("example.com");
+        DnsCache cache = cache(Runnable::run);
+
+        assertThrows(RuntimeUnknownHostException.class, () -> cache.resolve("example.com"));
+        lookup.answer("example.com", TTL, ADDRESS_1);
+        assertThat(List.of(cache.resolve("example.com").addresses()), is(List.of(ADDRESS_1)));
+        assertThat(lookup.count("example.com"), is(2));
+    }
+
+    @Test
+    void testLookupTimeoutUsesStale() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger lookups = new AtomicInteger();
+        DnsLookup slowAfterFirst = hostname -> {
+            if (lookups.getAndIncrement() > 0) {
+                try {
+                    release.await(10, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    throw new IllegalStateException(e);
+                }
+                return DnsLookup.Result.create(TTL, ADDRESS_2);
+            }
+            return DnsLookup.Result.create(TTL, ADDRESS_1);
+        };
+        DnsCache cache = new DnsCache(slowAfterFirst,
+                                      Executors.newVirtualThreadPerTaskExecutor(),
+                                      clock::get,
+                                      Duration.ofSeconds(1),
+                                      Duration.ofMinutes(10),
+                                      Duration.ofMinutes(5),
+                                      Duration.ofMillis(50),
+                                      1,
+                                      100);
+        cache.resolve("example.com");
+        advance(Duration.ofSeconds(61));
+        assertThat(List.of(cache.resolve("example.com").addresses()), is(List.of(ADDRESS_1)));
+
+        release.countDown();
+        // the timed out lookup completes in the background, and its result is cached
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (cache.resolve("example.com").addresses()[0].equals(ADDRESS_1)) {
+            assertThat(System.nanoTime() < deadline, is(true));
+            Thread.sleep(10);
+        }
+        assertThat(lookups.get(), is(2));
+    }
+
+    @Test
+    void testEviction() {
+        DnsCache cache = new DnsCache(hostname -> DnsLookup.Result.create(TTL, ADDRESS_1),
+                                      Runnable::run,
+                                      clock::get,
+                                      Duration.ofSeconds(1),
+                                      Duration.ofMinutes(10),
+                                      Duration.ofMinutes(5),
+                                      Duration.ofSeconds(1),
+                                      0.8,
+                                      20);
+        for (int i = 0; i < 100; i++) {
+            advance(Duration.ofMillis(1));
+            cache.resolve("host" + i + ".example.com");
+            assertThat(cache.size(), lessThanOrEqualTo(20));
+        }
+    }
+
+    @Test
+    void testResolver() {
+        lookup.answer("example.com", TTL, ADDRESS_V6, ADDRESS_1, ADDRESS_2);
+        CachingDnsResolver resolver = CachingDnsResolver.builder()
+                .lookup(lookup)
+                .roundRobin(true)
+                .build();
+
+        assertThat(resolver.resolveAddress("example.com", DnsAddressLookup.IPV4), is(ADDRESS_1));
+        assertThat(resolver.resolveAddress("example.com", DnsAddressLookup.IPV4), is(ADDRESS_2));
+        assertThat(resolver.resolveAddress("example.com", DnsAddressLookup.IPV6), is(ADDRESS_V6));
+        assertThat(lookup.count("example.com"), is(1));
+        assertThrows(RuntimeUnknownHostException.class,
+                     () -> resolver.resolveAddress("unknown.example.com", DnsAddressLookup.IPV4));
+    }
+
+    private DnsCache cache(Executor executor) {
+        return new DnsCache(lookup,
+                            executor,
+                            clock::get,
+                            Duration.ofSeconds(1),
+                            Duration.ofMinutes(10),
+                            Duration.ofMinutes(5),
+                            Duration.ofSeconds(10),
+                            0.8,
+                            100);
+    }
+
+    private void advance(Duration duration) {
+        clock.addAndGet(duration.toNanos());
+    }
+
+    private static InetAddress address(int... bytes) {
+        byte[] address = new byte[bytes.length];
+        for (int i = 0; i < bytes.length; i++) {
+            address[i] = (byte) bytes[i];
+        }
+        try {
+            return InetAddress.getByAddress(address);
+        } catch (UnknownHostException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static InetAddress v6Address() {
+        int[] bytes = new int[16];
+        bytes[0] = 0xfd;
+        bytes[15] = 1;
+        return address(bytes);
+    }
+
+    /**
+     * In-process stub of a DNS server.
+     */
+    private static final class StubLookup implements DnsLookup {
+        private final Map<String, Result> answers = new ConcurrentHashMap<>();
+        private final Map<String, AtomicInteger> counts = new ConcurrentHashMap<>();
+
+        void answer(String hostname, Duration ttl, InetAddress... addresses) {
+            answers.put(hostname, Result.create(ttl, addresses));
+        }
+
+        void fail(String hostname) {
+            answers.remove(hostname);
+        }
+
+        int count(String hostname) {
+            AtomicInteger count = counts.get(hostname);
+            return count == null ? 0 : count.get();
+        }
+
+        @Override
+        public Result lookup(String hostname) throws UnknownHostException {
+            counts.computeIfAbsent(hostname, it -> new AtomicInteger()).incrementAndGet();
+            Result result = answers.get(hostname);
+            if (result == null) {
+                throw new UnknownHostException(hostname);
+            }
+            return result;
+        }
+    }
+}
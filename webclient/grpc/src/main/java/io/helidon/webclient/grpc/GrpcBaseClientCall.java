@@ -26,6 +26,8 @@ import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.atomic.AtomicLong;
 
 import io.helidon.common.LazyValue;
@@ -103,6 +105,12 @@ abstract class GrpcBaseClientCall<ReqT, ResT> extends ClientCall<ReqT, ResT> {
                                    DistributionSummary recvMessageSize) { }
 
     private static final LazyValue<Map<String, MethodMetrics>> METHOD_METRICS = LazyValue.create(ConcurrentHashMap::new);
+    // shared by all calls, scheduled tasks must not block
+    private static final LazyValue<ScheduledExecutorService> TIMER = LazyValue.create(
+            () -> Executors.newSingleThreadScheduledExecutor(Thread.ofPlatform()
+                                                                     .daemon()
+                                                                     .name("helidon-grpc-client-timer")
+                                                                     .factory()));
 
     private final GrpcClientImpl grpcClient;
     private final GrpcChannel grpcChannel;
@@ -196,8 +204,8 @@ abstract class GrpcBaseClientCall<ReqT, ResT> extends ClientCall<ReqT, ResT> {
                 null,       // Http2ClientConfig
                 connection.streamIdSequence());
 
-        // start streaming threads
-        startStreamingThreads();
+        // start streaming
+        startStreaming();
 
         // send HEADERS frame
         WritableHeaders<?> headers = setupHeaders(metadata, clientUri.authority(), methodDescriptor.getFullMethodName());
@@ -217,7 +225,10 @@ abstract class GrpcBaseClientCall<ReqT, ResT> extends ClientCall<ReqT, ResT> {
         return headers;
     }
 
-    abstract void startStreamingThreads();
+    /**
+     * Prepare the call for streaming, invoked after the HTTP/2 stream is created, and before its headers are sent.
+     */
+    abstract void startStreaming();
 
     /**
      * Read a single gRPC frame, possibly assembled from multiple HTTP/2 frames.
@@ -289,6 +300,15 @@ abstract class GrpcBaseClientCall<ReqT, ResT> extends ClientCall<ReqT, ResT> {
         }
     }
 
+    /**
+     * Timer to schedule heartbeats and timeouts, shared by all calls.
+     *
+     * @return the shared timer
+     */
+    static ScheduledExecutorService timer() {
+        return TIMER.get();
+    }
+
     GrpcClientImpl grpcClient() {
         return grpcClient;
     }
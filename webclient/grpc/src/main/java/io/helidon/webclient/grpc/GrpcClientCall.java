@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2024, 2025 Oracle and/or its affiliates.
+ * Copyright (c) 2024, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -17,19 +17,22 @@
 package io.helidon.webclient.grpc;
 
 import java.time.Duration;
-import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.CountDownLatch;
+import java.util.ArrayDeque;
+import java.util.Optional;
+import java.util.Queue;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Future;
-import java.util.concurrent.LinkedBlockingQueue;
-import java.util.concurrent.Semaphore;
+import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
 
 import io.helidon.common.buffers.BufferData;
-import io.helidon.http.Header;
+import io.helidon.common.buffers.CompositeBufferData;
 import io.helidon.http.Headers;
+import io.helidon.http.http2.Http2FrameData;
+import io.helidon.http.http2.Http2FrameTypes;
 import io.helidon.http.http2.Http2Headers;
-import io.helidon.webclient.http2.StreamTimeoutException;
 
 import io.grpc.CallOptions;
 import io.grpc.MethodDescriptor;
@@ -40,6 +43,14 @@ import static java.lang.System.Logger.Level.ERROR;
 
 /**
  * An implementation of a gRPC call.
+ * <p>
+ * The call does not use threads of its own while idle. Messages are written to the HTTP/2 stream by the
+ * calling thread when the flow-control window allows it, otherwise they are queued and written from
+ * an executor thread that waits for a window update. Received frames are signalled by the connection, and
+ * processed by a read task on an executor thread, which delivers messages to the listener as they are requested.
+ * The read task also notifies the listener when the call is closed, so listener callbacks never overlap, and
+ * {@code onClose} is always the last one.
+ * Heartbeat pings and timeouts are scheduled using a timer shared by all calls.
  *
  * @param <ReqT> request type
  * @param <ResT> response type
@@ -48,17 +59,33 @@ class GrpcClientCall<ReqT, ResT> extends GrpcBaseClientCall<ReqT, ResT> {
     private static final System.Logger LOGGER = System.getLogger(GrpcClientCall.class.getName());
 
     private final ExecutorService executor;
-    private final Semaphore messageRequest = new Semaphore(0);
+    private final AtomicInteger messageRequest = new AtomicInteger();
+    // status of a closed call, the listener is notified by the read task
+    private final AtomicReference<Status> closeStatus = new AtomicReference<>();
 
-    private final LinkedBlockingQueue<BufferData> sendingQueue = new LinkedBlockingQueue<>();
-    private final LinkedBlockingQueue<BufferData> receivingQueue = new LinkedBlockingQueue<>();
+    private final ReentrantLock writeLock = new ReentrantLock();
+    // guarded by writeLock
+    private final Queue<BufferData> sendingQueue = new ArrayDeque<>();
+    // guarded by writeLock, true while a thread is writing messages from the sending queue
+    private boolean writing;
 
-    private final CountDownLatch startReadBarrier = new CountDownLatch(1);
-    private final CountDownLatch startWriteBarrier = new CountDownLatch(1);
+    // number of signals for the read task, it runs while greater than zero, so only one thread reads at a time
+    private final AtomicInteger readSignals = new AtomicInteger();
+    // the following fields are accessed only from the read task
+    private final Queue<BufferData> receivingQueue = new ArrayDeque<>();
+    private CompositeBufferData partialMessage = BufferData.createComposite();
+    private boolean headersRead;
+    private boolean endOfStream;
+    private Status status = Status.OK;
+    private boolean waitingForRequest;
+    private long requestWaitDeadline;
+    private boolean closeNotified;
 
-    private volatile Future<?> readStreamFuture;
-    private volatile Future<?> writeStreamFuture;
-    private volatile Future<?> heartbeatFuture;
+    private volatile boolean readStarted;
+    private volatile long lastReadNanos;
+    private volatile long lastWriteNanos;
+    private volatile ScheduledFuture<?> heartbeatFuture;
+    private volatile ScheduledFuture<?> readTimeoutFuture;
 
     GrpcClientCall(GrpcChannel grpcChannel, MethodDescriptor<ReqT, ResT> methodDescriptor, CallOptions callOptions) {
         super(grpcChannel, methodDescriptor, callOptions);
@@ -68,185 +95,326 @@ class GrpcClientCall<ReqT, ResT> extends GrpcBaseClientCall<ReqT, ResT> {
     @Override
     public void request(int numMessages) {
         socket().log(LOGGER, DEBUG, "request called %d", numMessages);
-        messageRequest.release(numMessages);
-        startReadBarrier.countDown();
+        messageRequest.addAndGet(numMessages);
+        if (!readStarted) {
+            lastReadNanos = System.nanoTime();
+            readStarted = true;
+            startReadTimeout();
+        }
+        signalRead();
     }
 
     @Override
     public void cancel(String message, Throwable cause) {
         socket().log(LOGGER, DEBUG, "cancel called %s", message);
-        responseListener().onClose(Status.CANCELLED, EMPTY_METADATA);
-        readStreamFuture.cancel(true);
-        writeStreamFuture.cancel(true);
-        heartbeatFuture.cancel(true);
-        close();
+        close(Status.CANCELLED.withDescription(message).withCause(cause));
     }
 
     @Override
     public void halfClose() {
         socket().log(LOGGER, DEBUG, "halfClose called");
-        sendingQueue.add(EMPTY_BUFFER_DATA);       // end marker
-        startWriteBarrier.countDown();
+        write(EMPTY_BUFFER_DATA);       // end marker
     }
 
     @Override
     public void sendMessage(ReqT message) {
-        // serialize and queue message for writing
+        // serialize and write message, or queue it for writing
         byte[] serialized = serializeMessage(message);
         BufferData messageData = BufferData.createReadOnly(serialized, 0, serialized.length);
         BufferData headerData = BufferData.create(DATA_PREFIX_LENGTH);
         headerData.writeInt8(0);                                // no compression
         headerData.writeUnsignedInt32(messageData.available());         // length prefixed
-        sendingQueue.add(BufferData.create(headerData, messageData));
-        startWriteBarrier.countDown();
+        write(BufferData.create(headerData, messageData));
     }
 
-    protected void startStreamingThreads() {
-        // heartbeat thread
+    @Override
+    void startStreaming() {
+        clientStream().frameListener(this::signalRead);
+
         Duration period = heartbeatPeriod();
         if (!period.isZero()) {
-            heartbeatFuture = executor.submit(() -> {
+            long periodNanos = period.toNanos();
+            lastWriteNanos = System.nanoTime();
+            heartbeatFuture = timer().scheduleAtFixedRate(() -> heartbeat(periodNanos),
+                                                          periodNanos,
+                                                          periodNanos,
+                                                          TimeUnit.NANOSECONDS);
+            socket().log(LOGGER, DEBUG, "heartbeat scheduled with period " + period);
+        }
+    }
+
+    private void write(BufferData bufferData) {
+        writeLock.lock();
+        try {
+            if (closed()) {
+                return;
+            }
+            sendingQueue.add(bufferData);
+            if (writing) {
+                // written by the thread that is already writing
+                return;
+            }
+            writing = true;
+        } finally {
+            writeLock.unlock();
+        }
+        writeQueued(true);
+    }
+
+    /**
+     * Write messages from the sending queue until it is empty. The calling thread of
+     * {@link #sendMessage(Object)} only writes while the flow-control window is large enough, as it must not block,
+     * writing of the remaining messages continues on the executor.
+     *
+     * @param callerThread whether running on the thread that queued the message
+     */
+    private void writeQueued(boolean callerThread) {
+        try {
+            while (true) {
+                BufferData bufferData;
+                boolean endOfStream;
+                writeLock.lock();
                 try {
-                    startWriteBarrier.await();
-                    socket().log(LOGGER, DEBUG, "[Heartbeat thread] started with period " + period);
-                    while (isRemoteOpen()) {
-                        Thread.sleep(period);
-                        if (sendingQueue.isEmpty()) {
-                            sendingQueue.add(PING_FRAME);
-                        }
+                    bufferData = sendingQueue.peek();
+                    if (bufferData == null || closed()) {
+                        sendingQueue.clear();
+                        writing = false;
+                        return;
                     }
-                } catch (Throwable t) {
-                    socket().log(LOGGER, DEBUG, "[Heartbeat thread] exception " + t.getMessage());
+                    if (callerThread && !writable(bufferData)) {
+                        socket().log(LOGGER, DEBUG, "flow-control window exhausted, writing from executor");
+                        executor.execute(() -> writeQueued(false));
+                        return;
+                    }
+                    sendingQueue.remove();
+                    endOfStream = bufferData == EMPTY_BUFFER_DATA || sendingQueue.peek() == EMPTY_BUFFER_DATA;
+                    if (endOfStream && bufferData != EMPTY_BUFFER_DATA) {
+                        sendingQueue.remove();
+                    }
+                } finally {
+                    writeLock.unlock();
                 }
-            });
-        } else {
-            heartbeatFuture = CompletableFuture.completedFuture(null);
-        }
 
-        // write streaming thread
-        writeStreamFuture = executor.submit(() -> {
-            try {
-                startWriteBarrier.await();
-                socket().log(LOGGER, DEBUG, "[Writing thread] started");
-
-                boolean endOfStream = false;
-                while (isRemoteOpen()) {
-                    socket().log(LOGGER, DEBUG, "[Writing thread] polling sending queue");
-                    BufferData bufferData = sendingQueue.poll(pollWaitTime().toMillis(), TimeUnit.MILLISECONDS);
-                    if (bufferData != null) {
-                        if (bufferData == PING_FRAME) {                   // ping frame
-                            clientStream().sendPing();
-                            continue;
-                        }
-                        if (bufferData == EMPTY_BUFFER_DATA) {            // end marker
-                            if (!endOfStream) {
-                                clientStream().writeData(EMPTY_BUFFER_DATA, true);
-                            }
-                            break;
-                        }
-                        endOfStream = (sendingQueue.peek() == EMPTY_BUFFER_DATA);
-                        boolean lastEndOfStream = endOfStream;
-                        socket().log(LOGGER, DEBUG, "[Writing thread] writing bufferData %b", lastEndOfStream);
-                        // update bytes sent
-                        if (enableMetrics()) {
-                            bytesSent().addAndGet(bufferData.available());
-                        }
-                        clientStream().writeData(bufferData, endOfStream);
-                    }
+                socket().log(LOGGER, DEBUG, "writing bufferData %b", endOfStream);
+                if (enableMetrics()) {
+                    bytesSent().addAndGet(bufferData.available());
                 }
-            } catch (Throwable e) {
-                socket().log(LOGGER, ERROR, e.getMessage(), e);
-                Status errorStatus = Status.UNKNOWN.withDescription(e.getMessage()).withCause(e);
-                responseListener().onClose(errorStatus, EMPTY_METADATA);
+                clientStream().writeData(bufferData, endOfStream);
+                lastWriteNanos = System.nanoTime();
             }
-            socket().log(LOGGER, DEBUG, "[Writing thread] exiting");
-        });
+        } catch (Throwable e) {
+            socket().log(LOGGER, ERROR, e.getMessage(), e);
+            close(Status.UNKNOWN.withDescription(e.getMessage()).withCause(e));
+        }
+    }
 
-        // read streaming thread
-        readStreamFuture = executor.submit(() -> {
-            try {
-                startReadBarrier.await();
-                socket().log(LOGGER, DEBUG, "[Reading thread] started");
-
-                // read response headers
-                Status status = Status.OK;
-                boolean headersRead = false;
-                do {
-                    try {
-                        Http2Headers headers = clientStream().readHeaders();
-                        if (headers.httpHeaders().contains(STATUS_NAME)) {
-                            Header grpcStatus = headers.httpHeaders().get(STATUS_NAME);
-                            status = Status.fromCodeValue(grpcStatus.getInt());
-                        }
-                        headersRead = true;
-                    } catch (StreamTimeoutException e) {
-                        handleStreamTimeout(e);
-                    }
-                } while (!headersRead);
+    private boolean writable(BufferData bufferData) {
+        return clientStream().flowControl().outbound().getRemainingWindowSize() >= bufferData.available();
+    }
 
-                // read data from stream
-                while (isRemoteOpen()) {
-                    drainReceivingQueue();
+    private void signalRead() {
+        if (readSignals.getAndIncrement() == 0) {
+            executor.execute(this::readTask);
+        }
+    }
 
-                    // trailers or eos received?
-                    if (clientStream().trailers().isDone() || !clientStream().hasEntity()) {
-                        socket().log(LOGGER, DEBUG, "[Reading thread] trailers or eos received");
-                        break;
-                    }
+    private void readTask() {
+        int signals = readSignals.get();
+        do {
+            try {
+                read();
+            } catch (Throwable e) {
+                socket().log(LOGGER, ERROR, e.getMessage(), e);
+                close(Status.UNKNOWN.withDescription(e.getMessage()).withCause(e));
+            }
+            signals = readSignals.addAndGet(-signals);
+        } while (signals != 0);
+    }
 
-                    // read complete gRPC data
-                    BufferData bufferData = readGrpcFrame();
-                    if (bufferData == null) {
-                        continue;
-                    }
+    private void read() {
+        if (closed()) {
+            notifyClose();
+            return;
+        }
+        if (!readStarted) {
+            return;
+        }
 
-                    // update bytes received excluding prefix
-                    if (enableMetrics()) {
-                        bytesRcvd().addAndGet(bufferData.available() - DATA_PREFIX_LENGTH);
-                    }
-                    receivingQueue.add(bufferData);
-                    socket().log(LOGGER, DEBUG, "[Reading thread] adding bufferData to receiving queue");
+        // process received frames
+        Http2FrameData frameData;
+        while ((frameData = clientStream().poll()) != null) {
+            lastReadNanos = System.nanoTime();
+            if (frameData.header().flags(Http2FrameTypes.DATA).endOfStream()) {
+                endOfStream = true;
+            }
+            addData(frameData.data());
+        }
+        if (!headersRead) {
+            Optional<Http2Headers> headers = clientStream().receivedHeaders();
+            if (headers.isPresent()) {
+                headersRead = true;
+                if (headers.get().httpHeaders().contains(STATUS_NAME)) {
+                    status = Status.fromCodeValue(headers.get().httpHeaders().get(STATUS_NAME).getInt());
                 }
+            }
+        }
+
+        // deliver requested messages
+        boolean delivered = false;
+        while (!receivingQueue.isEmpty() && !closed() && tryAcquireRequest()) {
+            responseListener().onMessage(toResponse(receivingQueue.remove()));
+            delivered = true;
+        }
+        if (delivered) {
+            waitingForRequest = false;
+        }
+        if (closed()) {
+            // closed while delivering
+            notifyClose();
+            return;
+        }
 
-                // attempt to drain our receiving queue if permits arrive on time
-                if (!receivingQueue.isEmpty()) {
+        // trailers or eos received?
+        boolean trailersReceived = clientStream().trailers().isDone();
+        if (trailersReceived || endOfStream || (headersRead && !clientStream().hasEntity())) {
+            if (!receivingQueue.isEmpty()) {
+                // wait for permits to drain our receiving queue
+                long now = System.nanoTime();
+                if (!waitingForRequest) {
                     Duration waitTime = grpcClient().prototype().protocolConfig().nextRequestWaitTime();
-                    do {
-                        if (messageRequest.tryAcquire(waitTime.toNanos(), TimeUnit.NANOSECONDS)) {
-                            ResT res = toResponse(receivingQueue.remove());
-                            responseListener().onMessage(res);
-                        } else {
-                            socket().log(LOGGER, DEBUG, "[Reading thread] unable to drain receiving queue");
-                            status = Status.CANCELLED;
-                            break;      // wait time expired
-                        }
-                    } while (!receivingQueue.isEmpty());
+                    waitingForRequest = true;
+                    requestWaitDeadline = now + waitTime.toNanos();
+                    timer().schedule(this::signalRead, waitTime.toNanos(), TimeUnit.NANOSECONDS);
+                    return;
                 }
-
-                // report onClose call with final status
-                if (clientStream().trailers().isDone()) {
-                    Headers trailers = clientStream().trailers().get();
-                    if (trailers.contains(STATUS_NAME)) {
-                        status = Status.fromCodeValue(trailers.get(STATUS_NAME).getInt());
-                    }
+                if (now - requestWaitDeadline < 0) {
+                    return;
+                }
+                socket().log(LOGGER, DEBUG, "unable to drain receiving queue");
+                status = Status.CANCELLED;
+            } else if (trailersReceived) {
+                Headers trailers = clientStream().trailers().join();
+                if (trailers.contains(STATUS_NAME)) {
+                    status = Status.fromCodeValue(trailers.get(STATUS_NAME).getInt());
                 }
-                responseListener().onClose(status, EMPTY_METADATA);
-            } catch (StreamTimeoutException e) {
-                responseListener().onClose(Status.DEADLINE_EXCEEDED, EMPTY_METADATA);
-            } catch (Throwable e) {
-                socket().log(LOGGER, ERROR, e.getMessage(), e);
-                Status errorStatus = Status.UNKNOWN.withDescription(e.getMessage()).withCause(e);
-                responseListener().onClose(errorStatus, EMPTY_METADATA);
-            } finally {
-                close();
             }
-            socket().log(LOGGER, DEBUG, "[Reading thread] exiting");
+            close(status);
+        } else if (clientStream().aborted()) {
+            close(Status.UNAVAILABLE.withDescription("HTTP/2 stream closed before the end of the response"));
+        }
+    }
+
+    /**
+     * Collect gRPC messages from an HTTP/2 data frame. A frame that contains exactly one message is used as is,
+     * otherwise messages are assembled from frames, as a message may span multiple frames, and a frame may
+     * contain multiple messages.
+     *
+     * @param data data of an HTTP/2 frame
+     */
+    private void addData(BufferData data) {
+        if (partialMessage.available() == 0
+                && data.available() >= DATA_PREFIX_LENGTH
+                && DATA_PREFIX_LENGTH + messageLength(data) == data.available()) {
+            received(data);
+            return;
+        }
+        partialMessage.add(data);
+        while (partialMessage.available() >= DATA_PREFIX_LENGTH) {
+            long length = DATA_PREFIX_LENGTH + messageLength(partialMessage);
+            if (partialMessage.available() < length) {
+                break;
+            }
+            byte[] message = new byte[Math.toIntExact(length)];
+            partialMessage.read(message);
+            received(BufferData.create(message));
+        }
+        if (partialMessage.available() == 0) {
+            // release consumed frames
+            partialMessage = BufferData.createComposite();
+        }
+    }
+
+    private void received(BufferData message) {
+        // update bytes received excluding prefix
+        if (enableMetrics()) {
+            bytesRcvd().addAndGet(message.available() - DATA_PREFIX_LENGTH);
+        }
+        receivingQueue.add(message);
+    }
+
+    private boolean tryAcquireRequest() {
+        int requested;
+        do {
+            requested = messageRequest.get();
+            if (requested <= 0) {
+                return false;
+            }
+        } while (!messageRequest.compareAndSet(requested, requested - 1));
+        return true;
+    }
+
+    private void heartbeat(long periodNanos) {
+        if (closed() || !isRemoteOpen() || System.nanoTime() - lastWriteNanos < periodNanos) {
+            return;
+        }
+        // do not block the timer while writing
+        executor.execute(() -> {
+            try {
+                clientStream().sendPing();
+                lastWriteNanos = System.nanoTime();
+            } catch (Throwable t) {
+                socket().log(LOGGER, DEBUG, "heartbeat failed " + t.getMessage());
+            }
         });
     }
 
-    private void close() {
+    private void startReadTimeout() {
+        if (!abortPollTimeExpired()) {
+            return;
+        }
+        long timeoutNanos = pollWaitTime().toNanos();
+        readTimeoutFuture = timer().scheduleWithFixedDelay(() -> {
+            if (!closed() && System.nanoTime() - lastReadNanos >= timeoutNanos) {
+                socket().log(LOGGER, ERROR, "HTTP/2 stream timeout, aborting");
+                close(Status.DEADLINE_EXCEEDED);
+            }
+        }, timeoutNanos, timeoutNanos, TimeUnit.NANOSECONDS);
+    }
+
+    private boolean closed() {
+        return closeStatus.get() != null;
+    }
+
+    /**
+     * Close this call. May be invoked from any thread, the listener is notified by the read task once it
+     * completes delivery of the current message.
+     *
+     * @param status status to report to the listener
+     */
+    private void close(Status status) {
+        if (!closeStatus.compareAndSet(null, status)) {
+            return;
+        }
         socket().log(LOGGER, DEBUG, "closing client call");
-        sendingQueue.clear();
+        cancelTask(heartbeatFuture);
+        cancelTask(readTimeoutFuture);
+        writeLock.lock();
+        try {
+            sendingQueue.clear();
+        } finally {
+            writeLock.unlock();
+        }
+        signalRead();
+    }
+
+    private void notifyClose() {
+        if (closeNotified) {
+            return;
+        }
+        closeNotified = true;
+        receivingQueue.clear();
+
+        responseListener().onClose(closeStatus.get(), EMPTY_METADATA);
         clientStream().cancel();
         connection().close();
         unblockUnaryExecutor();
@@ -261,11 +429,16 @@ class GrpcClientCall<ReqT, ResT> extends GrpcBaseClientCall<ReqT, ResT> {
         }
     }
 
-    private void drainReceivingQueue() {
-        socket().log(LOGGER, DEBUG, "[Reading thread] draining receiving queue");
-        while (!receivingQueue.isEmpty() && messageRequest.tryAcquire()) {
-            ResT res = toResponse(receivingQueue.remove());
-            responseListener().onMessage(res);
+    private static long messageLength(BufferData data) {
+        return (data.get(1) & 0xFFL) << 24
+                | (data.get(2) & 0xFFL) << 16
+                | (data.get(3) & 0xFFL) << 8
+                | (data.get(4) & 0xFFL);
+    }
+
+    private static void cancelTask(ScheduledFuture<?> future) {
+        if (future != null) {
+            future.cancel(false);
         }
     }
 }
@@ -73,7 +73,8 @@ interface GrpcClientProtocolConfigBlueprint extends ProtocolConfig {
 
     /**
      * How often to send a heartbeat (HTTP/2 ping) to check if the connection is still
-     * alive. This is useful for long-running, streaming gRPC calls. It is turned off by
+     * alive. This is useful for long-running, streaming gRPC calls. A ping is only sent if no
+     * data was written to the connection during the last period. It is turned off by
      * default but can be enabled by setting the period to a value greater than 0.
      *
      * @return heartbeat period
@@ -28,6 +28,7 @@ import java.util.function.Supplier;
 
 import io.helidon.common.ParserHelper;
 import io.helidon.common.buffers.BufferData;
+import io.helidon.common.buffers.BufferDataSource;
 import io.helidon.common.buffers.Bytes;
 import io.helidon.common.buffers.DataReader;
 import io.helidon.common.buffers.DataWriter;
@@ -84,6 +85,7 @@ abstract class Http1CallChainBase implements WebClientService.Chain {
     private final Duration timeout;
     private final Http1ClientImpl http1Client;
     private ClientConnection effectiveConnection;
+    private Http1ConnectionCache.Lease lease;
 
     Http1CallChainBase(Http1ClientImpl http1Client,
                        Http1ClientRequestImpl clientRequest,
@@ -119,7 +121,8 @@ abstract class Http1CallChainBase implements WebClientService.Chain {
                                                           DataReader reader,
                                                           Status responseStatus,
                                                           ClientResponseHeaders responseHeaders,
-                                                          CompletableFuture<WebClientServiceResponse> whenComplete) {
+                                                          CompletableFuture<WebClientServiceResponse> whenComplete,
+                                                          Http1ConnectionCache.Lease lease) {
         WebClientServiceResponse.Builder builder = WebClientServiceResponse.builder();
         AtomicReference<WebClientServiceResponse> response = new AtomicReference<>();
 
@@ -133,6 +136,11 @@ abstract class Http1CallChainBase implements WebClientService.Chain {
                                             whenComplete));
         }
 
+        if (lease != null && lease.pool() != null) {
+            builder.connectionPool(lease.pool())
+                    .connectionAcquireTime(lease.acquireTime());
+        }
+
         WebClientServiceResponse serviceResponse = builder
                 .connection(connection)
                 .headers(responseHeaders)
@@ -148,7 +156,12 @@ abstract class Http1CallChainBase implements WebClientService.Chain {
     @Override
     public WebClientServiceResponse proceed(WebClientServiceRequest serviceRequest) {
         // either use the explicit connection, or obtain one (keep alive or one-off)
-        effectiveConnection = connection == null ? obtainConnection(serviceRequest) : connection;
+        if (connection == null) {
+            lease = obtainConnection(serviceRequest);
+            effectiveConnection = lease.connection();
+        } else {
+            effectiveConnection = connection;
+        }
         effectiveConnection.readTimeout(this.timeout);
 
         DataWriter writer = effectiveConnection.writer();
@@ -226,6 +239,10 @@ abstract class Http1CallChainBase implements WebClientService.Chain {
         return effectiveConnection;
     }
 
+    Http1ConnectionCache.Lease lease() {
+        return lease;
+    }
+
     Http1ClientRequestImpl originalRequest() {
         return originalRequest;
     }
@@ -260,7 +277,8 @@ abstract class Http1CallChainBase implements WebClientService.Chain {
                                      reader,
                                      responseStatus,
                                      responseHeaders,
-                                     whenComplete);
+                                     whenComplete,
+                                     lease);
     }
 
     private static InputStream inputStream(HttpClientConfig clientConfig,
@@ -315,7 +333,7 @@ abstract class Http1CallChainBase implements WebClientService.Chain {
         return true;
     }
 
-    private ClientConnection obtainConnection(WebClientServiceRequest request) {
+    private Http1ConnectionCache.Lease obtainConnection(WebClientServiceRequest request) {
         var address = originalRequest.address();
         UnixDomainSocketAddress udsAddress = address.filter(a -> a instanceof UnixDomainSocketAddress)
                 .map(UnixDomainSocketAddress.class::cast)
@@ -323,24 +341,24 @@ abstract class Http1CallChainBase implements WebClientService.Chain {
 
         if (udsAddress == null) {
             return http1Client.connectionCache()
-                    .connection(http1Client,
-                                tls,
-                                proxy,
-                                request.uri(),
-                                request.headers(),
-                                keepAlive);
+                    .lease(http1Client,
+                           tls,
+                           proxy,
+                           request.uri(),
+                           request.headers(),
+                           keepAlive);
         } else {
             return http1Client.connectionCache()
-                    .connection(http1Client,
-                                tls,
-                                request.uri(),
-                                request.headers(),
-                                keepAlive,
-                                udsAddress);
+                    .lease(http1Client,
+                           tls,
+                           request.uri(),
+                           request.headers(),
+                           keepAlive,
+                           udsAddress);
         }
     }
 
-    static class ContentLengthInputStream extends InputStream {
+    static class ContentLengthInputStream extends InputStream implements BufferDataSource {
         private final DataReader reader;
         private final Runnable entityProcessedRunnable;
         private final HelidonSocket socket;
@@ -394,6 +412,21 @@ abstract class Http1CallChainBase implements WebClientService.Chain {
             return read;
         }
 
+        @Override
+        public BufferData readBuffer(int estimate) {
+            if (finished) {
+                return null;
+            }
+            ensureBuffer(maxRemaining(Math.max(estimate, 1)));
+            if (finished || currentBuffer == null) {
+                return null;
+            }
+            BufferData result = currentBuffer;
+            currentBuffer = null;
+            remainingLength -= result.available();
+            return result;
+        }
+
         private int maxRemaining(int estimate) {
             return Integer.min(estimate, (int) Long.min(Integer.MAX_VALUE, remainingLength));
         }
@@ -430,7 +463,7 @@ abstract class Http1CallChainBase implements WebClientService.Chain {
         }
     }
 
-    static class EverythingInputStream extends InputStream {
+    static class EverythingInputStream extends InputStream implements BufferDataSource {
         private final HelidonSocket helidonSocket;
         private final DataReader reader;
         private final Runnable entityProcessedRunnable;
@@ -473,13 +506,35 @@ abstract class Http1CallChainBase implements WebClientService.Chain {
             return currentBuffer.read(b, off, len);
         }
 
+        @Override
+        public BufferData readBuffer(int estimate) {
+            if (finished) {
+                return null;
+            }
+            ensureBuffer(Math.max(estimate, 1));
+            if (finished || currentBuffer == null) {
+                return null;
+            }
+            BufferData result = currentBuffer;
+            currentBuffer = null;
+            return result;
+        }
+
         private void ensureBuffer(int estimate) {
             if (currentBuffer != null && currentBuffer.available() > 0) {
                 // we did not read the previous buffer fully
                 return;
             }
 
-            reader.ensureAvailable();
+            try {
+                reader.ensureAvailable();
+            } catch (DataReader.InsufficientDataAvailableException e) {
+                // the server closed the connection, which is the end of the entity
+                currentBuffer = null;
+                finished = true;
+                entityProcessedRunnable.run();
+                return;
+            }
             int toRead = Math.min(reader.available(), estimate);
 
             // read between 0 and available bytes (or estimate, which is the number of requested bytes)
@@ -498,7 +553,7 @@ abstract class Http1CallChainBase implements WebClientService.Chain {
         }
     }
 
-    static class ChunkedInputStream extends InputStream {
+    static class ChunkedInputStream extends InputStream implements BufferDataSource {
         private final HelidonSocket helidonSocket;
         private final DataReader reader;
         private final Runnable entityProcessedRunnable;
@@ -541,6 +596,20 @@ abstract class Http1CallChainBase implements WebClientService.Chain {
             return currentBuffer.read(b, off, len);
         }
 
+        @Override
+        public BufferData readBuffer(int estimate) {
+            if (finished) {
+                return null;
+            }
+            ensureBuffer();
+            if (finished || currentBuffer == null) {
+                return null;
+            }
+            BufferData result = currentBuffer;
+            currentBuffer = null;
+            return result;
+        }
+
         private void ensureBuffer() {
             if (currentBuffer != null && currentBuffer.available() > 0) {
                 // we did not read the previous buffer fully
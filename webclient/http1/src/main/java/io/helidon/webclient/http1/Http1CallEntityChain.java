@@ -16,6 +16,8 @@
 
 package io.helidon.webclient.http1;
 
+import java.io.UncheckedIOException;
+import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 
 import io.helidon.common.buffers.BufferData;
@@ -27,11 +29,13 @@ import io.helidon.http.HeaderValues;
 import io.helidon.webclient.api.ClientConnection;
 import io.helidon.webclient.api.WebClientServiceRequest;
 import io.helidon.webclient.api.WebClientServiceResponse;
+import io.helidon.webclient.spi.WebClientService;
 
 import static java.lang.System.Logger.Level.TRACE;
 
 class Http1CallEntityChain extends Http1CallChainBase {
 
+    private final Http1ClientImpl http1Client;
     private final CompletableFuture<WebClientServiceRequest> whenSent;
     private final byte[] entity;
 
@@ -42,6 +46,7 @@ class Http1CallEntityChain extends Http1CallChainBase {
                          byte[] entity) {
         super(http1Client, request, whenComplete);
 
+        this.http1Client = http1Client;
         this.whenSent = whenSent;
         this.entity = entity;
     }
@@ -65,8 +70,18 @@ class Http1CallEntityChain extends Http1CallChainBase {
         if (entity.length > 0) {
             writeBuffer.write(entity);
         }
-        writer.write(writeBuffer);
-        writer.flush();
+        try {
+            writer.write(writeBuffer);
+            writer.flush();
+        } catch (UncheckedIOException e) {
+            // the connection is in an unknown state (such as when the call was cancelled), it must not be reused
+            try {
+                connection.closeResource();
+            } catch (Exception ex) {
+                e.addSuppressed(ex);
+            }
+            throw e;
+        }
 
         if (entity.length > 0 && LOGGER_REQ_ENTITY.isLoggable(TRACE)) {
             connection.helidonSocket()
@@ -76,4 +91,18 @@ class Http1CallEntityChain extends Http1CallChainBase {
 
         return readResponse(serviceRequest, connection, reader);
     }
+
+    @Override
+    public Optional<WebClientService.Chain> copy() {
+        if (originalRequest().connection().isPresent()) {
+            // an explicit connection cannot be used by two calls at once
+            return Optional.empty();
+        }
+        // the copy must not complete the futures of this call, only the caller knows which of the calls to use
+        return Optional.of(new Http1CallEntityChain(http1Client,
+                                                    originalRequest(),
+                                                    new CompletableFuture<>(),
+                                                    new CompletableFuture<>(),
+                                                    entity));
+    }
 }
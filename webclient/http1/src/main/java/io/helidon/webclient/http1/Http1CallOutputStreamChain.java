@@ -81,7 +81,8 @@ class Http1CallOutputStreamChain extends Http1CallChainBase {
                                                                             serviceRequest,
                                                                             originalRequest(),
                                                                             whenSent,
-                                                                            whenComplete());
+                                                                            whenComplete(),
+                                                                            lease());
 
         boolean interrupted = false;
         try {
@@ -150,7 +151,8 @@ class Http1CallOutputStreamChain extends Http1CallChainBase {
                                          clientResponse.connection().reader(),
                                          clientResponse.status(),
                                          clientResponse.headers(),
-                                         whenComplete());
+                                         whenComplete(),
+                                         null);
         }
 
         return createServiceResponse(clientConfig(),
@@ -159,7 +161,8 @@ class Http1CallOutputStreamChain extends Http1CallChainBase {
                                      reader,
                                      responseStatus,
                                      responseHeaders,
-                                     whenComplete());
+                                     whenComplete(),
+                                     lease());
     }
 
     private static void checkRedirectHeaders(Headers headerValues) {
@@ -177,6 +180,7 @@ class Http1CallOutputStreamChain extends Http1CallChainBase {
         private final Http1ClientRequestImpl originalRequest;
         private final CompletableFuture<WebClientServiceRequest> whenSent;
         private final CompletableFuture<WebClientServiceResponse> whenComplete;
+        private final Http1ConnectionCache.Lease lease;
         private final HttpClientConfig clientConfig;
         private final Http1ClientProtocolConfig protocolConfig;
         private final WritableHeaders<?> headers;
@@ -207,7 +211,8 @@ class Http1CallOutputStreamChain extends Http1CallChainBase {
                                              WebClientServiceRequest request,
                                              Http1ClientRequestImpl originalRequest,
                                              CompletableFuture<WebClientServiceRequest> whenSent,
-                                             CompletableFuture<WebClientServiceResponse> whenComplete) {
+                                             CompletableFuture<WebClientServiceResponse> whenComplete,
+                                             Http1ConnectionCache.Lease lease) {
             this.connection = connection;
             this.ctx = connection.helidonSocket();
             this.writer = writer;
@@ -223,6 +228,7 @@ class Http1CallOutputStreamChain extends Http1CallChainBase {
             this.lastRequest = originalRequest;
             this.whenSent = whenSent;
             this.whenComplete = whenComplete;
+            this.lease = lease;
         }
 
         @Override
@@ -323,13 +329,19 @@ class Http1CallOutputStreamChain extends Http1CallChainBase {
                                          response.connection().reader(),
                                          response.status(),
                                          response.headers(),
-                                         whenComplete);
+                                         whenComplete,
+                                         null);
         }
 
         boolean closed() {
             return closed;
         }
 
+        // connection is replaced when redirected
+        private Http1ConnectionCache.Lease leaseOf(ClientConnection connection) {
+            return lease != null && lease.connection() == connection ? lease : null;
+        }
+
         boolean interrupted() {
             return interrupted;
         }
@@ -458,7 +470,8 @@ class Http1CallOutputStreamChain extends Http1CallChainBase {
                                                                      reader,
                                                                      responseStatus,
                                                                      ClientResponseHeaders.create(responseHeaders),
-                                                                     whenComplete);
+                                                                     whenComplete,
+                                                                     leaseOf(connection));
                         //we are not sending anything by this OS, we need to interrupt it.
                         throw new OutputStreamInterruptedException();
                     }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022, 2025 Oracle and/or its affiliates.
+ * Copyright (c) 2022, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -24,6 +24,8 @@ import io.helidon.webclient.api.WebClient;
 import io.helidon.webclient.spi.HttpClientSpi;
 
 class Http1ClientImpl implements Http1Client, HttpClientSpi {
+    private static final System.Logger LOGGER = System.getLogger(Http1ClientImpl.class.getName());
+
     private final WebClient webClient;
     private final Http1ClientConfig clientConfig;
     private final Http1ClientProtocolConfig protocolConfig;
@@ -34,13 +36,19 @@ class Http1ClientImpl implements Http1Client, HttpClientSpi {
         this.webClient = webClient;
         this.clientConfig = clientConfig;
         this.protocolConfig = clientConfig.protocolConfig();
-        if (clientConfig.shareConnectionCache()) {
+        Http1ConnectionPool.Limits limits = Http1ConnectionPool.Limits.create(protocolConfig);
+        if (!limits.unlimited()) {
+            // limits are enforced by the cache, and cannot be shared with other clients
+            this.connectionCache = Http1ConnectionCache.create(limits);
+            this.clientCache = connectionCache;
+        } else if (clientConfig.shareConnectionCache()) {
             this.connectionCache = Http1ConnectionCache.shared();
             this.clientCache = null;
         } else {
             this.connectionCache = Http1ConnectionCache.create();
             this.clientCache = connectionCache;
         }
+        prewarm();
     }
 
     @Override
@@ -99,6 +107,24 @@ class Http1ClientImpl implements Http1Client, HttpClientSpi {
         }
     }
 
+    private void prewarm() {
+        int count = protocolConfig.prewarmConnections();
+        if (count <= 0 || !protocolConfig.defaultKeepAlive() || clientConfig.baseUri().isEmpty()) {
+            return;
+        }
+        ClientUri uri = ClientUri.create(clientConfig.baseUri().get());
+        clientConfig.executor().submit(() -> {
+            try {
+                int opened = connectionCache.prewarm(this, clientConfig.tls(), clientConfig.proxy(), uri, count);
+                if (LOGGER.isLoggable(System.Logger.Level.DEBUG)) {
+                    LOGGER.log(System.Logger.Level.DEBUG, "Pre-warmed " + opened + " connections to " + uri.authority());
+                }
+            } catch (RuntimeException e) {
+                LOGGER.log(System.Logger.Level.WARNING, "Failed to pre-warm connections to " + uri.authority(), e);
+            }
+        });
+    }
+
     WebClient webClient() {
         return webClient;
     }
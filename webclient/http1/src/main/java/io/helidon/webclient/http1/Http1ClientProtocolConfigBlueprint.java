@@ -16,6 +16,9 @@
 
 package io.helidon.webclient.http1;
 
+import java.time.Duration;
+import java.util.Optional;
+
 import io.helidon.builder.api.Option;
 import io.helidon.builder.api.Prototype;
 import io.helidon.common.Size;
@@ -99,4 +102,62 @@ interface Http1ClientProtocolConfigBlueprint extends ProtocolConfig {
     @Option.Configured
     @Option.DefaultBoolean(true)
     boolean validateResponseHeaders();
+
+    /**
+     * Maximal number of connections the client may open in total (to all hosts).
+     * When reached, idle connections to other hosts are closed to make room for a new connection, or the request
+     * waits until a connection is closed, up to {@link #connectionAcquireTimeout()}.
+     * <p>
+     * Connection limits are enforced by the connection cache of the client, so a client that configures a limit
+     * or {@link #idleConnectionTimeout()} does not use the shared connection cache.
+     *
+     * @return maximal number of connections, {@code -1} for unlimited (default)
+     */
+    @Option.Configured
+    @Option.DefaultInt(-1)
+    int maxConnections();
+
+    /**
+     * Maximal number of connections the client may open to a single host (a connection key is formed by the scheme,
+     * host, port, TLS configuration, DNS resolver, DNS address lookup, and proxy).
+     * When reached, requests wait in order of arrival for a connection to be returned to the pool,
+     * up to {@link #connectionAcquireTimeout()}.
+     *
+     * @return maximal number of connections per host, {@code -1} for unlimited (default)
+     * @see #maxConnections()
+     */
+    @Option.Configured
+    @Option.DefaultInt(-1)
+    int maxConnectionsPerHost();
+
+    /**
+     * How long to wait for a connection when the connection limits are reached.
+     * An {@link java.lang.IllegalStateException} is thrown when the timeout is reached.
+     *
+     * @return connection acquire timeout
+     */
+    @Option.Configured
+    @Option.Default("PT10S")
+    Duration connectionAcquireTimeout();
+
+    /**
+     * Connections idle in the connection cache for longer than this timeout are closed instead of being reused.
+     * If not configured, idle connections are reused until closed by the server.
+     *
+     * @return idle connection timeout
+     * @see #maxConnections()
+     */
+    @Option.Configured
+    Optional<Duration> idleConnectionTimeout();
+
+    /**
+     * Number of connections to open to the {@link io.helidon.webclient.api.HttpClientConfig#baseUri()} when the client
+     * is created, so the first requests do not pay for connection (and TLS handshake) setup.
+     * The connections are opened in the background using the client executor, and only when keep alive is enabled.
+     *
+     * @return number of connections to pre-warm, {@code 0} to disable (default)
+     */
+    @Option.Configured
+    @Option.DefaultInt(0)
+    int prewarmConnections();
 }
@@ -30,6 +30,7 @@ import io.helidon.http.Status;
 import io.helidon.http.media.EntityWriter;
 import io.helidon.http.media.InstanceWriter;
 import io.helidon.http.media.MediaContext;
+import io.helidon.webclient.api.ClientConnection;
 import io.helidon.webclient.api.ClientRequestBase;
 import io.helidon.webclient.api.ClientUri;
 import io.helidon.webclient.api.FullClientRequest;
@@ -265,13 +266,23 @@ class Http1ClientRequestImpl extends ClientRequestBase<Http1ClientRequest, Http1
                                            serviceResponse.status(),
                                            serviceResponse.serviceRequest().headers(),
                                            serviceResponse.headers(),
-                                           callChain.connection(),
+                                           connection(serviceResponse),
                                            serviceResponse.inputStream().orElse(null),
                                            mediaContext(),
                                            resolvedUri,
                                            complete);
     }
 
+    private static ClientConnection connection(WebClientServiceResponse serviceResponse) {
+        // a service may have returned a response of a copy of the call chain (such as a hedged request)
+        if (serviceResponse.connection() instanceof ClientConnection connection) {
+            return connection;
+        }
+        // a service has returned a response that it created (such as a cached response), the connection
+        // of the call chain (if it was used at all) has already been released or closed by that service
+        return null;
+    }
+
     /**
      * Whether this request is part of an output stream redirection probe.
      * Default is {@code false}.
@@ -29,6 +29,7 @@ import io.helidon.common.GenericType;
 import io.helidon.common.HelidonServiceLoader;
 import io.helidon.common.LazyValue;
 import io.helidon.common.buffers.BufferData;
+import io.helidon.common.buffers.BufferDataSource;
 import io.helidon.common.buffers.DataReader;
 import io.helidon.common.media.type.ParserMode;
 import io.helidon.http.ClientRequestHeaders;
@@ -112,7 +113,7 @@ class Http1ClientResponseImpl implements Http1ClientResponse {
             this.entityLength = ENTITY_LENGTH_CHUNKED;
         }
 
-        if (responseHeaders.contains(HeaderNames.TRAILER)) {
+        if (connection != null && responseHeaders.contains(HeaderNames.TRAILER)) {
             this.hasTrailers = true;
             this.trailerNames = responseHeaders.get(HeaderNames.TRAILER).allValues(true);
         } else {
@@ -153,6 +154,10 @@ class Http1ClientResponseImpl implements Http1ClientResponse {
     public void close() {
         if (closed.compareAndSet(false, true)) {
             try {
+                if (connection == null) {
+                    // response provided by a client service without an HTTP call, such as from a cache
+                    return;
+                }
                 if (headers().containsToken(HeaderValues.CONNECTION_CLOSE)) {
                     connection.closeResource();
                 } else {
@@ -240,11 +245,7 @@ class Http1ClientResponseImpl implements Http1ClientResponse {
     }
 
     private BufferData readBytes(int estimate) {
-        BufferData bufferData = BufferData.create(estimate);
-        int bytesRead = bufferData.readFrom(inputStream);
-        if (bytesRead == -1) {
-            return null;
-        }
-        return bufferData;
+        // buffers read from the connection are used as they are, unless the entity is decoded or decorated
+        return BufferDataSource.readBuffer(inputStream, estimate);
     }
 }
@@ -17,12 +17,10 @@
 package io.helidon.webclient.http1;
 
 import java.net.UnixDomainSocketAddress;
-import java.util.Collection;
+import java.time.Duration;
 import java.util.List;
 import java.util.Map;
-import java.util.Queue;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.LinkedBlockingDeque;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 import io.helidon.common.tls.Tls;
@@ -32,6 +30,7 @@ import io.helidon.http.WritableHeaders;
 import io.helidon.webclient.api.ClientConnection;
 import io.helidon.webclient.api.ClientUri;
 import io.helidon.webclient.api.ConnectionKey;
+import io.helidon.webclient.api.ConnectionPoolStatistics;
 import io.helidon.webclient.api.Proxy;
 import io.helidon.webclient.api.TcpClientConnection;
 import io.helidon.webclient.api.UnixDomainSocketClientConnection;
@@ -41,20 +40,27 @@ import io.helidon.webclient.spi.ClientConnectionCache;
 import static java.lang.System.Logger.Level.DEBUG;
 
 /**
- * Cache of HTTP/1.1 connections for keep alive.
+ * Cache of HTTP/1.1 connections for keep alive, with a {@link io.helidon.webclient.http1.Http1ConnectionPool}
+ * for each connection key.
  */
 class Http1ConnectionCache extends ClientConnectionCache {
     private static final System.Logger LOGGER = System.getLogger(Http1ConnectionCache.class.getName());
     private static final Tls NO_TLS = Tls.builder().enabled(false).build();
     private static final String HTTPS = "https";
-    private static final Http1ConnectionCache SHARED = new Http1ConnectionCache(true);
+    private static final Http1ConnectionCache SHARED = new Http1ConnectionCache(true, Http1ConnectionPool.Limits.UNLIMITED);
     private static final List<String> ALPN_ID = List.of(Http1Client.PROTOCOL_ID);
 
-    private final Map<ConnectionKey, LinkedBlockingDeque<ClientConnection>> cache = new ConcurrentHashMap<>();
+    private final Map<ConnectionKey, Http1ConnectionPool> cache = new ConcurrentHashMap<>();
     private final AtomicBoolean closed = new AtomicBoolean();
+    private final Http1ConnectionPool.Group pools;
 
     protected Http1ConnectionCache(boolean shared) {
+        this(shared, Http1ConnectionPool.Limits.UNLIMITED);
+    }
+
+    private Http1ConnectionCache(boolean shared, Http1ConnectionPool.Limits limits) {
         super(shared);
+        this.pools = new Http1ConnectionPool.Group(limits);
     }
 
     static Http1ConnectionCache shared() {
@@ -65,48 +71,92 @@ class Http1ConnectionCache extends ClientConnectionCache {
         return new Http1ConnectionCache(false);
     }
 
+    static Http1ConnectionCache create(Http1ConnectionPool.Limits limits) {
+        return new Http1ConnectionCache(false, limits);
+    }
+
     ClientConnection connection(Http1ClientImpl http1Client,
                                 Tls tls,
                                 ClientUri uri,
                                 ClientRequestHeaders headers,
                                 boolean defaultKeepAlive,
                                 UnixDomainSocketAddress address) {
+        return lease(http1Client, tls, uri, headers, defaultKeepAlive, address).connection();
+    }
+
+    ClientConnection connection(Http1ClientImpl http1Client,
+                                Tls tls,
+                                Proxy proxy,
+                                ClientUri uri,
+                                ClientRequestHeaders headers,
+                                boolean defaultKeepAlive) {
+        return lease(http1Client, tls, proxy, uri, headers, defaultKeepAlive).connection();
+    }
+
+    Lease lease(Http1ClientImpl http1Client,
+                Tls tls,
+                ClientUri uri,
+                ClientRequestHeaders headers,
+                boolean defaultKeepAlive,
+                UnixDomainSocketAddress address) {
 
         boolean keepAlive = handleKeepAlive(defaultKeepAlive, headers);
         Tls effectiveTls = HTTPS.equals(uri.scheme()) ? tls : NO_TLS;
         if (keepAlive) {
             return keepAliveUnixDomainConnection(http1Client, effectiveTls, uri, address);
         } else {
-            return UnixDomainSocketClientConnection.create(http1Client.webClient(),
-                                                           effectiveTls,
-                                                           ALPN_ID,
-                                                           address,
-                                                           it -> false,
-                                                           it -> {
-                                                           });
+            return new Lease(UnixDomainSocketClientConnection.create(http1Client.webClient(),
+                                                                     effectiveTls,
+                                                                     ALPN_ID,
+                                                                     address,
+                                                                     it -> false,
+                                                                     it -> {
+                                                                     }),
+                             null,
+                             null);
         }
     }
 
-    ClientConnection connection(Http1ClientImpl http1Client,
-                                Tls tls,
-                                Proxy proxy,
-                                ClientUri uri,
-                                ClientRequestHeaders headers,
-                                boolean defaultKeepAlive) {
+    Lease lease(Http1ClientImpl http1Client,
+                Tls tls,
+                Proxy proxy,
+                ClientUri uri,
+                ClientRequestHeaders headers,
+                boolean defaultKeepAlive) {
         boolean keepAlive = handleKeepAlive(defaultKeepAlive, headers);
         Tls effectiveTls = HTTPS.equals(uri.scheme()) ? tls : NO_TLS;
         if (keepAlive) {
             return keepAliveConnection(http1Client, effectiveTls, uri, proxy);
         } else {
-            return oneOffConnection(http1Client, effectiveTls, uri, proxy);
+            return new Lease(oneOffConnection(http1Client, effectiveTls, uri, proxy), null, null);
+        }
+    }
+
+    /**
+     * Open new connections to the URI and add them to the pool as idle connections, as long as the pool limits allow it.
+     *
+     * @param http1Client client
+     * @param tls         TLS to use for HTTPS
+     * @param proxy       proxy to use
+     * @param uri         URI to connect to
+     * @param count       number of connections to open
+     * @return number of connections opened
+     */
+    int prewarm(Http1ClientImpl http1Client, Tls tls, Proxy proxy, ClientUri uri, int count) {
+        Tls effectiveTls = HTTPS.equals(uri.scheme()) ? tls : NO_TLS;
+        ConnectionKey connectionKey = connectionKey(http1Client.clientConfig(), effectiveTls, uri, proxy);
+        Http1ConnectionPool pool = pool(http1Client.clientConfig(), connectionKey);
+        for (int i = 0; i < count; i++) {
+            if (closed.get() || !pool.prewarm(() -> tcpConnection(http1Client, connectionKey, pool))) {
+                return i;
+            }
         }
+        return count;
     }
 
     @Override
     public void evict() {
-        cache.values().stream()
-                .flatMap(Collection::stream)
-                .forEach(ClientConnection::closeResource);
+        pools.evict();
     }
 
     @Override
@@ -114,7 +164,7 @@ class Http1ConnectionCache extends ClientConnectionCache {
         if (closed.getAndSet(true)) {
             return;
         }
-        evict();
+        pools.close();
     }
 
     private boolean handleKeepAlive(boolean defaultKeepAlive, WritableHeaders<?> headers) {
@@ -132,10 +182,10 @@ class Http1ConnectionCache extends ClientConnectionCache {
         return false;
     }
 
-    private ClientConnection keepAliveUnixDomainConnection(Http1ClientImpl http1Client,
-                                                           Tls tls,
-                                                           ClientUri uri,
-                                                           UnixDomainSocketAddress address) {
+    private Lease keepAliveUnixDomainConnection(Http1ClientImpl http1Client,
+                                                Tls tls,
+                                                ClientUri uri,
+                                                UnixDomainSocketAddress address) {
         if (closed.get()) {
             throw new IllegalStateException("Connection cache is closed");
         }
@@ -150,77 +200,35 @@ class Http1ConnectionCache extends ClientConnectionCache {
                                                            clientConfig.dnsAddressLookup(),
                                                            Proxy.noProxy());
 
-        LinkedBlockingDeque<ClientConnection> connectionQueue =
-                cache.computeIfAbsent(connectionKey,
-                                      it -> new LinkedBlockingDeque<>(clientConfig.connectionCacheSize()));
-
-        ClientConnection connection;
-        while ((connection = connectionQueue.poll()) != null && !connection.isConnected()) {
-        }
-
-        if (connection == null) {
-            connection = UnixDomainSocketClientConnection.create(http1Client.webClient(),
-                                                                 tls,
-                                                                 ALPN_ID,
-                                                                 address,
-                                                                 conn -> finishRequest(connectionQueue, conn),
-                                                                 conn -> {
-                                                                 })
-                    .connect();
-        } else {
-            if (LOGGER.isLoggable(DEBUG)) {
-                LOGGER.log(DEBUG, String.format("[%s] UNIX socket client connection obtained %s",
-                                                connection.channelId(),
-                                                Thread.currentThread().getName()));
-            }
-        }
-        return connection;
+        Http1ConnectionPool pool = pool(clientConfig, connectionKey);
+
+        long start = System.nanoTime();
+        ClientConnection connection = pool.acquire(() -> UnixDomainSocketClientConnection.create(http1Client.webClient(),
+                                                                                                 tls,
+                                                                                                 ALPN_ID,
+                                                                                                 address,
+                                                                                                 pool::release,
+                                                                                                 pool::closed)
+                .connect());
+        return new Lease(connection, pool, Duration.ofNanos(System.nanoTime() - start));
     }
 
-
-    private ClientConnection keepAliveConnection(Http1ClientImpl http1Client,
-                                                 Tls tls,
-                                                 ClientUri uri,
-                                                 Proxy proxy) {
+    private Lease keepAliveConnection(Http1ClientImpl http1Client,
+                                      Tls tls,
+                                      ClientUri uri,
+                                      Proxy proxy) {
 
         if (closed.get()) {
             throw new IllegalStateException("Connection cache is closed");
         }
 
         Http1ClientConfig clientConfig = http1Client.clientConfig();
+        ConnectionKey connectionKey = connectionKey(clientConfig, tls, uri, proxy);
+        Http1ConnectionPool pool = pool(clientConfig, connectionKey);
 
-        ConnectionKey connectionKey = ConnectionKey.create(uri.scheme(),
-                                                           uri.host(),
-                                                           uri.port(),
-                                                           tls,
-                                                           clientConfig.dnsResolver(),
-                                                           clientConfig.dnsAddressLookup(),
-                                                           proxy);
-
-        Queue<ClientConnection> connectionQueue =
-                cache.computeIfAbsent(connectionKey,
-                                      it -> new LinkedBlockingDeque<>(clientConfig.connectionCacheSize()));
-
-        ClientConnection connection;
-        while ((connection = connectionQueue.poll()) != null && !connection.isConnected()) {
-        }
-
-        if (connection == null) {
-            connection = TcpClientConnection.create(http1Client.webClient(),
-                                                    connectionKey,
-                                                    ALPN_ID,
-                                                    conn -> finishRequest(connectionQueue, conn),
-                                                    conn -> {
-                                                    })
-                    .connect();
-        } else {
-            if (LOGGER.isLoggable(DEBUG)) {
-                LOGGER.log(DEBUG, String.format("[%s] client connection obtained %s",
-                                                connection.channelId(),
-                                                Thread.currentThread().getName()));
-            }
-        }
-        return connection;
+        long start = System.nanoTime();
+        ClientConnection connection = pool.acquire(() -> tcpConnection(http1Client, connectionKey, pool));
+        return new Lease(connection, pool, Duration.ofNanos(System.nanoTime() - start));
     }
 
     private ClientConnection oneOffConnection(Http1ClientImpl http1Client,
@@ -247,29 +255,43 @@ class Http1ConnectionCache extends ClientConnectionCache {
                 .connect();
     }
 
-    private boolean finishRequest(Queue<ClientConnection> connectionQueue, ClientConnection conn) {
-        if (conn.isConnected()) {
-            // this must be done before we return the connection to the queue, to avoid race condition, where another client
-            // may take the connection from the queue, and we would set it as idle after that
-            // mark it as idle to stay blocked at read for closed conn detection
-            conn.helidonSocket().idle();
-
-            if (connectionQueue.offer(conn)) {
-                if (LOGGER.isLoggable(DEBUG)) {
-                    LOGGER.log(DEBUG, String.format("[%s] client connection returned %s",
-                                                    conn.channelId(),
-                                                    Thread.currentThread().getName()));
-                }
-                return true;
-            }
-            if (LOGGER.isLoggable(DEBUG)) {
-                LOGGER.log(DEBUG, String.format("[%s] Unable to return client connection because queue is full %s",
-                                                conn.channelId(),
-                                                Thread.currentThread().getName()));
-            }
+    private ConnectionKey connectionKey(Http1ClientConfig clientConfig, Tls tls, ClientUri uri, Proxy proxy) {
+        return ConnectionKey.create(uri.scheme(),
+                                    uri.host(),
+                                    uri.port(),
+                                    tls,
+                                    clientConfig.dnsResolver(),
+                                    clientConfig.dnsAddressLookup(),
+                                    proxy);
+    }
+
+    private Http1ConnectionPool pool(Http1ClientConfig clientConfig, ConnectionKey connectionKey) {
+        return cache.computeIfAbsent(connectionKey,
+                                     it -> pools.createPool(it.host() + ":" + it.port(), clientConfig.connectionCacheSize()));
+    }
+
+    private ClientConnection tcpConnection(Http1ClientImpl http1Client, ConnectionKey connectionKey, Http1ConnectionPool pool) {
+        ClientConnection connection = TcpClientConnection.create(http1Client.webClient(),
+                                                                 connectionKey,
+                                                                 ALPN_ID,
+                                                                 pool::release,
+                                                                 pool::closed)
+                .connect();
+        if (LOGGER.isLoggable(DEBUG)) {
+            LOGGER.log(DEBUG, String.format("[%s] client connection opened %s",
+                                            connection.channelId(),
+                                            Thread.currentThread().getName()));
         }
+        return connection;
+    }
 
-        // connection will be closed by the caller, no need to do anything else here
-        return false;
+    /**
+     * Connection obtained from the cache.
+     *
+     * @param connection  connection to use
+     * @param pool        pool the connection belongs to, {@code null} if not pooled
+     * @param acquireTime time it took to obtain the connection from the pool, {@code null} if not pooled
+     */
+    record Lease(ClientConnection connection, ConnectionPoolStatistics pool, Duration acquireTime) {
     }
 }
@@ -0,0 +1,518 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.webclient.http1;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+import io.helidon.webclient.api.ClientConnection;
+import io.helidon.webclient.api.ConnectionPoolStatistics;
+
+import static java.lang.System.Logger.Level.DEBUG;
+
+/**
+ * Pool of keep alive connections to a single connection key.
+ * <p>
+ * Connections are reused in the order they were returned to the pool. When the pool reaches its limits,
+ * requests wait in order of arrival. All state is guarded by the lock of the pool. When the number of all connections
+ * is limited, the limit is shared by all pools of a connection cache, and all pools use the lock of their {@link Group};
+ * otherwise each pool has its own lock, so requests to different hosts do not contend.
+ */
+final class Http1ConnectionPool implements ConnectionPoolStatistics {
+    private static final System.Logger LOGGER = System.getLogger(Http1ConnectionPool.class.getName());
+
+    private final Group group;
+    private final ReentrantLock lock;
+    private final String name;
+    private final int maxIdle;
+    private final ArrayDeque<IdleConnection> idle = new ArrayDeque<>();
+    private final Set<ClientConnection> leased = Collections.newSetFromMap(new IdentityHashMap<>());
+    private final ArrayDeque<Condition> waiters = new ArrayDeque<>();
+    // idle, leased, and connecting
+    private int open;
+
+    private Http1ConnectionPool(Group group, String name, int maxIdle) {
+        this.group = group;
+        this.lock = group.limited ? group.lock : new ReentrantLock();
+        this.name = name;
+        this.maxIdle = maxIdle;
+    }
+
+    @Override
+    public int connections() {
+        lock.lock();
+        try {
+            return open;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public int maxConnections() {
+        int max = group.limits.maxConnectionsPerHost();
+        return max > 0 ? max : Integer.MAX_VALUE;
+    }
+
+    @Override
+    public long activeRequests() {
+        lock.lock();
+        try {
+            return leased.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public long maxConcurrentRequests() {
+        // a single request at a time on each HTTP/1.1 connection
+        int max = group.limits.maxConnectionsPerHost();
+        return max > 0 ? max : Long.MAX_VALUE;
+    }
+
+    @Override
+    public int waitingRequests() {
+        lock.lock();
+        try {
+            return waiters.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+
+    /**
+     * Obtain an idle connection, or open a new one if the limits allow it, or wait for one of these
+     * to become possible.
+     *
+     * @param connector opens a new connection, that uses {@link #release(ClientConnection)} and
+     *                  {@link #closed(ClientConnection)} as its callbacks
+     * @return connection leased from this pool
+     */
+    ClientConnection acquire(Supplier<ClientConnection> connector) {
+        long timeout = group.limits.acquireTimeout().toNanos();
+        long deadline = System.nanoTime() + timeout;
+        List<ClientConnection> toClose = new ArrayList<>();
+        Condition waiter = null;
+
+        lock.lock();
+        try {
+            while (true) {
+                if (group.closed) {
+                    removeWaiter(waiter);
+                    throw new IllegalStateException("Connection cache is closed");
+                }
+                if (waiter == null ? waiters.isEmpty() : waiters.peekFirst() == waiter) {
+                    ClientConnection connection = pollIdle(toClose);
+                    if (connection != null) {
+                        leased.add(connection);
+                        removeWaiter(waiter);
+                        return connection;
+                    }
+                    if (mayOpen(toClose)) {
+                        open++;
+                        group.connectionOpened();
+                        removeWaiter(waiter);
+                        break;
+                    }
+                }
+                if (!toClose.isEmpty()) {
+                    // close outside of lock, closing will wake us up again
+                    lock.unlock();
+                    try {
+                        closeAll(toClose);
+                    } finally {
+                        lock.lock();
+                    }
+                    continue;
+                }
+                if (waiter == null) {
+                    waiter = lock.newCondition();
+                    waiters.addLast(waiter);
+                }
+                long remaining = deadline - System.nanoTime();
+                if (remaining <= 0) {
+                    removeWaiter(waiter);
+                    throw new IllegalStateException("Timeout " + group.limits.acquireTimeout()
+                                                            + " reached while waiting for a connection to " + name);
+                }
+                try {
+                    waiter.awaitNanos(remaining);
+                } catch (InterruptedException e) {
+                    removeWaiter(waiter);
+                    Thread.currentThread().interrupt();
+                    throw new IllegalStateException("Interrupted while waiting for a connection to " + name, e);
+                }
+            }
+        } finally {
+            lock.unlock();
+            closeAll(toClose);
+        }
+
+        return connect(connector);
+    }
+
+    /**
+     * Add a new connection that was not leased (such as pre-warmed connection), if the limits allow it.
+     *
+     * @param connector opens a new connection
+     * @return whether the connection was added
+     */
+    boolean prewarm(Supplier<ClientConnection> connector) {
+        lock.lock();
+        try {
+            if (group.closed || idle.size() >= maxIdle || !mayOpen(null)) {
+                return false;
+            }
+            open++;
+            group.connectionOpened();
+        } finally {
+            lock.unlock();
+        }
+        connect(connector).releaseResource();
+        return true;
+    }
+
+    /**
+     * Return a connection to the pool after a request is finished.
+     *
+     * @param connection connection to return
+     * @return {@code true} if the connection was returned, {@code false} if it should be closed by the caller
+     */
+    boolean release(ClientConnection connection) {
+        if (!connection.isConnected()) {
+            return false;
+        }
+        // this must be done before we return the connection to the pool, to avoid race condition, where another client
+        // may take the connection from the pool, and we would set it as idle after that
+        // mark it as idle to stay blocked at read for closed conn detection
+        connection.helidonSocket().idle();
+
+        lock.lock();
+        try {
+            if (group.closed || idle.size() >= maxIdle || !leased.remove(connection)) {
+                if (LOGGER.isLoggable(DEBUG)) {
+                    LOGGER.log(DEBUG, String.format("[%s] Unable to return client connection because pool is full %s",
+                                                    connection.channelId(),
+                                                    Thread.currentThread().getName()));
+                }
+                // connection will be closed by the caller, which also updates the counters
+                return false;
+            }
+            idle.addLast(new IdleConnection(connection, System.nanoTime()));
+            signalFirst();
+        } finally {
+            lock.unlock();
+        }
+        if (LOGGER.isLoggable(DEBUG)) {
+            LOGGER.log(DEBUG, String.format("[%s] client connection returned %s",
+                                            connection.channelId(),
+                                            Thread.currentThread().getName()));
+        }
+        return true;
+    }
+
+    /**
+     * A connection of this pool was closed.
+     *
+     * @param connection closed connection
+     */
+    void closed(ClientConnection connection) {
+        lock.lock();
+        try {
+            if (leased.remove(connection) || removeIdle(connection)) {
+                open--;
+                group.connectionClosed();
+                group.signalWaiters(this);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Close all idle connections.
+     */
+    void evict() {
+        List<ClientConnection> toClose = new ArrayList<>();
+        lock.lock();
+        try {
+            IdleConnection next;
+            while ((next = idle.pollFirst()) != null) {
+                leased.add(next.connection());
+                toClose.add(next.connection());
+            }
+        } finally {
+            lock.unlock();
+        }
+        closeAll(toClose);
+    }
+
+    // connection is already counted as open
+    private ClientConnection connect(Supplier<ClientConnection> connector) {
+        ClientConnection connection;
+        try {
+            connection = connector.get();
+        } catch (RuntimeException | Error e) {
+            lock.lock();
+            try {
+                open--;
+                group.connectionClosed();
+                group.signalWaiters(this);
+            } finally {
+                lock.unlock();
+            }
+            throw e;
+        }
+        lock.lock();
+        try {
+            leased.add(connection);
+        } finally {
+            lock.unlock();
+        }
+        return connection;
+    }
+
+    // first idle connection that is still usable, unusable connections are added to the list to close
+    private ClientConnection pollIdle(List<ClientConnection> toClose) {
+        long idleTimeout = group.idleTimeoutNanos;
+        long now = System.nanoTime();
+        IdleConnection next;
+        while ((next = idle.pollFirst()) != null) {
+            ClientConnection connection = next.connection();
+            if (connection.isConnected() && (idleTimeout == 0 || now - next.since() < idleTimeout)) {
+                if (LOGGER.isLoggable(DEBUG)) {
+                    LOGGER.log(DEBUG, String.format("[%s] client connection obtained %s",
+                                                    connection.channelId(),
+                                                    Thread.currentThread().getName()));
+                }
+                return connection;
+            }
+            // counted as leased until closed
+            leased.add(connection);
+            toClose.add(connection);
+        }
+        return null;
+    }
+
+    // whether a new connection may be opened, may choose idle connections of other pools to close if null is not passed
+    private boolean mayOpen(List<ClientConnection> toClose) {
+        Limits limits = group.limits;
+        if (limits.maxConnectionsPerHost() > 0 && open >= limits.maxConnectionsPerHost()) {
+            return false;
+        }
+        if (limits.maxConnections() > 0 && group.open >= limits.maxConnections()) {
+            if (toClose != null && toClose.isEmpty()) {
+                group.closeIdle(this, toClose);
+            }
+            return false;
+        }
+        return true;
+    }
+
+    private boolean removeIdle(ClientConnection connection) {
+        Iterator<IdleConnection> iterator = idle.iterator();
+        while (iterator.hasNext()) {
+            if (iterator.next().connection() == connection) {
+                iterator.remove();
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void removeWaiter(Condition waiter) {
+        if (waiter != null) {
+            boolean wasFirst = waiters.peekFirst() == waiter;
+            waiters.remove(waiter);
+            if (wasFirst) {
+                // let the next waiter check if it can proceed
+                signalFirst();
+            }
+        }
+    }
+
+    private void signalFirst() {
+        Condition first = waiters.peekFirst();
+        if (first != null) {
+            first.signal();
+        }
+    }
+
+    private static void closeAll(List<ClientConnection> connections) {
+        for (ClientConnection connection : connections) {
+            connection.closeResource();
+        }
+        connections.clear();
+    }
+
+    /**
+     * Limits of connection pools.
+     *
+     * @param maxConnections        maximal number of connections of all pools, non-positive for unlimited
+     * @param maxConnectionsPerHost maximal number of connections of a single pool, non-positive for unlimited
+     * @param acquireTimeout        how long to wait for a connection
+     * @param idleTimeout           how long may a connection stay idle in a pool, zero for unlimited
+     */
+    record Limits(int maxConnections, int maxConnectionsPerHost, Duration acquireTimeout, Duration idleTimeout) {
+        /**
+         * No limits, used by the shared connection cache.
+         */
+        static final Limits UNLIMITED = new Limits(-1, -1, Duration.ofSeconds(10), Duration.ZERO);
+
+        static Limits create(Http1ClientProtocolConfig config) {
+            return new Limits(config.maxConnections(),
+                              config.maxConnectionsPerHost(),
+                              config.connectionAcquireTimeout(),
+                              config.idleConnectionTimeout().orElse(Duration.ZERO));
+        }
+
+        boolean unlimited() {
+            return maxConnections <= 0 && maxConnectionsPerHost <= 0 && idleTimeout.isZero();
+        }
+    }
+
+    /**
+     * Pools sharing limits, one group per connection cache.
+     */
+    static final class Group {
+        private final ReentrantLock lock = new ReentrantLock();
+        // guarded by the lock
+        private final List<Http1ConnectionPool> pools = new ArrayList<>();
+        private final Limits limits;
+        private final long idleTimeoutNanos;
+        // whether the number of all connections is limited, and the pools share the lock of this group
+        private final boolean limited;
+        // guarded by the lock, only counted when limited
+        private int open;
+        private volatile boolean closed;
+
+        Group(Limits limits) {
+            this.limits = limits;
+            this.idleTimeoutNanos = limits.idleTimeout().toNanos();
+            this.limited = limits.maxConnections() > 0;
+        }
+
+        Http1ConnectionPool createPool(String name, int maxIdle) {
+            Http1ConnectionPool pool = new Http1ConnectionPool(this, name, maxIdle);
+            lock.lock();
+            try {
+                pools.add(pool);
+            } finally {
+                lock.unlock();
+            }
+            return pool;
+        }
+
+        void close() {
+            List<Http1ConnectionPool> toEvict;
+            lock.lock();
+            try {
+                closed = true;
+                toEvict = List.copyOf(pools);
+            } finally {
+                lock.unlock();
+            }
+            for (Http1ConnectionPool pool : toEvict) {
+                pool.lock.lock();
+                try {
+                    for (Condition waiter : pool.waiters) {
+                        waiter.signal();
+                    }
+                } finally {
+                    pool.lock.unlock();
+                }
+            }
+            toEvict.forEach(Http1ConnectionPool::evict);
+        }
+
+        void evict() {
+            List<Http1ConnectionPool> toEvict;
+            lock.lock();
+            try {
+                toEvict = List.copyOf(pools);
+            } finally {
+                lock.unlock();
+            }
+            toEvict.forEach(Http1ConnectionPool::evict);
+        }
+
+        // a connection is opened, the caller holds the lock of its pool
+        private void connectionOpened() {
+            if (limited) {
+                open++;
+            }
+        }
+
+        // a connection is closed, the caller holds the lock of its pool
+        private void connectionClosed() {
+            if (limited) {
+                open--;
+            }
+        }
+
+        // a connection was closed, waiters of the pool may open a new one, and when the total is limited,
+        // also waiters of other pools (which share the lock of the pool)
+        private void signalWaiters(Http1ConnectionPool pool) {
+            pool.signalFirst();
+            if (limited) {
+                for (Http1ConnectionPool other : pools) {
+                    if (other != pool) {
+                        other.signalFirst();
+                    }
+                }
+            }
+        }
+
+        // close the connection idle for the longest time in another pool, to make room for a new connection,
+        // only used when limited (so the lock of all pools is held)
+        private void closeIdle(Http1ConnectionPool requester, List<ClientConnection> toClose) {
+            Http1ConnectionPool oldestPool = null;
+            long oldest = 0;
+            for (Http1ConnectionPool pool : pools) {
+                IdleConnection first = pool.idle.peekFirst();
+                if (pool != requester && first != null && (oldestPool == null || first.since() - oldest < 0)) {
+                    oldestPool = pool;
+                    oldest = first.since();
+                }
+            }
+            if (oldestPool != null) {
+                ClientConnection connection = oldestPool.idle.pollFirst().connection();
+                // counted as leased until closed
+                oldestPool.leased.add(connection);
+                toClose.add(connection);
+            }
+        }
+    }
+
+    private record IdleConnection(ClientConnection connection, long since) {
+    }
+}
@@ -20,18 +20,24 @@ import java.io.OutputStream;
 import java.net.URI;
 import java.nio.charset.StandardCharsets;
 import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Queue;
 import java.util.StringTokenizer;
 import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletionStage;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Stream;
 
 import io.helidon.common.GenericType;
 import io.helidon.common.buffers.BufferData;
+import io.helidon.common.buffers.BufferDataSource;
 import io.helidon.common.buffers.Bytes;
 import io.helidon.common.buffers.DataReader;
 import io.helidon.common.buffers.DataWriter;
@@ -54,6 +60,7 @@ import io.helidon.logging.common.LogConfig;
 import io.helidon.webclient.api.ClientConnection;
 import io.helidon.webclient.api.HttpClientResponse;
 import io.helidon.webclient.api.Proxy;
+import io.helidon.webclient.api.WebClientServiceResponse;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -66,6 +73,7 @@ import static org.hamcrest.CoreMatchers.containsString;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.CoreMatchers.startsWith;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.params.provider.Arguments.arguments;
 
@@ -215,6 +223,47 @@ class Http1ClientTest {
         assertThat(response.headers(), hasHeader(REQ_EXPECT_100_HEADER_NAME));
     }
 
+    @Test
+    void testBufferSourceContentLength() {
+        ScriptedHttp1ClientConnection connection = new ScriptedHttp1ClientConnection(
+                "HTTP/1.1 200 OK\r\nContent-Length: 15\r\n\r\n",
+                "first",
+                "second",
+                "last");
+
+        testBufferSource(connection);
+        assertThat(connection.releaseCount(), is(1));
+        assertThat(connection.closeCount(), is(0));
+    }
+
+    @Test
+    void testBufferSourceChunked() {
+        ScriptedHttp1ClientConnection connection = new ScriptedHttp1ClientConnection(
+                "HTTP/1.1 200 OK\r\nTransfer-Encoding: chunked\r\n\r\n",
+                "5\r\nfirst\r\n",
+                "6\r\nsecond\r\n",
+                "4\r\nlast\r\n",
+                "0\r\n\r\n");
+
+        testBufferSource(connection);
+        assertThat(connection.releaseCount(), is(1));
+        assertThat(connection.closeCount(), is(0));
+    }
+
+    @Test
+    void testBufferSourceReadToEnd() {
+        // neither content length nor chunked, the entity ends when the server closes the connection
+        ScriptedHttp1ClientConnection connection = new ScriptedHttp1ClientConnection(
+                "HTTP/1.1 200 OK\r\nConnection: close\r\n\r\n",
+                "first",
+                "second",
+                "last");
+
+        testBufferSource(connection);
+        assertThat(connection.releaseCount(), is(0));
+        assertThat(connection.closeCount(), is(1));
+    }
+
     // validates that HEAD is not allowed with entity payload
     @Test
     void testHeadMethod() {
@@ -444,6 +493,36 @@ class Http1ClientTest {
         assertThat(responseEntity, is(entity));
     }
 
+    private static void testBufferSource(ScriptedHttp1ClientConnection connection) {
+        AtomicReference<CompletionStage<WebClientServiceResponse>> whenComplete = new AtomicReference<>();
+        Http1Client serviceClient = Http1Client.builder()
+                .addService((chain, request) -> {
+                    whenComplete.set(request.whenComplete());
+                    return chain.proceed(request);
+                })
+                .build();
+        Http1ClientResponse response = serviceClient.get("http://localhost:" + dummyPort + "/test")
+                .connection(connection)
+                .request();
+
+        BufferDataSource source = response.entity().bufferSource();
+        List<String> buffers = new ArrayList<>();
+        int total = 0;
+        BufferData buffer;
+        while ((buffer = source.readBuffer(1024)) != null) {
+            total += buffer.available();
+            buffers.add(buffer.readString(buffer.available(), StandardCharsets.US_ASCII));
+        }
+
+        // buffers are the ones read from the connection
+        assertThat(buffers, contains("first", "second", "last"));
+        assertThat(total, is(15));
+        assertThat(whenComplete.get().toCompletableFuture().isDone(), is(true));
+
+        // the response was closed when the entity was fully read
+        response.close();
+    }
+
     private static Http1ClientRequest getHttp1ClientRequest(Method method, String uriPath) {
         return client.method(method).uri("http://localhost:" + dummyPort + uriPath);
     }
@@ -876,6 +955,83 @@ header.writeHttp1Header(entityBuffer);
 
     }
 
+    /**
+     * Connection that provides a prepared response, each part is read from the connection as a separate buffer.
+     */
+    private static class ScriptedHttp1ClientConnection implements ClientConnection {
+        private final Queue<byte[]> parts = new ArrayDeque<>();
+        private final DataReader reader;
+        private int releaseCount;
+        private int closeCount;
+
+        ScriptedHttp1ClientConnection(String... parts) {
+            for (String part : parts) {
+                this.parts.add(part.getBytes(StandardCharsets.US_ASCII));
+            }
+            // null once all parts are read, same as a closed socket
+            this.reader = DataReader.create(this.parts::poll);
+        }
+
+        @Override
+        public HelidonSocket helidonSocket() {
+            return new FakeSocket();
+        }
+
+        @Override
+        public DataReader reader() {
+            return reader;
+        }
+
+        @Override
+        public DataWriter writer() {
+            return new DataWriter() {
+                @Override
+                public void write(BufferData... buffers) {
+                }
+
+                @Override
+                public void write(BufferData buffer) {
+                }
+
+                @Override
+                public void writeNow(BufferData... buffers) {
+                }
+
+                @Override
+                public void writeNow(BufferData buffer) {
+                }
+            };
+        }
+
+        @Override
+        public void releaseResource() {
+            releaseCount++;
+        }
+
+        @Override
+        public void closeResource() {
+            closeCount++;
+        }
+
+        @Override
+        public String channelId() {
+            return helidonSocket().socketId();
+        }
+
+        @Override
+        public void readTimeout(Duration readTimeout) {
+            //NOOP
+        }
+
+        int releaseCount() {
+            return releaseCount;
+        }
+
+        int closeCount() {
+            return closeCount;
+        }
+    }
+
     private static class FakeSocket implements HelidonSocket {
         @Override
         public void close() {
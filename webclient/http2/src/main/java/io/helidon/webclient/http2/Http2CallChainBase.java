@@ -23,6 +23,7 @@ import java.util.function.Consumer;
 import java.util.function.Function;
 
 import io.helidon.common.buffers.BufferData;
+import io.helidon.common.buffers.BufferDataSource;
 import io.helidon.common.tls.Tls;
 import io.helidon.http.ClientRequestHeaders;
 import io.helidon.http.ClientResponseHeaders;
@@ -95,6 +96,7 @@ abstract class Http2CallChainBase implements WebClientService.Chain {
                 .status(responseStatus)
                 .headers(clientResponseHeaders)
                 .connection(stream)
+                .connectionPool(stream.connectionPool())
                 .build();
 
         response.set(serviceResponse);
@@ -119,7 +121,13 @@ abstract class Http2CallChainBase implements WebClientService.Chain {
             if (result.result() == Http2ConnectionAttemptResult.Result.HTTP_2) {
                 // ALPN, prior knowledge, or upgrade success
                 this.stream = result.stream();
-                return doProceed(serviceRequest, requestHeaders, result.stream());
+                try {
+                    return doProceed(serviceRequest, requestHeaders, result.stream());
+                } finally {
+                    // the stream holds a slot of its connection until it is registered by sending headers,
+                    // release it if the request failed before that
+                    result.stream().releaseReservation();
+                }
             } else {
                 // upgrade failed
                 this.response = result.response();
@@ -209,6 +217,7 @@ abstract class Http2CallChainBase implements WebClientService.Chain {
                 .status(responseStatus)
                 .headers(responseHeaders)
                 .connection(stream)
+                .connectionPool(stream.connectionPool())
                 .build();
 
         response.set(serviceResponse);
@@ -280,7 +289,7 @@ abstract class Http2CallChainBase implements WebClientService.Chain {
         }
     }
 
-    private static class RequestingInputStream extends InputStream {
+    private static class RequestingInputStream extends InputStream implements BufferDataSource {
         private final Function<Integer, BufferData> bufferFunction;
         private final Runnable entityProcessedRunnable;
 
@@ -320,6 +329,23 @@ abstract class Http2CallChainBase implements WebClientService.Chain {
             return currentBuffer.read(b, off, len);
         }
 
+        @Override
+        public BufferData readBuffer(int estimate) {
+            if (finished) {
+                return null;
+            }
+            do {
+                // skip empty DATA frames that do not end the stream
+                ensureBuffer(estimate);
+            } while (!finished && currentBuffer != null && currentBuffer.consumed());
+            if (finished || currentBuffer == null) {
+                return null;
+            }
+            BufferData result = currentBuffer;
+            currentBuffer = null;
+            return result;
+        }
+
         private void ensureBuffer(int estimate) {
             if (currentBuffer != null && currentBuffer.consumed()) {
                 currentBuffer = null;
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2023 Oracle and/or its affiliates.
+ * Copyright (c) 2023, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -29,6 +29,15 @@ class Http2ClientConfigSupport {
                         "Max frame size needs to be a number between 2^14(16_384) and 2^24-1(16_777_215)"
                 );
             }
+            if (target.maxConnectionsPerAuthority() < 1) {
+                throw new IllegalArgumentException("Max connections per authority must be at least 1, but is: "
+                                                           + target.maxConnectionsPerAuthority());
+            }
+            double threshold = target.streamUtilizationThreshold();
+            if (threshold <= 0 || threshold > 1) {
+                throw new IllegalArgumentException("Stream utilization threshold must be greater than 0 and not greater"
+                                                           + " than 1, but is: " + threshold);
+            }
         }
     }
 }
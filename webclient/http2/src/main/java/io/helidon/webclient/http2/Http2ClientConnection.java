@@ -25,6 +25,7 @@ import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Future;
 import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.concurrent.locks.Lock;
@@ -36,6 +37,7 @@ import io.helidon.common.buffers.BufferData;
 import io.helidon.common.buffers.DataReader;
 import io.helidon.common.buffers.DataWriter;
 import io.helidon.common.socket.SocketContext;
+import io.helidon.http.http2.BdpEstimator;
 import io.helidon.http.http2.ConnectionFlowControl;
 import io.helidon.http.http2.FlowControl;
 import io.helidon.http.http2.Http2ConnectionWriter;
@@ -78,6 +80,8 @@ public class Http2ClientConnection {
     // streams may be accessed from connection thread, or stream thread, must be guarded by the above lock
     private final Map<Integer, Http2ClientStream> streams = new HashMap<>();
     private final ConnectionFlowControl connectionFlowControl;
+    // null if flow control auto-tuning is disabled, only used from the connection thread
+    private final BdpEstimator bdpEstimator;
     private final Http2Headers.DynamicTable inboundDynamicTable =
             Http2Headers.DynamicTable.create(Http2Setting.HEADER_TABLE_SIZE.defaultValue());
     private final ReentrantLock inboundDynamicTableLock = new ReentrantLock();
@@ -90,7 +94,11 @@ public class Http2ClientConnection {
     private final Semaphore pingPongSemaphore = new Semaphore(0);
     private final AtomicLong pingIdSequence = new AtomicLong();
     private final Http2ClientConfig clientConfig;
+    // streams created, but not yet registered (headers not yet sent), so they are counted towards load of this connection
+    private final AtomicInteger reservedStreams = new AtomicInteger();
     private volatile int lastStreamId;
+    private volatile long maxConcurrentStreams = Long.MAX_VALUE;
+    private volatile long lastActivity = System.nanoTime();
     private volatile long expectedPingAck = NO_PING_ACK;
 
     private Http2Settings serverSettings = Http2Settings.builder()
@@ -106,6 +114,9 @@ public class Http2ClientConnection {
                 .initialWindowSize(protocolConfig.initialWindowSize())
                 .blockTimeout(protocolConfig.flowControlBlockTimeout())
                 .build();
+        this.bdpEstimator = protocolConfig.flowControlAutoTuning()
+                ? BdpEstimator.create(protocolConfig.initialWindowSize(), protocolConfig.flowControlMaxWindowSize())
+                : null;
         this.connection = connection;
         this.ctx = connection.helidonSocket();
         this.dataWriter = connection.writer();
@@ -170,6 +181,8 @@ public class Http2ClientConnection {
                 config,
                 clientConfig,
                 streamIdSeq);
+        stream.reserve();
+        reservedStreams.incrementAndGet();
         return stream;
     }
 
@@ -187,6 +200,7 @@ public class Http2ClientConnection {
         } finally {
             lock.unlock();
         }
+        releaseReservation(stream);
     }
 
     /**
@@ -202,7 +216,57 @@ public class Http2ClientConnection {
         } finally {
             lock.unlock();
         }
+        lastActivity = System.nanoTime();
+    }
+
+    void releaseReservation(Http2ClientStream stream) {
+        if (stream.clearReservation()) {
+            reservedStreams.decrementAndGet();
+            lastActivity = System.nanoTime();
+        }
+    }
+
+    /**
+     * Number of streams in progress on this connection, including streams that were created,
+     * but did not send headers yet.
+     *
+     * @return number of active streams
+     */
+    int activeStreams() {
+        Lock lock = streamsLock.readLock();
+        lock.lock();
+        try {
+            return streams.size() + reservedStreams.get();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Value of {@code MAX_CONCURRENT_STREAMS} setting as received from the server.
+     *
+     * @return maximal number of concurrent streams, {@link Long#MAX_VALUE} if the server did not limit it
+     */
+    long maxConcurrentStreams() {
+        return maxConcurrentStreams;
+    }
+
+    /**
+     * How long this connection has had no active streams.
+     *
+     * @param now current time as obtained from {@link System#nanoTime()}
+     * @return idle time in nanoseconds, {@code 0} if there are active streams
+     */
+    long idleNanos(long now) {
+        if (activeStreams() > 0) {
+            return 0;
+        }
+        return now - lastActivity;
+    }
 
+    // unlike closed(), this method does not send a ping
+    boolean open() {
+        return !state.get().closed();
     }
 
     Http2ClientStream tryStream(Http2StreamConfig config) {
@@ -275,9 +339,23 @@ public class Http2ClientConnection {
             } catch (Throwable e) {
                 ctx.log(LOGGER, TRACE, "Failed to close HTTP/2 connection.", e);
             }
+            abortStreams();
         }
     }
 
+    private void abortStreams() {
+        List<Http2ClientStream> aborted;
+        Lock lock = streamsLock.readLock();
+        lock.lock();
+        try {
+            aborted = List.copyOf(streams.values());
+        } finally {
+            lock.unlock();
+        }
+        // outside of lock, as listeners may remove streams
+        aborted.forEach(Http2ClientStream::abort);
+    }
+
     static Http2Settings settings(Http2ClientProtocolConfig config) {
         Http2Settings.Builder b = Http2Settings.builder();
         if (config.maxHeaderListSize() > 0) {
@@ -445,6 +523,9 @@ public class Http2ClientConnection {
             serverSettings = Http2Settings.create(data);
             recvListener.frameHeader(ctx, streamId, frameHeader);
             recvListener.frame(ctx, streamId, serverSettings);
+            if (serverSettings.hasValue(Http2Setting.MAX_CONCURRENT_STREAMS)) {
+                maxConcurrentStreams = serverSettings.value(Http2Setting.MAX_CONCURRENT_STREAMS);
+            }
             // §4.3.1 Endpoint communicates the size chosen by its HPACK decoder context
             inboundDynamicTable.protocolMaxTableSize(serverSettings.value(Http2Setting.HEADER_TABLE_SIZE));
             if (serverSettings.hasValue(Http2Setting.MAX_FRAME_SIZE)) {
@@ -517,7 +598,12 @@ public class Http2ClientConnection {
                                                                   0);
                 writer.write(new Http2FrameData(header, frame));
             } else {
-                pong(data.readLong());
+                long payload = data.readLong();
+                if (bdpEstimator != null && bdpEstimator.isBdpPing(payload)) {
+                    autoTuneWindows(bdpEstimator.pingAcknowledged());
+                } else {
+                    pong(payload);
+                }
             }
             break;
 
@@ -534,6 +620,11 @@ public class Http2ClientConnection {
                 ctx.log(LOGGER, DEBUG, "%d: received data for stream %d, which does not exist", 0, streamId);
             } else {
                 stream.flowControl().inbound().decrementWindowSize(frameHeader.length());
+                if (bdpEstimator != null && frameHeader.length() > 0 && bdpEstimator.dataReceived(frameHeader.length())) {
+                    Http2Ping ping = bdpEstimator.ping();
+                    sendListener.frame(ctx, 0, ping);
+                    writer.write(ping.toFrameData());
+                }
                 ctx.log(LOGGER, DEBUG, "%d: received data for stream %d", 0, streamId);
                 stream.push(new Http2FrameData(frameHeader, data));
             }
@@ -549,6 +640,27 @@ public class Http2ClientConnection {
         return true;
     }
 
+    private void autoTuneWindows(int windowSize) {
+        if (windowSize == 0) {
+            return;
+        }
+        connectionFlowControl.growInboundWindowSize(windowSize);
+        Http2Settings http2Settings = Http2Settings.builder()
+                .add(Http2Setting.INITIAL_WINDOW_SIZE, (long) windowSize)
+                .build();
+        Http2FrameData frameData = http2Settings.toFrameData(null, 0, Http2Flag.SettingsFlags.create(0));
+        sendListener.frameHeader(ctx, 0, frameData.header());
+        sendListener.frame(ctx, 0, http2Settings);
+        writer.write(frameData);
+        Lock lock = streamsLock.readLock();
+        lock.lock();
+        try {
+            streams.values().forEach(stream -> stream.flowControl().inbound().resetStreamWindowSize(windowSize));
+        } finally {
+            lock.unlock();
+        }
+    }
+
     private void ackSettings() {
         Http2Flag.SettingsFlags flags = Http2Flag.SettingsFlags.create(Http2Flag.ACK);
         Http2Settings http2Settings = Http2Settings.create();
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022, 2024 Oracle and/or its affiliates.
+ * Copyright (c) 2022, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,6 +16,7 @@
 
 package io.helidon.webclient.http2;
 
+import java.util.ArrayList;
 import java.util.Base64;
 import java.util.Collections;
 import java.util.HashSet;
@@ -24,6 +25,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Function;
@@ -38,6 +40,7 @@ import io.helidon.http.http2.Http2Settings;
 import io.helidon.webclient.api.ClientConnection;
 import io.helidon.webclient.api.ClientUri;
 import io.helidon.webclient.api.ConnectionKey;
+import io.helidon.webclient.api.ConnectionPoolStatistics;
 import io.helidon.webclient.api.HttpClientResponse;
 import io.helidon.webclient.api.TcpClientConnection;
 import io.helidon.webclient.api.WebClient;
@@ -51,7 +54,7 @@ import static java.lang.System.Logger.Level.TRACE;
 
 // a representation of a single remote endpoint
 // this may use one or more connections (depending on parallel streams)
-class Http2ClientConnectionHandler {
+class Http2ClientConnectionHandler implements ConnectionPoolStatistics {
     private static final System.Logger LOGGER = System.getLogger(Http2ClientConnectionHandler.class.getName());
     private static final Header CONNECTION_UPGRADE_HEADER = HeaderValues.createCached(HeaderNames.CONNECTION,
                                                                                       "Upgrade, HTTP2-Settings");
@@ -65,9 +68,11 @@ class Http2ClientConnectionHandler {
 
     private final Map<Http2ClientConnection, Boolean> allConnections = Collections.synchronizedMap(new IdentityHashMap<>());
     private final ConnectionKey connectionKey;
-    private final AtomicReference<Http2ClientConnection> activeConnection = new AtomicReference<>();
+    // connections used for new streams, requests are sent over the least loaded one
+    private final List<Http2ClientConnection> pool = new CopyOnWriteArrayList<>();
     private final ReentrantLock lock = new ReentrantLock();
     private final AtomicReference<Result> result = new AtomicReference<>(Result.UNKNOWN);
+    private volatile int maxConnections = 1;
 
     Http2ClientConnectionHandler(ConnectionKey connectionKey) {
         this.connectionKey = connectionKey;
@@ -76,14 +81,44 @@ class Http2ClientConnectionHandler {
     void close() {
         // this is to prevent concurrent modification (connections remove themselves from the map)
         Set<Http2ClientConnection> toClose = new HashSet<>(allConnections.keySet());
+        toClose.addAll(pool);
         toClose.forEach(Http2ClientConnection::close);
-        Http2ClientConnection active = this.activeConnection.getAndSet(null);
-        if (active != null) {
-            active.close();
-        }
+        this.pool.clear();
         this.allConnections.clear();
     }
 
+    @Override
+    public int connections() {
+        return pool.size();
+    }
+
+    @Override
+    public int maxConnections() {
+        return maxConnections;
+    }
+
+    @Override
+    public long activeRequests() {
+        long result = 0;
+        for (Http2ClientConnection connection : pool) {
+            result += connection.activeStreams();
+        }
+        return result;
+    }
+
+    @Override
+    public long maxConcurrentRequests() {
+        long result = 0;
+        for (Http2ClientConnection connection : pool) {
+            long connectionMax = connection.maxConcurrentStreams();
+            if (connectionMax == Long.MAX_VALUE) {
+                return Long.MAX_VALUE;
+            }
+            result += connectionMax;
+        }
+        return result;
+    }
+
     Http2ConnectionAttemptResult newStream(Http2ClientImpl http2Client,
                                            Http2ClientRequestImpl request,
                                            ClientUri initialUri,
@@ -104,26 +139,38 @@ class Http2ClientConnectionHandler {
         } catch (InterruptedException e) {
             throw new IllegalStateException("Interrupted", e);
         }
+        List<Http2ClientConnection> idleConnections = new ArrayList<>();
         try {
             // read/write lock to obtain a stream or create a new connection
-            Http2ClientConnection conn = activeConnection.updateAndGet(c -> c != null && c.closed() ? null : c);
-            Http2ClientStream stream;
-            if (conn == null) {
-                conn = createConnection(http2Client, request, initialUri);
-                // we must assume that a new connection can handle a new stream
-                stream = conn.createStream(request);
-            } else {
+            Http2ClientProtocolConfig protocolConfig = http2Client.protocolConfig();
+            this.maxConnections = protocolConfig.maxConnectionsPerAuthority();
+            Http2ClientConnection conn = selectConnection(protocolConfig, idleConnections);
+            Http2ClientStream stream = null;
+            if (conn != null) {
                 stream = conn.tryStream(request);
                 if (stream == null) {
-                    // either the connection is closed, or it ran out of streams
-                    conn = createConnection(http2Client, request, initialUri);
-                    stream = conn.createStream(request);
+                    // either the connection is closed, or it ran out of streams, it is replaced by a new one,
+                    // so it must leave the pool to keep within the limit of connections
+                    pool.remove(conn);
+                    if (conn.activeStreams() == 0) {
+                        idleConnections.add(conn);
+                    }
                 }
             }
+            if (stream == null) {
+                conn = createConnection(http2Client, request, initialUri);
+                // we must assume that a new connection can handle a new stream
+                stream = conn.createStream(request);
+            }
+            if (pool.contains(conn)) {
+                stream.connectionPool(this);
+            }
 
             return new Http2ConnectionAttemptResult(Result.HTTP_2, stream, null);
         } finally {
             lock.unlock();
+            // closing may block on writing to the socket, do not hold up other requests
+            idleConnections.forEach(Http2ClientConnection::close);
         }
     }
 
@@ -137,6 +184,11 @@ class Http2ClientConnectionHandler {
             throw new IllegalStateException("Interrupted", e);
         }
         try {
+            // another request may have connected while this one waited for the lock, a new connection
+            // would exceed the limit of connections
+            if (result.get() == Result.HTTP_2) {
+                return http2(http2Client, request, initialUri);
+            }
             WebClient webClient = http2Client.webClient();
             if (request.tls().enabled() && "https".equals(initialUri.scheme())) {
                 // use ALPN, not upgrade, if prior, only h2, otherwise both
@@ -156,7 +208,7 @@ class Http2ClientConnectionHandler {
                                                                                         true);
                         allConnections.put(connection, true);
                         h2ConnByConn.put(tcpClientConnection, connection);
-                        this.activeConnection.set(connection);
+                        pool.add(connection);
                         return http2(http2Client, request, initialUri);
                     } else {
                         result.set(Result.HTTP_1);
@@ -189,7 +241,7 @@ class Http2ClientConnectionHandler {
                 Http2ClientConnection conn = Http2ClientConnection.create(http2Client,
                                                                           upgradeResponse.connection(),
                                                                           false);
-                activeConnection.set(conn);
+                pool.add(conn);
                 return http2(http2Client, request, initialUri);
             } else {
                 result.set(Result.HTTP_1);
@@ -286,7 +338,7 @@ class Http2ClientConnectionHandler {
             }
 
             // only set these for requests that do not have an explicit connection defined
-            activeConnection.set(usedConnection);
+            pool.add(usedConnection);
             allConnections.put(usedConnection, true);
             h2ConnByConn.put(connection, usedConnection);
         }
@@ -294,6 +346,51 @@ class Http2ClientConnectionHandler {
         return usedConnection;
     }
 
+    /*
+    Returns the least loaded open connection, or null if a new connection should be created, as either there is none,
+    or all connections reached the stream utilization threshold, and we can still open more connections.
+    Extra connections (above the first one) that are idle for longer than the configured timeout are removed
+    from the pool and added to the provided list, to be closed after the lock is released.
+    Must be called while holding the lock.
+     */
+    private Http2ClientConnection selectConnection(Http2ClientProtocolConfig protocolConfig,
+                                                   List<Http2ClientConnection> idleConnections) {
+        long now = System.nanoTime();
+        long idleTimeout = protocolConfig.idleConnectionTimeout().toNanos();
+        Http2ClientConnection leastLoaded = null;
+        int leastStreams = Integer.MAX_VALUE;
+
+        for (Http2ClientConnection connection : pool) {
+            if (!connection.open()) {
+                pool.remove(connection);
+                continue;
+            }
+            int streams = connection.activeStreams();
+            if (streams == 0 && pool.size() > 1 && connection.idleNanos(now) > idleTimeout) {
+                pool.remove(connection);
+                idleConnections.add(connection);
+                continue;
+            }
+            if (streams < leastStreams) {
+                leastStreams = streams;
+                leastLoaded = connection;
+            }
+        }
+        if (leastLoaded == null) {
+            return null;
+        }
+        if (pool.size() < protocolConfig.maxConnectionsPerAuthority()
+                && leastStreams >= protocolConfig.streamUtilizationThreshold() * leastLoaded.maxConcurrentStreams()) {
+            return null;
+        }
+        // this may send a ping to verify the connection is healthy (if configured)
+        if (leastLoaded.closed()) {
+            pool.remove(leastLoaded);
+            return null;
+        }
+        return leastLoaded;
+    }
+
     private ClientConnection connectClient(WebClient webClient, List<String> alpn) {
         return TcpClientConnection.create(webClient,
                                           connectionKey,
@@ -304,6 +401,7 @@ class Http2ClientConnectionHandler {
                                                       connection);
                                               if (h2conn != null) {
                                                   allConnections.remove(h2conn);
+                                                  pool.remove(h2conn);
                                               }
                                           })
                 .connect();
@@ -100,6 +100,29 @@ interface Http2ClientProtocolConfigBlueprint extends ProtocolConfig {
     @Option.DefaultInt(65535)
     int initialWindowSize();
 
+    /**
+     * Whether to auto-tune inbound flow control windows based on an estimate of the bandwidth-delay product
+     * of the connection.
+     * When enabled, a PING frame is sent when DATA frames are received to measure the round trip time, and if
+     * the window limits the throughput, connection and stream windows are grown (using WINDOW_UPDATE and
+     * SETTINGS_INITIAL_WINDOW_SIZE) up to {@link #flowControlMaxWindowSize()}.
+     *
+     * @return whether to auto-tune flow control windows
+     */
+    @Option.Configured
+    @Option.DefaultBoolean(false)
+    boolean flowControlAutoTuning();
+
+    /**
+     * Maximal size of inbound flow control windows in bytes when {@link #flowControlAutoTuning()} is enabled.
+     * Windows are never smaller than {@link #initialWindowSize()}.
+     *
+     * @return maximal window size in bytes
+     */
+    @Option.Configured
+    @Option.DefaultInt(16777216)
+    int flowControlMaxWindowSize();
+
     /**
      * Timeout for blocking while waiting for window update when window is depleted.
      *
@@ -128,4 +151,37 @@ interface Http2ClientProtocolConfigBlueprint extends ProtocolConfig {
     @Option.Configured
     @Option.Default("PT0.5S")
     Duration pingTimeout();
+
+    /**
+     * Maximal number of connections opened to a single authority (host and port).
+     * A new connection is opened when all existing connections reach the
+     * {@link #streamUtilizationThreshold()} of the {@code MAX_CONCURRENT_STREAMS} setting advertised by the server.
+     * Defaults to {@code 1}, which multiplexes all requests to an authority over a single connection.
+     *
+     * @return maximal number of connections per authority
+     */
+    @Option.Configured
+    @Option.DefaultInt(1)
+    int maxConnectionsPerAuthority();
+
+    /**
+     * Ratio of active streams to the {@code MAX_CONCURRENT_STREAMS} setting of the server, after which
+     * a new connection to the same authority is opened (up to {@link #maxConnectionsPerAuthority()}).
+     * Requests are always sent over the least loaded connection.
+     *
+     * @return stream utilization threshold between {@code 0} and {@code 1}
+     */
+    @Option.Configured
+    @Option.DefaultDouble(0.75)
+    double streamUtilizationThreshold();
+
+    /**
+     * Timeout after which an idle connection (with no active streams) is closed, when there is more than one
+     * connection to the same authority. The last connection to an authority is always kept open.
+     *
+     * @return idle connection timeout
+     */
+    @Option.Configured
+    @Option.Default("PT30S")
+    Duration idleConnectionTimeout();
 }
@@ -192,10 +192,16 @@ class Http2ClientRequestImpl extends ClientRequestBase<Http2ClientRequest, Http2
             this.headers().forEach(delegateHeaders::set);
         }
 
+        // no request headers were sent if a service has returned a response without an HTTP call (such as a cached
+        // response)
+        ClientRequestHeaders requestHeaders = callChain.requestHeaders() == null
+                ? serviceResponse.serviceRequest().headers()
+                : callChain.requestHeaders();
+
         // if this was an HTTP/1.1 response, do something different (just re-use response)
         return new Http2ClientResponseImpl(clientConfig(),
                                            serviceResponse.status(),
-                                           callChain.requestHeaders(),
+                                           requestHeaders,
                                            serviceResponse.headers(),
                                            serviceResponse.trailers(),
                                            serviceResponse.inputStream().orElse(null),
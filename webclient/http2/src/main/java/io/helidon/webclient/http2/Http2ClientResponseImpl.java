@@ -16,9 +16,7 @@
 
 package io.helidon.webclient.http2;
 
-import java.io.IOException;
 import java.io.InputStream;
-import java.io.UncheckedIOException;
 import java.time.Duration;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
@@ -27,6 +25,7 @@ import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 import io.helidon.common.buffers.BufferData;
+import io.helidon.common.buffers.BufferDataSource;
 import io.helidon.http.ClientRequestHeaders;
 import io.helidon.http.ClientResponseHeaders;
 import io.helidon.http.ClientResponseTrailers;
@@ -137,18 +136,13 @@ class Http2ClientResponseImpl implements Http2ClientResponse {
     }
 
     private BufferData readBytes(int estimate) {
-        try {
+        // DATA frame buffers are used as they are, unless the entity is decoded or decorated
+        BufferData data = BufferDataSource.readBuffer(inputStream, estimate);
+        if (data == null || data.available() == 0) {
             // Empty buffer is considered as a fully consumed entity
-            // so estimate can't be less than 1
-            byte[] buffer = new byte[estimate > 0 ? estimate : 16];
-            int read = inputStream.read(buffer);
-            if (read < 1) {
-                return BufferData.empty();
-            }
-            return BufferData.create(buffer, 0, read);
-        } catch (IOException e) {
-            throw new UncheckedIOException(e);
+            return BufferData.empty();
         }
+        return data;
     }
 
     @Override
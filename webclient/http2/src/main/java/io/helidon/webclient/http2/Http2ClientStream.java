@@ -20,8 +20,10 @@ import java.io.UncheckedIOException;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import io.helidon.common.buffers.BufferData;
 import io.helidon.common.socket.SocketContext;
@@ -49,6 +51,7 @@ import io.helidon.http.http2.Http2StreamState;
 import io.helidon.http.http2.Http2WindowUpdate;
 import io.helidon.http.http2.StreamFlowControl;
 import io.helidon.http.http2.WindowSize;
+import io.helidon.webclient.api.ConnectionPoolStatistics;
 import io.helidon.webclient.api.ReleasableResource;
 
 import static java.lang.System.Logger.Level.DEBUG;
@@ -72,6 +75,7 @@ public class Http2ClientStream implements Http2Stream, ReleasableResource {
     private final Http2Settings settings = Http2Settings.create();
     private final List<Http2FrameData> continuationData = new ArrayList<>();
     private final CompletableFuture<Headers> trailers = new CompletableFuture<>();
+    private final AtomicBoolean reserved = new AtomicBoolean();
 
     private Http2StreamState state = Http2StreamState.IDLE;
     private ReadState readState = ReadState.INIT;
@@ -79,6 +83,10 @@ public class Http2ClientStream implements Http2Stream, ReleasableResource {
     // accessed from stream thread an connection thread
     private volatile StreamFlowControl flowControl;
     private boolean hasEntity;
+    private ConnectionPoolStatistics connectionPool;
+    // invoked from connection thread
+    private volatile Runnable frameListener;
+    private volatile boolean aborted;
 
     // streamId and buffer can only be created when we are locked in the stream id sequence
     private int streamId;
@@ -128,7 +136,7 @@ public class Http2ClientStream implements Http2Stream, ReleasableResource {
                                                        false,
                                                        false,
                                                        false);
-
+        abort();
         throw new RuntimeException("Reset of " + streamId + " stream received!");
     }
 
@@ -228,6 +236,73 @@ public class Http2ClientStream implements Http2Stream, ReleasableResource {
      */
     public void close() {
         connection.removeStream(streamId);
+        releaseReservation();
+    }
+
+    /**
+     * Statistics of the connection pool this stream's connection belongs to.
+     *
+     * @return connection pool statistics, empty if the connection is not pooled
+     */
+    public Optional<ConnectionPoolStatistics> connectionPool() {
+        return Optional.ofNullable(connectionPool);
+    }
+
+    /**
+     * Register a listener to be notified when a frame is received for this stream, or when this stream is
+     * {@link #aborted() aborted}. The listener is invoked on the connection thread, so it must not block;
+     * received frames should be obtained using {@link #poll()} from another thread.
+     *
+     * @param frameListener listener to notify
+     */
+    public void frameListener(Runnable frameListener) {
+        this.frameListener = frameListener;
+    }
+
+    /**
+     * Whether this stream was reset by the server, or its connection was closed.
+     *
+     * @return {@code true} if no more frames will be received
+     */
+    public boolean aborted() {
+        return aborted;
+    }
+
+    /**
+     * Response headers, if already received.
+     *
+     * @return headers, or empty if headers were not yet read using {@link #readOne(Duration)} or {@link #poll()}
+     */
+    public Optional<Http2Headers> receivedHeaders() {
+        return switch (readState) {
+            case INIT, CONTINUE_100_HEADERS, HEADERS -> Optional.empty();
+            default -> Optional.ofNullable(currentHeaders);
+        };
+    }
+
+    void abort() {
+        aborted = true;
+        notifyFrameListener();
+    }
+
+    void connectionPool(ConnectionPoolStatistics connectionPool) {
+        this.connectionPool = connectionPool;
+    }
+
+    void reserve() {
+        reserved.set(true);
+    }
+
+    /**
+     * Release the slot reserved on the connection when this stream was created, unless it was already released
+     * when this stream was registered with the connection or closed.
+     */
+    void releaseReservation() {
+        connection.releaseReservation(this);
+    }
+
+    boolean clearReservation() {
+        return reserved.compareAndSet(true, false);
     }
 
     /**
@@ -241,6 +316,7 @@ public class Http2ClientStream implements Http2Stream, ReleasableResource {
         }
 
         buffer.push(frameData);
+        notifyFrameListener();
     }
 
     BufferData read(int i) {
@@ -379,8 +455,27 @@ public class Http2ClientStream implements Http2Stream, ReleasableResource {
      * @return the data frame
      */
     public Http2FrameData readOne(Duration pollTimeout) {
-        Http2FrameData frameData = buffer.poll(pollTimeout);
+        return process(buffer.poll(pollTimeout));
+    }
 
+    /**
+     * Reads an HTTP2 data frame from the stream without blocking. Headers and trailers received before the data frame
+     * are processed, so they are available through {@link #receivedHeaders()} and {@link #trailers()}.
+     *
+     * @return the data frame, or {@code null} if no data frame was received
+     */
+    public Http2FrameData poll() {
+        Http2FrameData frameData;
+        while ((frameData = buffer.poll()) != null) {
+            Http2FrameData data = process(frameData);
+            if (data != null) {
+                return data;
+            }
+        }
+        return null;
+    }
+
+    private Http2FrameData process(Http2FrameData frameData) {
         if (frameData != null) {
 
             recvListener.frameHeader(ctx, streamId, frameData.header());
@@ -459,6 +554,13 @@ public class Http2ClientStream implements Http2Stream, ReleasableResource {
         return null;
     }
 
+    private void notifyFrameListener() {
+        Runnable listener = frameListener;
+        if (listener != null) {
+            listener.run();
+        }
+    }
+
     private void continue100(Http2Headers headers, boolean endOfStream) {
         // no stream state check as 100 continues are an exception
         this.currentHeaders = headers;
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2023 Oracle and/or its affiliates.
+ * Copyright (c) 2023, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -57,6 +57,18 @@ class StreamBuffer {
         }
     }
 
+    Http2FrameData poll() {
+        if (!dequeSemaphore.tryAcquire()) {
+            return null;
+        }
+        try {
+            streamLock.lock();
+            return buffer.poll();
+        } finally {
+            streamLock.unlock();
+        }
+    }
+
     void push(Http2FrameData frameData) {
         try {
             streamLock.lock();
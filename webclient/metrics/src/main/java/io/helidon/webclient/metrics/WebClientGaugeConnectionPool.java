@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.webclient.metrics;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.ToDoubleFunction;
+
+import io.helidon.metrics.api.Gauge;
+import io.helidon.webclient.api.ConnectionPoolStatistics;
+import io.helidon.webclient.api.WebClientServiceRequest;
+import io.helidon.webclient.api.WebClientServiceResponse;
+
+/**
+ * Gauges of the connection pool used to reach a host.
+ * The metric name is the ratio of active requests to the maximal number of concurrent requests
+ * (such as HTTP/2 streams), {@code name.connections} is the number of open connections,
+ * {@code name.requests} the number of active requests, and {@code name.waiting} the number of requests waiting
+ * for a connection.
+ */
+class WebClientGaugeConnectionPool extends WebClientMetric {
+
+    private final Map<String, AtomicReference<ConnectionPoolStatistics>> holders = new ConcurrentHashMap<>();
+
+    WebClientGaugeConnectionPool(Builder builder) {
+        super(builder);
+    }
+
+    @Override
+    public WebClientServiceResponse handle(Chain chain, WebClientServiceRequest request) {
+        WebClientServiceResponse response = chain.proceed(request);
+        if (handlesMethod(request.method())) {
+            response.connectionPool().ifPresent(pool -> holder(request).set(pool));
+        }
+        return response;
+    }
+
+    private AtomicReference<ConnectionPoolStatistics> holder(WebClientServiceRequest request) {
+        Metadata metadata = createMetadata(request, null);
+        return holders.computeIfAbsent(metadata.name(), name -> {
+            AtomicReference<ConnectionPoolStatistics> holder = new AtomicReference<>();
+            meterRegistry().getOrCreate(Gauge.builder(name, holder, it -> value(it, ConnectionPoolStatistics::utilization))
+                                                .description(metadata.description()));
+            meterRegistry().getOrCreate(Gauge.builder(name + ".connections",
+                                                      holder,
+                                                      it -> value(it, ConnectionPoolStatistics::connections))
+                                                .description(metadata.description()));
+            meterRegistry().getOrCreate(Gauge.builder(name + ".requests",
+                                                      holder,
+                                                      it -> value(it, ConnectionPoolStatistics::activeRequests))
+                                                .description(metadata.description()));
+            meterRegistry().getOrCreate(Gauge.builder(name + ".waiting",
+                                                      holder,
+                                                      it -> value(it, ConnectionPoolStatistics::waitingRequests))
+                                                .description(metadata.description()));
+            return holder;
+        });
+    }
+
+    private static double value(AtomicReference<ConnectionPoolStatistics> holder,
+                                ToDoubleFunction<ConnectionPoolStatistics> fn) {
+        ConnectionPoolStatistics pool = holder.get();
+        return pool == null ? 0 : fn.applyAsDouble(pool);
+    }
+}
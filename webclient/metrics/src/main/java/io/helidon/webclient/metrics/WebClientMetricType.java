@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2020, 2023 Oracle and/or its affiliates.
+ * Copyright (c) 2020, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -34,6 +34,14 @@ enum WebClientMetricType {
      * Client gauge in progress metric.
      */
     GAUGE_IN_PROGRESS(WebClientGaugeInProgress::new),
+    /**
+     * Client connection pool gauge metric.
+     */
+    GAUGE_CONNECTION_POOL(WebClientGaugeConnectionPool::new),
+    /**
+     * Client connection acquire timer metric.
+     */
+    TIMER_CONNECTION_ACQUIRE(WebClientTimerConnectionAcquire::new),
     /**
      * Client meter metric.
      */
@@ -71,6 +71,29 @@ public class WebClientMetrics implements WebClientService {
         return WebClientMetric.builder(WebClientMetricType.GAUGE_IN_PROGRESS);
     }
 
+    /**
+     * Creates new connection pool gauge client metric.
+     * Only protocols that pool connections and provide
+     * {@link io.helidon.webclient.api.WebClientServiceResponse#connectionPool()} (such as HTTP/1.1 and HTTP/2) are measured.
+     *
+     * @return client metric builder
+     */
+    public static WebClientMetric.Builder gaugeConnectionPool() {
+        return WebClientMetric.builder(WebClientMetricType.GAUGE_CONNECTION_POOL);
+    }
+
+    /**
+     * Creates new connection acquire timer client metric, measuring how long it takes to obtain a connection
+     * from the connection pool.
+     * Only protocols that provide {@link io.helidon.webclient.api.WebClientServiceResponse#connectionAcquireTime()}
+     * (such as HTTP/1.1) are measured.
+     *
+     * @return client metric builder
+     */
+    public static WebClientMetric.Builder timerConnectionAcquire() {
+        return WebClientMetric.builder(WebClientMetricType.TIMER_CONNECTION_ACQUIRE);
+    }
+
     /**
      * Creates new client metrics based on config.
      *
@@ -92,6 +115,8 @@ public class WebClientMetrics implements WebClientService {
             case "METER" -> meter().config(metricConfig).build();
             case "TIMER" -> timer().config(metricConfig).build();
             case "GAUGE_IN_PROGRESS" -> gaugeInProgress().config(metricConfig).build();
+            case "GAUGE_CONNECTION_POOL" -> gaugeConnectionPool().config(metricConfig).build();
+            case "TIMER_CONNECTION_ACQUIRE" -> timerConnectionAcquire().config(metricConfig).build();
             default -> throw new IllegalStateException(String.format(
                     "Metrics type %s is not supported through service loader",
                     type));
@@ -0,0 +1,44 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.webclient.metrics;
+
+import io.helidon.metrics.api.Timer;
+import io.helidon.webclient.api.WebClientServiceRequest;
+import io.helidon.webclient.api.WebClientServiceResponse;
+
+/**
+ * Timer which measures how long it takes to obtain a connection from the connection pool.
+ */
+class WebClientTimerConnectionAcquire extends WebClientMetric {
+
+    WebClientTimerConnectionAcquire(WebClientMetric.Builder builder) {
+        super(builder);
+    }
+
+    @Override
+    public WebClientServiceResponse handle(Chain chain, WebClientServiceRequest request) {
+        WebClientServiceResponse response = chain.proceed(request);
+        if (handlesMethod(request.method())) {
+            response.connectionAcquireTime().ifPresent(time -> {
+                Metadata metadata = createMetadata(request, response);
+                meterRegistry().getOrCreate(Timer.builder(metadata.name())
+                                                    .description(metadata.description()))
+                        .record(time);
+            });
+        }
+        return response;
+    }
+}
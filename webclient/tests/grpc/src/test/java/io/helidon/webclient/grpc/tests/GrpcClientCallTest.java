@@ -0,0 +1,386 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.webclient.grpc.tests;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+import java.util.logging.Logger;
+
+import io.helidon.http.http2.Http2LoggingFrameListener;
+import io.helidon.webclient.grpc.GrpcClient;
+import io.helidon.webclient.grpc.GrpcClientProtocolConfig;
+import io.helidon.webserver.WebServer;
+import io.helidon.webserver.WebServerConfig;
+import io.helidon.webserver.grpc.GrpcRouting;
+import io.helidon.webserver.http2.Http2Config;
+import io.helidon.webserver.testing.junit5.ServerTest;
+import io.helidon.webserver.testing.junit5.SetUpRoute;
+import io.helidon.webserver.testing.junit5.SetUpServer;
+
+import io.grpc.CallOptions;
+import io.grpc.ClientCall;
+import io.grpc.Metadata;
+import io.grpc.Status;
+import io.grpc.stub.StreamObserver;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.lessThan;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.junit.jupiter.api.Assertions.fail;
+
+/**
+ * Tests streaming calls of the gRPC client, including writes blocked by HTTP/2 flow control and heartbeat pings.
+ */
+@ServerTest
+class GrpcClientCallTest {
+    private static final long TIMEOUT_SECONDS = 10;
+    private static final int WINDOW_SIZE = 64 * 1024;
+    private static final int LARGE_MESSAGE_SIZE = 16 * 1024;
+    private static final int LARGE_MESSAGES = 32;
+    // received pings are logged by the server frame listener
+    private static final Logger FRAME_LOGGER = Logger.getLogger(Http2LoggingFrameListener.class.getName() + ".recv");
+
+    // server handler of client streaming calls waits for the gate to open before consuming a message
+    private static volatile CountDownLatch gate = new CountDownLatch(0);
+    private static final AtomicInteger GATED_MESSAGES = new AtomicInteger();
+
+    private final GrpcClient grpcClient;
+    private final GrpcClient heartbeatClient;
+
+    private GrpcClientCallTest(WebServer server) {
+        this.grpcClient = GrpcClient.builder()
+                .tls(t -> t.enabled(false))
+                .baseUri("http://localhost:" + server.port())
+                .build();
+        this.heartbeatClient = GrpcClient.builder()
+                .tls(t -> t.enabled(false))
+                .protocolConfig(GrpcClientProtocolConfig.builder()
+                                        .heartbeatPeriod(Duration.ofMillis(100))
+                                        .build())
+                .baseUri("http://localhost:" + server.port())
+                .build();
+    }
+
+    @SetUpServer
+    static void setUpServer(WebServerConfig.Builder builder) {
+        // small window, so that writes of the client are blocked by flow control
+        builder.addProtocol(Http2Config.builder()
+                                    .initialWindowSize(WINDOW_SIZE)
+                                    .build());
+    }
+
+    @SetUpRoute
+    static void setUpRoute(GrpcRouting.Builder routing) {
+        routing.clientStream(Strings.getDescriptor(),
+                             "StringService",
+                             "Join",
+                             GrpcClientCallTest::gatedCount)
+                .bidi(Strings.getDescriptor(),
+                      "StringService",
+                      "Echo",
+                      GrpcBaseTest::echo);
+    }
+
+    @BeforeEach
+    void setUpTest() {
+        GATED_MESSAGES.set(0);
+    }
+
+    @AfterEach
+    void tearDownTest() {
+        gate.countDown();
+    }
+
+    @Test
+    void testBidiManyMessages() throws Exception {
+        StringServiceGrpc.StringServiceStub service = StringServiceGrpc.newStub(grpcClient.channel());
+        CompletableFuture<Iterator<Strings.StringMessage>> future = new CompletableFuture<>();
+        StreamObserver<Strings.StringMessage> req = service.echo(GrpcBaseTest.multiStreamObserver(future));
+
+        // messages larger than a frame are split by the server, small messages may share a frame
+        List<String> sent = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            String text = i % 50 == 0 ? "x".repeat(40_000) + i : "message " + i;
+            sent.add(text);
+            req.onNext(message(text));
+        }
+        req.onCompleted();
+
+        Iterator<Strings.StringMessage> res = future.get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        List<String> received = new ArrayList<>();
+        res.forEachRemaining(it -> received.add(it.getText()));
+        assertThat(received, is(sent));
+    }
+
+    @Test
+    void testClientStreamingManyMessages() throws Exception {
+        StringServiceGrpc.StringServiceStub service = StringServiceGrpc.newStub(grpcClient.channel());
+        CompletableFuture<Strings.StringMessage> future = new CompletableFuture<>();
+        StreamObserver<Strings.StringMessage> req = service.join(GrpcBaseTest.singleStreamObserver(future));
+        for (int i = 0; i < 500; i++) {
+            req.onNext(message("message " + i));
+        }
+        req.onCompleted();
+
+        Strings.StringMessage res = future.get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        assertThat(res.getText(), is("500"));
+    }
+
+    @Test
+    void testWritesQueuedWhileWindowBlocked() throws Exception {
+        gate = new CountDownLatch(1);
+        StringServiceGrpc.StringServiceStub service = StringServiceGrpc.newStub(grpcClient.channel());
+        CompletableFuture<Strings.StringMessage> future = new CompletableFuture<>();
+        StreamObserver<Strings.StringMessage> req = service.join(GrpcBaseTest.singleStreamObserver(future));
+
+        // more data than the window allows, the calling thread must not block
+        String text = "x".repeat(LARGE_MESSAGE_SIZE);
+        assertTimeoutPreemptively(Duration.ofSeconds(TIMEOUT_SECONDS), () -> {
+            for (int i = 0; i < LARGE_MESSAGES; i++) {
+                req.onNext(message(text));
+            }
+            req.onCompleted();
+        });
+        assertThat(GATED_MESSAGES.get(), lessThan(LARGE_MESSAGES));
+        assertThat(future.isDone(), is(false));
+
+        // window is updated as the server consumes messages, queued messages are written
+        gate.countDown();
+        Strings.StringMessage res = future.get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        assertThat(res.getText(), is(String.valueOf(LARGE_MESSAGES)));
+    }
+
+    @Test
+    void testCancelWhileWritePending() throws Exception {
+        gate = new CountDownLatch(1);
+        ClientCall<Strings.StringMessage, Strings.StringMessage> call =
+                grpcClient.channel().newCall(StringServiceGrpc.getJoinMethod(), CallOptions.DEFAULT);
+        RecordingListener listener = new RecordingListener();
+        call.start(listener, new Metadata());
+        call.request(1);
+
+        String text = "x".repeat(LARGE_MESSAGE_SIZE);
+        assertTimeoutPreemptively(Duration.ofSeconds(TIMEOUT_SECONDS), () -> {
+            for (int i = 0; i < LARGE_MESSAGES; i++) {
+                call.sendMessage(message(text));
+            }
+        });
+        assertThat(GATED_MESSAGES.get(), lessThan(LARGE_MESSAGES));
+
+        // cancel must not wait for the pending write
+        assertTimeoutPreemptively(Duration.ofSeconds(TIMEOUT_SECONDS), () -> call.cancel("cancelled by test", null));
+        Status status = listener.status.get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        assertThat(status.getCode(), is(Status.Code.CANCELLED));
+        assertThat(listener.messages, is(empty()));
+
+        // writes after cancellation are ignored
+        call.sendMessage(message(text));
+        call.halfClose();
+        assertThat(listener.closes.get(), is(1));
+    }
+
+    @Test
+    void testCancelWhileDelivering() throws Exception {
+        ClientCall<Strings.StringMessage, Strings.StringMessage> call =
+                grpcClient.channel().newCall(StringServiceGrpc.getEchoMethod(), CallOptions.DEFAULT);
+        BlockingListener listener = new BlockingListener();
+        call.start(listener, new Metadata());
+        call.request(10);
+        for (int i = 0; i < 10; i++) {
+            call.sendMessage(message("message " + i));
+        }
+
+        // listener is blocked in delivery of the first message
+        assertThat(listener.delivering.await(TIMEOUT_SECONDS, TimeUnit.SECONDS), is(true));
+        assertTimeoutPreemptively(Duration.ofSeconds(TIMEOUT_SECONDS), () -> call.cancel("cancelled by test", null));
+        Thread.sleep(100);
+        assertThat(listener.closes.get(), is(0));
+
+        // listener is notified once the message is delivered, no messages follow
+        listener.release.countDown();
+        Status status = listener.status.get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        assertThat(status.getCode(), is(Status.Code.CANCELLED));
+        assertThat(listener.closes.get(), is(1));
+        assertThat(listener.messages, hasSize(1));
+        assertThat(listener.overlapping.get(), is(false));
+    }
+
+    @Test
+    void testHeartbeatPingsWhileIdle() throws Exception {
+        PingCounter pingCounter = new PingCounter();
+        Level level = FRAME_LOGGER.getLevel();
+        boolean parentHandlers = FRAME_LOGGER.getUseParentHandlers();
+        FRAME_LOGGER.setLevel(Level.ALL);
+        FRAME_LOGGER.setUseParentHandlers(false);
+        FRAME_LOGGER.addHandler(pingCounter);
+        try {
+            StringServiceGrpc.StringServiceStub service = StringServiceGrpc.newStub(heartbeatClient.channel());
+            CompletableFuture<Iterator<Strings.StringMessage>> future = new CompletableFuture<>();
+            StreamObserver<Strings.StringMessage> req = service.echo(GrpcBaseTest.multiStreamObserver(future));
+            req.onNext(message("hello"));
+
+            // no messages are written, pings keep the call alive
+            assertEventually(() -> pingCounter.pings.get() >= 3, TIMEOUT_SECONDS * 1000);
+
+            req.onNext(message("world"));
+            req.onCompleted();
+            Iterator<Strings.StringMessage> res = future.get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+            assertThat(res.next().getText(), is("hello"));
+            assertThat(res.next().getText(), is("world"));
+            assertThat(res.hasNext(), is(false));
+        } finally {
+            FRAME_LOGGER.removeHandler(pingCounter);
+            FRAME_LOGGER.setUseParentHandlers(parentHandlers);
+            FRAME_LOGGER.setLevel(level);
+        }
+    }
+
+    private static StreamObserver<Strings.StringMessage> gatedCount(StreamObserver<Strings.StringMessage> streamObserver) {
+        return new StreamObserver<>() {
+            private int count;
+
+            @Override
+            public void onNext(Strings.StringMessage value) {
+                GATED_MESSAGES.incrementAndGet();
+                try {
+                    if (!gate.await(2 * TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                        throw new IllegalStateException("Gate was not opened");
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IllegalStateException(e);
+                }
+                count++;
+            }
+
+            @Override
+            public void onError(Throwable t) {
+                streamObserver.onError(t);
+            }
+
+            @Override
+            public void onCompleted() {
+                streamObserver.onNext(message(String.valueOf(count)));
+                streamObserver.onCompleted();
+            }
+        };
+    }
+
+    private static Strings.StringMessage message(String text) {
+        return Strings.StringMessage.newBuilder().setText(text).build();
+    }
+
+    private static void assertEventually(Supplier<Boolean> predicate, long millis) throws InterruptedException {
+        long start = System.currentTimeMillis();
+        do {
+            if (predicate.get()) {
+                return;
+            }
+            Thread.sleep(100);
+        } while (System.currentTimeMillis() - start <= millis);
+        fail("Predicate failed after " + millis + " milliseconds");
+    }
+
+    private static class RecordingListener extends ClientCall.Listener<Strings.StringMessage> {
+        private final List<Strings.StringMessage> messages = new CopyOnWriteArrayList<>();
+        private final CompletableFuture<Status> status = new CompletableFuture<>();
+        private final AtomicInteger closes = new AtomicInteger();
+
+        @Override
+        public void onMessage(Strings.StringMessage message) {
+            messages.add(message);
+        }
+
+        @Override
+        public void onClose(Status status, Metadata trailers) {
+            closes.incrementAndGet();
+            this.status.complete(status);
+        }
+    }
+
+    private static class BlockingListener extends ClientCall.Listener<Strings.StringMessage> {
+        private final CountDownLatch delivering = new CountDownLatch(1);
+        private final CountDownLatch release = new CountDownLatch(1);
+        private final List<Strings.StringMessage> messages = new CopyOnWriteArrayList<>();
+        private final CompletableFuture<Status> status = new CompletableFuture<>();
+        private final AtomicInteger closes = new AtomicInteger();
+        private final AtomicBoolean inMessage = new AtomicBoolean();
+        private final AtomicBoolean overlapping = new AtomicBoolean();
+
+        @Override
+        public void onMessage(Strings.StringMessage message) {
+            inMessage.set(true);
+            if (closes.get() > 0) {
+                overlapping.set(true);
+            }
+            messages.add(message);
+            delivering.countDown();
+            try {
+                release.await(2 * TIMEOUT_SECONDS, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            inMessage.set(false);
+        }
+
+        @Override
+        public void onClose(Status status, Metadata trailers) {
+            if (inMessage.get()) {
+                overlapping.set(true);
+            }
+            closes.incrementAndGet();
+            this.status.complete(status);
+        }
+    }
+
+    private static class PingCounter extends Handler {
+        private final AtomicInteger pings = new AtomicInteger();
+
+        @Override
+        public void publish(LogRecord record) {
+            // keepalive pings, acknowledgements are not passed to the frame listener
+            if (record.getMessage() != null && record.getMessage().contains(": ping")) {
+                pings.incrementAndGet();
+            }
+        }
+
+        @Override
+        public void flush() {
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
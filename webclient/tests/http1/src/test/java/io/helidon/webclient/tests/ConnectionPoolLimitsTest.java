@@ -0,0 +1,177 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.webclient.tests;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BooleanSupplier;
+
+import io.helidon.webclient.api.ConnectionPoolStatistics;
+import io.helidon.webclient.http1.Http1Client;
+import io.helidon.webclient.http1.Http1ClientProtocolConfig;
+import io.helidon.webserver.WebServer;
+import io.helidon.webserver.http.HttpRouting;
+import io.helidon.webserver.testing.junit5.ServerTest;
+import io.helidon.webserver.testing.junit5.SetUpRoute;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@ServerTest
+class ConnectionPoolLimitsTest {
+    private static final int MAX_CONNECTIONS = 2;
+    private static final int REQUESTS = 4;
+    private static final AtomicInteger ARRIVED = new AtomicInteger();
+    private static final CountDownLatch RELEASE = new CountDownLatch(1);
+    private static final CountDownLatch BLOCKED_ARRIVED = new CountDownLatch(1);
+    private static final CountDownLatch RELEASE_BLOCKED = new CountDownLatch(1);
+
+    private final int port;
+
+    ConnectionPoolLimitsTest(WebServer server) {
+        this.port = server.port();
+    }
+
+    @SetUpRoute
+    static void router(HttpRouting.Builder router) {
+        router.get("/", (req, res) -> res.send("fast"))
+                .get("/wait", (req, res) -> {
+                    ARRIVED.incrementAndGet();
+                    RELEASE.await(10, TimeUnit.SECONDS);
+                    res.send("slow");
+                })
+                .get("/blocked", (req, res) -> {
+                    BLOCKED_ARRIVED.countDown();
+                    RELEASE_BLOCKED.await(10, TimeUnit.SECONDS);
+                    res.send("blocked");
+                });
+    }
+
+    @Test
+    void testRequestsWaitForConnection() throws Exception {
+        AtomicReference<ConnectionPoolStatistics> pool = new AtomicReference<>();
+        Http1Client client = client(pool, Http1ClientProtocolConfig.builder()
+                .maxConnectionsPerHost(MAX_CONNECTIONS)
+                .build());
+
+        assertThat(client.get("/").requestEntity(String.class), is("fast"));
+        ConnectionPoolStatistics statistics = pool.get();
+        assertThat(statistics, notNullValue());
+        assertThat(statistics.connections(), is(1));
+        assertThat(statistics.maxConnections(), is(MAX_CONNECTIONS));
+
+        List<Future<String>> futures = new ArrayList<>();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < REQUESTS; i++) {
+                futures.add(executor.submit(() -> client.get("/wait").requestEntity(String.class)));
+            }
+            waitFor(() -> ARRIVED.get() == MAX_CONNECTIONS
+                    && statistics.waitingRequests() == REQUESTS - MAX_CONNECTIONS);
+
+            assertThat(statistics.connections(), is(MAX_CONNECTIONS));
+            assertThat(statistics.activeRequests(), is((long) MAX_CONNECTIONS));
+
+            RELEASE.countDown();
+            for (Future<String> future : futures) {
+                assertThat(future.get(10, TimeUnit.SECONDS), is("slow"));
+            }
+        }
+        assertThat(ARRIVED.get(), is(REQUESTS));
+        assertThat(statistics.connections(), is(MAX_CONNECTIONS));
+        assertThat(statistics.activeRequests(), is(0L));
+        assertThat(statistics.waitingRequests(), is(0));
+    }
+
+    @Test
+    void testAcquireTimeout() throws Exception {
+        AtomicReference<ConnectionPoolStatistics> pool = new AtomicReference<>();
+        Http1Client client = client(pool, Http1ClientProtocolConfig.builder()
+                .maxConnections(1)
+                .connectionAcquireTimeout(Duration.ofMillis(100))
+                .build());
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            Future<String> blocked = executor.submit(() -> client.get("/blocked").requestEntity(String.class));
+            assertThat(BLOCKED_ARRIVED.await(10, TimeUnit.SECONDS), is(true));
+
+            IllegalStateException e = assertThrows(IllegalStateException.class,
+                                                   () -> client.get("/").requestEntity(String.class));
+            assertThat(e.getMessage(), containsString("waiting for a connection"));
+
+            RELEASE_BLOCKED.countDown();
+            assertThat(blocked.get(10, TimeUnit.SECONDS), is("blocked"));
+        }
+        // connection is returned to the pool and reused
+        assertThat(client.get("/").requestEntity(String.class), is("fast"));
+        assertThat(pool.get().connections(), is(1));
+    }
+
+    @Test
+    void testPrewarm() {
+        AtomicReference<ConnectionPoolStatistics> pool = new AtomicReference<>();
+        Http1Client client = client(pool, Http1ClientProtocolConfig.builder()
+                .prewarmConnections(3)
+                .build());
+
+        assertThat(client.get("/").requestEntity(String.class), is("fast"));
+        ConnectionPoolStatistics statistics = pool.get();
+        assertThat(statistics, notNullValue());
+        // the first request may open its own connection, if all are still being pre-warmed
+        waitFor(() -> statistics.connections() >= 3);
+    }
+
+    private Http1Client client(AtomicReference<ConnectionPoolStatistics> pool, Http1ClientProtocolConfig protocolConfig) {
+        return Http1Client.builder()
+                .baseUri("http://localhost:" + port + "/")
+                .shareConnectionCache(false)
+                .protocolConfig(protocolConfig)
+                .addService((chain, request) -> {
+                    var response = chain.proceed(request);
+                    response.connectionPool().ifPresent(pool::set);
+                    return response;
+                })
+                .build();
+    }
+
+    private static void waitFor(BooleanSupplier condition) {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (!condition.getAsBoolean()) {
+            if (System.nanoTime() > deadline) {
+                throw new AssertionError("Condition not met within 10 seconds");
+            }
+            try {
+                Thread.sleep(10);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new AssertionError(e);
+            }
+        }
+    }
+}
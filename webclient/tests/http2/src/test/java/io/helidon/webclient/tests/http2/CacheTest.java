@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.webclient.tests.http2;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.helidon.http.HeaderNames;
+import io.helidon.http.Method;
+import io.helidon.http.Status;
+import io.helidon.webclient.cache.WebClientCache;
+import io.helidon.webclient.http2.Http2Client;
+import io.helidon.webclient.http2.Http2ClientProtocolConfig;
+import io.helidon.webclient.http2.Http2ClientResponse;
+import io.helidon.webserver.WebServer;
+import io.helidon.webserver.http.HttpRouting;
+import io.helidon.webserver.http2.Http2Route;
+import io.helidon.webserver.testing.junit5.ServerTest;
+import io.helidon.webserver.testing.junit5.SetUpRoute;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+@ServerTest
+class CacheTest {
+    private static final String ETAG = "\"v1\"";
+    private static final AtomicInteger FRESH_REQUESTS = new AtomicInteger();
+    private static final AtomicInteger REVALIDATED_REQUESTS = new AtomicInteger();
+    private static final AtomicInteger CONDITIONAL_REQUESTS = new AtomicInteger();
+
+    private final Http2Client client;
+
+    CacheTest(WebServer server) {
+        this.client = Http2Client.builder()
+                .baseUri("http://localhost:" + server.port() + "/")
+                .shareConnectionCache(false)
+                .protocolConfig(Http2ClientProtocolConfig.builder()
+                                        .priorKnowledge(true)
+                                        .build())
+                .addService(WebClientCache.create())
+                .build();
+    }
+
+    @SetUpRoute
+    static void router(HttpRouting.Builder router) {
+        router.route(Http2Route.route(Method.GET, "/fresh", (req, res) -> {
+                    FRESH_REQUESTS.incrementAndGet();
+                    res.header(HeaderNames.CACHE_CONTROL, "max-age=60")
+                            .send("fresh entity");
+                }))
+                .route(Http2Route.route(Method.GET, "/revalidated", (req, res) -> {
+                    REVALIDATED_REQUESTS.incrementAndGet();
+                    res.header(HeaderNames.ETAG, ETAG)
+                            .header(HeaderNames.CACHE_CONTROL, "no-cache");
+                    if (req.headers().first(HeaderNames.IF_NONE_MATCH).map(ETAG::equals).orElse(false)) {
+                        CONDITIONAL_REQUESTS.incrementAndGet();
+                        res.status(Status.NOT_MODIFIED_304).send();
+                    } else {
+                        res.send("stored entity");
+                    }
+                }));
+    }
+
+    @Test
+    void testFreshResponseFromCache() {
+        for (int i = 0; i < 3; i++) {
+            // cached responses are not produced by an HTTP/2 exchange
+            try (Http2ClientResponse response = client.get("/fresh").request()) {
+                assertThat(response.status(), is(Status.OK_200));
+                assertThat(response.as(String.class), is("fresh entity"));
+            }
+        }
+        assertThat(FRESH_REQUESTS.get(), is(1));
+    }
+
+    @Test
+    void testNotModifiedResponseFromCache() {
+        for (int i = 0; i < 3; i++) {
+            try (Http2ClientResponse response = client.get("/revalidated").request()) {
+                assertThat(response.status(), is(Status.OK_200));
+                assertThat(response.as(String.class), is("stored entity"));
+            }
+        }
+        assertThat(REVALIDATED_REQUESTS.get(), is(3));
+        assertThat(CONDITIONAL_REQUESTS.get(), is(2));
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.webclient.tests.http2;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import io.helidon.webclient.http2.Http2Client;
+import io.helidon.webclient.http2.Http2ClientProtocolConfig;
+import io.helidon.webserver.WebServer;
+import io.helidon.webserver.http.HttpRouting;
+import io.helidon.webserver.testing.junit5.ServerTest;
+import io.helidon.webserver.testing.junit5.SetUpRoute;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+@ServerTest
+class ConnectionLimitTest {
+    private static final int REQUESTS = 16;
+    private static final Set<Integer> UPGRADE_PORTS = ConcurrentHashMap.newKeySet();
+    private static final Set<Integer> PRIOR_KNOWLEDGE_PORTS = ConcurrentHashMap.newKeySet();
+
+    private final String baseUri;
+
+    ConnectionLimitTest(WebServer server) {
+        this.baseUri = "http://localhost:" + server.port() + "/";
+    }
+
+    @SetUpRoute
+    static void router(HttpRouting.Builder router) {
+        router.get("/upgrade", (req, res) -> {
+                    UPGRADE_PORTS.add(req.remotePeer().port());
+                    res.send("upgrade");
+                })
+                .get("/prior-knowledge", (req, res) -> {
+                    PRIOR_KNOWLEDGE_PORTS.add(req.remotePeer().port());
+                    res.send("prior-knowledge");
+                });
+    }
+
+    @Test
+    void testConcurrentUpgradesWithinLimit() throws Exception {
+        // requests waiting for the first upgrade must use the upgraded connection
+        concurrentRequests(client(false), "/upgrade");
+
+        assertThat(UPGRADE_PORTS.size(), is(1));
+    }
+
+    @Test
+    void testConcurrentPriorKnowledgeWithinLimit() throws Exception {
+        concurrentRequests(client(true), "/prior-knowledge");
+
+        assertThat(PRIOR_KNOWLEDGE_PORTS.size(), is(1));
+    }
+
+    private Http2Client client(boolean priorKnowledge) {
+        return Http2Client.builder()
+                .baseUri(baseUri)
+                .shareConnectionCache(false)
+                .protocolConfig(Http2ClientProtocolConfig.builder()
+                                        .priorKnowledge(priorKnowledge)
+                                        .maxConnectionsPerAuthority(1)
+                                        .build())
+                .build();
+    }
+
+    private static void concurrentRequests(Http2Client client, String path) throws Exception {
+        String expected = path.substring(1);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<String>> futures = new ArrayList<>();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < REQUESTS; i++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return client.get(path).requestEntity(String.class);
+                }));
+            }
+            start.countDown();
+            for (Future<String> future : futures) {
+                assertThat(future.get(10, TimeUnit.SECONDS), is(expected));
+            }
+        }
+    }
+}
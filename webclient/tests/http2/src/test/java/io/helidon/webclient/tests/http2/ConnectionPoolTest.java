@@ -0,0 +1,178 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.webclient.tests.http2;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import io.helidon.common.buffers.BufferData;
+import io.helidon.common.buffers.BufferDataSource;
+import io.helidon.http.Method;
+import io.helidon.webclient.api.ConnectionPoolStatistics;
+import io.helidon.webclient.api.WebClientServiceResponse;
+import io.helidon.webclient.http2.Http2Client;
+import io.helidon.webclient.http2.Http2ClientProtocolConfig;
+import io.helidon.webclient.http2.Http2ClientResponse;
+import io.helidon.webserver.WebServer;
+import io.helidon.webserver.WebServerConfig;
+import io.helidon.webserver.http.HttpRouting;
+import io.helidon.webserver.http2.Http2Config;
+import io.helidon.webserver.http2.Http2Route;
+import io.helidon.webserver.testing.junit5.ServerTest;
+import io.helidon.webserver.testing.junit5.SetUpRoute;
+import io.helidon.webserver.testing.junit5.SetUpServer;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@ServerTest
+class ConnectionPoolTest {
+    private static final int MAX_CONCURRENT_STREAMS = 2;
+    private static final int REQUESTS = 4;
+    private static final CountDownLatch ARRIVED = new CountDownLatch(REQUESTS);
+    private static final CountDownLatch RELEASE = new CountDownLatch(1);
+    // larger than the default max frame size, sent in multiple DATA frames
+    private static final int LARGE_ENTITY_SIZE = 40_000;
+
+    private final Http2Client client;
+    private final AtomicReference<ConnectionPoolStatistics> pool = new AtomicReference<>();
+    private final AtomicReference<CompletionStage<WebClientServiceResponse>> whenComplete = new AtomicReference<>();
+
+    ConnectionPoolTest(WebServer server) {
+        this.client = Http2Client.builder()
+                .baseUri("http://localhost:" + server.port() + "/")
+                .shareConnectionCache(false)
+                .protocolConfig(Http2ClientProtocolConfig.builder()
+                                        .priorKnowledge(true)
+                                        .maxConnectionsPerAuthority(3)
+                                        .streamUtilizationThreshold(0.5)
+                                        .build())
+                .addService((chain, request) -> {
+                    whenComplete.set(request.whenComplete());
+                    var response = chain.proceed(request);
+                    response.connectionPool().ifPresent(pool::set);
+                    return response;
+                })
+                .build();
+    }
+
+    @SetUpServer
+    static void setUpServer(WebServerConfig.Builder serverBuilder) {
+        serverBuilder.addProtocol(Http2Config.builder()
+                                          .maxConcurrentStreams(MAX_CONCURRENT_STREAMS)
+                                          .build());
+    }
+
+    @SetUpRoute
+    static void router(HttpRouting.Builder router) {
+        router.route(Http2Route.route(Method.GET, "/", (req, res) -> res.send("fast")))
+                .route(Http2Route.route(Method.GET, "/large", (req, res) -> res.send(new byte[LARGE_ENTITY_SIZE])))
+                .route(Http2Route.route(Method.GET, "/wait", (req, res) -> {
+                    ARRIVED.countDown();
+                    RELEASE.await(10, TimeUnit.SECONDS);
+                    res.send("slow");
+                }));
+    }
+
+    @Test
+    void testStreamsSpreadOverConnections() throws Exception {
+        // first request to open a connection and receive server settings (MAX_CONCURRENT_STREAMS)
+        assertThat(client.get("/").requestEntity(String.class), is("fast"));
+        ConnectionPoolStatistics statistics = pool.get();
+        assertThat(statistics, notNullValue());
+        assertThat(statistics.connections(), is(1));
+        assertThat(statistics.maxConnections(), is(3));
+        assertThat(statistics.activeRequests(), is(0L));
+
+        List<Future<String>> futures = new ArrayList<>();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < REQUESTS; i++) {
+                futures.add(executor.submit(() -> client.get("/wait").requestEntity(String.class)));
+            }
+            assertThat(ARRIVED.await(10, TimeUnit.SECONDS), is(true));
+
+            // a new connection is opened once each connection has half of the allowed streams in use
+            assertThat(statistics.connections(), is(3));
+            assertThat(statistics.activeRequests(), is((long) REQUESTS));
+
+            RELEASE.countDown();
+            for (Future<String> future : futures) {
+                assertThat(future.get(10, TimeUnit.SECONDS), is("slow"));
+            }
+        }
+        assertThat(statistics.activeRequests(), is(0L));
+    }
+
+    @Test
+    void testStreamReleasedWhenRequestFailsBeforeHeaders() {
+        assertThat(client.get("/").requestEntity(String.class), is("fast"));
+        ConnectionPoolStatistics statistics = pool.get();
+        assertThat(statistics, notNullValue());
+
+        // the handler fails before anything is written, so the stream never sends headers
+        assertThrows(UncheckedIOException.class, () -> client.post("/")
+                .outputStream(it -> {
+                    throw new IOException("Failed before sending headers");
+                }));
+        assertThat(statistics.activeRequests(), is(0L));
+    }
+
+    @Test
+    void testBufferSourceReleasesStream() {
+        assertThat(client.get("/").requestEntity(String.class), is("fast"));
+        ConnectionPoolStatistics statistics = pool.get();
+        assertThat(statistics, notNullValue());
+        int connections = statistics.connections();
+
+        Http2ClientResponse response = client.get("/large").request();
+        assertThat(statistics.activeRequests(), is(1L));
+
+        BufferDataSource source = response.entity().bufferSource();
+        int buffers = 0;
+        int total = 0;
+        BufferData buffer;
+        while ((buffer = source.readBuffer(1024)) != null) {
+            buffers++;
+            total += buffer.available();
+        }
+
+        // buffers are the DATA frames as received, not the requested estimate
+        assertThat(buffers, greaterThanOrEqualTo(3));
+        assertThat(total, is(LARGE_ENTITY_SIZE));
+        assertThat(whenComplete.get().toCompletableFuture().isDone(), is(true));
+        // the stream is released when the entity is fully read, the connection is kept for other requests
+        assertThat(statistics.activeRequests(), is(0L));
+
+        response.close();
+        assertThat(client.get("/").requestEntity(String.class), is("fast"));
+        assertThat(statistics.connections(), is(connections));
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.webserver.grpc;
+
+import java.util.List;
+
+import io.helidon.builder.api.Option;
+import io.helidon.builder.api.Prototype;
+
+/**
+ * Compression policy of gRPC methods. A policy can be configured for a set of methods
+ * through {@link io.helidon.webserver.grpc.GrpcConfig#compressionPolicies()}, or for a single method
+ * through {@link io.helidon.webserver.grpc.GrpcMethodDescriptor.Rules#compression(GrpcCompressionConfig)}.
+ * Requests compressed by a client are always decompressed if the encoding is supported,
+ * a policy only affects compression of responses.
+ */
+@Prototype.Blueprint
+@Prototype.Configured
+interface GrpcCompressionConfigBlueprint {
+
+    /**
+     * Methods this policy applies to when configured on {@link io.helidon.webserver.grpc.GrpcConfig}.
+     * Each value is either a full method name ({@code my.package.Service/Method}),
+     * or a full service name ({@code my.package.Service}) to match all of its methods.
+     * If empty, the policy applies to all methods.
+     *
+     * @return method and service names
+     */
+    @Option.Configured
+    @Option.Singular
+    List<String> methods();
+
+    /**
+     * Whether responses of the methods may be compressed.
+     *
+     * @return whether compression is enabled
+     */
+    @Option.Configured
+    @Option.DefaultBoolean(true)
+    boolean enabled();
+
+    /**
+     * Minimal size of a serialized response message to be compressed. Smaller messages are sent
+     * uncompressed even if an encoding was negotiated, as compressing them costs more CPU than
+     * it saves bandwidth.
+     *
+     * @return minimal message size in bytes, defaults to {@code 0} (compress all messages)
+     */
+    @Option.Configured
+    @Option.DefaultInt(0)
+    int minMessageSize();
+
+    /**
+     * Encodings that may be used to compress responses, in order of preference.
+     * The first encoding that is also present in the {@code grpc-accept-encoding} request header is used.
+     * If empty, any supported encoding is allowed, in order of the request header.
+     *
+     * @return allowed encodings
+     */
+    @Option.Configured
+    @Option.Singular
+    List<String> encodings();
+}
@@ -0,0 +1,161 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.webserver.grpc;
+
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.ServiceLoader;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import io.helidon.common.HelidonServiceLoader;
+import io.helidon.common.LazyValue;
+import io.helidon.common.buffers.BufferData;
+import io.helidon.webserver.grpc.spi.GrpcCompressionProvider;
+
+import io.grpc.Codec;
+import io.grpc.Compressor;
+import io.grpc.CompressorRegistry;
+import io.grpc.Decompressor;
+import io.grpc.DecompressorRegistry;
+
+/**
+ * Message encodings supported by the gRPC server. Encodings are looked up in this order:
+ * {@link io.helidon.webserver.grpc.spi.GrpcCompressionProvider} services, the built-in pooled
+ * {@code gzip}, and codecs registered with the default gRPC compressor and decompressor registries.
+ */
+final class GrpcCompressions {
+    static final String IDENTITY = "identity";
+
+    private static final DecompressorRegistry DECOMPRESSOR_REGISTRY = DecompressorRegistry.getDefaultInstance();
+    private static final CompressorRegistry COMPRESSOR_REGISTRY = CompressorRegistry.getDefaultInstance();
+    private static final LazyValue<Map<String, GrpcCompressionProvider>> PROVIDERS =
+            LazyValue.create(GrpcCompressions::loadProviders);
+    private static final Map<String, GrpcCompressionProvider> CODECS = new ConcurrentHashMap<>();
+
+    private GrpcCompressions() {
+    }
+
+    /**
+     * Find a compression for an encoding.
+     *
+     * @param encoding name of the encoding
+     * @return compression, or {@code null} if the encoding is not supported, or is {@code identity}
+     */
+    static GrpcCompressionProvider find(String encoding) {
+        GrpcCompressionProvider provider = PROVIDERS.get().get(encoding);
+        if (provider != null) {
+            return provider;
+        }
+        if (GzipCompression.ENCODING.equals(encoding)) {
+            return GzipCompression.INSTANCE;
+        }
+        if (IDENTITY.equals(encoding)) {
+            return null;
+        }
+        provider = CODECS.get(encoding);
+        if (provider == null) {
+            Compressor compressor = COMPRESSOR_REGISTRY.lookupCompressor(encoding);
+            Decompressor decompressor = DECOMPRESSOR_REGISTRY.lookupDecompressor(encoding);
+            if (compressor == null || decompressor == null || compressor instanceof Codec.Identity) {
+                return null;
+            }
+            provider = CODECS.computeIfAbsent(encoding, it -> new CodecCompression(compressor, decompressor));
+        }
+        return provider;
+    }
+
+    /**
+     * Whether an encoding is supported, including {@code identity}.
+     *
+     * @param encoding name of the encoding
+     * @return whether supported
+     */
+    static boolean supported(String encoding) {
+        return IDENTITY.equals(encoding) || find(encoding) != null;
+    }
+
+    /**
+     * Encodings to advertise in a {@code grpc-accept-encoding} header.
+     *
+     * @return supported encodings
+     */
+    static Set<String> encodings() {
+        Set<String> encodings = new LinkedHashSet<>(PROVIDERS.get().keySet());
+        encodings.add(GzipCompression.ENCODING);
+        encodings.addAll(DECOMPRESSOR_REGISTRY.getAdvertisedMessageEncodings());
+        return encodings;
+    }
+
+    private static Map<String, GrpcCompressionProvider> loadProviders() {
+        Map<String, GrpcCompressionProvider> providers = new LinkedHashMap<>();
+        HelidonServiceLoader.create(ServiceLoader.load(GrpcCompressionProvider.class))
+                .forEach(provider -> providers.putIfAbsent(provider.encoding(), provider));
+        return providers;
+    }
+
+    /**
+     * Adapter of a gRPC codec, instances of which are shared by all calls.
+     */
+    private static final class CodecCompression implements GrpcCompressionProvider {
+        private final Compressor compressor;
+        private final Decompressor decompressor;
+
+        private CodecCompression(Compressor compressor, Decompressor decompressor) {
+            this.compressor = compressor;
+            this.decompressor = decompressor;
+        }
+
+        @Override
+        public String encoding() {
+            return compressor.getMessageEncoding();
+        }
+
+        @Override
+        public OutputStream compress(OutputStream target) throws IOException {
+            // gRPC compressors close the target stream
+            return compressor.compress(new FilterOutputStream(target) {
+                @Override
+                public void write(byte[] b, int off, int len) throws IOException {
+                    out.write(b, off, len);
+                }
+
+                @Override
+                public void close() throws IOException {
+                    flush();
+                }
+            });
+        }
+
+        @Override
+        public BufferData decompress(BufferData data, int maxSize) throws IOException {
+            int limit = (int) Math.min(Integer.MAX_VALUE - 8, maxSize + 1L);
+            try (InputStream is = decompressor.decompress(new GrpcProtocolHandler.BufferDataInputStream(data))) {
+                byte[] bytes = is.readNBytes(limit);
+                if (bytes.length > maxSize) {
+                    throw new IllegalStateException("Decompressed gRPC message size exceeds max read buffer size");
+                }
+                return BufferData.create(bytes);
+            }
+        }
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2023, 2025 Oracle and/or its affiliates.
+ * Copyright (c) 2023, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -67,6 +67,19 @@ interface GrpcConfigBlueprint extends ProtocolConfig {
     @Option.DefaultBoolean(true)
     boolean enableCompression();
 
+    /**
+     * Compression policies of gRPC methods. The first policy whose
+     * {@link io.helidon.webserver.grpc.GrpcCompressionConfig#methods()} match the invoked method is used,
+     * unless the method has its own policy defined on its {@link io.helidon.webserver.grpc.GrpcMethodDescriptor}.
+     * Methods without a policy may compress responses using any encoding supported by the client.
+     * Only used if {@link #enableCompression()} is {@code true}.
+     *
+     * @return compression policies
+     */
+    @Option.Singular
+    @Option.Configured
+    List<GrpcCompressionConfig> compressionPolicies();
+
     /**
      * gRPC server services. These services will not be discovered automatically.
      *
@@ -87,4 +100,18 @@ interface GrpcConfigBlueprint extends ProtocolConfig {
     @Option.Configured
     @Option.DefaultInt(2 * 1024 * 1024)
     int maxReadBufferSize();
+
+    /**
+     * Max size in bytes of received messages queued on a call until the service requests them.
+     * Once exceeded, the HTTP/2 flow control window of the call's stream is no longer replenished,
+     * so the client cannot send more data until the service consumes the queued messages. Other
+     * calls on the same connection are not affected. Set to {@code -1} to not limit the queue.
+     * Default set to 1 MB.
+     *
+     * @return max inbound queue size in bytes
+     * @see io.helidon.webserver.grpc.GrpcInboundQueue
+     */
+    @Option.Configured
+    @Option.DefaultInt(1024 * 1024)
+    int maxInboundQueueSize();
 }
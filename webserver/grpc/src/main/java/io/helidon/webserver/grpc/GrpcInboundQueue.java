@@ -0,0 +1,50 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.webserver.grpc;
+
+/**
+ * Messages received on a gRPC call that were not yet delivered to the service, as the service
+ * did not request them yet. Once the queued messages exceed {@link #maxBytes()}, the HTTP/2
+ * flow control window of the call's stream is no longer replenished, so the client stops
+ * sending until the service catches up.
+ * An instance of this interface is available in the gRPC {@link io.grpc.Context} using
+ * {@link ServerContextKeys#INBOUND_QUEUE}.
+ *
+ * @see io.helidon.webserver.grpc.GrpcConfig#maxInboundQueueSize()
+ */
+public interface GrpcInboundQueue {
+    /**
+     * Number of queued messages.
+     *
+     * @return queue depth
+     */
+    int messages();
+
+    /**
+     * Size of queued messages as received, including the gRPC message prefix.
+     *
+     * @return size in bytes
+     */
+    long bytes();
+
+    /**
+     * Size of queued messages above which the client is no longer allowed to send more data.
+     *
+     * @return size in bytes, or {@code -1} if not limited
+     */
+    int maxBytes();
+}
@@ -0,0 +1,151 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.webserver.grpc;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.IntConsumer;
+
+/**
+ * Inbound message queue of a call, which withholds flow control credit of received data
+ * while the queued messages exceed the configured size.
+ *
+ * @param <T> type of messages
+ */
+final class GrpcInboundQueueImpl<T> implements GrpcInboundQueue {
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Deque<Entry<T>> queue = new ArrayDeque<>();
+    private final int maxBytes;
+    private final IntConsumer creditRelease;
+
+    // guarded by lock
+    private long bytes;
+    // guarded by lock
+    private int withheldCredit;
+
+    /**
+     * Create a new queue.
+     *
+     * @param maxBytes      size of queued messages above which credit is withheld, {@code -1} for no limit
+     * @param creditRelease called with credit to release to the stream, always while holding the queue lock,
+     *                      so that stream window updates are serialized
+     */
+    GrpcInboundQueueImpl(int maxBytes, IntConsumer creditRelease) {
+        this.maxBytes = maxBytes;
+        this.creditRelease = creditRelease;
+    }
+
+    @Override
+    public int messages() {
+        lock.lock();
+        try {
+            return queue.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public long bytes() {
+        lock.lock();
+        try {
+            return bytes;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public int maxBytes() {
+        return maxBytes;
+    }
+
+    /**
+     * Add a received message.
+     *
+     * @param message message
+     * @param size    size of the message as received
+     */
+    void add(T message, int size) {
+        lock.lock();
+        try {
+            queue.add(new Entry<>(message, size));
+            bytes += size;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * A data frame was consumed, release its credit unless the queue is full.
+     *
+     * @param length length of the data frame
+     */
+    void received(int length) {
+        if (length <= 0) {
+            return;
+        }
+        lock.lock();
+        try {
+            withheldCredit += length;
+            releaseCredit();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Remove the first queued message, releasing withheld credit if the queue is no longer full.
+     *
+     * @return message, or {@code null} if the queue is empty
+     */
+    T poll() {
+        lock.lock();
+        try {
+            Entry<T> entry = queue.poll();
+            if (entry == null) {
+                return null;
+            }
+            bytes -= entry.size();
+            releaseCredit();
+            return entry.message();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    boolean isEmpty() {
+        lock.lock();
+        try {
+            return queue.isEmpty();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void releaseCredit() {
+        if (withheldCredit > 0 && (maxBytes < 0 || bytes <= maxBytes)) {
+            int credit = withheldCredit;
+            withheldCredit = 0;
+            creditRelease.accept(credit);
+        }
+    }
+
+    private record Entry<T>(T message, int size) {
+    }
+}
@@ -0,0 +1,136 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.webserver.grpc;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Arrays;
+
+import io.helidon.common.buffers.BufferData;
+
+import com.google.protobuf.CodedOutputStream;
+import com.google.protobuf.MessageLite;
+
+/**
+ * A reusable buffer for a single outbound gRPC message. The 5-byte message prefix
+ * (compressed flag and length) is reserved in advance, so that the message can be
+ * serialized (and compressed) directly after it, and the prefix written once the
+ * length is known. Frames are then created as views of the underlying array,
+ * without copying it.
+ * Not thread safe, as messages of a call are sent one by one.
+ */
+class GrpcMessageBuffer extends OutputStream {
+    static final int PREFIX_SIZE = 5;
+
+    private byte[] buffer;
+    private int size = PREFIX_SIZE;
+
+    GrpcMessageBuffer(int initialSize) {
+        this.buffer = new byte[Math.max(PREFIX_SIZE, initialSize)];
+    }
+
+    /**
+     * Discard the current message, keeping the underlying array.
+     */
+    void reset() {
+        size = PREFIX_SIZE;
+    }
+
+    @Override
+    public void write(int b) {
+        ensureCapacity(size + 1);
+        buffer[size++] = (byte) b;
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) {
+        ensureCapacity(size + len);
+        System.arraycopy(b, off, buffer, size, len);
+        size += len;
+    }
+
+    /**
+     * Serialize a protobuf message directly into this buffer.
+     *
+     * @param message message to serialize
+     * @throws IOException if the message does not serialize to its declared size
+     */
+    void writeMessage(MessageLite message) throws IOException {
+        int length = message.getSerializedSize();
+        ensureCapacity(size + length);
+        CodedOutputStream out = CodedOutputStream.newInstance(buffer, size, length);
+        message.writeTo(out);
+        out.checkNoSpaceLeft();
+        size += length;
+    }
+
+    /**
+     * Write the message, without its prefix, to a stream.
+     *
+     * @param os stream to write to
+     * @throws IOException if writing fails
+     */
+    void writeMessageTo(OutputStream os) throws IOException {
+        os.write(buffer, PREFIX_SIZE, size - PREFIX_SIZE);
+    }
+
+    /**
+     * Write the message prefix.
+     *
+     * @param compressed whether the message was compressed
+     * @return length of the message including its prefix
+     */
+    int finish(boolean compressed) {
+        int length = size - PREFIX_SIZE;
+        buffer[0] = (byte) (compressed ? 1 : 0);
+        buffer[1] = (byte) (length >>> 24);
+        buffer[2] = (byte) (length >>> 16);
+        buffer[3] = (byte) (length >>> 8);
+        buffer[4] = (byte) length;
+        return size;
+    }
+
+    /**
+     * A view of a part of this buffer, the bytes are not copied.
+     * The view is only valid until this buffer is reset.
+     *
+     * @param offset offset of the first byte
+     * @param length number of bytes
+     * @return buffer data backed by this buffer
+     */
+    BufferData slice(int offset, int length) {
+        return BufferData.create(buffer, offset, length);
+    }
+
+    /**
+     * Number of bytes written so far, including the prefix.
+     *
+     * @return size of this buffer
+     */
+    int size() {
+        return size;
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity < 0) {
+            throw new IllegalStateException("gRPC message size exceeds maximal array size");
+        }
+        if (capacity > buffer.length) {
+            buffer = Arrays.copyOf(buffer, Math.max(capacity, buffer.length << 1));
+        }
+    }
+}
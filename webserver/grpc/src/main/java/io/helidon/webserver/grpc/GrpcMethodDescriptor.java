@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2019, 2024 Oracle and/or its affiliates.
+ * Copyright (c) 2019, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -21,6 +21,7 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
 
 import io.helidon.grpc.core.InterceptorWeights;
 import io.helidon.grpc.core.MarshallerSupplier;
@@ -45,6 +46,7 @@ public class GrpcMethodDescriptor<ReqT, ResT> {
     private final WeightedBag<ServerInterceptor> interceptors;
     private final Class<ReqT> requestType;
     private final Class<ResT> responseType;
+    private final GrpcCompressionConfig compression;
 
     private GrpcMethodDescriptor(String name,
                                  MethodDescriptor<ReqT, ResT> descriptor,
@@ -52,7 +54,8 @@ public class GrpcMethodDescriptor<ReqT, ResT> {
                                  Class<ResT> responseType,
                                  ServerCallHandler<ReqT, ResT> callHandler,
                                  Map<Context.Key<?>, Object> context,
-                                 WeightedBag<ServerInterceptor> interceptors) {
+                                 WeightedBag<ServerInterceptor> interceptors,
+                                 GrpcCompressionConfig compression) {
         this.name = name;
         this.descriptor = descriptor;
         this.requestType = requestType;
@@ -60,6 +63,7 @@ public class GrpcMethodDescriptor<ReqT, ResT> {
         this.callHandler = callHandler;
         this.context = context;
         this.interceptors = interceptors.copyMe();
+        this.compression = compression;
     }
 
     /**
@@ -127,6 +131,15 @@ public class GrpcMethodDescriptor<ReqT, ResT> {
         return interceptors.readOnly();
     }
 
+    /**
+     * Obtain the compression policy of this method.
+     *
+     * @return the compression policy, or empty if the policy configured on the server should be used
+     */
+    public Optional<GrpcCompressionConfig> compression() {
+        return Optional.ofNullable(compression);
+    }
+
     static <ReqT, ResT> Builder<ReqT, ResT> builder(String serviceName,
                                                     String name,
                                                     MethodDescriptor.Builder<ReqT, ResT> descriptor,
@@ -198,6 +211,17 @@ public class GrpcMethodDescriptor<ReqT, ResT> {
          */
         Rules<ReqT, ResT> marshallerSupplier(MarshallerSupplier marshallerSupplier);
 
+        /**
+         * Set the compression policy for the method.
+         * <p>
+         * If not set the policy configured on the server will be used, see
+         * {@link io.helidon.webserver.grpc.GrpcConfig#compressionPolicies()}.
+         *
+         * @param compression the compression policy of the method
+         * @return this {@link Rules} instance for fluent call chaining
+         */
+        Rules<ReqT, ResT> compression(GrpcCompressionConfig compression);
+
         /**
          * Set the request type.
          * <p>
@@ -269,6 +293,7 @@ public class GrpcMethodDescriptor<ReqT, ResT> {
 
         private MarshallerSupplier defaultMarshallerSupplier = MarshallerSupplier.create();
         private MarshallerSupplier marshallerSupplier;
+        private GrpcCompressionConfig compression;
 
         Builder(String serviceName,
                 String name,
@@ -291,6 +316,12 @@ public class GrpcMethodDescriptor<ReqT, ResT> {
             return this;
         }
 
+        @Override
+        public Builder<ReqT, ResT> compression(GrpcCompressionConfig compression) {
+            this.compression = Objects.requireNonNull(compression, "The compression policy cannot be null");
+            return this;
+        }
+
         Builder<ReqT, ResT> defaultMarshallerSupplier(MarshallerSupplier supplier) {
             if (supplier == null) {
                 this.defaultMarshallerSupplier = MarshallerSupplier.create();
@@ -357,7 +388,8 @@ public class GrpcMethodDescriptor<ReqT, ResT> {
                     (Class) requestType,
                     callHandler,
                     context,
-                    interceptors);
+                    interceptors,
+                    compression);
         }
 
         @SuppressWarnings("unchecked")
@@ -16,17 +16,17 @@
 
 package io.helidon.webserver.grpc;
 
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
-import java.util.Set;
+import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 
@@ -59,13 +59,12 @@ import io.helidon.metrics.api.Timer;
 import io.helidon.webserver.CloseConnectionException;
 import io.helidon.webserver.ConnectionContext;
 import io.helidon.webserver.ServerConnectionException;
+import io.helidon.webserver.grpc.spi.GrpcCompressionProvider;
 import io.helidon.webserver.http2.spi.Http2SubProtocolSelector;
 
-import io.grpc.Codec;
-import io.grpc.Compressor;
-import io.grpc.CompressorRegistry;
-import io.grpc.Decompressor;
-import io.grpc.DecompressorRegistry;
+import com.google.protobuf.Empty;
+import com.google.protobuf.MessageLite;
+import com.google.protobuf.Parser;
 import io.grpc.Drainable;
 import io.grpc.KnownLength;
 import io.grpc.Metadata;
@@ -73,6 +72,7 @@ import io.grpc.MethodDescriptor;
 import io.grpc.ServerCall;
 import io.grpc.ServerCallHandler;
 import io.grpc.Status;
+import io.grpc.protobuf.ProtoUtils;
 
 import static io.helidon.http.HeaderNames.CONTENT_TYPE;
 import static io.helidon.http.http2.Http2Flag.DataFlags;
@@ -80,6 +80,7 @@ import static io.helidon.http.http2.Http2Flag.END_OF_HEADERS;
 import static io.helidon.http.http2.Http2Flag.END_OF_STREAM;
 import static io.helidon.http.http2.Http2Flag.HeaderFlags;
 import static io.helidon.metrics.api.Meter.Scope.VENDOR;
+import static java.lang.System.Logger.Level.DEBUG;
 import static java.lang.System.Logger.Level.ERROR;
 
 class GrpcProtocolHandler<REQ, RES> implements Http2SubProtocolSelector.SubProtocolHandler {
@@ -92,8 +93,8 @@ class GrpcProtocolHandler<REQ, RES> implements Http2SubProtocolSelector.SubProto
 
     private static final DataFlags DATA_FLAGS_ZERO = DataFlags.create(0);
 
-    private static final DecompressorRegistry DECOMPRESSOR_REGISTRY = DecompressorRegistry.getDefaultInstance();
-    private static final CompressorRegistry COMPRESSOR_REGISTRY = CompressorRegistry.getDefaultInstance();
+    // marshallers of this class use the standard protobuf encoding, and can be bypassed
+    private static final Class<?> PROTO_MARSHALLER_CLASS = ProtoUtils.marshaller(Empty.getDefaultInstance()).getClass();
 
     private static final Tag OK_TAG = Tag.create("grpc.status", "OK");
 
@@ -113,18 +114,21 @@ class GrpcProtocolHandler<REQ, RES> implements Http2SubProtocolSelector.SubProto
     private final int streamId;
     private final GrpcRouteHandler<REQ, RES> route;
     private final AtomicInteger numMessages = new AtomicInteger();
-    private final LinkedBlockingQueue<REQ> listenerQueue = new LinkedBlockingQueue<>();
     private final StreamFlowControl flowControl;
     private final GrpcConfig grpcConfig;
+    private final GrpcInboundQueueImpl<REQ> inboundQueue;
 
     private volatile ServerCall.Listener<REQ> listener;
     private BufferData entityBytes;
     private BufferData readBufferData = BufferData.create(INITIAL_BUFFER_SIZE);
     private BufferData unreadBufferData;
     private long entityBytesLeft;
-    private Compressor compressor;
-    private Decompressor decompressor;
+    private GrpcCompressionConfig compressionPolicy;
+    private GrpcCompressionProvider compressor;
+    private GrpcCompressionProvider decompressor;
+    private int minCompressedSize;
     private boolean identityCompressor;
+    private Parser<REQ> requestParser;
     private long bytesReceived;
     private MethodMetrics methodMetrics;
     private long startMillis;
@@ -148,6 +152,7 @@ class GrpcProtocolHandler<REQ, RES> implements Http2SubProtocolSelector.SubProto
         this.currentStreamState.set(currentStreamState);
         this.route = route;
         this.grpcConfig = grpcConfig;
+        this.inboundQueue = new GrpcInboundQueueImpl<>(grpcConfig.maxInboundQueueSize(), this::releaseCredit);
     }
 
     @Override
@@ -157,8 +162,11 @@ class GrpcProtocolHandler<REQ, RES> implements Http2SubProtocolSelector.SubProto
             Headers httpHeaders = headers.httpHeaders();
 
             // setup compression
+            compressionPolicy = compressionPolicy();
             initCompression(serverCall, httpHeaders);
 
+            requestParser = protobufParser(route.method().getRequestMarshaller());
+
             // init metrics
             if (grpcConfig.enableMetrics()) {
                 initMetrics();
@@ -171,6 +179,7 @@ class GrpcProtocolHandler<REQ, RES> implements Http2SubProtocolSelector.SubProto
             var grpcContextImpl = new GrpcConnectionContextImpl(connectionContext);
             io.grpc.Context.current()
                 .withValue(ServerContextKeys.CONNECTION_CONTEXT, grpcContextImpl)
+                .withValue(ServerContextKeys.INBOUND_QUEUE, inboundQueue)
                 .run(() -> {
                     // initiate server call
                     ServerCallHandler<REQ, RES> callHandler = route.callHandler();
@@ -212,6 +221,17 @@ class GrpcProtocolHandler<REQ, RES> implements Http2SubProtocolSelector.SubProto
     public void windowUpdate(Http2WindowUpdate update) {
     }
 
+    /**
+     * Stream window is replenished once received messages are delivered to the listener,
+     * see {@link GrpcConfig#maxInboundQueueSize()}.
+     *
+     * @return {@code true}
+     */
+    @Override
+    public boolean streamFlowControl() {
+        return true;
+    }
+
     /**
      * Data received from HTTP/2 layer. Data may contain a partial gRPC request
      * or more than one request, making logic a bit more difficult.
@@ -260,10 +280,10 @@ class GrpcProtocolHandler<REQ, RES> implements Http2SubProtocolSelector.SubProto
                     }
 
                     // read and possibly decompress data
-                    bytesReceived += entityBytes.available();
-                    InputStream is = new BufferDataInputStream(entityBytes);
-                    REQ request = route.method().parseRequest(isCompressed ? decompressor.decompress(is) : is);
-                    listenerQueue.add(request);
+                    int entitySize = entityBytes.available();
+                    bytesReceived += entitySize;
+                    REQ request = parseRequest(entityBytes, isCompressed);
+                    inboundQueue.add(request, GRPC_HEADER_SIZE + entitySize);
                     flushQueue();
 
                     // reset entityBytes
@@ -289,9 +309,34 @@ class GrpcProtocolHandler<REQ, RES> implements Http2SubProtocolSelector.SubProto
             }
             listener.onCancel();
             LOGGER.log(ERROR, "Failed to process grpc request: " + data.debugDataHex(true), e);
+        } finally {
+            // frame consumed, replenish the stream window unless too many messages are queued
+            inboundQueue.received(header.length());
         }
     }
 
+    /**
+     * Parse a complete request message. Protobuf messages are parsed directly from the
+     * read buffer, or from the buffer the message was decompressed to.
+     *
+     * @param message    message bytes
+     * @param compressed whether the message is compressed
+     * @return parsed request
+     * @throws IOException if the message cannot be decompressed or parsed
+     */
+    REQ parseRequest(BufferData message, boolean compressed) throws IOException {
+        BufferData data = compressed
+                ? decompressor.decompress(message, grpcConfig.maxReadBufferSize())
+                : message;
+        if (requestParser == null) {
+            return route.method().parseRequest(new BufferDataInputStream(data));
+        }
+        ByteBuffer[] buffers = data.asByteBuffers();
+        REQ request = requestParser.parseFrom(buffers.length == 1 ? buffers[0] : ByteBuffer.wrap(data.readBytes()));
+        data.skip(data.available());
+        return request;
+    }
+
     BufferData allocateReadBuffer(int length) {
         readBufferData.reset();
         int capacity = readBufferData.capacity();
@@ -306,49 +351,106 @@ class GrpcProtocolHandler<REQ, RES> implements Http2SubProtocolSelector.SubProto
 
     void initCompression(ServerCall<REQ, RES> serverCall, Headers httpHeaders) {
         if (grpcConfig.enableCompression()) {
-            // check for encoding and respond using same algorithm
+            // encodings the client can decode, the request encoding first
+            List<String> accepted = new ArrayList<>();
+
+            // check for encoding of request messages
             if (httpHeaders.contains(GRPC_ENCODING)) {
                 Header grpcEncoding = httpHeaders.get(GRPC_ENCODING);
                 String encoding = grpcEncoding.asString().get();
-                decompressor = DECOMPRESSOR_REGISTRY.lookupDecompressor(encoding);
-                compressor = COMPRESSOR_REGISTRY.lookupCompressor(encoding);
 
                 // report encoding not supported
-                if (decompressor == null || compressor == null) {
+                if (!GrpcCompressions.supported(encoding)) {
                     Metadata metadata = new Metadata();
-                    Set<String> encodings = DECOMPRESSOR_REGISTRY.getAdvertisedMessageEncodings();
                     metadata.put(Metadata.Key.of(GRPC_ACCEPT_ENCODING.defaultCase(), Metadata.ASCII_STRING_MARSHALLER),
-                                 String.join(",", encodings));
+                                 String.join(",", GrpcCompressions.encodings()));
                     serverCall.close(Status.UNIMPLEMENTED, metadata);
                     currentStreamState.updateAndGet(
                             current -> nextStreamState(current, Http2StreamState.CLOSED));  // stops processing
                     return;
                 }
-            } else if (httpHeaders.contains(GRPC_ACCEPT_ENCODING)) {
-                Header acceptEncoding = httpHeaders.get(GRPC_ACCEPT_ENCODING);
-
-                // check for matching encoding
-                for (String encoding : acceptEncoding.allValues()) {
-                    compressor = COMPRESSOR_REGISTRY.lookupCompressor(encoding);
-                    if (compressor != null) {
-                        decompressor = DECOMPRESSOR_REGISTRY.lookupDecompressor(encoding);
-                        if (decompressor != null) {
-                            break;      // found match
-                        }
-                        compressor = null;
-                    }
+                decompressor = GrpcCompressions.find(encoding);
+                accepted.add(encoding);
+            }
+            if (httpHeaders.contains(GRPC_ACCEPT_ENCODING)) {
+                for (String encoding : httpHeaders.get(GRPC_ACCEPT_ENCODING).allValues(true)) {
+                    accepted.add(encoding.trim());
                 }
             }
+
+            // respond using an encoding accepted by the client and allowed by the method policy
+            if (compressionPolicy == null || compressionPolicy.enabled()) {
+                compressor = negotiateCompressor(compressionPolicy, accepted);
+                minCompressedSize = compressionPolicy == null ? 0 : compressionPolicy.minMessageSize();
+            }
+            if (decompressor == null && !httpHeaders.contains(GRPC_ENCODING)) {
+                // lenient to clients that compress without announcing it
+                decompressor = compressor;
+            }
         }
 
         // special handling for identity compressor
-        identityCompressor = (compressor == null || compressor instanceof Codec.Identity);
+        identityCompressor = (compressor == null);
+    }
+
+    /**
+     * Find the compression policy of the invoked method, either defined on its method
+     * descriptor, or the first matching one configured on the server.
+     *
+     * @return compression policy, or {@code null} if there is none
+     */
+    GrpcCompressionConfig compressionPolicy() {
+        Optional<GrpcCompressionConfig> methodPolicy = route.compression();
+        if (methodPolicy.isPresent()) {
+            return methodPolicy.get();
+        }
+        String methodName = route.method().getFullMethodName();
+        String serviceName = route.method().getServiceName();
+        for (GrpcCompressionConfig policy : grpcConfig.compressionPolicies()) {
+            List<String> methods = policy.methods();
+            if (methods.isEmpty() || methods.contains(methodName) || methods.contains(serviceName)) {
+                return policy;
+            }
+        }
+        return null;
+    }
+
+    private static GrpcCompressionProvider negotiateCompressor(GrpcCompressionConfig policy, List<String> accepted) {
+        List<String> preferred = policy == null || policy.encodings().isEmpty() ? accepted : policy.encodings();
+        for (String encoding : preferred) {
+            if (accepted.contains(encoding)) {
+                if (GrpcCompressions.IDENTITY.equals(encoding)) {
+                    return null;
+                }
+                GrpcCompressionProvider compressor = GrpcCompressions.find(encoding);
+                if (compressor != null) {
+                    return compressor;
+                }
+            }
+        }
+        return null;
     }
 
     boolean identityCompressor() {
         return identityCompressor;
     }
 
+    @SuppressWarnings("unchecked")
+    private static <T> Parser<T> protobufParser(MethodDescriptor.Marshaller<T> marshaller) {
+        MessageLite prototype = protobufPrototype(marshaller);
+        return prototype == null ? null : (Parser<T>) prototype.getParserForType();
+    }
+
+    private static MessageLite protobufPrototype(MethodDescriptor.Marshaller<?> marshaller) {
+        if (marshaller != null
+                && marshaller.getClass() == PROTO_MARSHALLER_CLASS
+                && marshaller instanceof MethodDescriptor.PrototypeMarshaller<?> prototypeMarshaller
+                && prototypeMarshaller.getMessagePrototype() instanceof MessageLite prototype) {
+            return prototype;
+        }
+        return null;
+    }
+
     private boolean isPeerCancellation(Throwable throwable) {
         return callCancelled && Status.fromThrowable(throwable).getCode() == Status.Code.CANCELLED;
     }
@@ -373,14 +475,43 @@ class GrpcProtocolHandler<REQ, RES> implements Http2SubProtocolSelector.SubProto
         numMessages.getAndAdd(n);
     }
 
+    private boolean takeNumMessage() {
+        int n;
+        do {
+            n = numMessages.get();
+            if (n <= 0) {
+                return false;
+            }
+        } while (!numMessages.compareAndSet(n, n - 1));
+        return true;
+    }
+
     private void flushQueue() {
         if (listener != null) {
-            while (!listenerQueue.isEmpty() && numMessages.getAndDecrement() > 0) {
-                listener.onMessage(listenerQueue.poll());
+            while (!inboundQueue.isEmpty() && takeNumMessage()) {
+                REQ request = inboundQueue.poll();
+                if (request == null) {
+                    // drained by a concurrent flush
+                    addNumMessages(1);
+                    return;
+                }
+                listener.onMessage(request);
             }
         }
     }
 
+    private void releaseCredit(int credit) {
+        if (flowControl == null) {
+            return;
+        }
+        try {
+            flowControl.inbound().incrementStreamWindowSize(credit);
+        } catch (UncheckedIOException e) {
+            // connection is gone, messages already received may still be delivered
+            LOGGER.log(DEBUG, "Failed to update window of stream " + streamId, e);
+        }
+    }
+
     /**
      * Ensures that if moving to a HALF_CLOSE state we can reach the CLOSED state
      * if already on the other HALF_CLOSE state. Reaching CLOSED state is necessary
@@ -406,9 +537,11 @@ class GrpcProtocolHandler<REQ, RES> implements Http2SubProtocolSelector.SubProto
     ServerCall<REQ, RES> createServerCall() {
         return new ServerCall<REQ, RES>() {
 
+            private final GrpcMessageBuffer messageBuffer = new GrpcMessageBuffer(INITIAL_BUFFER_SIZE);
+            private final boolean protobufResponse = protobufPrototype(route.method().getResponseMarshaller()) != null;
+            private GrpcMessageBuffer compressedBuffer;
             private long bytesSent;
             private boolean headersSent;
-            private BufferData writeBufferData = BufferData.growing(INITIAL_BUFFER_SIZE);
 
             @Override
             public void request(int numMessages) {
@@ -427,7 +560,7 @@ class GrpcProtocolHandler<REQ, RES> implements Http2SubProtocolSelector.SubProto
                 if (compressor == null) {
                     writable.set(GRPC_ENCODING_IDENTITY);
                 } else {
-                    writable.set(HeaderValues.createCached(GRPC_ENCODING, compressor.getMessageEncoding()));
+                    writable.set(HeaderValues.createCached(GRPC_ENCODING, compressor.encoding()));
                 }
 
                 // write headers frame
@@ -439,40 +572,44 @@ class GrpcProtocolHandler<REQ, RES> implements Http2SubProtocolSelector.SubProto
 
             @Override
             public void sendMessage(RES message) {
-                try (InputStream inputStream = route.method().streamResponse(message)) {
-                    // prepare buffer for writing
-                    BufferData bufferData;
-                    if (identityCompressor && inputStream instanceof KnownLength knownLength) {
-                        int bytesLength = knownLength.available();
-                        bufferData = allocateWriteBuffer(GRPC_HEADER_SIZE + bytesLength);
-                        bufferData.write(0);        // 0 for identity compressor
-                        bufferData.writeUnsignedInt32(bytesLength);
-                        bufferData.readFrom(inputStream);
+                try {
+                    // serialize and possibly compress after the reserved prefix
+                    GrpcMessageBuffer buffer = messageBuffer;
+                    buffer.reset();
+                    boolean compressed = !identityCompressor;
+                    if (compressed && protobufResponse) {
+                        compressed = ((MessageLite) message).getSerializedSize() >= minCompressedSize;
+                    }
+                    if (!compressed) {
+                        serialize(message, buffer);
+                    } else if (protobufResponse || minCompressedSize == 0) {
+                        try (OutputStream os = compressor.compress(buffer)) {
+                            serialize(message, os);
+                        }
                     } else {
-                        ByteArrayOutputStream baos = new ByteArrayOutputStream();
-                        if (identityCompressor) {
-                            inputStream.transferTo(baos);
-                        } else {
-                            try (OutputStream os = compressor.compress(baos)) {
-                                inputStream.transferTo(os);
+                        // size of other messages is only known once serialized
+                        serialize(message, buffer);
+                        if (buffer.size() - GrpcMessageBuffer.PREFIX_SIZE >= minCompressedSize) {
+                            buffer = compressedBuffer();
+                            try (OutputStream os = compressor.compress(buffer)) {
+                                messageBuffer.writeMessageTo(os);
                             }
+                        } else {
+                            compressed = false;
                         }
-                        byte[] bytes = baos.toByteArray();
-                        bufferData = allocateWriteBuffer(GRPC_HEADER_SIZE + bytes.length);
-                        bufferData.write(identityCompressor ? 0 : 1);
-                        bufferData.writeUnsignedInt32(bytes.length);
-                        bufferData.write(bytes);
                     }
-
-                    // create data frame, EOS sent in close with trailers
-                    int writeLength = bufferData.available();
-                    Http2FrameHeader header = Http2FrameHeader.create(writeLength,
-                                                                      Http2FrameTypes.DATA,
-                                                                      DATA_FLAGS_ZERO,
-                                                                      streamId);
-
-                    // write data frame
-                    writeData(new Http2FrameData(header, bufferData));
+                    int writeLength = buffer.finish(compressed);
+
+                    // write data frames as views of the message buffer, EOS sent in close with trailers
+                    int maxFrameSize = outboundFlowControl().maxFrameSize();
+                    for (int offset = 0; offset < writeLength; offset += maxFrameSize) {
+                        int frameLength = Math.min(maxFrameSize, writeLength - offset);
+                        Http2FrameHeader header = Http2FrameHeader.create(frameLength,
+                                                                          Http2FrameTypes.DATA,
+                                                                          DATA_FLAGS_ZERO,
+                                                                          streamId);
+                        writeData(new Http2FrameData(header, buffer.slice(offset, frameLength)));
+                    }
                     bytesSent += writeLength;
                 } catch (UncheckedIOException e) {
                     throw new ServerConnectionException("Failed to write grpc response data", e);
@@ -537,13 +674,30 @@ class GrpcProtocolHandler<REQ, RES> implements Http2SubProtocolSelector.SubProto
                 return route.method();
             }
 
-            private BufferData allocateWriteBuffer(int length) {
-                writeBufferData.reset();
-                int capacity = writeBufferData.capacity();
-                if (length > capacity) {
-                    writeBufferData = BufferData.create(length);
+            private GrpcMessageBuffer compressedBuffer() {
+                if (compressedBuffer == null) {
+                    compressedBuffer = new GrpcMessageBuffer(INITIAL_BUFFER_SIZE);
+                }
+                compressedBuffer.reset();
+                return compressedBuffer;
+            }
+
+            private void serialize(RES message, OutputStream os) throws IOException {
+                if (protobufResponse) {
+                    if (os == messageBuffer) {
+                        messageBuffer.writeMessage((MessageLite) message);
+                    } else {
+                        ((MessageLite) message).writeTo(os);
+                    }
+                } else {
+                    try (InputStream inputStream = route.method().streamResponse(message)) {
+                        if (inputStream instanceof Drainable drainable) {
+                            drainable.drainTo(os);
+                        } else {
+                            inputStream.transferTo(os);
+                        }
+                    }
                 }
-                return writeBufferData;
             }
         };
     }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022, 2025 Oracle and/or its affiliates.
+ * Copyright (c) 2022, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,6 +16,8 @@
 
 package io.helidon.webserver.grpc;
 
+import java.util.Optional;
+
 import io.helidon.grpc.core.WeightedBag;
 import io.helidon.http.HttpPrologue;
 import io.helidon.http.PathMatcher;
@@ -37,15 +39,18 @@ class GrpcRouteHandler<ReqT, ResT> extends GrpcRoute {
     private final PathMatcher pathMatcher;
     private final ServerCallHandler<ReqT, ResT> callHandler;
     private final Descriptors.FileDescriptor proto;
+    private final GrpcCompressionConfig compression;
 
     private GrpcRouteHandler(MethodDescriptor<ReqT, ResT> method,
                              PathMatcher pathMatcher,
                              ServerCallHandler<ReqT, ResT> callHandler,
-                             Descriptors.FileDescriptor proto) {
+                             Descriptors.FileDescriptor proto,
+                             GrpcCompressionConfig compression) {
         this.method = method;
         this.pathMatcher = pathMatcher;
         this.callHandler = callHandler;
         this.proto = proto;
+        this.compression = compression;
     }
 
     @Override
@@ -130,14 +135,26 @@ class GrpcRouteHandler<ReqT, ResT> extends GrpcRoute {
         ServerServiceDefinition definition = service.bindService();
         String path = definition.getServiceDescriptor().getName() + "/"
                 + method.getMethodDescriptor().getBareMethodName();
+        GrpcServiceDescriptor serviceDescriptor = service instanceof BindableServiceImpl svc
+                ? svc.serviceDescriptor()
+                : null;
         ServerCallHandler<ReqT, ResT> callHandler = GrpcInterceptorUtil.interceptHandler(
                 (ServerCallHandler<ReqT, ResT>) method.getServerCallHandler(),
                 interceptors,
-                service instanceof BindableServiceImpl svc ? svc.serviceDescriptor() : null);
+                serviceDescriptor);
+        GrpcCompressionConfig compression = null;
+        if (serviceDescriptor != null) {
+            GrpcMethodDescriptor<?, ?> methodDescriptor =
+                    serviceDescriptor.method(method.getMethodDescriptor().getBareMethodName());
+            if (methodDescriptor != null) {
+                compression = methodDescriptor.compression().orElse(null);
+            }
+        }
         return new GrpcRouteHandler<>((MethodDescriptor<ReqT, ResT>) method.getMethodDescriptor(),
                                       PathMatchers.exact(path),
                                       callHandler,
-                                      null);
+                                      null,
+                                      compression);
     }
 
     @Override
@@ -157,6 +174,15 @@ class GrpcRouteHandler<ReqT, ResT> extends GrpcRoute {
         return callHandler;
     }
 
+    /**
+     * Compression policy defined for this method on its {@link GrpcMethodDescriptor}.
+     *
+     * @return compression policy, or empty to use the policy configured on the server
+     */
+    Optional<GrpcCompressionConfig> compression() {
+        return Optional.ofNullable(compression);
+    }
+
     private static <ResT, ReqT> GrpcRouteHandler<ReqT, ResT> grpc(Descriptors.FileDescriptor proto,
                                                                   String serviceName,
                                                                   String methodName,
@@ -189,7 +215,7 @@ class GrpcRouteHandler<ReqT, ResT> extends GrpcRoute {
                 .setType(getMethodType(mtd)).setFullMethodName(path).setRequestMarshaller(reqMarshaller)
                 .setResponseMarshaller(resMarshaller).setSampledToLocalTracing(true);
 
-        return new GrpcRouteHandler<>(grpcDesc.build(), PathMatchers.exact(path), callHandler, proto);
+        return new GrpcRouteHandler<>(grpcDesc.build(), PathMatchers.exact(path), callHandler, proto, null);
     }
 
 
@@ -208,7 +234,11 @@ class GrpcRouteHandler<ReqT, ResT> extends GrpcRoute {
     private static <ResT, ReqT> GrpcRouteHandler<ReqT, ResT> grpc(MethodDescriptor<ReqT, ResT> grpcDesc,
                                                                   ServerCallHandler<ReqT, ResT> callHandler,
                                                                   Descriptors.FileDescriptor proto) {
-        return new GrpcRouteHandler<>(grpcDesc, PathMatchers.exact(grpcDesc.getFullMethodName()), callHandler, proto);
+        return new GrpcRouteHandler<>(grpcDesc,
+                                      PathMatchers.exact(grpcDesc.getFullMethodName()),
+                                      callHandler,
+                                      proto,
+                                      null);
     }
 
     private static String getClassName(Descriptors.Descriptor descriptor) {
@@ -0,0 +1,221 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.webserver.grpc;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.zip.CRC32;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.Inflater;
+import java.util.zip.ZipException;
+
+import io.helidon.common.buffers.BufferData;
+import io.helidon.webserver.grpc.spi.GrpcCompressionProvider;
+
+/**
+ * Gzip message encoding using pooled {@link Deflater} and {@link Inflater} instances.
+ * Wire compatible with {@link io.grpc.Codec.Gzip}, which creates (and leaves to finalization)
+ * new native zlib streams for each message.
+ */
+final class GzipCompression implements GrpcCompressionProvider {
+    static final String ENCODING = "gzip";
+
+    private static final int POOL_SIZE = 2 * Runtime.getRuntime().availableProcessors();
+    private static final int BUFFER_SIZE = 8 * 1024;
+    private static final int MIN_OUTPUT_SIZE = 64;
+    private static final byte[] HEADER = {0x1f, (byte) 0x8b, Deflater.DEFLATED, 0, 0, 0, 0, 0, 0, (byte) 0xff};
+    private static final int FHCRC = 2;
+    private static final int FEXTRA = 4;
+    private static final int FNAME = 8;
+    private static final int FCOMMENT = 16;
+
+    // must follow POOL_SIZE, which is used to create the pools
+    static final GzipCompression INSTANCE = new GzipCompression();
+
+    private final BlockingQueue<Deflater> deflaters = new ArrayBlockingQueue<>(POOL_SIZE);
+    private final BlockingQueue<Inflater> inflaters = new ArrayBlockingQueue<>(POOL_SIZE);
+
+    private GzipCompression() {
+    }
+
+    @Override
+    public String encoding() {
+        return ENCODING;
+    }
+
+    @Override
+    public OutputStream compress(OutputStream target) throws IOException {
+        target.write(HEADER);
+        Deflater deflater = deflaters.poll();
+        if (deflater == null) {
+            deflater = new Deflater(Deflater.DEFAULT_COMPRESSION, true);
+        }
+        return new GzipOutputStream(target, deflater);
+    }
+
+    @Override
+    public BufferData decompress(BufferData data, int maxSize) throws IOException {
+        ByteBuffer input = data.available() == 0 ? ByteBuffer.allocate(0) : single(data.asByteBuffers());
+        input.order(ByteOrder.LITTLE_ENDIAN);
+        data.skip(data.available());
+        skipHeader(input);
+
+        Inflater inflater = inflaters.poll();
+        if (inflater == null) {
+            inflater = new Inflater(true);
+        }
+        try {
+            inflater.setInput(input);
+            int limit = Math.max(MIN_OUTPUT_SIZE, maxSize);
+            byte[] output = new byte[(int) Math.min(limit, Math.max(MIN_OUTPUT_SIZE, 4L * input.remaining()))];
+            int size = 0;
+            while (!inflater.finished()) {
+                if (size == output.length) {
+                    output = Arrays.copyOf(output, (int) Math.min(limit + 1L, 2L * size));
+                }
+                int inflated = inflater.inflate(output, size, output.length - size);
+                if (inflated == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    throw new ZipException("Truncated gzip data");
+                }
+                size += inflated;
+                if (size > maxSize) {
+                    throw new IllegalStateException("Decompressed gRPC message size exceeds max read buffer size");
+                }
+            }
+
+            // trailer follows the deflated data, input position was advanced by inflater
+            if (input.remaining() < 8) {
+                throw new ZipException("Missing gzip trailer");
+            }
+            CRC32 crc = new CRC32();
+            crc.update(output, 0, size);
+            if (input.getInt() != (int) crc.getValue() || input.getInt() != size) {
+                throw new ZipException("Corrupt gzip trailer");
+            }
+            return BufferData.create(output, 0, size);
+        } catch (DataFormatException e) {
+            throw new ZipException(e.getMessage());
+        } finally {
+            release(inflater);
+        }
+    }
+
+    private static ByteBuffer single(ByteBuffer[] buffers) {
+        if (buffers.length == 1) {
+            return buffers[0];
+        }
+        int size = 0;
+        for (ByteBuffer buffer : buffers) {
+            size += buffer.remaining();
+        }
+        ByteBuffer result = ByteBuffer.allocate(size);
+        for (ByteBuffer buffer : buffers) {
+            result.put(buffer);
+        }
+        return result.flip();
+    }
+
+    private static void skipHeader(ByteBuffer input) throws ZipException {
+        if (input.remaining() < HEADER.length
+                || input.get() != HEADER[0]
+                || input.get() != HEADER[1]
+                || input.get() != HEADER[2]) {
+            throw new ZipException("Not in gzip format");
+        }
+        int flags = input.get();
+        input.position(input.position() + 6);   // mtime, xfl, os
+        try {
+            if ((flags & FEXTRA) != 0) {
+                int length = Short.toUnsignedInt(input.getShort());
+                input.position(input.position() + length);
+            }
+            if ((flags & FNAME) != 0) {
+                while (input.get() != 0) {
+                    // skip file name
+                }
+            }
+            if ((flags & FCOMMENT) != 0) {
+                while (input.get() != 0) {
+                    // skip comment
+                }
+            }
+            if ((flags & FHCRC) != 0) {
+                input.getShort();
+            }
+        } catch (RuntimeException e) {
+            throw new ZipException("Truncated gzip header");
+        }
+    }
+
+    private void release(Deflater deflater) {
+        deflater.reset();
+        if (!deflaters.offer(deflater)) {
+            deflater.end();
+        }
+    }
+
+    private void release(Inflater inflater) {
+        inflater.reset();
+        if (!inflaters.offer(inflater)) {
+            inflater.end();
+        }
+    }
+
+    private final class GzipOutputStream extends DeflaterOutputStream {
+        private final CRC32 crc = new CRC32();
+        private boolean closed;
+
+        private GzipOutputStream(OutputStream target, Deflater deflater) {
+            super(target, deflater, BUFFER_SIZE);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            super.write(b, off, len);
+            crc.update(b, off, len);
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            try {
+                finish();
+                writeInt((int) crc.getValue());
+                writeInt((int) def.getBytesRead());
+            } finally {
+                release(def);
+            }
+        }
+
+        private void writeInt(int value) throws IOException {
+            out.write(value);
+            out.write(value >>> 8);
+            out.write(value >>> 16);
+            out.write(value >>> 24);
+        }
+    }
+}
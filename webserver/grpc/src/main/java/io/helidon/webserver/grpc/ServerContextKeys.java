@@ -31,6 +31,13 @@ public final class ServerContextKeys {
     public static final Context.Key<GrpcConnectionContext> CONNECTION_CONTEXT =
         Context.key(GrpcConnectionContext.class.getCanonicalName());
 
+    /**
+     * The gRPC context key to use to obtain the {@link GrpcInboundQueue} of the current call
+     * from the gRPC {@link Context}.
+     */
+    public static final Context.Key<GrpcInboundQueue> INBOUND_QUEUE =
+        Context.key(GrpcInboundQueue.class.getCanonicalName());
+
     private ServerContextKeys() {
         // Utility class
     }
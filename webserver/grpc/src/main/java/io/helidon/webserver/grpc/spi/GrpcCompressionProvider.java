@@ -0,0 +1,60 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.webserver.grpc.spi;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+import io.helidon.common.buffers.BufferData;
+
+/**
+ * Java service loader interface for gRPC message encodings, such as {@code zstd} or {@code snappy}.
+ * A single instance is used by all calls, so implementations must be thread safe, and should pool
+ * their (often native) compression contexts rather than create them for each message.
+ * <p>
+ * Providers discovered by the service loader take precedence over the built-in {@code gzip} encoding
+ * and over codecs registered with {@link io.grpc.CompressorRegistry} and {@link io.grpc.DecompressorRegistry}.
+ */
+public interface GrpcCompressionProvider {
+    /**
+     * Name of the message encoding, as used in {@code grpc-encoding} and {@code grpc-accept-encoding} headers.
+     *
+     * @return encoding name
+     */
+    String encoding();
+
+    /**
+     * Create a stream that compresses into the target. Closing the returned stream
+     * must finish the compressed data, and must not close the target.
+     *
+     * @param target stream to write compressed data to
+     * @return stream to write uncompressed data to
+     * @throws IOException if writing to the target fails
+     */
+    OutputStream compress(OutputStream target) throws IOException;
+
+    /**
+     * Decompress a complete message.
+     *
+     * @param data    compressed message, to be fully consumed
+     * @param maxSize maximal size of the decompressed message
+     * @return decompressed message
+     * @throws IOException if the data cannot be decompressed
+     * @throws IllegalStateException if the decompressed message is larger than {@code maxSize}
+     */
+    BufferData decompress(BufferData data, int maxSize) throws IOException;
+}
@@ -33,6 +33,7 @@ module io.helidon.webserver.grpc {
     requires io.helidon.config;
     requires io.helidon.metrics.api;
     requires io.helidon.webserver;
+    requires io.helidon.service.registry;
 
     requires io.grpc;
     requires io.grpc.stub;
@@ -47,6 +48,8 @@ module io.helidon.webserver.grpc {
     exports io.helidon.webserver.grpc;
     exports io.helidon.webserver.grpc.spi;
 
+    uses io.helidon.webserver.grpc.spi.GrpcCompressionProvider;
+
     provides io.helidon.webserver.http2.spi.Http2SubProtocolProvider
             with io.helidon.webserver.grpc.GrpcProtocolProvider;
     provides io.helidon.webserver.spi.ProtocolConfigProvider
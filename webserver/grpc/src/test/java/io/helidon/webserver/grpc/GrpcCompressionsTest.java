@@ -0,0 +1,42 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.webserver.grpc;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.hasItem;
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+class GrpcCompressionsTest {
+
+    @Test
+    void testServiceLoadedProvider() {
+        assertThat(GrpcCompressions.find(TestCompressionProvider.ENCODING), instanceOf(TestCompressionProvider.class));
+        assertThat(GrpcCompressions.supported(TestCompressionProvider.ENCODING), is(true));
+        assertThat(GrpcCompressions.encodings(), hasItem(TestCompressionProvider.ENCODING));
+    }
+
+    @Test
+    void testBuiltInEncodings() {
+        assertThat(GrpcCompressions.find(GzipCompression.ENCODING), is(GzipCompression.INSTANCE));
+        assertThat(GrpcCompressions.find(GrpcCompressions.IDENTITY), is(nullValue()));
+        assertThat(GrpcCompressions.supported(GrpcCompressions.IDENTITY), is(true));
+        assertThat(GrpcCompressions.supported("unknown"), is(false));
+    }
+}
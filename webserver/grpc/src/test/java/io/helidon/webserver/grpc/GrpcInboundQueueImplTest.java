@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.webserver.grpc;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+class GrpcInboundQueueImplTest {
+
+    @Test
+    void testCreditReleasedWhileBelowLimit() {
+        List<Integer> released = new ArrayList<>();
+        GrpcInboundQueueImpl<String> queue = new GrpcInboundQueueImpl<>(100, released::add);
+
+        queue.add("first", 50);
+        queue.received(60);
+
+        assertThat(released, is(List.of(60)));
+        assertThat(queue.messages(), is(1));
+        assertThat(queue.bytes(), is(50L));
+    }
+
+    @Test
+    void testCreditWithheldUntilDrained() {
+        List<Integer> released = new ArrayList<>();
+        GrpcInboundQueueImpl<String> queue = new GrpcInboundQueueImpl<>(100, released::add);
+
+        queue.add("first", 80);
+        queue.received(80);
+        queue.add("second", 80);
+        queue.received(50);
+        queue.received(30);
+        assertThat(released, is(List.of(80)));
+
+        // still above the limit after the first message is delivered
+        queue.add("third", 30);
+        queue.received(30);
+        assertThat(queue.poll(), is("first"));
+        assertThat(released, is(List.of(80)));
+
+        // below the limit, all withheld credit is released at once
+        assertThat(queue.poll(), is("second"));
+        assertThat(released, is(List.of(80, 110)));
+        assertThat(queue.poll(), is("third"));
+        assertThat(queue.poll(), is(nullValue()));
+        assertThat(queue.bytes(), is(0L));
+    }
+
+    @Test
+    void testUnlimited() {
+        List<Integer> released = new ArrayList<>();
+        GrpcInboundQueueImpl<String> queue = new GrpcInboundQueueImpl<>(-1, released::add);
+
+        queue.add("first", 1_000_000);
+        queue.received(1_000_000);
+
+        assertThat(released, is(List.of(1_000_000)));
+    }
+}
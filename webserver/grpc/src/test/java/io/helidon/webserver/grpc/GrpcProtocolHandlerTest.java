@@ -20,11 +20,16 @@ import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
 import java.io.UncheckedIOException;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
 
 import io.helidon.common.buffers.BufferData;
 import io.helidon.common.buffers.DataReader;
@@ -34,6 +39,7 @@ import io.helidon.grpc.core.WeightedBag;
 import io.helidon.http.HeaderName;
 import io.helidon.http.HeaderNames;
 import io.helidon.http.WritableHeaders;
+import io.helidon.http.http2.ConnectionFlowControl;
 import io.helidon.http.http2.FlowControl;
 import io.helidon.http.http2.Http2Flag;
 import io.helidon.http.http2.Http2FrameData;
@@ -43,11 +49,14 @@ import io.helidon.http.http2.Http2Headers;
 import io.helidon.http.http2.Http2RstStream;
 import io.helidon.http.http2.Http2StreamState;
 import io.helidon.http.http2.Http2StreamWriter;
+import io.helidon.http.http2.StreamFlowControl;
+import io.helidon.http.http2.WindowSize;
 import io.helidon.webserver.ConnectionContext;
 import io.helidon.webserver.ListenerContext;
 import io.helidon.webserver.Router;
 import io.helidon.webserver.ServerConnectionException;
 
+import io.grpc.BindableService;
 import io.grpc.Drainable;
 import io.grpc.Metadata;
 import io.grpc.MethodDescriptor;
@@ -55,6 +64,7 @@ import io.grpc.ServerCall;
 import io.grpc.ServerCallHandler;
 import io.grpc.ServerMethodDefinition;
 import io.grpc.Status;
+import io.grpc.stub.ServerCalls;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
@@ -190,6 +200,60 @@ class GrpcProtocolHandlerTest {
         );
     }
 
+    @Test
+    void testInboundQueueFullReleasesConnectionCreditOnly() {
+        List<Integer> connectionUpdates = new ArrayList<>();
+        List<Integer> streamUpdates = new ArrayList<>();
+        StreamFlowControl flowControl = streamFlowControl(connectionUpdates, streamUpdates);
+        GrpcProtocolHandler<String, String> handler = queueHandler(flowControl, new ArrayList<>());
+
+        // each frame is 10 bytes, only the first one fits into the queue
+        receive(handler, flowControl, "hello");
+        receive(handler, flowControl, "hello");
+        receive(handler, flowControl, "hello");
+
+        assertAll(
+                () -> assertThat(handler.streamFlowControl(), is(true)),
+                () -> assertThat(connectionUpdates, is(List.of(10, 10, 10))),
+                () -> assertThat(streamUpdates, is(List.of(10)))
+        );
+    }
+
+    @Test
+    void testRequestReleasesWithheldStreamCredit() {
+        List<Integer> connectionUpdates = new ArrayList<>();
+        List<Integer> streamUpdates = new ArrayList<>();
+        StreamFlowControl flowControl = streamFlowControl(connectionUpdates, streamUpdates);
+        List<String> messages = new ArrayList<>();
+        GrpcProtocolHandler<String, String> handler = queueHandler(flowControl, messages);
+
+        receive(handler, flowControl, "one..");
+        receive(handler, flowControl, "two..");
+        receive(handler, flowControl, "three");
+        assertThat(streamUpdates, is(List.of(10)));
+
+        handler.createServerCall().request(3);
+
+        assertAll(
+                () -> assertThat(messages, is(List.of("one..", "two..", "three"))),
+                () -> assertThat("withheld credit released at once", streamUpdates, is(List.of(10, 20))),
+                () -> assertThat(connectionUpdates, is(List.of(10, 10, 10)))
+        );
+    }
+
+    @Test
+    void testMessageQueuedUntilRequested() {
+        List<String> messages = new ArrayList<>();
+        StreamFlowControl flowControl = streamFlowControl(new ArrayList<>(), new ArrayList<>());
+        GrpcProtocolHandler<String, String> handler = queueHandler(flowControl, messages);
+
+        receive(handler, flowControl, "hello");
+        assertThat(messages, is(List.of()));
+
+        handler.createServerCall().request(1);
+        assertThat(messages, is(List.of("hello")));
+    }
+
     @Test
     void bufferDataInputStreamReturnsMinusOneAtEof() throws IOException {
         byte[] content = "hello".getBytes(StandardCharsets.UTF_8);
@@ -222,6 +286,130 @@ class GrpcProtocolHandlerTest {
         }
     }
 
+    @Test
+    void testSendMessageSplitsFrames() {
+        List<BufferData> frames = new ArrayList<>();
+        ServerCall<String, String> serverCall = createServerCall(capturingWriter(frames));
+        String message = "a".repeat(40_000);
+
+        serverCall.sendMessage(message);
+
+        assertThat(frames.size(), is(3));
+        assertThat(frames.get(0).available(), is(FlowControl.Outbound.NOOP.maxFrameSize()));
+        BufferData all = BufferData.create(frames);
+        assertAll(
+                () -> assertThat(all.read(), is(0)),
+                () -> assertThat(all.readUnsignedInt32(), is((long) message.length())),
+                () -> assertThat(all.readString(all.available()), is(message))
+        );
+    }
+
+    @Test
+    void testGzipCompressionRoundTrip() throws IOException {
+        byte[] content = "grpc payload ".repeat(1000).getBytes(StandardCharsets.UTF_8);
+        GrpcMessageBuffer buffer = new GrpcMessageBuffer(16);
+        try (OutputStream os = GzipCompression.INSTANCE.compress(buffer)) {
+            os.write(content);
+        }
+        int length = buffer.finish(true) - GrpcMessageBuffer.PREFIX_SIZE;
+
+        // compatible with gzip streams
+        byte[] compressed = buffer.slice(GrpcMessageBuffer.PREFIX_SIZE, length).readBytes();
+        assertThat(new GZIPInputStream(new ByteArrayInputStream(compressed)).readAllBytes(), is(content));
+        BufferData decompressed = GzipCompression.INSTANCE.decompress(buffer.slice(GrpcMessageBuffer.PREFIX_SIZE, length),
+                                                             content.length);
+        assertThat(decompressed.readBytes(), is(content));
+    }
+
+    @Test
+    void testGzipDecompressionLimit() throws IOException {
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        try (OutputStream os = new GZIPOutputStream(baos)) {
+            os.write(new byte[1024]);
+        }
+        BufferData compressed = BufferData.create(baos.toByteArray());
+
+        assertThrows(IllegalStateException.class, () -> GzipCompression.INSTANCE.decompress(compressed, 1023));
+    }
+
+    @Test
+    void testCompressionPolicyDisabled() {
+        GrpcConfig config = GrpcConfig.builder()
+                .addCompressionPolicy(GrpcCompressionConfig.builder()
+                                              .addMethod("test.Test/Other")
+                                              .build())
+                .addCompressionPolicy(GrpcCompressionConfig.builder()
+                                              .addMethod("test.Test")
+                                              .enabled(false)
+                                              .build())
+                .build();
+        GrpcProtocolHandler<String, String> handler = compressionHandler(stringRoute(), config, "gzip", noOpWriter());
+
+        assertThat(handler.identityCompressor(), is(true));
+    }
+
+    @Test
+    void testMethodCompressionPolicyOverridesConfig() {
+        GrpcCompressionConfig methodPolicy = GrpcCompressionConfig.builder()
+                .enabled(false)
+                .build();
+        ServerCalls.UnaryMethod<String, String> method = (request, observer) -> observer.onCompleted();
+        GrpcServiceDescriptor descriptor = GrpcServiceDescriptor.builder(GrpcProtocolHandlerTest.class, "test.Test")
+                .unary("Call", method, rules -> rules.compression(methodPolicy))
+                .build();
+        BindableService service = BindableServiceImpl.create(descriptor);
+        ServerMethodDefinition<?, ?> definition = service.bindService().getMethod("test.Test/Call");
+        GrpcRouteHandler<?, ?> route = GrpcRouteHandler.bindableMethod(service, definition, WeightedBag.create());
+
+        // configured policy matching all methods would compress using gzip
+        GrpcConfig config = GrpcConfig.builder()
+                .addCompressionPolicy(GrpcCompressionConfig.builder()
+                                              .addEncoding("gzip")
+                                              .build())
+                .build();
+        GrpcProtocolHandler<?, ?> handler = compressionHandler(route, config, "gzip", noOpWriter());
+
+        assertAll(
+                () -> assertThat(handler.compressionPolicy(), is(methodPolicy)),
+                () -> assertThat(handler.identityCompressor(), is(true))
+        );
+    }
+
+    @Test
+    void testCompressionPolicyEncodings() {
+        GrpcConfig policyConfig = GrpcConfig.builder()
+                .addCompressionPolicy(GrpcCompressionConfig.builder()
+                                              .addEncoding("zstd")
+                                              .addEncoding("gzip")
+                                              .build())
+                .build();
+        assertThat(compressionHandler(stringRoute(), GrpcConfig.create(), "identity,gzip", noOpWriter())
+                           .identityCompressor(), is(true));
+        assertThat(compressionHandler(stringRoute(), policyConfig, "identity,gzip", noOpWriter())
+                           .identityCompressor(), is(false));
+    }
+
+    @Test
+    void testCompressionPolicyMinMessageSize() {
+        List<BufferData> frames = new ArrayList<>();
+        GrpcConfig config = GrpcConfig.builder()
+                .addCompressionPolicy(GrpcCompressionConfig.builder()
+                                              .minMessageSize(100)
+                                              .build())
+                .build();
+        ServerCall<String, String> serverCall = compressionHandler(stringRoute(), config, "gzip", capturingWriter(frames))
+                .createServerCall();
+
+        serverCall.sendMessage("small");
+        serverCall.sendMessage("large".repeat(100));
+
+        assertThat(frames.size(), is(2));
+        assertAll(
+                () -> assertThat("small message compressed flag", frames.get(0).read(), is(0)),
+                () -> assertThat("large message compressed flag", frames.get(1).read(), is(1))
+        );
+    }
+
     @Test
     void testCloseSuppressesTrailerWriteDisconnect() {
         ServerCall<String, String> serverCall = createServerCall(closeFailingWriter());
@@ -247,6 +435,81 @@ class GrpcProtocolHandlerTest {
         return handler.createServerCall();
     }
 
+    private static <REQ, RES> GrpcProtocolHandler<REQ, RES> compressionHandler(GrpcRouteHandler<REQ, RES> route,
+                                                                               GrpcConfig config,
+                                                                               String acceptEncoding,
+                                                                               Http2StreamWriter streamWriter) {
+        WritableHeaders<?> headers = WritableHeaders.create();
+        headers.add(GRPC_ACCEPT_ENCODING, acceptEncoding);
+        GrpcProtocolHandler<REQ, RES> handler = new GrpcProtocolHandler<>(new UnimplementedGrpcConnectionContext(),
+                                                                          Http2Headers.create(headers),
+                                                                          streamWriter,
+                                                                          1,
+                                                                          null,
+                                                                          Http2StreamState.OPEN,
+                                                                          route,
+                                                                          config);
+        handler.init();
+        return handler;
+    }
+
+    private static StreamFlowControl streamFlowControl(List<Integer> connectionUpdates, List<Integer> streamUpdates) {
+        // default window and frame sizes send a WINDOW_UPDATE for each increment
+        ConnectionFlowControl connectionFlowControl = ConnectionFlowControl.serverBuilder((streamId, update) -> {
+            if (streamId == 0) {
+                connectionUpdates.add(update.windowSizeIncrement());
+            } else {
+                streamUpdates.add(update.windowSizeIncrement());
+            }
+        }).build();
+        return connectionFlowControl.createStreamFlowControl(1,
+                                                             WindowSize.DEFAULT_WIN_SIZE,
+                                                             WindowSize.DEFAULT_MAX_FRAME_SIZE);
+    }
+
+    private static GrpcProtocolHandler<String, String> queueHandler(StreamFlowControl flowControl, List<String> messages) {
+        GrpcProtocolHandler<String, String> handler = new GrpcProtocolHandler<>(new UnimplementedGrpcConnectionContext(),
+                                                                                Http2Headers.create(WritableHeaders.create()),
+                                                                                noOpWriter(),
+                                                                                1,
+                                                                                flowControl,
+                                                                                Http2StreamState.OPEN,
+                                                                                route(new ServerCall.Listener<>() {
+                                                                                    @Override
+                                                                                    public void onMessage(String message) {
+                                                                                        messages.add(message);
+                                                                                    }
+                                                                                }),
+                                                                                GrpcConfig.builder()
+                                                                                        .maxInboundQueueSize(10)
+                                                                                        .build());
+        handler.init();
+        return handler;
+    }
+
+    /*
+     * Receive a data frame with a single message, replenishing the connection window
+     * the same way as the HTTP/2 stream does for handlers with stream flow control.
+     */
+    private static void receive(GrpcProtocolHandler<String, String> handler, StreamFlowControl flowControl, String message) {
+        byte[] bytes = message.getBytes(StandardCharsets.UTF_8);
+        BufferData data = BufferData.growing(bytes.length + 5);
+        data.write(0);
+        data.writeUnsignedInt32(bytes.length);
+        data.write(bytes);
+        Http2FrameHeader header = Http2FrameHeader.create(data.available(),
+                                                          Http2FrameTypes.DATA,
+                                                          Http2Flag.DataFlags.create(0),
+                                                          1);
+        flowControl.inbound().incrementConnectionWindowSize(header.length());
+        handler.data(header, data);
+    }
+
+    private static GrpcRouteHandler<String, String> stringRoute() {
+        return route(new ServerCall.Listener<>() {
+        });
+    }
+
     private static GrpcRouteHandler<String, String> route(ServerCall.Listener<String> listener) {
         ServerMethodDefinition<String, String> definition =
                 ServerMethodDefinition.create(stringMethodDescriptor(), new ServerCallHandler<>() {
@@ -374,6 +637,37 @@ class GrpcProtocolHandlerTest {
         };
     }
 
+    private static Http2StreamWriter capturingWriter(List<BufferData> frames) {
+        return new Http2StreamWriter() {
+            @Override
+            public void write(Http2FrameData frame) {
+            }
+
+            @Override
+            public void writeData(Http2FrameData frame, FlowControl.Outbound flowControl) {
+                // frame data is only valid during the call, same as the connection writer
+                frames.add(frame.data().copy());
+            }
+
+            @Override
+            public int writeHeaders(Http2Headers headers,
+                                    int streamId,
+                                    Http2Flag.HeaderFlags flags,
+                                    FlowControl.Outbound flowControl) {
+                return 0;
+            }
+
+            @Override
+            public int writeHeaders(Http2Headers headers,
+                                    int streamId,
+                                    Http2Flag.HeaderFlags flags,
+                                    Http2FrameData dataFrame,
+                                    FlowControl.Outbound flowControl) {
+                throw new UnsupportedOperationException("Unused");
+            }
+        };
+    }
+
     private static Http2StreamWriter noOpWriter() {
         return new Http2StreamWriter() {
             @Override
@@ -0,0 +1,51 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.webserver.grpc;
+
+import java.io.FilterOutputStream;
+import java.io.OutputStream;
+
+import io.helidon.common.buffers.BufferData;
+import io.helidon.webserver.grpc.spi.GrpcCompressionProvider;
+
+/**
+ * Service loaded compression that does not change the data.
+ */
+public class TestCompressionProvider implements GrpcCompressionProvider {
+    static final String ENCODING = "x-test";
+
+    @Override
+    public String encoding() {
+        return ENCODING;
+    }
+
+    @Override
+    public OutputStream compress(OutputStream target) {
+        return new FilterOutputStream(target) {
+            @Override
+            public void close() {
+            }
+        };
+    }
+
+    @Override
+    public BufferData decompress(BufferData data, int maxSize) {
+        if (data.available() > maxSize) {
+            throw new IllegalStateException("Decompressed gRPC message size exceeds max read buffer size");
+        }
+        return BufferData.create(data.readBytes());
+    }
+}
@@ -91,6 +91,29 @@ interface Http2ConfigBlueprint extends ProtocolConfig {
     @Option.DefaultInt(1048576)
     int initialWindowSize();
 
+    /**
+     * Whether to auto-tune inbound flow control windows based on an estimate of the bandwidth-delay product
+     * of the connection.
+     * When enabled, a PING frame is sent when DATA frames are received to measure the round trip time, and if
+     * the window limits the throughput, connection and stream windows are grown (using WINDOW_UPDATE and
+     * SETTINGS_INITIAL_WINDOW_SIZE) up to {@link #flowControlMaxWindowSize()}.
+     *
+     * @return whether to auto-tune flow control windows
+     */
+    @Option.Configured
+    @Option.DefaultBoolean(false)
+    boolean flowControlAutoTuning();
+
+    /**
+     * Maximal size of inbound flow control windows in bytes when {@link #flowControlAutoTuning()} is enabled.
+     * Windows are never smaller than {@link #initialWindowSize()}.
+     *
+     * @return maximal window size in bytes
+     */
+    @Option.Configured
+    @Option.DefaultInt(16777216)
+    int flowControlMaxWindowSize();
+
     /**
      * Outbound flow control blocking timeout configured as {@link java.time.Duration}
      * or text in ISO-8601 format.
@@ -171,6 +194,57 @@ interface Http2ConfigBlueprint extends ProtocolConfig {
     @Option.Configured
     RequestedUriDiscoveryContext requestedUriDiscovery();
 
+    /**
+     * Quantum in bytes of the scheduler of outbound DATA frames of concurrent streams on a connection.
+     * Streams are served in order of urgency as requested by the client, or set by the application, using
+     * the RFC 9218 {@code priority} header. Incremental streams of the same urgency share the connection,
+     * each sending up to the quantum of bytes per round.
+     * Set to {@code 0} to disable scheduling, in which case streams write frames in the order they request it.
+     *
+     * @return scheduler quantum in bytes
+     */
+    @Option.Configured
+    @Option.DefaultInt(16384)
+    int dataSchedulerQuantum();
+
+    /**
+     * Interval of keepalive PINGs sent by the server when no frame was received from the client for this long.
+     * A client that does not respond within {@link #keepAlivePingTimeout()} is considered unresponsive, and the connection
+     * is closed with GOAWAY.
+     * Default value is {@code PT0S}, which disables keepalive PINGs.
+     *
+     * @return keepalive PING interval
+     * @see <a href="https://en.wikipedia.org/wiki/ISO_8601#Durations">ISO_8601 Durations</a>
+     */
+    @Option.Configured
+    @Option.Default("PT0S")
+    Duration keepAlivePingInterval();
+
+    /**
+     * Time to wait for any frame from the client after a keepalive PING was sent, before the connection is closed.
+     * Default value is {@code PT20S}.
+     *
+     * @return keepalive PING timeout
+     * @see #keepAlivePingInterval()
+     * @see <a href="https://en.wikipedia.org/wiki/ISO_8601#Durations">ISO_8601 Durations</a>
+     */
+    @Option.Configured
+    @Option.Default("PT20S")
+    Duration keepAlivePingTimeout();
+
+    /**
+     * Time after which a stream the server has completed, but the client has not (half-closed local state), is reset
+     * with RST_STREAM, if no frame was received for it. This releases the memory and the concurrent stream slot held
+     * by streams abandoned by the client.
+     * Default value is {@code PT60S}, {@code PT0S} disables reaping of such streams.
+     *
+     * @return half-closed stream timeout
+     * @see <a href="https://en.wikipedia.org/wiki/ISO_8601#Durations">ISO_8601 Durations</a>
+     */
+    @Option.Configured
+    @Option.Default("PT60S")
+    Duration halfClosedStreamTimeout();
+
     /**
      * Protocol configuration type.
      *
@@ -23,6 +23,7 @@ import java.time.ZonedDateTime;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.locks.ReentrantLock;
 
 import io.helidon.common.buffers.BufferData;
 import io.helidon.common.buffers.DataReader;
@@ -35,8 +36,10 @@ import io.helidon.http.HeaderValues;
 import io.helidon.http.HttpPrologue;
 import io.helidon.http.Method;
 import io.helidon.http.WritableHeaders;
+import io.helidon.http.http2.BdpEstimator;
 import io.helidon.http.http2.ConnectionFlowControl;
 import io.helidon.http.http2.Http2ConnectionWriter;
+import io.helidon.http.http2.Http2DataScheduler;
 import io.helidon.http.http2.Http2ErrorCode;
 import io.helidon.http.http2.Http2Exception;
 import io.helidon.http.http2.Http2Flag;
@@ -60,6 +63,7 @@ import io.helidon.http.http2.Http2WindowUpdate;
 import io.helidon.http.http2.WindowSize;
 import io.helidon.webserver.CloseConnectionException;
 import io.helidon.webserver.ConnectionContext;
+import io.helidon.webserver.KeyPerformanceIndicatorSupport;
 import io.helidon.webserver.ServerConnectionException;
 import io.helidon.webserver.http.HttpRouting;
 import io.helidon.webserver.http2.spi.Http2SubProtocolSelector;
@@ -95,15 +99,23 @@ public class Http2Connection implements ServerConnection, InterruptableTask<Void
     private final Http2FrameListener receiveFrameListener = // Http2FrameListener.create(List.of());
             Http2FrameListener.create(List.of(new Http2LoggingFrameListener("recv")));
     private final Http2ConnectionWriter connectionWriter;
+    // null if scheduling of data frames is disabled
+    private final Http2DataScheduler dataScheduler;
     private final List<Http2SubProtocolSelector> subProviders;
     private final DataReader reader;
     private final Http2Settings serverSettings;
     private final boolean sendErrorDetails;
     private final ConnectionFlowControl flowControl;
+    // null if flow control auto-tuning is disabled
+    private final BdpEstimator bdpEstimator;
     private final WritableHeaders<?> connectionHeaders;
     private final int maxEmptyFrames;
     private final long maxClientConcurrentStreams;
     private final Http2ConnectionChecks connectionChecks;
+    private final Http2ConnectionMaintenance maintenance;
+    // streams are only used by the connection thread while it dispatches a frame, and by the maintenance thread
+    // while it reaps half-closed streams
+    private final ReentrantLock streamsLock = new ReentrantLock();
     private int emptyFrames = 0;
     // initial client settings, until we receive real ones
     private Http2Settings clientSettings = Http2Settings.builder()
@@ -117,6 +129,7 @@ public class Http2Connection implements ServerConnection, InterruptableTask<Void
     private State state = State.WRITE_SERVER_SETTINGS;
     private int continuationExpectedStreamId;
     private int lastStreamId;
+    private long frameReceivedTime;
     private boolean initConnectionHeaders;
     private volatile ZonedDateTime lastRequestTimestamp;
     private volatile Thread myThread;
@@ -130,10 +143,15 @@ public class Http2Connection implements ServerConnection, InterruptableTask<Void
                 .update(builder -> settingsUpdate(http2Config, builder))
                 .add(Http2Setting.ENABLE_PUSH, false)
                 .build();
+        this.dataScheduler = http2Config.dataSchedulerQuantum() > 0
+                ? Http2DataScheduler.create(http2Config.dataSchedulerQuantum())
+                : null;
         this.connectionWriter = new Http2ConnectionWriter(ctx,
                                                           ctx.dataWriter(),
-                                                          List.of(new Http2LoggingFrameListener("send")));
+                                                          List.of(new Http2LoggingFrameListener("send")),
+                                                          dataScheduler);
         this.connectionChecks = new Http2ConnectionChecks(http2Config, this);
+        this.maintenance = new Http2ConnectionMaintenance(http2Config, this, this::kpiMetrics);
         this.subProviders = subProviders;
         this.requestDynamicTable = Http2Headers.DynamicTable.create(
                 serverSettings.value(Http2Setting.HEADER_TABLE_SIZE));
@@ -149,6 +167,9 @@ public class Http2Connection implements ServerConnection, InterruptableTask<Void
                 .blockTimeout(http2Config.flowControlTimeout())
                 .maxFrameSize(http2Config.maxFrameSize())
                 .build();
+        this.bdpEstimator = http2Config.flowControlAutoTuning()
+                ? BdpEstimator.create(http2Config.initialWindowSize(), http2Config.flowControlMaxWindowSize())
+                : null;
         this.lastRequestTimestamp = DateTime.timestamp();
         this.connectionHeaders = WritableHeaders.create();
         this.initConnectionHeaders = true;
@@ -203,6 +224,8 @@ public class Http2Connection implements ServerConnection, InterruptableTask<Void
             writeConnectionFrame(frame.toFrameData(clientSettings, 0, Http2Flag.NoFlags.create()));
             state = State.FINISHED;
             throw e;
+        } finally {
+            maintenance.stop();
         }
     }
 
@@ -337,6 +360,7 @@ public class Http2Connection implements ServerConnection, InterruptableTask<Void
 
     private void doHandle(Limit limit) throws InterruptedException {
         myThread = Thread.currentThread();
+        maintenance.start();
         while (canRun && state != State.FINISHED) {
             if (expectPreface && state != State.WRITE_SERVER_SETTINGS) {
                 readPreface();
@@ -352,7 +376,12 @@ public class Http2Connection implements ServerConnection, InterruptableTask<Void
                 }
             }
 
-            dispatchHandler(limit);
+            streamsLock.lock();
+            try {
+                dispatchHandler(limit);
+            } finally {
+                streamsLock.unlock();
+            }
         }
         if (state != State.FINISHED) {
             Http2GoAway frame = new Http2GoAway(0, Http2ErrorCode.NO_ERROR, "Idle timeout");
@@ -393,7 +422,8 @@ public class Http2Connection implements ServerConnection, InterruptableTask<Void
     private void readFrame() {
 
         BufferData frameHeaderBuffer = reader.readBuffer(FRAME_HEADER_LENGTH);
-
+        frameReceivedTime = System.nanoTime();
+        maintenance.frameReceived(frameReceivedTime);
 
         int streamId;
         try {
@@ -573,6 +603,9 @@ public class Http2Connection implements ServerConnection, InterruptableTask<Void
                         .flowControl()
                         .inbound()
                         .decrementWindowSize(length);
+                if (bdpEstimator != null && bdpEstimator.dataReceived(length)) {
+                    writeConnectionFrame(bdpEstimator.ping().toFrameData());
+                }
             }
         } else {
             if (emptyFrames++ > maxEmptyFrames && !endOfStream) {
@@ -709,7 +742,10 @@ public class Http2Connection implements ServerConnection, InterruptableTask<Void
                                      "Received ping with wrong size. Should be 8 bytes, is " + frameHeader.length());
         }
         if (frameHeader.flags(Http2FrameTypes.PING).ack()) {
-            // ignore - ACK for an unsent ping (we do not send pings for now)
+            // ACKs of keepalive pings only need to be received, ACKs of bandwidth-delay product pings tune windows
+            if (bdpEstimator != null && bdpEstimator.isBdpPing(inProgressFrame().readLong())) {
+                autoTuneWindows(bdpEstimator.pingAcknowledged());
+            }
             state = State.READ_FRAME;
         } else {
             ping = Http2Ping.create(inProgressFrame());
@@ -718,6 +754,67 @@ public class Http2Connection implements ServerConnection, InterruptableTask<Void
         }
     }
 
+    private void autoTuneWindows(int windowSize) {
+        if (windowSize == 0) {
+            return;
+        }
+        flowControl.growInboundWindowSize(windowSize);
+        Http2Settings settings = Http2Settings.builder()
+                .add(Http2Setting.INITIAL_WINDOW_SIZE, (long) windowSize)
+                .build();
+        writeConnectionFrame(settings.toFrameData(clientSettings, 0, Http2Flag.SettingsFlags.create(0)));
+        for (StreamContext sctx : streams.contexts()) {
+            sctx.stream.flowControl().inbound().resetStreamWindowSize(windowSize);
+        }
+    }
+
+    /**
+     * Reset and remove streams half-closed for too long. Called from the maintenance thread of this connection,
+     * so it does not depend on frames being received.
+     *
+     * @param now current {@link System#nanoTime()}
+     */
+    void reapStreams(long now) {
+        List<StreamContext> reaped = new ArrayList<>();
+        streamsLock.lock();
+        try {
+            if (!canRun) {
+                return;
+            }
+            streams.purgeRemoved();
+            for (StreamContext sctx : streams.contexts()) {
+                // 5.1 - the handler has finished, but the client never sent END_STREAM or RST_STREAM
+                if (sctx.stream.streamState() == Http2StreamState.HALF_CLOSED_LOCAL
+                        && maintenance.reapable(sctx.lastActivity, now)) {
+                    reaped.add(sctx);
+                }
+            }
+            for (StreamContext sctx : reaped) {
+                ctx.log(LOGGER, DEBUG, "Reaping stream %d half-closed for too long", sctx.streamId);
+                Http2RstStream rst = new Http2RstStream(Http2ErrorCode.CANCEL);
+                sctx.stream.rstStream(rst);
+                writeConnectionFrame(rst.toFrameData(clientSettings, sctx.streamId, Http2Flag.NoFlags.create()));
+                streams.remove(sctx.streamId);
+                maintenance.streamReaped();
+            }
+            streams.purgeRemoved();
+        } finally {
+            streamsLock.unlock();
+        }
+    }
+
+    // Intended for testing.
+    Http2ConnectionStreams streams() {
+        return streams;
+    }
+
+    private KeyPerformanceIndicatorSupport.Metrics kpiMetrics() {
+        return ctx.listenerContext()
+                .context()
+                .get(KeyPerformanceIndicatorSupport.Metrics.class)
+                .orElse(KeyPerformanceIndicatorSupport.Metrics.NO_OP);
+    }
+
     private void doPriority() {
         Http2Priority http2Priority = Http2Priority.create(inProgressFrame());
         receiveFrameListener.frame(ctx, http2Priority.streamId(), http2Priority);
@@ -853,6 +950,7 @@ public class Http2Connection implements ServerConnection, InterruptableTask<Void
                                                                     serverSettings,
                                                                     clientSettings,
                                                                     connectionWriter,
+                                                                    dataScheduler,
                                                                     flowControl,
                                                                     connectionChecks));
             streams.put(streamContext);
@@ -861,6 +959,7 @@ public class Http2Connection implements ServerConnection, InterruptableTask<Void
         // any request for a specific stream is now considered a valid update of connection (ignoring management messages
         // on stream 0)
         this.lastRequestTimestamp = DateTime.timestamp();
+        streamContext.lastActivity = frameReceivedTime;
         return streamContext;
     }
 
@@ -933,6 +1032,7 @@ public class Http2Connection implements ServerConnection, InterruptableTask<Void
         private final int streamId;
         private final Http2ServerStream stream;
         private long headerListSize = 0;
+        private long lastActivity;
 
         private Http2FrameHeader continuationHeader;
 
@@ -946,6 +1046,11 @@ public class Http2Connection implements ServerConnection, InterruptableTask<Void
             return stream;
         }
 
+        // Intended for testing.
+        void lastActivity(long lastActivity) {
+            this.lastActivity = lastActivity;
+        }
+
         Http2FrameData[] contData() {
             return continuationData.toArray(new Http2FrameData[0]);
         }
@@ -0,0 +1,185 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.webserver.http2;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import io.helidon.http.http2.Http2ErrorCode;
+import io.helidon.http.http2.Http2Flag;
+import io.helidon.http.http2.Http2GoAway;
+import io.helidon.http.http2.Http2Ping;
+import io.helidon.http.http2.Http2Settings;
+import io.helidon.webserver.KeyPerformanceIndicatorSupport;
+
+/**
+ * Time based maintenance of a single HTTP/2 connection, done from a virtual thread of the connection.
+ * <ul>
+ *     <li>keepalive PINGs are sent when no frame was received for {@link Http2Config#keepAlivePingInterval()},
+ *     and the connection is closed with GOAWAY if the client does not send any frame within
+ *     {@link Http2Config#keepAlivePingTimeout()}</li>
+ *     <li>streams half-closed for longer than {@link Http2Config#halfClosedStreamTimeout()} are reaped, also when
+ *     the client sends no frames at all</li>
+ * </ul>
+ */
+class Http2ConnectionMaintenance {
+    private static final System.Logger LOGGER = System.getLogger(Http2ConnectionMaintenance.class.getName());
+
+    // No fancy client settings needed for goaway
+    private final Http2Settings clientSettings = Http2Settings.builder().build();
+    private final Http2Connection connection;
+    private final Supplier<KeyPerformanceIndicatorSupport.Metrics> kpiMetrics;
+    private final long pingInterval;
+    private final long pingTimeout;
+    private final long halfClosedStreamTimeout;
+    private final long streamCheckPeriod;
+    private volatile long lastFrameTime;
+    // only used by the maintenance thread
+    private long pingSentTime;
+    private boolean pingPending;
+    private long nextStreamCheck;
+    private Thread maintenanceThread;
+
+    Http2ConnectionMaintenance(Http2Config http2Config,
+                               Http2Connection connection,
+                               Supplier<KeyPerformanceIndicatorSupport.Metrics> kpiMetrics) {
+        this.connection = connection;
+        this.kpiMetrics = kpiMetrics;
+        this.pingInterval = http2Config.keepAlivePingInterval().toNanos();
+        this.pingTimeout = http2Config.keepAlivePingTimeout().toNanos();
+        this.halfClosedStreamTimeout = http2Config.halfClosedStreamTimeout().toNanos();
+        // streams are checked twice per timeout, so a stream is reaped at most 1.5 times the timeout after last frame
+        this.streamCheckPeriod = halfClosedStreamTimeout / 2;
+        this.lastFrameTime = System.nanoTime();
+        this.nextStreamCheck = lastFrameTime + streamCheckPeriod;
+    }
+
+    /**
+     * Start the maintenance thread, if keepalive PINGs or reaping of half-closed streams are configured.
+     */
+    void start() {
+        if (pingInterval > 0 || halfClosedStreamTimeout > 0) {
+            maintenanceThread = Thread.ofVirtual()
+                    .name("[" + connection + "] - maintenance")
+                    .start(this::maintain);
+        }
+    }
+
+    /**
+     * Stop the maintenance thread.
+     */
+    void stop() {
+        if (maintenanceThread != null) {
+            maintenanceThread.interrupt();
+        }
+    }
+
+    /**
+     * A frame was received from the client. Expected to run on dispatcher thread.
+     *
+     * @param now {@link System#nanoTime()} when the frame was received
+     */
+    void frameReceived(long now) {
+        lastFrameTime = now;
+    }
+
+    /**
+     * Whether a half-closed stream should be reaped.
+     *
+     * @param lastActivity {@link System#nanoTime()} of the last frame received for the stream
+     * @param now          current {@link System#nanoTime()}
+     * @return {@code true} if the stream was inactive for longer than the configured timeout
+     */
+    boolean reapable(long lastActivity, long now) {
+        return now - lastActivity > halfClosedStreamTimeout;
+    }
+
+    /**
+     * A stream was reaped.
+     */
+    void streamReaped() {
+        kpiMetrics.get().onStreamReaped();
+    }
+
+    private void maintain() {
+        try {
+            while (true) {
+                long now = System.nanoTime();
+                long wait = Long.MAX_VALUE;
+                if (pingInterval > 0) {
+                    wait = keepAlive(now);
+                    if (wait < 0) {
+                        // connection closed
+                        return;
+                    }
+                }
+                if (halfClosedStreamTimeout > 0) {
+                    if (now - nextStreamCheck >= 0) {
+                        connection.reapStreams(now);
+                        nextStreamCheck = now + streamCheckPeriod;
+                    }
+                    wait = Math.min(wait, nextStreamCheck - now);
+                }
+                TimeUnit.NANOSECONDS.sleep(wait);
+            }
+        } catch (InterruptedException e) {
+            // connection is closing
+        } catch (RuntimeException e) {
+            // failed to write a frame, connection is broken and will be closed by the dispatcher thread
+            LOGGER.log(System.Logger.Level.TRACE, "Failed maintenance of connection " + connection, e);
+        }
+    }
+
+    // nanoseconds until keepalive needs to be checked again, negative if the connection was closed
+    private long keepAlive(long now) {
+        if (pingPending) {
+            if (lastFrameTime - pingSentTime > 0) {
+                // any frame received after the ping proves the client is alive
+                pingPending = false;
+            } else if (now - pingSentTime >= pingTimeout) {
+                closeConnection();
+                return -1;
+            } else {
+                return pingTimeout - (now - pingSentTime);
+            }
+        }
+        long idle = now - lastFrameTime;
+        if (idle >= pingInterval) {
+            pingSentTime = now;
+            pingPending = true;
+            connection.writeConnectionFrame(Http2Ping.create().toFrameData());
+            return pingTimeout;
+        }
+        return pingInterval - idle;
+    }
+
+    private void closeConnection() {
+        if (LOGGER.isLoggable(System.Logger.Level.DEBUG)) {
+            LOGGER.log(System.Logger.Level.DEBUG, "Keepalive ping not acknowledged. Closing connection "
+                    + connection + " with GOAWAY");
+        }
+        kpiMetrics.get().onConnectionReaped();
+        Http2GoAway frame = new Http2GoAway(0, Http2ErrorCode.NO_ERROR, "Keepalive ping timeout");
+        try {
+            connection.writeConnectionFrame(frame.toFrameData(clientSettings, 0, Http2Flag.NoFlags.create()));
+        } catch (RuntimeException e) {
+            LOGGER.log(System.Logger.Level.TRACE, "Failed to send GOAWAY on connection " + connection, e);
+        } finally {
+            connection.close(true);
+        }
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2023 Oracle and/or its affiliates.
+ * Copyright (c) 2023, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -60,6 +60,10 @@ final class Http2ConnectionStreams implements Http2ConcurrentConnectionStreams {
         if (streams.size() < maxConcurrentStreams) {
             return;
         }
+        purgeRemoved();
+    }
+
+    void purgeRemoved() {
         for (Integer streamId = forRemoval.poll();
                 streamId != null;
                 streamId = forRemoval.poll()) {
@@ -41,6 +41,7 @@ import io.helidon.http.WritableHeaders;
 import io.helidon.http.encoding.ContentDecoder;
 import io.helidon.http.encoding.ContentEncodingContext;
 import io.helidon.http.http2.ConnectionFlowControl;
+import io.helidon.http.http2.Http2DataScheduler;
 import io.helidon.http.http2.Http2ErrorCode;
 import io.helidon.http.http2.Http2Exception;
 import io.helidon.http.http2.Http2Flag;
@@ -53,6 +54,7 @@ import io.helidon.http.http2.Http2Priority;
 import io.helidon.http.http2.Http2RstStream;
 import io.helidon.http.http2.Http2Settings;
 import io.helidon.http.http2.Http2Stream;
+import io.helidon.http.http2.Http2StreamPriority;
 import io.helidon.http.http2.Http2StreamState;
 import io.helidon.http.http2.Http2StreamWriter;
 import io.helidon.http.http2.Http2WindowUpdate;
@@ -96,6 +98,7 @@ class Http2ServerStream implements Runnable, Http2Stream {
     private final StreamFlowControl flowControl;
     private final Http2ConcurrentConnectionStreams streams;
     private final HttpRouting routing;
+    private final Http2DataScheduler dataScheduler;
     private final AtomicReference<WriteState> writeState = new AtomicReference<>(WriteState.INIT);
     private boolean wasLastDataFrame = false;
     private boolean hasEntity = true;
@@ -122,6 +125,7 @@ class Http2ServerStream implements Runnable, Http2Stream {
      * @param serverSettings        server settings
      * @param clientSettings        client settings
      * @param writer                writer
+     * @param dataScheduler         scheduler of data frames, or {@code null} if scheduling is disabled
      * @param connectionFlowControl connection flow control
      */
     Http2ServerStream(ConnectionContext ctx,
@@ -133,6 +137,7 @@ class Http2ServerStream implements Runnable, Http2Stream {
                       Http2Settings serverSettings,
                       Http2Settings clientSettings,
                       Http2StreamWriter writer,
+                      Http2DataScheduler dataScheduler,
                       ConnectionFlowControl connectionFlowControl,
                       Http2ConnectionChecks connectionAttackVectorMetrics) {
         this.ctx = ctx;
@@ -144,6 +149,7 @@ class Http2ServerStream implements Runnable, Http2Stream {
         this.serverSettings = serverSettings;
         this.clientSettings = clientSettings;
         this.writer = writer;
+        this.dataScheduler = dataScheduler;
         this.router = ctx.router();
         this.connectionAttackVectorMetrics = connectionAttackVectorMetrics;
         this.flowControl = connectionFlowControl.createStreamFlowControl(
@@ -247,6 +253,7 @@ class Http2ServerStream implements Runnable, Http2Stream {
             this.state = Http2StreamState.OPEN;
         }
         Headers httpHeaders = headers.httpHeaders();
+        updatePriority(httpHeaders);
         if (httpHeaders.contains(HeaderNames.CONTENT_LENGTH)) {
             this.expectedLength = httpHeaders.get(HeaderNames.CONTENT_LENGTH).get(long.class);
             if (expectedLength == 0) {
@@ -371,6 +378,9 @@ class Http2ServerStream implements Runnable, Http2Stream {
         } finally {
             headers = null;
             subProtocolHandler = null;
+            if (dataScheduler != null) {
+                dataScheduler.remove(streamId);
+            }
         }
     }
 
@@ -393,6 +403,7 @@ class Http2ServerStream implements Runnable, Http2Stream {
             return s.checkAndMove(WriteState.HEADERS_SENT);
         });
 
+        updatePriority(http2Headers.httpHeaders());
         Http2Flag.HeaderFlags flags;
 
         if (endOfStream) {
@@ -413,6 +424,7 @@ class Http2ServerStream implements Runnable, Http2Stream {
         writeState.updateAndGet(s -> s
                 .checkAndMove(WriteState.HEADERS_SENT)
                 .checkAndMove(WriteState.DATA_SENT));
+        updatePriority(http2Headers.httpHeaders());
 
         Http2FrameData frameData =
                 new Http2FrameData(Http2FrameHeader.create(contentLength,
@@ -509,6 +521,13 @@ class Http2ServerStream implements Runnable, Http2Stream {
         return this.ctx;
     }
 
+    // RFC 9218 - priority requested by the client, may be overridden by the application through response headers
+    private void updatePriority(Headers headers) {
+        if (dataScheduler != null && headers.contains(Http2StreamPriority.HEADER_NAME)) {
+            dataScheduler.priority(streamId, Http2StreamPriority.parse(headers.get(Http2StreamPriority.HEADER_NAME).get()));
+        }
+    }
+
     private BufferData readEntityFromPipeline() {
         write100Continue();
         if (wasLastDataFrame) {
@@ -633,12 +652,18 @@ class Http2ServerStream implements Runnable, Http2Stream {
             }
         } else {
             subProtocolHandler.init();
+            boolean handlerFlowControl = subProtocolHandler.streamFlowControl();
             while (subProtocolHandler.streamState() != Http2StreamState.CLOSED
                     && subProtocolHandler.streamState() != Http2StreamState.HALF_CLOSED_LOCAL) {
                 DataFrame frame;
                 try {
                     frame = inboundData.take();
-                    flowControl.inbound().incrementWindowSize(frame.header().length());
+                    if (handlerFlowControl) {
+                        // stream window is replenished by the handler once it consumes the data
+                        flowControl.inbound().incrementConnectionWindowSize(frame.header().length());
+                    } else {
+                        flowControl.inbound().incrementWindowSize(frame.header().length());
+                    }
                 } catch (InterruptedException e) {
                     // this stream was interrupted, does not make sense to do anything else
                     String handlerName = subProtocolHandler.getClass().getSimpleName();
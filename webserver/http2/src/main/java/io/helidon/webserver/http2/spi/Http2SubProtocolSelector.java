@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022, 2025 Oracle and/or its affiliates.
+ * Copyright (c) 2022, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -109,5 +109,18 @@ public interface Http2SubProtocolSelector {
          * @param data   frame data
          */
         void data(Http2FrameHeader header, BufferData data);
+
+        /**
+         * Whether this handler replenishes the inbound flow control window of its stream by itself,
+         * using {@link io.helidon.http.http2.FlowControl.Inbound#incrementStreamWindowSize(int)} once
+         * the received data is consumed. This allows a handler to apply backpressure to the remote peer.
+         * The connection window is always replenished by the stream when a data frame is received.
+         * If {@code false}, both windows are replenished before the data is passed to {@link #data}.
+         *
+         * @return whether the handler replenishes the stream window
+         */
+        default boolean streamFlowControl() {
+            return false;
+        }
     }
 }
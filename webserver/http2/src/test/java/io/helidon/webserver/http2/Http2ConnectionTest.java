@@ -18,26 +18,48 @@ package io.helidon.webserver.http2;
 
 import java.io.UncheckedIOException;
 import java.net.SocketException;
+import java.time.Duration;
 import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import io.helidon.common.buffers.BufferData;
 import io.helidon.common.buffers.DataReader;
 import io.helidon.common.buffers.DataWriter;
+import io.helidon.common.context.Context;
+import io.helidon.http.http2.Http2ErrorCode;
+import io.helidon.http.http2.Http2FrameHeader;
+import io.helidon.http.http2.Http2FrameType;
 import io.helidon.http.http2.Http2Ping;
+import io.helidon.http.http2.Http2RstStream;
+import io.helidon.http.http2.Http2StreamState;
 import io.helidon.webserver.ConnectionContext;
+import io.helidon.webserver.KeyPerformanceIndicatorSupport;
 import io.helidon.webserver.ListenerContext;
 import io.helidon.webserver.Router;
 import io.helidon.webserver.ServerConnectionException;
 
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 
 import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.CoreMatchers.nullValue;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertAll;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.after;
+import static org.mockito.Mockito.atLeast;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 class Http2ConnectionTest {
@@ -95,4 +117,151 @@ class Http2ConnectionTest {
                 () -> assertThat(exception.getCause().getCause(), instanceOf(SocketException.class))
         );
     }
+
+    @Test
+    void keepAliveTimeoutClosesConnection() throws InterruptedException {
+        DataWriter writer = mock(DataWriter.class);
+        Http2Config config = Http2Config.builder()
+                .keepAlivePingInterval(Duration.ofMillis(10))
+                .keepAlivePingTimeout(Duration.ofMillis(10))
+                .build();
+        ConnectionContext ctx = mock(ConnectionContext.class);
+        when(ctx.router()).thenReturn(Router.empty());
+        when(ctx.listenerContext()).thenReturn(mock(ListenerContext.class));
+        when(ctx.dataWriter()).thenReturn(writer);
+        when(ctx.dataReader()).thenReturn(mock(DataReader.class));
+
+        CountDownLatch reaped = new CountDownLatch(1);
+        KeyPerformanceIndicatorSupport.Metrics metrics = new KeyPerformanceIndicatorSupport.Metrics() {
+            @Override
+            public void onConnectionReaped() {
+                reaped.countDown();
+            }
+        };
+        Http2Connection connection = new Http2Connection(ctx, config, List.of());
+        Http2ConnectionMaintenance maintenance = new Http2ConnectionMaintenance(config, connection, () -> metrics);
+        try {
+            maintenance.start();
+            assertThat(reaped.await(10, TimeUnit.SECONDS), is(true));
+        } finally {
+            maintenance.stop();
+        }
+        // PING and GOAWAY
+        verify(writer, atLeast(2)).writeNow(any(BufferData.class));
+    }
+
+    @Test
+    void halfClosedStreamReaping() {
+        Http2Config config = Http2Config.builder()
+                .halfClosedStreamTimeout(Duration.ofSeconds(2))
+                .build();
+        Http2ConnectionMaintenance maintenance = new Http2ConnectionMaintenance(config,
+                                                                                mock(Http2Connection.class),
+                                                                                Http2ConnectionTest::noMetrics);
+        long now = System.nanoTime();
+        long second = TimeUnit.SECONDS.toNanos(1);
+        assertThat(maintenance.reapable(now, now + second), is(false));
+        assertThat(maintenance.reapable(now, now + 3 * second), is(true));
+    }
+
+    @Test
+    void halfClosedStreamsReapedWithoutFrames() {
+        Http2Config config = Http2Config.builder()
+                .halfClosedStreamTimeout(Duration.ofMillis(20))
+                .build();
+        Http2Connection connection = mock(Http2Connection.class);
+        Http2ConnectionMaintenance maintenance = new Http2ConnectionMaintenance(config,
+                                                                                connection,
+                                                                                Http2ConnectionTest::noMetrics);
+        try {
+            maintenance.start();
+            // no frame is ever received, streams are still checked periodically
+            verify(connection, timeout(10_000).atLeast(2)).reapStreams(anyLong());
+        } finally {
+            maintenance.stop();
+        }
+
+        Http2Config disabledConfig = Http2Config.builder()
+                .halfClosedStreamTimeout(Duration.ZERO)
+                .build();
+        Http2Connection disabledConnection = mock(Http2Connection.class);
+        Http2ConnectionMaintenance disabled = new Http2ConnectionMaintenance(disabledConfig,
+                                                                             disabledConnection,
+                                                                             Http2ConnectionTest::noMetrics);
+        try {
+            disabled.start();
+            verify(disabledConnection, after(100).never()).reapStreams(anyLong());
+        } finally {
+            disabled.stop();
+        }
+    }
+
+    @Test
+    void halfClosedStreamsReapedAfterTimeout() {
+        DataWriter writer = mock(DataWriter.class);
+        Http2Config config = Http2Config.builder()
+                .halfClosedStreamTimeout(Duration.ofSeconds(2))
+                .build();
+        AtomicInteger reapedStreams = new AtomicInteger();
+        KeyPerformanceIndicatorSupport.Metrics metrics = new KeyPerformanceIndicatorSupport.Metrics() {
+            @Override
+            public void onStreamReaped() {
+                reapedStreams.incrementAndGet();
+            }
+        };
+        Context context = mock(Context.class);
+        when(context.get(KeyPerformanceIndicatorSupport.Metrics.class)).thenReturn(Optional.of(metrics));
+        ListenerContext listenerContext = mock(ListenerContext.class);
+        when(listenerContext.context()).thenReturn(context);
+        ConnectionContext ctx = mock(ConnectionContext.class);
+        when(ctx.router()).thenReturn(Router.empty());
+        when(ctx.listenerContext()).thenReturn(listenerContext);
+        when(ctx.dataWriter()).thenReturn(writer);
+        when(ctx.dataReader()).thenReturn(mock(DataReader.class));
+
+        Http2Connection connection = new Http2Connection(ctx, config, List.of());
+        long now = System.nanoTime();
+        long expired = now - TimeUnit.SECONDS.toNanos(3);
+        Http2ServerStream expiredStream = stream(connection, 1, Http2StreamState.HALF_CLOSED_LOCAL, expired);
+        Http2ServerStream activeStream = stream(connection, 3, Http2StreamState.HALF_CLOSED_LOCAL, now);
+        // only streams the handler has finished with are reaped
+        Http2ServerStream openStream = stream(connection, 5, Http2StreamState.OPEN, expired);
+
+        connection.reapStreams(now);
+
+        verify(expiredStream).rstStream(any(Http2RstStream.class));
+        verify(activeStream, never()).rstStream(any(Http2RstStream.class));
+        verify(openStream, never()).rstStream(any(Http2RstStream.class));
+
+        // RST_STREAM is sent to the client only for the reaped stream
+        ArgumentCaptor<BufferData> frames = ArgumentCaptor.forClass(BufferData.class);
+        verify(writer).writeNow(frames.capture());
+        BufferData frame = frames.getValue();
+        Http2FrameHeader frameHeader = Http2FrameHeader.create(frame);
+        assertThat(frameHeader.type(), is(Http2FrameType.RST_STREAM));
+        assertThat(frameHeader.streamId(), is(1));
+        assertThat(Http2RstStream.create(frame).errorCode(), is(Http2ErrorCode.CANCEL));
+
+        assertThat(connection.streams().get(1), is(nullValue()));
+        assertThat(connection.streams().get(3), is(notNullValue()));
+        assertThat(connection.streams().get(5), is(notNullValue()));
+        assertThat(reapedStreams.get(), is(1));
+    }
+
+    private static Http2ServerStream stream(Http2Connection connection,
+                                            int streamId,
+                                            Http2StreamState state,
+                                            long lastActivity) {
+        Http2ServerStream stream = mock(Http2ServerStream.class);
+        when(stream.streamId()).thenReturn(streamId);
+        when(stream.streamState()).thenReturn(state);
+        Http2Connection.StreamContext streamContext = new Http2Connection.StreamContext(streamId, 8192, stream);
+        streamContext.lastActivity(lastActivity);
+        connection.streams().put(streamContext);
+        return stream;
+    }
+
+    private static KeyPerformanceIndicatorSupport.Metrics noMetrics() {
+        return KeyPerformanceIndicatorSupport.Metrics.NO_OP;
+    }
 }
@@ -52,13 +52,24 @@ class KeyPerformanceIndicatorMetricsImpls {
      * Name for metric recording number requests currently being processed.
      */
     static final String LOAD_NAME = "load";
+    /**
+     * Name for metric counting streams reset by the server as abandoned by the client.
+     */
+    static final String REAPED_STREAMS_NAME = "reapedStreams";
+    /**
+     * Name for metric counting connections closed by the server as the client stopped responding.
+     */
+    static final String REAPED_CONNECTIONS_NAME = "reapedConnections";
     static final String KPI_METERS_SCOPE = Meter.Scope.VENDOR;
 
     private static final Map<String, KeyPerformanceIndicatorSupport.Metrics> KPI_METRICS = new HashMap<>();
 
     // Maps camelCase names to snake_case, but only for those names that are actually different in the two cases.
     private static final Map<String, String> CAMEL_TO_SNAKE_CASE_METER_NAMES = Map.of("inFlight", "in_flight",
-                                                                                      "longRunning", "long_running");
+                                                                                      "longRunning", "long_running",
+                                                                                      "reapedStreams", "reaped_streams",
+                                                                                      "reapedConnections",
+                                                                                      "reaped_connections");
 
 
     private KeyPerformanceIndicatorMetricsImpls() {
@@ -93,6 +104,8 @@ class KeyPerformanceIndicatorMetricsImpls {
     private static class Basic implements KeyPerformanceIndicatorSupport.Metrics {
 
         private final Counter totalCount;
+        private final Counter reapedStreams;
+        private final Counter reapedConnections;
         private final MeterRegistry meterRegistry;
         private final List<Meter> meters = new ArrayList<>();
         private final BuiltInMeterNameFormat builtInMeterNameFormat;
@@ -105,6 +118,14 @@ class KeyPerformanceIndicatorMetricsImpls {
                             .description(
                                     "Each request (regardless of HTTP method) will increase this counter")
                             .scope(KPI_METERS_SCOPE)));
+            reapedStreams = add(kpiMeterRegistry.getOrCreate(
+                    Counter.builder(meterNamePrefix + meterName(REAPED_STREAMS_NAME))
+                            .description("Streams reset by the server, as they were abandoned by the client")
+                            .scope(KPI_METERS_SCOPE)));
+            reapedConnections = add(kpiMeterRegistry.getOrCreate(
+                    Counter.builder(meterNamePrefix + meterName(REAPED_CONNECTIONS_NAME))
+                            .description("Connections closed by the server, as the client stopped responding")
+                            .scope(KPI_METERS_SCOPE)));
         }
 
         @Override
@@ -112,6 +133,16 @@ class KeyPerformanceIndicatorMetricsImpls {
             totalCount.increment();
         }
 
+        @Override
+        public void onStreamReaped() {
+            reapedStreams.increment();
+        }
+
+        @Override
+        public void onConnectionReaped() {
+            reapedConnections.increment();
+        }
+
         @Override
         public void close() {
             meters.forEach(meterRegistry::remove);
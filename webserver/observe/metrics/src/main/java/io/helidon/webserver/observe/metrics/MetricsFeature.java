@@ -38,10 +38,15 @@ import io.helidon.metrics.api.MetricsFactory;
 import io.helidon.metrics.api.SystemTagsManager;
 import io.helidon.metrics.spi.MeterRegistryFormatterProvider;
 import io.helidon.webserver.KeyPerformanceIndicatorSupport;
+import io.helidon.webserver.WebServer;
+import io.helidon.webserver.http.Filter;
+import io.helidon.webserver.http.FilterChain;
 import io.helidon.webserver.http.Handler;
 import io.helidon.webserver.http.HttpRouting;
 import io.helidon.webserver.http.HttpRules;
 import io.helidon.webserver.http.HttpService;
+import io.helidon.webserver.http.RoutingRequest;
+import io.helidon.webserver.http.RoutingResponse;
 import io.helidon.webserver.http.SecureHandler;
 import io.helidon.webserver.http.ServerRequest;
 import io.helidon.webserver.http.ServerResponse;
@@ -87,21 +92,7 @@ class MetricsFeature {
                                                                 .keyPerformanceIndicatorMetricsConfig(),
                                                         metricsConfig.builtInMeterNameFormat());
 
-        rules.addFilter((chain, req, res) -> {
-            KeyPerformanceIndicatorSupport.Context kpiContext = kpiContext(req);
-            PostRequestMetricsSupport prms = PostRequestMetricsSupport.create();
-            req.context().register(prms);
-
-            kpiContext.requestHandlingStarted(kpiMetrics);
-            try {
-                chain.proceed();
-                postRequestProcessing(prms, req, res, null, kpiContext);
-            } catch (Exception e) {
-                postRequestProcessing(prms, req, res, e, kpiContext);
-                // we cannot just consume an exception and ignore error handling
-                throw e;
-            }
-        });
+        rules.addFilter(new KpiFilter());
     }
 
     void register(HttpRouting.Builder routing, String endpoint) {
@@ -326,6 +317,35 @@ class MetricsFeature {
                 .orElse(true);
     }
 
+    /**
+     * Filter that updates key performance indicator metrics for each request, and makes them available to
+     * protocols that report events not bound to a request (such as reaped HTTP/2 streams) through the server context.
+     */
+    private class KpiFilter implements Filter {
+        @Override
+        public void filter(FilterChain chain, RoutingRequest req, RoutingResponse res) {
+            KeyPerformanceIndicatorSupport.Context kpiContext = kpiContext(req);
+            PostRequestMetricsSupport prms = PostRequestMetricsSupport.create();
+            req.context().register(prms);
+
+            kpiContext.requestHandlingStarted(kpiMetrics);
+            try {
+                chain.proceed();
+                postRequestProcessing(prms, req, res, null, kpiContext);
+            } catch (Exception e) {
+                postRequestProcessing(prms, req, res, e, kpiContext);
+                // we cannot just consume an exception and ignore error handling
+                throw e;
+            }
+        }
+
+        @Override
+        public void afterStart(WebServer webServer) {
+            // listener contexts have the server context as their parent
+            webServer.context().register(KeyPerformanceIndicatorSupport.Metrics.class, kpiMetrics);
+        }
+    }
+
     /**
      * Separate metrics service class with an afterStop method that is properly invoked.
      */
@@ -16,6 +16,12 @@
 
 package io.helidon.webserver.staticcontent;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
 import java.time.Instant;
 import java.util.Arrays;
 import java.util.List;
@@ -25,6 +31,7 @@ import io.helidon.common.LruCache;
 import io.helidon.common.media.type.MediaType;
 import io.helidon.http.Header;
 import io.helidon.http.HeaderNames;
+import io.helidon.http.HeaderValues;
 import io.helidon.http.HttpException;
 import io.helidon.http.Method;
 import io.helidon.http.ServerRequestHeaders;
@@ -36,12 +43,29 @@ import io.helidon.webserver.http.ServerResponse;
 import static io.helidon.webserver.staticcontent.StaticContentHandler.processEtag;
 import static io.helidon.webserver.staticcontent.StaticContentHandler.processModifyHeaders;
 
+/*
+ * Content is a view of the cached bytes (on heap, direct, or mapped) that is never modified, each request uses its
+ * duplicate. Content on heap keeps its array, so it is written without a copy.
+ * Gzip content is optional (null if not computed, or if it would not save enough bytes).
+ */
 record CachedHandlerInMemory(MediaType mediaType,
                              Instant lastModified,
                              BiConsumer<ServerResponseHeaders, Instant> setLastModifiedHeader,
-                             byte[] bytes,
+                             ByteBuffer content,
                              int contentLength,
-                             Header contentLengthHeader) implements CachedHandler {
+                             Header contentLengthHeader,
+                             ByteBuffer gzipContent) implements CachedHandler {
+    private static final Header VARY_ACCEPT_ENCODING = HeaderValues.createCached(HeaderNames.VARY, "Accept-Encoding");
+    private static final Header CONTENT_ENCODING_GZIP = HeaderValues.createCached(HeaderNames.CONTENT_ENCODING, "gzip");
+
+    CachedHandlerInMemory(MediaType mediaType,
+                          Instant lastModified,
+                          BiConsumer<ServerResponseHeaders, Instant> setLastModifiedHeader,
+                          byte[] bytes,
+                          int contentLength,
+                          Header contentLengthHeader) {
+        this(mediaType, lastModified, setLastModifiedHeader, ByteBuffer.wrap(bytes), contentLength, contentLengthHeader, null);
+    }
 
     @Override
     public boolean handle(LruCache<String, CachedHandler> cache,
@@ -49,15 +73,32 @@ record CachedHandlerInMemory(MediaType mediaType,
                           ServerRequest request,
                           ServerResponse response,
                           String requestedResource) {
+        // ranges are always served from the identity content
+        boolean gzip = gzipContent != null
+                && !request.headers().contains(HeaderNames.RANGE)
+                && acceptsGzip(request.headers());
+
         // etag etc.
         if (lastModified != null) {
-            processEtag(String.valueOf(lastModified.toEpochMilli()), request.headers(), response.headers());
+            String etag = String.valueOf(lastModified.toEpochMilli());
+            processEtag(gzip ? etag + "-gzip" : etag, request.headers(), response.headers());
             processModifyHeaders(lastModified, request.headers(), response.headers(), setLastModifiedHeader);
         }
 
         response.headers().contentType(mediaType);
+        if (gzipContent != null) {
+            response.headers().set(VARY_ACCEPT_ENCODING);
+        }
 
-        if (method == Method.GET) {
+        if (gzip) {
+            response.headers().set(CONTENT_ENCODING_GZIP);
+            if (method == Method.GET) {
+                send(response, gzipContent.duplicate());
+            } else {
+                response.headers().contentLength(gzipContent.remaining());
+                response.send();
+            }
+        } else if (method == Method.GET) {
             send(request, response);
         } else {
             response.headers().set(contentLengthHeader());
@@ -67,6 +108,68 @@ record CachedHandlerInMemory(MediaType mediaType,
         return true;
     }
 
+    /**
+     * Size of all bytes held by this handler.
+     *
+     * @return number of cached bytes, including the gzip variant
+     */
+    int weight() {
+        return contentLength + (gzipContent == null ? 0 : gzipContent.remaining());
+    }
+
+    static boolean acceptsGzip(ServerRequestHeaders headers) {
+        if (!headers.contains(HeaderNames.ACCEPT_ENCODING)) {
+            return false;
+        }
+        /*
+            Accept-Encoding: gzip
+            Accept-Encoding: br;q=1.0, gzip;q=0.8, *;q=0.1
+            Accept-Encoding: gzip;q=0 (explicitly not acceptable)
+         */
+        for (String value : headers.get(HeaderNames.ACCEPT_ENCODING).allValues(true)) {
+            int paramIndex = value.indexOf(';');
+            String encoding = (paramIndex == -1 ? value : value.substring(0, paramIndex)).trim();
+            if ("gzip".equalsIgnoreCase(encoding) || "x-gzip".equalsIgnoreCase(encoding)) {
+                return paramIndex == -1 || !rejected(value.substring(paramIndex + 1));
+            }
+        }
+        return false;
+    }
+
+    private static boolean rejected(String parameters) {
+        for (String parameter : parameters.split(";")) {
+            String trimmed = parameter.trim();
+            if (trimmed.startsWith("q=")) {
+                try {
+                    return Double.parseDouble(trimmed.substring(2)) == 0;
+                } catch (NumberFormatException e) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static void send(ServerResponse response, ByteBuffer buffer) {
+        if (buffer.hasArray()) {
+            byte[] array = buffer.array();
+            int from = buffer.arrayOffset() + buffer.position();
+            int to = from + buffer.remaining();
+            response.send(from == 0 && to == array.length ? array : Arrays.copyOfRange(array, from, to));
+            return;
+        }
+        // off-heap content, copied to the connection in chunks
+        response.headers().contentLength(buffer.remaining());
+        try (OutputStream out = response.outputStream()) {
+            WritableByteChannel channel = Channels.newChannel(out);
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
     private void send(ServerRequest request, ServerResponse response) {
         ServerRequestHeaders headers = request.headers();
 
@@ -90,7 +193,10 @@ record CachedHandlerInMemory(MediaType mediaType,
                 range.setContentRange(response);
 
                 // only send a part of the file
-                response.send(Arrays.copyOfRange(bytes(), (int) range.offset(), (int) range.length()));
+                int offset = (int) range.offset();
+                send(response, content.duplicate()
+                        .position(offset)
+                        .limit(offset + (int) range.length()));
             } else {
                 // not supported, send full
                 send(response);
@@ -102,6 +208,6 @@ record CachedHandlerInMemory(MediaType mediaType,
 
     private void send(ServerResponse response) {
         response.headers().set(contentLengthHeader());
-        response.send(bytes());
+        send(response, content.duplicate());
     }
 }
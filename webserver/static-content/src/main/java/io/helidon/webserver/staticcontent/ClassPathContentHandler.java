@@ -179,7 +179,10 @@ class ClassPathContentHandler extends FileBasedContentHandler {
         }
 
         CachedHandler cachedHandler = handler.get();
-        cacheHandler(requestedResource, cachedHandler);
+        if (!(cachedHandler instanceof CachedHandlerInMemory)) {
+            // in-memory handlers are held by the memory cache, which may evict them
+            cacheHandler(requestedResource, cachedHandler);
+        }
 
         return cachedHandler.handle(handlerCache(), method, request, response, requestedResource);
     }
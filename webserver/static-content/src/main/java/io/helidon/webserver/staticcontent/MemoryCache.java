@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2024, 2025 Oracle and/or its affiliates.
+ * Copyright (c) 2024, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,23 +16,46 @@
 
 package io.helidon.webserver.staticcontent;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.util.HashMap;
 import java.util.IdentityHashMap;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.locks.ReadWriteLock;
 import java.util.concurrent.locks.ReentrantLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
+import java.util.zip.GZIPOutputStream;
 
 import io.helidon.builder.api.RuntimeType;
+import io.helidon.common.LruCache;
+import io.helidon.metrics.api.Counter;
+import io.helidon.metrics.api.MeterRegistry;
+import io.helidon.metrics.api.MetricsFactory;
+import io.helidon.service.registry.Services;
+
+import static io.helidon.metrics.api.Meter.Scope.VENDOR;
 
 /**
  * Memory cache to allow in-memory storage of static content, rather than reading it from file system each time the
  * resource is requested.
+ * <p>
+ * Resources explicitly configured to be cached are always kept. Other resources are cached while they fit into
+ * the configured capacity, or, if {@link MemoryCacheConfig#eviction()} is enabled, they replace resources that are
+ * used less often.
  */
 public class MemoryCache implements RuntimeType.Api<MemoryCacheConfig> {
+    private static final System.Logger LOGGER = System.getLogger(MemoryCache.class.getName());
+
     private final MemoryCacheConfig config;
     private final long maxSize;
     // cache is Map<instance of handler -> Map<resource path -> CachedHandlerInMemory>>
@@ -42,6 +65,14 @@ public class MemoryCache implements RuntimeType.Api<MemoryCacheConfig> {
     private final ReentrantLock sizeLock = new ReentrantLock();
     private long currentSize;
 
+    // evictable records, only used when eviction is enabled
+    private final LruCache<CacheKey, CachedHandlerInMemory> evictableCache;
+    // resources of each handler in the evictable cache, so they can be removed when the handler is released
+    private final Map<StaticContentHandler, Set<String>> evictableResources = new ConcurrentHashMap<>();
+
+    private final Counter hits;
+    private final Counter misses;
+
     private MemoryCache(MemoryCacheConfig config) {
         this.config = config;
         if (config.enabled()) {
@@ -50,6 +81,25 @@ public class MemoryCache implements RuntimeType.Api<MemoryCacheConfig> {
         } else {
             this.maxSize = 0;
         }
+        if (maxSize != 0 && config.eviction()) {
+            this.evictableCache = LruCache.<CacheKey, CachedHandlerInMemory>builder()
+                    .weigher(maxSize, (key, handler) -> handler.weight())
+                    .evictionListener((key, handler) -> evicted(key))
+                    .build();
+        } else {
+            this.evictableCache = null;
+        }
+        if (maxSize != 0 && config.enableMetrics()) {
+            MetricsFactory metricsFactory = Services.get(MetricsFactory.class);
+            MeterRegistry meterRegistry = metricsFactory.globalRegistry();
+            this.hits = meterRegistry.getOrCreate(metricsFactory.counterBuilder("static_content_memory_cache_hits")
+                                                          .scope(VENDOR));
+            this.misses = meterRegistry.getOrCreate(metricsFactory.counterBuilder("static_content_memory_cache_misses")
+                                                            .scope(VENDOR));
+        } else {
+            this.hits = null;
+            this.misses = null;
+        }
     }
 
     /**
@@ -105,6 +155,14 @@ public class MemoryCache implements RuntimeType.Api<MemoryCacheConfig> {
         } finally {
             cacheLock.writeLock().unlock();
         }
+        if (evictableCache != null) {
+            Set<String> resources = evictableResources.remove(staticContentHandler);
+            if (resources != null) {
+                for (String resource : resources) {
+                    evictableCache.remove(new CacheKey(staticContentHandler, resource));
+                }
+            }
+        }
     }
 
     /**
@@ -115,27 +173,37 @@ public class MemoryCache implements RuntimeType.Api<MemoryCacheConfig> {
      * @return if there is space in the cache for the number of bytes requested
      */
     boolean available(int bytes) {
-        return maxSize != 0 && (currentSize + bytes) <= maxSize;
+        long weight = maxWeight(bytes);
+        if (evictableCache != null) {
+            // other records are evicted to make space
+            return weight <= maxSize;
+        }
+        return maxSize != 0 && (currentSize + weight) <= maxSize;
     }
 
     Optional<CachedHandlerInMemory> cache(StaticContentHandler handler,
                                           String resource,
                                           int size,
                                           Supplier<CachedHandlerInMemory> handlerSupplier) {
+        if (evictableCache != null) {
+            return cacheEvictable(handler, resource, size, handlerSupplier);
+        }
+        long reserved = maxWeight(size);
         try {
             sizeLock.lock();
-            if (maxSize == 0 || currentSize + size > maxSize) {
+            if (maxSize == 0 || currentSize + reserved > maxSize) {
                 // either we are not enabled, or the size would be bigger than maximal size
                 return Optional.empty();
             }
             // increase current size
-            currentSize += size;
+            currentSize += reserved;
         } finally {
             sizeLock.unlock();
         }
         try {
             cacheLock.writeLock().lock();
-            CachedHandlerInMemory cachedHandlerInMemory = handlerSupplier.get();
+            CachedHandlerInMemory cachedHandlerInMemory = store(handlerSupplier.get());
+            addSize(cachedHandlerInMemory.weight() - reserved);
             cache.computeIfAbsent(handler, k -> new HashMap<>())
                     .put(resource, cachedHandlerInMemory);
             return Optional.of(cachedHandlerInMemory);
@@ -146,34 +214,159 @@ public class MemoryCache implements RuntimeType.Api<MemoryCacheConfig> {
 
     // hard add to cache, even if disabled (for explicitly configured resources to cache in memory)
     void cache(StaticContentHandler handler, String resource, CachedHandlerInMemory inMemoryHandler) {
-        try {
-            sizeLock.lock();
-            if (maxSize != 0) {
-                // only increase current size if enabled, otherwise it does not matter
-                currentSize += inMemoryHandler.contentLength();
-            }
-        } finally {
-            sizeLock.unlock();
+        CachedHandlerInMemory stored = store(inMemoryHandler);
+        if (maxSize != 0 && evictableCache == null) {
+            // only increase current size if enabled and not evicting, otherwise it does not matter
+            addSize(stored.weight());
         }
         try {
             cacheLock.writeLock().lock();
             cache.computeIfAbsent(handler, k -> new HashMap<>())
-                    .put(resource, inMemoryHandler);
+                    .put(resource, stored);
         } finally {
             cacheLock.writeLock().unlock();
         }
     }
 
     Optional<CachedHandlerInMemory> get(StaticContentHandler handler, String resource) {
+        Optional<CachedHandlerInMemory> result;
         try {
             cacheLock.readLock().lock();
             Map<String, CachedHandlerInMemory> resourceCache = cache.get(handler);
-            if (resourceCache == null) {
-                return Optional.empty();
-            }
-            return Optional.ofNullable(resourceCache.get(resource));
+            result = resourceCache == null ? Optional.empty() : Optional.ofNullable(resourceCache.get(resource));
         } finally {
             cacheLock.readLock().unlock();
         }
+        if (result.isEmpty() && evictableCache != null) {
+            result = evictableCache.get(new CacheKey(handler, resource));
+        }
+        if (hits != null) {
+            if (result.isPresent()) {
+                hits.increment();
+            } else {
+                misses.increment();
+            }
+        }
+        return result;
+    }
+
+    // weight of a record with content of the size (see CachedHandlerInMemory.weight()), before it is known whether
+    // it has a gzip variant, which is only kept if it saves at least 10% of the size
+    private long maxWeight(int size) {
+        return config.gzip() ? (long) size + size - size / 10 : size;
+    }
+
+    private void addSize(long size) {
+        try {
+            sizeLock.lock();
+            currentSize += size;
+        } finally {
+            sizeLock.unlock();
+        }
+    }
+
+    private Optional<CachedHandlerInMemory> cacheEvictable(StaticContentHandler handler,
+                                                           String resource,
+                                                           int size,
+                                                           Supplier<CachedHandlerInMemory> handlerSupplier) {
+        if (maxWeight(size) > maxSize) {
+            return Optional.empty();
+        }
+        CachedHandlerInMemory cachedHandlerInMemory = store(handlerSupplier.get());
+        evictableResources.compute(handler, (key, resources) -> {
+            Set<String> result = resources == null ? ConcurrentHashMap.newKeySet() : resources;
+            result.add(resource);
+            return result;
+        });
+        // the cache may decide not to keep the new record, if it is used less often than the records it would evict;
+        // the handler is still valid to serve the current request
+        evictableCache.put(new CacheKey(handler, resource), cachedHandlerInMemory);
+        return Optional.of(cachedHandlerInMemory);
+    }
+
+    // a record evicted from the evictable cache no longer needs to be removed when its handler is released
+    private void evicted(CacheKey key) {
+        evictableResources.computeIfPresent(key.handler(), (handler, resources) -> {
+            resources.remove(key.resource());
+            return resources.isEmpty() ? null : resources;
+        });
+    }
+
+    private CachedHandlerInMemory store(CachedHandlerInMemory handler) {
+        ByteBuffer gzipContent = handler.gzipContent();
+        if (config.gzip() && gzipContent == null) {
+            gzipContent = gzip(handler.content());
+        }
+        return new CachedHandlerInMemory(handler.mediaType(),
+                                         handler.lastModified(),
+                                         handler.setLastModifiedHeader(),
+                                         store(handler.content()),
+                                         handler.contentLength(),
+                                         handler.contentLengthHeader(),
+                                         gzipContent == null ? null : store(gzipContent));
+    }
+
+    private ByteBuffer store(ByteBuffer content) {
+        ByteBuffer source = content.duplicate();
+        ByteBuffer stored = switch (config.storage()) {
+            case HEAP -> source.hasArray() ? source : ByteBuffer.allocate(source.remaining()).put(source).flip();
+            case DIRECT -> ByteBuffer.allocateDirect(source.remaining()).put(source).flip();
+            case MAPPED -> mapped(source);
+        };
+        // heap buffers keep their array, so the content can be written without copying it (handlers only use duplicates)
+        return stored.hasArray() ? stored.duplicate() : stored.asReadOnlyBuffer();
+    }
+
+    private static ByteBuffer mapped(ByteBuffer content) {
+        try {
+            Path file = Files.createTempFile("helidon-static-content", ".cache");
+            // the file is deleted when the channel is closed, the mapping stays valid until it is garbage collected
+            try (FileChannel channel = FileChannel.open(file,
+                                                        StandardOpenOption.READ,
+                                                        StandardOpenOption.WRITE,
+                                                        StandardOpenOption.DELETE_ON_CLOSE)) {
+                ByteBuffer source = content.duplicate();
+                int length = source.remaining();
+                while (source.hasRemaining()) {
+                    channel.write(source);
+                }
+                return channel.map(FileChannel.MapMode.READ_ONLY, 0, length);
+            }
+        } catch (IOException e) {
+            if (LOGGER.isLoggable(System.Logger.Level.WARNING)) {
+                LOGGER.log(System.Logger.Level.WARNING, "Failed to store cached content in a mapped file,"
+                        + " content will be stored on heap", e);
+            }
+            return ByteBuffer.allocate(content.remaining()).put(content).flip();
+        }
+    }
+
+    private static ByteBuffer gzip(ByteBuffer content) {
+        ByteBuffer source = content.duplicate();
+        int length = source.remaining();
+        ByteArrayOutputStream baos = new ByteArrayOutputStream(length / 2 + 32);
+        try (GZIPOutputStream out = new GZIPOutputStream(baos)) {
+            if (source.hasArray()) {
+                out.write(source.array(), source.arrayOffset() + source.position(), length);
+            } else {
+                byte[] buffer = new byte[Math.min(length, 8192)];
+                while (source.hasRemaining()) {
+                    int chunk = Math.min(buffer.length, source.remaining());
+                    source.get(buffer, 0, chunk);
+                    out.write(buffer, 0, chunk);
+                }
+            }
+        } catch (IOException e) {
+            // in memory streams, cannot happen
+            return null;
+        }
+        // only keep the variant if it saves at least 10% of the size
+        if (baos.size() > length - length / 10) {
+            return null;
+        }
+        return ByteBuffer.wrap(baos.toByteArray());
+    }
+
+    private record CacheKey(StaticContentHandler handler, String resource) {
     }
 }
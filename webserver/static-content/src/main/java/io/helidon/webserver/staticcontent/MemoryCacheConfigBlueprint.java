@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2024 Oracle and/or its affiliates.
+ * Copyright (c) 2024, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -22,8 +22,9 @@ import io.helidon.common.Size;
 
 /**
  * Configuration of memory cache for static content.
- * The memory cache will cache the first {@link #capacity() bytes} that fit into the configured memory size for the
- * duration of the service uptime.
+ * By default, the memory cache will cache the first {@link #capacity() bytes} that fit into the configured memory size
+ * for the duration of the service uptime. When {@link #eviction()} is enabled, resources are evicted based on
+ * their size and frequency of use, so the cache keeps the resources that are requested most often.
  */
 @Prototype.Blueprint
 @Prototype.Configured
@@ -50,4 +51,49 @@ interface MemoryCacheConfigBlueprint extends Prototype.Factory<MemoryCache> {
     @Option.Default("50 mB")
     @Option.Configured
     Size capacity();
+
+    /**
+     * Whether to evict cached resources when the cache is full.
+     * If disabled, resources are cached until the capacity is reached, and then no more resources are cached.
+     * If enabled, a new resource may replace resources that are used less often, to stay within the capacity.
+     * <p>
+     * Resources explicitly configured to be cached in memory (see {@link BaseHandlerConfig#cachedFiles()}) are never
+     * evicted, and do not count against the capacity when eviction is enabled.
+     *
+     * @return whether to evict resources, defaults to {@code false}
+     */
+    @Option.DefaultBoolean(false)
+    @Option.Configured
+    boolean eviction();
+
+    /**
+     * Where to store the cached bytes.
+     * Storing content outside of heap ({@link MemoryCacheStorage#DIRECT} or {@link MemoryCacheStorage#MAPPED})
+     * reduces the pressure on garbage collector when caching a large number of resources.
+     *
+     * @return storage of cached bytes, defaults to {@link MemoryCacheStorage#HEAP}
+     */
+    @Option.Default("HEAP")
+    @Option.Configured
+    MemoryCacheStorage storage();
+
+    /**
+     * Whether to compute a gzip variant of each cached resource when it is added to the cache.
+     * The gzip variant is stored next to the original bytes (and counts against the capacity) if it is at least
+     * 10% smaller, and it is sent to clients that accept {@code gzip} content encoding, unless a range is requested.
+     *
+     * @return whether to store gzip variants of resources, defaults to {@code false}
+     */
+    @Option.DefaultBoolean(false)
+    @Option.Configured
+    boolean gzip();
+
+    /**
+     * Whether to collect hit and miss metrics of this cache.
+     *
+     * @return metrics flag
+     */
+    @Option.DefaultBoolean(false)
+    @Option.Configured
+    boolean enableMetrics();
 }
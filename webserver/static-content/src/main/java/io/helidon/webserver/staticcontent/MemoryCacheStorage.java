@@ -0,0 +1,39 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.webserver.staticcontent;
+
+/**
+ * Where the bytes of resources cached in a {@link io.helidon.webserver.staticcontent.MemoryCache} are stored.
+ */
+public enum MemoryCacheStorage {
+    /**
+     * Content is stored in byte arrays on heap.
+     */
+    HEAP,
+    /**
+     * Content is stored in direct byte buffers, outside of heap.
+     * The size of the cache must fit into the maximal direct memory of the JVM
+     * ({@code -XX:MaxDirectMemorySize}).
+     */
+    DIRECT,
+    /**
+     * Content is written to a temporary file that is mapped into memory, and then removed.
+     * The operating system manages the memory of mapped files, so it can page out rarely used content.
+     * If the file cannot be created, the content is stored on heap.
+     */
+    MAPPED
+}
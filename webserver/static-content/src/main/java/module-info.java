@@ -33,6 +33,8 @@ module io.helidon.webserver.staticcontent {
     requires transitive io.helidon.webserver;
     requires transitive io.helidon.builder.api;
     requires io.helidon;
+    requires io.helidon.metrics.api;
+    requires io.helidon.service.registry;
 
     exports io.helidon.webserver.staticcontent;
 
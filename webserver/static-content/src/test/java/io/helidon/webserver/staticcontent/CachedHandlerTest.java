@@ -32,7 +32,6 @@ import java.util.stream.Stream;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipOutputStream;
 
-import io.helidon.common.buffers.BufferData;
 import io.helidon.common.media.type.MediaType;
 import io.helidon.common.media.type.MediaTypes;
 import io.helidon.common.uri.UriQuery;
@@ -54,7 +53,6 @@ import static io.helidon.common.testing.junit5.OptionalMatcher.optionalPresent;
 import static java.lang.System.Logger.Level.TRACE;
 import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.is;
-import static org.hamcrest.CoreMatchers.not;
 import static org.hamcrest.CoreMatchers.notNullValue;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.mockito.Mockito.mock;
@@ -93,8 +91,8 @@ class CachedHandlerTest {
         Optional<CachedHandlerInMemory> cachedHandlerInMemory = classpathHandler.cacheInMemory("web/favicon.ico");
         assertThat("Handler should be cached in memory", cachedHandlerInMemory, optionalPresent());
         CachedHandlerInMemory cached = cachedHandlerInMemory.get();
-        assertThat("Cached bytes must not be null", cached.bytes(), notNullValue());
-        assertThat("Cached bytes must not be empty", cached.bytes(), not(BufferData.EMPTY_BYTES));
+        assertThat("Cached bytes must not be null", cached.content(), notNullValue());
+        assertThat("Cached bytes must not be empty", cached.content().remaining(), is(1230));
         assertThat("Content length", cached.contentLength(), is(1230));
         assertThat("Last modified", cached.lastModified(), notNullValue());
         assertThat("Media type", cached.mediaType(), is(MEDIA_TYPE_ICON));
@@ -188,8 +186,8 @@ class CachedHandlerTest {
         Optional<CachedHandlerInMemory> cachedHandlerInMemory = fsHandler.cacheInMemory("nested/resource.txt");
         assertThat("Handler should be cached in memory", cachedHandlerInMemory, optionalPresent());
         CachedHandlerInMemory cached = cachedHandlerInMemory.get();
-        assertThat("Cached bytes must not be null", cached.bytes(), notNullValue());
-        assertThat("Cached bytes must not be empty", cached.bytes(), not(BufferData.EMPTY_BYTES));
+        assertThat("Cached bytes must not be null", cached.content(), notNullValue());
+        assertThat("Cached bytes must not be empty", cached.content().remaining(), is(14));
         // content is: "Nested content"
         assertThat("Content length", cached.contentLength(), is(14));
         assertThat("Last modified", cached.lastModified(), notNullValue());
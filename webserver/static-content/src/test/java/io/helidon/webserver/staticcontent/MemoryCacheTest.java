@@ -0,0 +1,226 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.webserver.staticcontent;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+import java.util.Random;
+import java.util.zip.GZIPInputStream;
+
+import io.helidon.common.Size;
+import io.helidon.common.media.type.MediaTypes;
+import io.helidon.http.HeaderNames;
+import io.helidon.http.HeaderValues;
+import io.helidon.http.ServerRequestHeaders;
+import io.helidon.http.WritableHeaders;
+
+import org.junit.jupiter.api.Test;
+
+import static io.helidon.common.testing.junit5.OptionalMatcher.optionalEmpty;
+import static io.helidon.common.testing.junit5.OptionalMatcher.optionalPresent;
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+
+class MemoryCacheTest {
+    private static final String TEXT = "Hello static content, hello static content, hello static content!\n".repeat(4);
+
+    @Test
+    void testFullCacheWithoutEviction() {
+        MemoryCache cache = MemoryCache.create(builder -> builder.capacity(Size.create(100)));
+        StaticContentHandler handler = handler(cache);
+
+        assertThat(cache.cache(handler, "first", 40, () -> inMemory(new byte[40])), optionalPresent());
+        assertThat(cache.cache(handler, "second", 40, () -> inMemory(new byte[40])), optionalPresent());
+        assertThat(cache.available(40), is(false));
+        assertThat(cache.cache(handler, "third", 40, () -> inMemory(new byte[40])), optionalEmpty());
+        assertThat(cache.get(handler, "first"), optionalPresent());
+        assertThat(cache.get(handler, "third"), optionalEmpty());
+    }
+
+    @Test
+    void testEviction() {
+        MemoryCache cache = MemoryCache.create(builder -> builder.capacity(Size.create(100))
+                .eviction(true));
+        StaticContentHandler handler = handler(cache);
+
+        assertThat(cache.available(100), is(true));
+        assertThat(cache.available(101), is(false));
+
+        cache.cache(handler, "hot", 40, () -> inMemory(new byte[40]));
+        for (int i = 0; i < 10; i++) {
+            assertThat(cache.get(handler, "hot"), optionalPresent());
+        }
+        int cached = 0;
+        for (int i = 0; i < 20; i++) {
+            // the handler is always returned, even if the cache decides not to keep it
+            assertThat(cache.cache(handler, "cold-" + i, 40, () -> inMemory(new byte[40])), optionalPresent());
+        }
+        for (int i = 0; i < 20; i++) {
+            if (cache.get(handler, "cold-" + i).isPresent()) {
+                cached++;
+            }
+        }
+        assertThat("Frequently used resource must stay cached", cache.get(handler, "hot"), optionalPresent());
+        assertThat("Only one more resource fits into the capacity", cached, lessThanOrEqualTo(1));
+
+        cache.clear(handler);
+        assertThat(cache.get(handler, "hot"), optionalEmpty());
+    }
+
+    @Test
+    void testExplicitResourcesNotEvicted() {
+        MemoryCache cache = MemoryCache.create(builder -> builder.capacity(Size.create(100))
+                .eviction(true));
+        StaticContentHandler handler = handler(cache);
+
+        cache.cache(handler, "pinned", inMemory(new byte[80]));
+        for (int i = 0; i < 10; i++) {
+            cache.cache(handler, "dynamic-" + i, 60, () -> inMemory(new byte[60]));
+        }
+        assertThat(cache.get(handler, "pinned"), optionalPresent());
+    }
+
+    @Test
+    void testHeapStorage() {
+        MemoryCache cache = MemoryCache.create(builder -> builder.storage(MemoryCacheStorage.HEAP));
+        StaticContentHandler handler = handler(cache);
+
+        Optional<CachedHandlerInMemory> cached = cache.cache(handler, "text", TEXT.length(), () -> inMemory(bytes()));
+
+        assertThat(cached, optionalPresent());
+        // written directly from the array
+        assertThat(cached.get().content().hasArray(), is(true));
+        assertThat(StandardCharsets.UTF_8.decode(cached.get().content().duplicate()).toString(), is(TEXT));
+    }
+
+    @Test
+    void testDirectStorage() {
+        MemoryCache cache = MemoryCache.create(builder -> builder.storage(MemoryCacheStorage.DIRECT));
+        StaticContentHandler handler = handler(cache);
+
+        Optional<CachedHandlerInMemory> cached = cache.cache(handler, "text", TEXT.length(), () -> inMemory(bytes()));
+
+        assertThat(cached, optionalPresent());
+        ByteBuffer content = cached.get().content();
+        assertThat(content.isDirect(), is(true));
+        assertThat(content.isReadOnly(), is(true));
+        assertThat(StandardCharsets.UTF_8.decode(content.duplicate()).toString(), is(TEXT));
+    }
+
+    @Test
+    void testMappedStorage() {
+        MemoryCache cache = MemoryCache.create(builder -> builder.storage(MemoryCacheStorage.MAPPED));
+        StaticContentHandler handler = handler(cache);
+
+        cache.cache(handler, "text", inMemory(bytes()));
+
+        Optional<CachedHandlerInMemory> cached = cache.get(handler, "text");
+        assertThat(cached, optionalPresent());
+        ByteBuffer content = cached.get().content();
+        assertThat(content, instanceOf(MappedByteBuffer.class));
+        assertThat(StandardCharsets.UTF_8.decode(content.duplicate()).toString(), is(TEXT));
+    }
+
+    @Test
+    void testGzipVariant() throws IOException {
+        MemoryCache cache = MemoryCache.create(builder -> builder.gzip(true));
+        StaticContentHandler handler = handler(cache);
+
+        CachedHandlerInMemory cached = cache.cache(handler, "text", TEXT.length(), () -> inMemory(bytes()))
+                .orElseThrow();
+
+        ByteBuffer gzip = cached.gzipContent();
+        assertThat(gzip, notNullValue());
+        assertThat(cached.weight(), is(TEXT.length() + gzip.remaining()));
+        byte[] compressed = new byte[gzip.remaining()];
+        gzip.duplicate().get(compressed);
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(compressed))) {
+            assertThat(new String(in.readAllBytes(), StandardCharsets.UTF_8), is(TEXT));
+        }
+    }
+
+    @Test
+    void testGzipVariantCountsAgainstCapacity() {
+        MemoryCache cache = MemoryCache.create(builder -> builder.capacity(Size.create(100))
+                .gzip(true));
+        StaticContentHandler handler = handler(cache);
+
+        // the gzip variant may take up to 90% of the size
+        assertThat(cache.available(52), is(true));
+        assertThat(cache.available(53), is(false));
+        assertThat(cache.cache(handler, "large", 60, () -> inMemory(new byte[60])), optionalEmpty());
+        assertThat(cache.cache(handler, "small", 40, () -> inMemory(new byte[40])), optionalPresent());
+    }
+
+    @Test
+    void testGzipVariantSkippedWhenNotSmaller() {
+        MemoryCache cache = MemoryCache.create(builder -> builder.gzip(true));
+        StaticContentHandler handler = handler(cache);
+        byte[] random = new byte[1024];
+        new Random(42).nextBytes(random);
+
+        CachedHandlerInMemory cached = cache.cache(handler, "random", random.length, () -> inMemory(random))
+                .orElseThrow();
+
+        assertThat(cached.gzipContent(), nullValue());
+    }
+
+    @Test
+    void testAcceptsGzip() {
+        assertThat(CachedHandlerInMemory.acceptsGzip(acceptEncoding(null)), is(false));
+        assertThat(CachedHandlerInMemory.acceptsGzip(acceptEncoding("gzip")), is(true));
+        assertThat(CachedHandlerInMemory.acceptsGzip(acceptEncoding("br;q=1.0, gzip;q=0.8, *;q=0.1")), is(true));
+        assertThat(CachedHandlerInMemory.acceptsGzip(acceptEncoding("deflate, br")), is(false));
+        assertThat(CachedHandlerInMemory.acceptsGzip(acceptEncoding("gzip;q=0")), is(false));
+    }
+
+    private static ServerRequestHeaders acceptEncoding(String value) {
+        WritableHeaders<?> headers = WritableHeaders.create();
+        if (value != null) {
+            headers.set(HeaderValues.create(HeaderNames.ACCEPT_ENCODING, value));
+        }
+        return ServerRequestHeaders.create(headers);
+    }
+
+    private static StaticContentHandler handler(MemoryCache cache) {
+        return (StaticContentHandler) StaticContentFeature.createService(ClasspathHandlerConfig.builder()
+                                                                                 .location("/web")
+                                                                                 .memoryCache(cache)
+                                                                                 .build());
+    }
+
+    private static byte[] bytes() {
+        return TEXT.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static CachedHandlerInMemory inMemory(byte[] bytes) {
+        return new CachedHandlerInMemory(MediaTypes.TEXT_PLAIN,
+                                         null,
+                                         null,
+                                         bytes,
+                                         bytes.length,
+                                         HeaderValues.create(HeaderNames.CONTENT_LENGTH, bytes.length));
+    }
+}
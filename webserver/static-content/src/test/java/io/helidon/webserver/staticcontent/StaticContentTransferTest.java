@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.webserver.staticcontent;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import io.helidon.common.testing.http.junit5.HttpHeaderMatcher;
+import io.helidon.http.HeaderNames;
+import io.helidon.http.Status;
+import io.helidon.webclient.http1.Http1Client;
+import io.helidon.webclient.http1.Http1ClientResponse;
+import io.helidon.webserver.http.HttpRouting;
+import io.helidon.webserver.testing.junit5.ServerTest;
+import io.helidon.webserver.testing.junit5.SetUpRoute;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static io.helidon.webserver.staticcontent.StaticContentFeature.createService;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+/*
+ * Files are transferred directly to the socket when served over a real (plain text) connection.
+ */
+@ServerTest
+class StaticContentTransferTest {
+    private static final byte[] CONTENT = content(1024 * 1024 + 17);
+
+    @TempDir
+    static Path tempDir;
+
+    private final Http1Client client;
+
+    StaticContentTransferTest(Http1Client client) {
+        this.client = client;
+    }
+
+    @SetUpRoute
+    static void setupRouting(HttpRouting.Builder builder) throws Exception {
+        Files.write(tempDir.resolve("bundle.js"), CONTENT);
+
+        builder.register("/path", createService(FileSystemHandlerConfig.create(tempDir)));
+    }
+
+    @Test
+    void testFullFile() {
+        try (Http1ClientResponse response = client.get("/path/bundle.js")
+                .request()) {
+
+            assertThat(response.status(), is(Status.OK_200));
+            assertThat(response.headers(), HttpHeaderMatcher.hasHeader(HeaderNames.CONTENT_LENGTH,
+                                                                        String.valueOf(CONTENT.length)));
+            assertThat(response.as(byte[].class), is(CONTENT));
+        }
+    }
+
+    @Test
+    void testRange() {
+        try (Http1ClientResponse response = client.get("/path/bundle.js")
+                .header(HeaderNames.RANGE, "bytes=1000-70999")
+                .request()) {
+
+            assertThat(response.status(), is(Status.PARTIAL_CONTENT_206));
+            assertThat(response.headers(), HttpHeaderMatcher.hasHeader(HeaderNames.CONTENT_RANGE,
+                                                                        "bytes 1000-70999/" + CONTENT.length));
+            assertThat(response.as(byte[].class), is(Arrays.copyOfRange(CONTENT, 1000, 71000)));
+        }
+    }
+
+    @Test
+    void testKeepAliveAfterTransfer() {
+        // connection must stay usable after the file was written directly to the socket
+        for (int i = 0; i < 3; i++) {
+            try (Http1ClientResponse response = client.get("/path/bundle.js")
+                    .header(HeaderNames.RANGE, "bytes=-10")
+                    .request()) {
+
+                assertThat(response.status(), is(Status.PARTIAL_CONTENT_206));
+                assertThat(response.as(byte[].class), is(Arrays.copyOfRange(CONTENT, CONTENT.length - 10, CONTENT.length)));
+            }
+        }
+    }
+
+    private static byte[] content(int size) {
+        byte[] result = new byte[size];
+        for (int i = 0; i < size; i++) {
+            result[i] = (byte) (i % 251);
+        }
+        return result;
+    }
+}
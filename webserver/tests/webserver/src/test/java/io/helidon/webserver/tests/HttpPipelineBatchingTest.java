@@ -0,0 +1,119 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.webserver.tests;
+
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+
+import io.helidon.common.testing.http.junit5.SocketHttpClient;
+import io.helidon.http.Method;
+import io.helidon.webserver.WebServerConfig;
+import io.helidon.webserver.http.HttpRules;
+import io.helidon.webserver.http1.Http1Config;
+import io.helidon.webserver.http1.Http1ConnectionSelector;
+import io.helidon.webserver.testing.junit5.ServerTest;
+import io.helidon.webserver.testing.junit5.SetUpRoute;
+import io.helidon.webserver.testing.junit5.SetUpServer;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.containsString;
+import static org.hamcrest.CoreMatchers.endsWith;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+/**
+ * Test batching of responses to pipelined requests.
+ */
+@ServerTest
+class HttpPipelineBatchingTest {
+    private static final String GET_REQUEST = "GET /get?n=%d HTTP/1.1\r\nHost: localhost\r\n\r\n";
+
+    private final SocketHttpClient socketHttpClient;
+
+    HttpPipelineBatchingTest(SocketHttpClient socketHttpClient) {
+        this.socketHttpClient = socketHttpClient;
+    }
+
+    @SetUpServer
+    static void server(WebServerConfig.Builder builder) {
+        builder.addConnectionSelector(Http1ConnectionSelector.builder()
+                                              .config(Http1Config.builder()
+                                                              .batchPipelinedResponses(true)
+                                                              .build())
+                                              .build());
+    }
+
+    @SetUpRoute
+    static void routing(HttpRules rules) {
+        rules.get("/get", (req, res) -> res.send("Response " + req.query().get("n")))
+                .get("/stream", (req, res) -> {
+                    try (OutputStream out = res.outputStream()) {
+                        out.write("Streamed".getBytes(StandardCharsets.UTF_8));
+                    }
+                })
+                .post("/post", (req, res) -> res.send("Posted " + req.content().as(String.class)));
+    }
+
+    @Test
+    void testPipelinedResponsesInOrder() {
+        StringBuilder requests = new StringBuilder();
+        for (int i = 0; i < 20; i++) {
+            requests.append(GET_REQUEST.formatted(i));
+        }
+        socketHttpClient.requestRaw(requests.toString());
+
+        for (int i = 0; i < 20; i++) {
+            assertThat(socketHttpClient.receive(), endsWith("Response " + i));
+        }
+    }
+
+    @Test
+    void testPipelinedWithEntityAndStreaming() {
+        socketHttpClient.requestRaw(GET_REQUEST.formatted(1)
+                                            + "POST /post HTTP/1.1\r\nHost: localhost\r\nContent-Length: 5\r\n\r\nhello"
+                                            + GET_REQUEST.formatted(2)
+                                            + "GET /stream HTTP/1.1\r\nHost: localhost\r\n\r\n"
+                                            + GET_REQUEST.formatted(3));
+
+        assertThat(socketHttpClient.receive(), endsWith("Response 1"));
+        assertThat(socketHttpClient.receive(), endsWith("Posted hello"));
+        assertThat(socketHttpClient.receive(), endsWith("Response 2"));
+        assertThat(socketHttpClient.receive(), containsString("Streamed"));
+        assertThat(socketHttpClient.receive(), endsWith("Response 3"));
+    }
+
+    @Test
+    void testPartialPipelinedRequest() {
+        String second = GET_REQUEST.formatted(2);
+        int split = second.length() / 2;
+        // the client waits for the first response before it sends the rest of the second request
+        socketHttpClient.requestRaw(GET_REQUEST.formatted(1) + second.substring(0, split));
+        assertThat(socketHttpClient.receive(), endsWith("Response 1"));
+
+        socketHttpClient.requestRaw(second.substring(split));
+        assertThat(socketHttpClient.receive(), endsWith("Response 2"));
+    }
+
+    @Test
+    void testNotPipelined() {
+        // a single request on a connection must not wait for more requests
+        for (int i = 0; i < 3; i++) {
+            String response = socketHttpClient.sendAndReceive(Method.GET, "/get?n=" + i, null);
+            assertThat(response, endsWith("Response " + i));
+        }
+    }
+}
@@ -34,9 +34,11 @@ import javax.net.ssl.SSLParameters;
 import javax.net.ssl.SSLSocket;
 
 import io.helidon.common.buffers.BufferData;
+import io.helidon.common.buffers.BufferPool;
 import io.helidon.common.buffers.Bytes;
 import io.helidon.common.buffers.DataReader;
 import io.helidon.common.buffers.DataWriter;
+import io.helidon.common.buffers.PooledDataSupplier;
 import io.helidon.common.concurrency.limits.Limit;
 import io.helidon.common.concurrency.limits.LimitAlgorithm;
 import io.helidon.common.socket.HelidonSocket;
@@ -77,6 +79,7 @@ class ConnectionHandler implements InterruptableTask<Void>, ConnectionContext {
     private final Router router;
     private final Tls tls;
     private final ListenerConfig listenerConfig;
+    private final BufferPool readBufferPool;
 
     private ServerConnection connection;
     private HelidonSocket helidonSocket;
@@ -92,7 +95,8 @@ class ConnectionHandler implements InterruptableTask<Void>, ConnectionContext {
                       SocketChannel socket,
                       String serverChannelId,
                       Router router,
-                      Tls tls) {
+                      Tls tls,
+                      BufferPool readBufferPool) {
         this.listenerContext = listenerContext;
         this.limitToken = limitToken;
         this.requestLimit = requestLimit;
@@ -104,6 +108,7 @@ class ConnectionHandler implements InterruptableTask<Void>, ConnectionContext {
         this.router = router;
         this.tls = tls;
         this.listenerConfig = listenerContext.config();
+        this.readBufferPool = readBufferPool;
     }
 
     @Override
@@ -133,11 +138,16 @@ class ConnectionHandler implements InterruptableTask<Void>, ConnectionContext {
         try {
             helidonSocket = createSocket(tls, socket, channelId);
 
-            reader = DataReader.create(new MapExceptionDataSupplier(helidonSocket));
+            if (readBufferPool != null && helidonSocket instanceof PlainSocket plainSocket) {
+                reader = DataReader.create(new MapExceptionPooledDataSupplier(plainSocket), readBufferPool, false);
+            } else {
+                reader = DataReader.create(new MapExceptionDataSupplier(helidonSocket));
+            }
             writer = SocketWriter.create(listenerContext.executor(),
                                          helidonSocket,
                                          listenerConfig.writeQueueLength(),
-                                         listenerConfig.smartAsyncWrites());
+                                         listenerConfig.smartAsyncWrites(),
+                                         listenerConfig.lockFreeAsyncWrites());
         } catch (RuntimeException e) {
             // these exceptions are thrown to the executor service
             if (LOGGER.isLoggable(TRACE)) {
@@ -452,4 +462,21 @@ class ConnectionHandler implements InterruptableTask<Void>, ConnectionContext {
             }
         }
     }
+
+    private static class MapExceptionPooledDataSupplier implements PooledDataSupplier {
+        private final PlainSocket plainSocket;
+
+        private MapExceptionPooledDataSupplier(PlainSocket plainSocket) {
+            this.plainSocket = plainSocket;
+        }
+
+        @Override
+        public int read(byte[] buffer) {
+            try {
+                return plainSocket.read(buffer);
+            } catch (UncheckedIOException e) {
+                throw new ServerConnectionException("Failed to get data from socket", e);
+            }
+        }
+    }
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2021, 2023 Oracle and/or its affiliates.
+ * Copyright (c) 2021, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -128,6 +128,8 @@ public interface KeyPerformanceIndicatorSupport {
 
     /**
      * Key performance indicator metrics behavior.
+     * The metrics in use are registered in the {@link io.helidon.webserver.WebServer#context() server context},
+     * so protocol implementations can report events that are not bound to a request.
      */
     interface Metrics {
 
@@ -158,6 +160,20 @@ public interface KeyPerformanceIndicatorSupport {
         default void onRequestCompleted(boolean isSuccessful, long processingTimeMs) {
         }
 
+        /**
+         * Invoked when a stream was reset by the server, as the client abandoned it (such as an HTTP/2 stream
+         * left half-closed for too long).
+         */
+        default void onStreamReaped() {
+        }
+
+        /**
+         * Invoked when a connection was closed by the server, as the client stopped responding (such as
+         * an HTTP/2 connection with an unacknowledged keepalive ping).
+         */
+        default void onConnectionReaped() {
+        }
+
         /**
          * Clear (particularly for between tests in the same JVM).
          */
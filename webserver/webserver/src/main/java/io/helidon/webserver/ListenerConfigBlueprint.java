@@ -179,6 +179,17 @@ interface ListenerConfigBlueprint {
     @Option.DefaultBoolean(false)
     boolean smartAsyncWrites();
 
+    /**
+     * If enabled and {@link #writeQueueLength()} is greater than 1, asynchronous writes use a lock-free
+     * write queue instead of a blocking queue. This reduces contention when many threads write to the same
+     * connection, such as concurrent HTTP/2 streams. Takes precedence over {@link #smartAsyncWrites()}.
+     *
+     * @return whether to use lock-free async writes
+     */
+    @Option.Configured
+    @Option.DefaultBoolean(false)
+    boolean lockFreeAsyncWrites();
+
     /**
      * Initial buffer size in bytes of {@link java.io.BufferedOutputStream} created internally to
      * write data to a socket connection. Default is {@code 4096}. Set buffer size to a value
@@ -190,6 +201,19 @@ interface ListenerConfigBlueprint {
     @Option.DefaultInt(4096)
     int writeBufferSize();
 
+    /**
+     * Whether to read socket data into buffers leased from a listener-wide buffer pool, instead of allocating
+     * a new array for each socket read. Buffers are returned to the pool once the data is consumed and no longer
+     * referenced (e.g. after prologue and headers of a request without an entity are parsed).
+     * This reduces allocation rate for small requests on keep-alive connections.
+     * Only used with blocking socket implementations (plain and TLS sockets).
+     *
+     * @return whether to use pooled read buffers
+     */
+    @Option.Configured
+    @Option.DefaultBoolean(false)
+    boolean pooledReadBuffers();
+
     /**
      * Grace period in ISO 8601 duration format to allow running tasks to complete before listener's shutdown.
      * Default is {@code 500} milliseconds.
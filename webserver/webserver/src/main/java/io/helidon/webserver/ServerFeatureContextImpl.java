@@ -434,6 +434,12 @@ class ServerFeatureContextImpl implements ServerFeature.ServerFeatureContext {
             return this;
         }
 
+        @Override
+        public HttpRouting.Builder compiledRouting(boolean compiledRouting) {
+            delegate.compiledRouting(compiledRouting);
+            return this;
+        }
+
         @Override
         public HttpRouting.Builder copy() {
             delegate.copy();
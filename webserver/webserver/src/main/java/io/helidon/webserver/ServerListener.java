@@ -45,6 +45,7 @@ import javax.net.ssl.SSLParameters;
 
 import io.helidon.common.HelidonServiceLoader;
 import io.helidon.common.LazyValue;
+import io.helidon.common.buffers.BufferPool;
 import io.helidon.common.concurrency.limits.FixedLimit;
 import io.helidon.common.concurrency.limits.Limit;
 import io.helidon.common.concurrency.limits.LimitAlgorithm;
@@ -68,6 +69,9 @@ import static java.lang.System.Logger.Level.WARNING;
 
 class ServerListener implements ListenerContext {
     private static final System.Logger LOGGER = System.getLogger(ServerListener.class.getName());
+    // same as the read buffer of a plain socket
+    private static final int READ_BUFFER_SIZE = 8 * 1024;
+    private static final int READ_BUFFERS_PER_STRIPE = 32;
 
     @SuppressWarnings("rawtypes")
     private static final LazyValue<List<ServerConnectionSelectorProvider>> SELECTOR_PROVIDERS = LazyValue.create(() ->
@@ -91,6 +95,8 @@ class ServerListener implements ListenerContext {
     private final Limit connectionLimit;
     private final Limit requestLimit;
     private final Map<String, ServerConnection> activeConnections = new ConcurrentHashMap<>();
+    // null if pooled read buffers are disabled
+    private final BufferPool readBufferPool;
 
     private volatile boolean running;
     private volatile boolean inCheckpoint;
@@ -160,6 +166,9 @@ class ServerListener implements ListenerContext {
                 .parent(serverContext)
                 .build());
         this.gracePeriod = listenerConfig.shutdownGracePeriod();
+        this.readBufferPool = listenerConfig.pooledReadBuffers()
+                ? BufferPool.create(READ_BUFFER_SIZE, READ_BUFFERS_PER_STRIPE)
+                : null;
 
         initServerThread();
 
@@ -357,7 +366,9 @@ class ServerListener implements ListenerContext {
                     LOGGER.log(System.Logger.Level.TRACE, "[" + serverChannelId + "] direct writes");
                 } else {
                     LOGGER.log(System.Logger.Level.TRACE,
-                               "[" + serverChannelId + "] async writes, queue length: " + listenerConfig.writeQueueLength());
+                               "[" + serverChannelId + "] "
+                                       + (listenerConfig.lockFreeAsyncWrites() ? "lock-free " : "")
+                                       + "async writes, queue length: " + listenerConfig.writeQueueLength());
                 }
                 if (tls.enabled()) {
                     debugTls(serverChannelId, tls);
@@ -420,7 +431,8 @@ class ServerListener implements ListenerContext {
                                                                           socket,
                                                                           serverChannelId,
                                                                           router,
-                                                                          tls);
+                                                                          tls,
+                                                                          readBufferPool);
                         readerExecutor.execute(handler);
                     } catch (RejectedExecutionException e) {
                         LOGGER.log(ERROR, "Executor rejected handler for new connection", e);
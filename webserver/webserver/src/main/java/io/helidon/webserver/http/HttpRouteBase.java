@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022, 2023 Oracle and/or its affiliates.
+ * Copyright (c) 2022, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,6 +16,7 @@
 
 package io.helidon.webserver.http;
 
+import java.util.Iterator;
 import java.util.List;
 
 import io.helidon.http.HttpPrologue;
@@ -30,6 +31,16 @@ abstract class HttpRouteBase implements HttpRoute {
         throw new IllegalStateException("This is not a list route");
     }
 
+    /**
+     * Routes of this list route that may accept the provided prologue, in order of registration.
+     *
+     * @param prologue prologue with the path relative to this list route
+     * @return iterator of routes to try
+     */
+    Iterator<HttpRouteBase> routes(HttpPrologue prologue) {
+        throw new IllegalStateException("This is not a list route");
+    }
+
     boolean isList() {
         return false;
     }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022, 2024 Oracle and/or its affiliates.
+ * Copyright (c) 2022, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -463,6 +463,24 @@ public interface HttpRouting extends Routing, Prototype.Api {
          */
         Builder security(HttpSecurity security);
 
+        /**
+         * Whether to compile the routing table when this routing is built.
+         * <p>
+         * Compiled routing indexes routes by HTTP method and by path segments, so only routes that may match a request
+         * are tried, instead of trying each route in order. Exact, prefix and path parameter ({@code {name}}) patterns
+         * are indexed; routes with custom regular expressions, optional sections, or custom {@link HttpRoute}
+         * implementations are always tried. Order of routes (and first-match semantics) is the same as without
+         * compilation.
+         * <p>
+         * Defaults to {@code false}.
+         *
+         * @param compiledRouting whether to use compiled routing
+         * @return updated builder
+         */
+        default Builder compiledRouting(boolean compiledRouting) {
+            return this;
+        }
+
         /**
          * Create a copy of this builder that has the same routes, but is not backed by the same lists/maps.
          * Modifications to the routes of the copy will not modify routes of this builder.
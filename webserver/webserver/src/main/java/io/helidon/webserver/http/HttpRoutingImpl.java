@@ -47,7 +47,8 @@ final class HttpRoutingImpl implements HttpRouting {
     HttpRoutingImpl(RealBuilder builder) {
         ErrorHandlers errorHandlers = ErrorHandlers.create(builder.errorHandlers);
         this.filters = Filters.create(errorHandlers, List.copyOf(builder.filters));
-        this.rootRoute = builder.rootRules.build();
+        ServiceRoute root = builder.rootRules.build();
+        this.rootRoute = builder.compiledRouting ? root.compile() : root;
         this.features = List.copyOf(builder.features);
         this.maxReRouteCount = builder.maxReRouteCount;
         this.security = builder.security;
@@ -222,15 +223,21 @@ final class HttpRoutingImpl implements HttpRouting {
         private final HttpRoutingFeature mainRouting = new HttpRoutingFeature();
         private HttpSecurity security = HttpSecurity.create();
         private int maxReRouteCount = 10;
+        private boolean compiledRouting;
 
         private BuilderImpl() {
         }
 
-        private BuilderImpl(List<HttpFeature> features, HttpRoutingFeature mainRouting, HttpSecurity security, int maxReroute) {
+        private BuilderImpl(List<HttpFeature> features,
+                            HttpRoutingFeature mainRouting,
+                            HttpSecurity security,
+                            int maxReroute,
+                            boolean compiledRouting) {
             this.features.addAll(features);
             this.mainRouting.copyFrom(mainRouting);
             this.security = security;
             this.maxReRouteCount = maxReroute;
+            this.compiledRouting = compiledRouting;
         }
 
         @Override
@@ -243,7 +250,8 @@ final class HttpRoutingImpl implements HttpRouting {
 
             RealBuilder realBuilder = new RealBuilder(features,
                 security,
-                maxReRouteCount);
+                maxReRouteCount,
+                compiledRouting);
 
             // now we need to do the final setup in the correct order
             for (HttpFeature feature : features) {
@@ -305,9 +313,15 @@ final class HttpRoutingImpl implements HttpRouting {
             return this;
         }
 
+        @Override
+        public Builder compiledRouting(boolean compiledRouting) {
+            this.compiledRouting = compiledRouting;
+            return this;
+        }
+
         @Override
         public Builder copy() {
-            return new BuilderImpl(features, mainRouting, security, maxReRouteCount);
+            return new BuilderImpl(features, mainRouting, security, maxReRouteCount, compiledRouting);
         }
     }
 
@@ -319,15 +333,18 @@ final class HttpRoutingImpl implements HttpRouting {
 
         private HttpSecurity security;
         private int maxReRouteCount;
+        private boolean compiledRouting;
 
         private RealBuilder(List<HttpFeature> features,
             HttpSecurity security,
-            int maxReRouteCount) {
+            int maxReRouteCount,
+            boolean compiledRouting) {
 
             // we need a new instance, as features may add additional features
             this.features = new ArrayList<>(features);
             this.security = security;
             this.maxReRouteCount = maxReRouteCount;
+            this.compiledRouting = compiledRouting;
         }
 
         @Override
@@ -385,6 +402,12 @@ final class HttpRoutingImpl implements HttpRouting {
             return this;
         }
 
+        @Override
+        public Builder compiledRouting(boolean compiledRouting) {
+            this.compiledRouting = compiledRouting;
+            return this;
+        }
+
         @Override
         public Builder copy() {
             throw new UnsupportedOperationException("This builder should only be used internally by Helidon and never copied");
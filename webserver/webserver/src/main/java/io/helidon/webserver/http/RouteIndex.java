@@ -0,0 +1,258 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.webserver.http;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import io.helidon.common.uri.UriPath;
+import io.helidon.http.Method;
+import io.helidon.http.MethodPredicate;
+import io.helidon.http.PathMatcher;
+import io.helidon.http.PathMatchers;
+
+/**
+ * Compiled index of a list of routes.
+ * <p>
+ * Routes are indexed by method and by path segments (a segment trie, where literal segments are looked up in a map,
+ * and path parameters are a wildcard child of a node). A lookup returns candidate routes in their registration order,
+ * so first-match semantics are kept - each candidate is still validated by its own matcher. Routes that cannot be
+ * described by a {@link io.helidon.http.PathMatchers.Template} (custom regular expressions, custom route
+ * implementations) are always candidates.
+ */
+final class RouteIndex {
+    private static final int[] NO_ROUTES = new int[0];
+
+    private final HttpRouteBase[] routes;
+    private final int[] alwaysCandidates;
+    private final Node anyMethod;
+    private final Map<Method, Node> byMethod;
+
+    private RouteIndex(HttpRouteBase[] routes, int[] alwaysCandidates, Node anyMethod, Map<Method, Node> byMethod) {
+        this.routes = routes;
+        this.alwaysCandidates = alwaysCandidates;
+        this.anyMethod = anyMethod;
+        this.byMethod = byMethod;
+    }
+
+    static RouteIndex create(List<HttpRouteBase> routes) {
+        HttpRouteBase[] routeArray = routes.toArray(new HttpRouteBase[0]);
+        int[] alwaysCandidates = NO_ROUTES;
+        Node anyMethod = new Node();
+        Map<Method, Node> byMethod = new HashMap<>();
+
+        for (int i = 0; i < routeArray.length; i++) {
+            HttpRouteBase route = routeArray[i];
+            PathMatchers.Template template = template(route);
+            if (template == null) {
+                alwaysCandidates = append(alwaysCandidates, i);
+                continue;
+            }
+            Set<Method> methods = methods(route);
+            if (methods.isEmpty()) {
+                anyMethod.add(template, 0, i);
+            } else {
+                for (Method method : methods) {
+                    byMethod.computeIfAbsent(method, it -> new Node())
+                            .add(template, 0, i);
+                }
+            }
+        }
+
+        return new RouteIndex(routeArray, alwaysCandidates, anyMethod, byMethod);
+    }
+
+    /**
+     * Candidate routes for the method and path, in order of registration.
+     *
+     * @param method request method
+     * @param path   path to match
+     * @return iterator of routes that may accept the request
+     */
+    Iterator<HttpRouteBase> candidates(Method method, UriPath path) {
+        String[] segments = segments(path.path());
+        Candidates found = new Candidates(alwaysCandidates);
+        anyMethod.collect(segments, 0, found);
+        Node methodNode = byMethod.get(method);
+        if (methodNode != null) {
+            methodNode.collect(segments, 0, found);
+        }
+        return found.iterator(routes);
+    }
+
+    private static PathMatchers.Template template(HttpRouteBase route) {
+        // only routes with known semantics of accepts can be indexed
+        if (route instanceof HttpRouteImpl impl) {
+            return impl.pathMatcher()
+                    .flatMap(PathMatcher::template)
+                    .orElse(null);
+        }
+        if (route instanceof ServiceRoute service) {
+            // service routes use prefix matching
+            return service.pathMatcher()
+                    .flatMap(PathMatcher::template)
+                    .map(RouteIndex::prefixTemplate)
+                    .orElse(null);
+        }
+        return null;
+    }
+
+    private static PathMatchers.Template prefixTemplate(PathMatchers.Template template) {
+        List<String> segments = template.segments();
+        if (!segments.isEmpty() && segments.getLast().isEmpty()) {
+            // trailing slash (or root) - anything below is a candidate
+            segments = segments.subList(0, segments.size() - 1);
+        }
+        return new PathMatchers.Template(segments, true);
+    }
+
+    private static Set<Method> methods(HttpRouteBase route) {
+        Predicate<Method> predicate;
+        if (route instanceof HttpRouteImpl impl) {
+            predicate = impl.methodPredicate();
+        } else if (route instanceof ServiceRoute service) {
+            predicate = service.methodPredicate();
+        } else {
+            return Set.of();
+        }
+        if (predicate instanceof MethodPredicate methodPredicate) {
+            // empty set means any method
+            return methodPredicate.acceptedMethods();
+        }
+        return Set.of();
+    }
+
+    private static String[] segments(String path) {
+        if (path.isEmpty() || path.equals("/")) {
+            return new String[] {""};
+        }
+        int start = path.charAt(0) == '/' ? 1 : 0;
+        return path.substring(start).split("/", -1);
+    }
+
+    private static int[] append(int[] array, int value) {
+        int[] result = Arrays.copyOf(array, array.length + 1);
+        result[array.length] = value;
+        return result;
+    }
+
+    private static final class Node {
+        private final Map<String, Node> literals = new HashMap<>();
+        private Node parameter;
+        // routes that end exactly at this node
+        private int[] terminal = NO_ROUTES;
+        // routes that accept any remaining segments from this node
+        private int[] remainder = NO_ROUTES;
+
+        private void add(PathMatchers.Template template, int segmentIndex, int routeIndex) {
+            List<String> segments = template.segments();
+            if (segmentIndex == segments.size()) {
+                if (template.prefix()) {
+                    remainder = append(remainder, routeIndex);
+                } else {
+                    terminal = append(terminal, routeIndex);
+                }
+                return;
+            }
+            String segment = segments.get(segmentIndex);
+            Node child;
+            if (PathMatchers.Template.PARAMETER.equals(segment)) {
+                if (parameter == null) {
+                    parameter = new Node();
+                }
+                child = parameter;
+            } else {
+                child = literals.computeIfAbsent(segment, it -> new Node());
+            }
+            child.add(template, segmentIndex + 1, routeIndex);
+        }
+
+        private void collect(String[] segments, int segmentIndex, Candidates found) {
+            found.add(remainder);
+            if (segmentIndex == segments.length) {
+                found.add(terminal);
+                return;
+            }
+            Node literal = literals.get(segments[segmentIndex]);
+            if (literal != null) {
+                literal.collect(segments, segmentIndex + 1, found);
+            }
+            if (parameter != null) {
+                parameter.collect(segments, segmentIndex + 1, found);
+            }
+        }
+    }
+
+    private static final class Candidates {
+        private int[] indices;
+        private int size;
+
+        private Candidates(int[] initial) {
+            this.indices = Arrays.copyOf(initial, Math.max(initial.length, 4));
+            this.size = initial.length;
+        }
+
+        private void add(int[] toAdd) {
+            if (toAdd.length == 0) {
+                return;
+            }
+            if (size + toAdd.length > indices.length) {
+                indices = Arrays.copyOf(indices, Math.max(indices.length * 2, size + toAdd.length));
+            }
+            System.arraycopy(toAdd, 0, indices, size, toAdd.length);
+            size += toAdd.length;
+        }
+
+        private Iterator<HttpRouteBase> iterator(HttpRouteBase[] routes) {
+            // each route is stored in a single node of a single tree, so there are no duplicates
+            Arrays.sort(indices, 0, size);
+            return new CandidateIterator(routes, indices, size);
+        }
+    }
+
+    private static final class CandidateIterator implements Iterator<HttpRouteBase> {
+        private final HttpRouteBase[] routes;
+        private final int[] indices;
+        private final int size;
+        private int position;
+
+        private CandidateIterator(HttpRouteBase[] routes, int[] indices, int size) {
+            this.routes = routes;
+            this.indices = indices;
+            this.size = size;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return position < size;
+        }
+
+        @Override
+        public HttpRouteBase next() {
+            if (position >= size) {
+                throw new NoSuchElementException();
+            }
+            return routes[indices[position++]];
+        }
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022, 2025 Oracle and/or its affiliates.
+ * Copyright (c) 2022, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,7 +16,13 @@
 
 package io.helidon.webserver.http;
 
+import java.io.EOFException;
+import java.io.IOException;
 import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
 import java.util.Arrays;
 import java.util.Optional;
 import java.util.function.Consumer;
@@ -127,6 +133,40 @@ public interface ServerResponse {
         send(Arrays.copyOfRange(bytes, position, length));
     }
 
+    /**
+     * Send a region of a file as the response entity.
+     * <p>
+     * Implementations may transfer the bytes directly from the file to the connection (such as using {@code sendfile}),
+     * when the connection is not encrypted and the entity is not modified on its way (no content encoding,
+     * stream filter, or trailers). Otherwise the bytes are written to {@link #outputStream()}.
+     * <p>
+     * If content length is not configured, it is set to {@code length}.
+     *
+     * @param file     file channel to read from, the channel is not closed by this method
+     * @param position position in the file of the first byte to send
+     * @param length   number of bytes to send
+     */
+    default void send(FileChannel file, long position, long length) {
+        if (!headers().contains(HeaderNames.CONTENT_LENGTH)) {
+            contentLength(length);
+        }
+        try (OutputStream out = outputStream()) {
+            WritableByteChannel target = Channels.newChannel(out);
+            long current = position;
+            long end = position + length;
+            while (current < end) {
+                long transferred = file.transferTo(current, end - current, target);
+                if (transferred == 0 && current >= file.size()) {
+                    throw new EOFException("File was truncated, expected " + length + " bytes from position " + position
+                                                   + ", but file size is " + file.size());
+                }
+                current += transferred;
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
     /**
      * Send an entity, a {@link io.helidon.http.media.MediaContext} will be used to serialize the entity.
      *
@@ -283,6 +283,19 @@ public abstract class ServerResponseBase<T extends ServerResponseBase<T>> implem
         return outputStream;
     }
 
+    /**
+     * Whether the entity of this response would be modified by a content encoder, i.e. content encoding is enabled,
+     * the response does not have a {@code Content-Encoding} header, and the request accepts an encoding other than
+     * {@code identity}.
+     *
+     * @return whether the entity would be encoded
+     */
+    protected boolean contentEncoded() {
+        return contentEncodingContext.contentEncodingEnabled()
+                && !headers().contains(HeaderNames.CONTENT_ENCODING)
+                && contentEncodingContext.encoder(requestHeaders) != ContentEncoder.NO_OP;
+    }
+
     /**
      * Execute before send runnables.
      */
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022, 2025 Oracle and/or its affiliates.
+ * Copyright (c) 2022, 2026 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,6 +16,8 @@
 
 package io.helidon.webserver.http;
 
+import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Optional;
 import java.util.function.Predicate;
@@ -32,15 +34,26 @@ class ServiceRoute extends HttpRouteBase implements HttpRoute {
     private final Predicate<Method> methodPredicate;
     private final PathMatcher pathMatcher;
     private final List<HttpRouteBase> routes;
+    // null unless compiled routing is enabled
+    private final RouteIndex index;
 
     ServiceRoute(HttpService theService,
                  Predicate<Method> methodPredicate,
                  PathMatcher pathMatcher,
                  List<HttpRouteBase> routes) {
+        this(theService, methodPredicate, pathMatcher, routes, null);
+    }
+
+    private ServiceRoute(HttpService theService,
+                         Predicate<Method> methodPredicate,
+                         PathMatcher pathMatcher,
+                         List<HttpRouteBase> routes,
+                         RouteIndex index) {
         this.theService = theService;
         this.methodPredicate = methodPredicate;
         this.pathMatcher = pathMatcher;
         this.routes = routes;
+        this.index = index;
     }
 
     @Override
@@ -90,6 +103,14 @@ class ServiceRoute extends HttpRouteBase implements HttpRoute {
         return routes;
     }
 
+    @Override
+    Iterator<HttpRouteBase> routes(HttpPrologue prologue) {
+        if (index == null) {
+            return routes.iterator();
+        }
+        return index.candidates(prologue.method(), prologue.uriPath());
+    }
+
     @Override
     boolean isList() {
         return true;
@@ -100,7 +121,33 @@ class ServiceRoute extends HttpRouteBase implements HttpRoute {
         return Optional.of(pathMatcher);
     }
 
+    Predicate<Method> methodPredicate() {
+        return methodPredicate;
+    }
+
+    /**
+     * Create a copy of this route (and all nested service routes) that uses a compiled route index to find
+     * candidate routes, instead of trying each route in order.
+     *
+     * @return compiled service route
+     */
+    ServiceRoute compile() {
+        List<HttpRouteBase> compiledRoutes = new ArrayList<>(routes.size());
+        for (HttpRouteBase route : routes) {
+            if (route instanceof ServiceRoute serviceRoute) {
+                compiledRoutes.add(serviceRoute.compile());
+            } else {
+                compiledRoutes.add(route);
+            }
+        }
+        return new ServiceRoute(theService,
+                                methodPredicate,
+                                pathMatcher,
+                                compiledRoutes,
+                                RouteIndex.create(compiledRoutes));
+    }
+
     RouteCrawler crawler(ConnectionContext ctx, RoutingRequest request) {
-        return new RouteCrawler(ctx, request, routes);
+        return new RouteCrawler(ctx, request, routes(request.prologue()));
     }
 }
@@ -151,6 +151,22 @@ interface Http1ConfigBlueprint extends ProtocolConfig {
     @Option.DefaultBoolean(false)
     boolean continueImmediately();
 
+    /**
+     * Whether to batch responses to pipelined requests.
+     * When enabled, the connection processes requests that are already received (pipelined by the client) before
+     * writing responses, and writes the responses of such requests to the socket at once, in the order of requests.
+     * Responses are written as soon as there are no more received requests, when a request with an entity is received,
+     * or when a response entity is streamed.
+     * <p>
+     * This reduces the number of socket writes for clients (and load balancers) that pipeline small requests,
+     * at the cost of delaying responses until all received requests are processed.
+     *
+     * @return whether to batch responses to pipelined requests, defaults to {@code false}
+     */
+    @Option.Configured
+    @Option.DefaultBoolean(false)
+    boolean batchPipelinedResponses();
+
     /**
      * Requested URI discovery settings.
      *
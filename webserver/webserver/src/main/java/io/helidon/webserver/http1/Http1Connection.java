@@ -95,6 +95,8 @@ public class Http1Connection implements ServerConnection, InterruptableTask<Void
     private final long maxPayloadSize;
     private final Http1ConnectionListener recvListener;
     private final Http1ConnectionListener sendListener;
+    // only used when batching of pipelined responses is enabled, same instance as writer
+    private final Http1PipelinedWriter pipelinedWriter;
 
     // overall connection
     private int requestId;
@@ -118,7 +120,13 @@ public class Http1Connection implements ServerConnection, InterruptableTask<Void
                     Http1Config http1Config,
                     Map<String, Http1Upgrader> upgradeProviderMap) {
         this.ctx = ctx;
-        this.writer = ctx.dataWriter();
+        if (http1Config.batchPipelinedResponses()) {
+            this.pipelinedWriter = new Http1PipelinedWriter(ctx.dataWriter());
+            this.writer = pipelinedWriter;
+        } else {
+            this.pipelinedWriter = null;
+            this.writer = ctx.dataWriter();
+        }
         this.reader = ctx.dataReader();
         this.http1Config = http1Config;
         this.upgradeProviderMap = upgradeProviderMap;
@@ -126,6 +134,11 @@ public class Http1Connection implements ServerConnection, InterruptableTask<Void
         this.recvListener = http1Config.compositeReceiveListener();
         this.sendListener = http1Config.compositeSendListener();
         this.reader.listener(recvListener, ctx);
+        if (pipelinedWriter != null) {
+            // responses are written before any read that may block (the rest of a request may not be sent
+            // until the client receives the responses), requests already received are served first
+            this.reader.beforePull(this::flushPipelined);
+        }
         this.http1headers = new Http1Headers(reader, http1Config.maxHeadersSize(), http1Config.validateRequestHeaders());
         this.http1prologue = new Http1Prologue(reader, http1Config.maxPrologueLength(), http1Config.validatePath());
         this.contentEncodingContext = ctx.listenerContext().contentEncodingContext();
@@ -189,9 +202,12 @@ public class Http1Connection implements ServerConnection, InterruptableTask<Void
                     if (!upgradeHasEntity(headers)) {
                         Http1Upgrader upgrader = upgradeProviderMap.get(headers.get(HeaderNames.UPGRADE).get());
                         if (upgrader != null) {
+                            flushPipelined();
                             ServerConnection upgradeConnection = upgrader.upgrade(ctx, prologue, headers);
                             // upgrader may decide not to upgrade this connection
                             if (upgradeConnection != null) {
+                                // the reader is now used by the upgraded connection
+                                reader.beforePull(null);
                                 if (LOGGER.isLoggable(TRACE)) {
                                     LOGGER.log(TRACE, "Connection upgrade using " + upgradeConnection);
                                 }
@@ -230,7 +246,10 @@ public class Http1Connection implements ServerConnection, InterruptableTask<Void
                             .build();
                 }
             }
+            flushPipelined();
         } catch (CloseConnectionException e) {
+            // responses to previous requests must still be written
+            flushPipelinedBeforeClose();
             throw e;
         } catch (BadRequestException e) {
             handleRequestException(RequestException.builder()
@@ -285,6 +304,26 @@ public class Http1Connection implements ServerConnection, InterruptableTask<Void
         currentEntitySizeRead = 0;
     }
 
+    private void flushPipelined() {
+        if (pipelinedWriter != null) {
+            try {
+                pipelinedWriter.flushBatch();
+            } catch (SocketWriterException | UncheckedIOException e) {
+                throw new ServerConnectionException("Failed to write pipelined responses", e);
+            }
+        }
+    }
+
+    private void flushPipelinedBeforeClose() {
+        if (pipelinedWriter != null) {
+            try {
+                pipelinedWriter.flushBatch();
+            } catch (SocketWriterException | UncheckedIOException e) {
+                ctx.log(LOGGER, TRACE, "Failed to write pipelined responses before closing connection", e);
+            }
+        }
+    }
+
     /**
      * Only accept protocol upgrades if no entity is present. Otherwise, a successful
      * upgrade may result in the request entity interpreted as part of the new protocol
@@ -525,6 +564,15 @@ public class Http1Connection implements ServerConnection, InterruptableTask<Void
         }
         requestId++;
 
+        if (pipelinedWriter != null) {
+            if (entity == EntityStyle.NONE) {
+                pipelinedWriter.collect();
+            } else {
+                // reading the entity may block, and the client may expect 100-continue
+                flushPipelined();
+            }
+        }
+
         if (entity == EntityStyle.NONE) {
             Http1ServerRequest request = Http1ServerRequest.create(ctx,
                                                                    routing.security(),
@@ -754,6 +802,9 @@ public class Http1Connection implements ServerConnection, InterruptableTask<Void
         sendListener.data(ctx, buffer);
         try {
             writer.write(buffer);
+            if (pipelinedWriter != null) {
+                pipelinedWriter.flushBatch();
+            }
         } catch (SocketWriterException | UncheckedIOException writeException) {
             throw new ServerConnectionException("Failed to write request exception", writeException);
         }
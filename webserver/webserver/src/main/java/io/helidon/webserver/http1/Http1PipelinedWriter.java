@@ -0,0 +1,125 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.webserver.http1;
+
+import java.nio.channels.FileChannel;
+
+import io.helidon.common.buffers.BufferData;
+import io.helidon.common.buffers.CompositeBufferData;
+import io.helidon.common.buffers.DataWriter;
+
+/*
+ * Writer used by HTTP/1 connection when batching of pipelined responses is enabled.
+ * While collecting, buffers passed to write methods are added to a single composite buffer, which is written to the
+ * delegate in one write when flushed (connection does this before it may block reading the socket), or when it
+ * grows over the maximal batch size.
+ * Used only from the connection thread.
+ */
+final class Http1PipelinedWriter implements DataWriter {
+    // bigger batches do not save more system calls, and would delay the first response
+    static final int MAX_BATCH_SIZE = 64 * 1024;
+
+    private final DataWriter delegate;
+
+    private CompositeBufferData batch;
+    private boolean collecting;
+
+    Http1PipelinedWriter(DataWriter delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public void write(BufferData... buffers) {
+        for (BufferData buffer : buffers) {
+            write(buffer);
+        }
+    }
+
+    @Override
+    public void write(BufferData buffer) {
+        if (!collecting) {
+            delegate.write(buffer);
+            return;
+        }
+        if (batch == null) {
+            batch = BufferData.createComposite(buffer);
+        } else {
+            batch.add(buffer);
+        }
+        if (batch.available() >= MAX_BATCH_SIZE) {
+            writeBatch();
+        }
+    }
+
+    @Override
+    public void writeNow(BufferData... buffers) {
+        writeBatch();
+        delegate.writeNow(buffers);
+    }
+
+    @Override
+    public void writeNow(BufferData buffer) {
+        writeBatch();
+        delegate.writeNow(buffer);
+    }
+
+    @Override
+    public boolean supportsTransfer() {
+        return delegate.supportsTransfer();
+    }
+
+    @Override
+    public void transferNow(FileChannel file, long position, long length) {
+        writeBatch();
+        delegate.transferNow(file, position, length);
+    }
+
+    @Override
+    public void flush() {
+        writeBatch();
+        delegate.flush();
+    }
+
+    @Override
+    public void close() {
+        writeBatch();
+        delegate.close();
+    }
+
+    /**
+     * Start collecting written buffers, until {@link #flushBatch()} is called.
+     */
+    void collect() {
+        collecting = true;
+    }
+
+    /**
+     * Write all collected buffers and stop collecting.
+     */
+    void flushBatch() {
+        collecting = false;
+        writeBatch();
+    }
+
+    private void writeBatch() {
+        CompositeBufferData toWrite = batch;
+        if (toWrite != null) {
+            batch = null;
+            delegate.write(toWrite);
+        }
+    }
+}
@@ -20,6 +20,7 @@ import java.io.BufferedOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
 import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.Objects;
@@ -62,7 +63,6 @@ class Http1ServerResponse extends ServerResponseBase<Http1ServerResponse> {
     private static final System.Logger LOGGER = System.getLogger(Http1ServerResponse.class.getName());
     private static final byte[] HTTP_BYTES = "HTTP/1.1 ".getBytes(StandardCharsets.UTF_8);
     private static final byte[] OK_200 = "HTTP/1.1 200 OK\r\n".getBytes(StandardCharsets.UTF_8);
-    private static final byte[] DATE = "Date: ".getBytes(StandardCharsets.UTF_8);
     private static final byte[] TERMINATING_CHUNK = "0\r\n\r\n".getBytes(StandardCharsets.UTF_8);
     private static final byte[] TERMINATING_CHUNK_TRAILERS = "0\r\n".getBytes(StandardCharsets.UTF_8);
 
@@ -136,11 +136,9 @@ class Http1ServerResponse extends ServerResponseBase<Http1ServerResponse> {
             buffer.write('\r');
             buffer.write('\n');
         }
-        // date header
+        // date header, the whole line is cached and updated once a second
         if (!headers.contains(HeaderNames.DATE)) {
-            buffer.write(DATE);
-            byte[] dateBytes = DateTime.http1Bytes();
-            buffer.write(dateBytes);
+            buffer.write(DateTime.http1HeaderBytes());
         }
 
         // either content-length or chunked encoding
@@ -156,8 +154,8 @@ class Http1ServerResponse extends ServerResponseBase<Http1ServerResponse> {
         re Connection: keep-alive for normal HTTP/1.1 responses. (rfc-editor.org(https://www.rfc-editor.org/rfc/rfc9112.html))
          */
 
-        // write headers followed by empty line
-        writeHeaders(headers, buffer, validateHeaders);
+        // write headers followed by empty line (header templates are written as pre-encoded bytes)
+        headers.writeHttp1(buffer, validateHeaders);
 
         buffer.write('\r');        // "\r\n" - empty line after headers
         buffer.write('\n');
@@ -233,6 +231,51 @@ class Http1ServerResponse extends ServerResponseBase<Http1ServerResponse> {
         }
     }
 
+    @Override
+    public void send(FileChannel file, long position, long length) {
+        if (isSent) {
+            throw new IllegalStateException("Response already sent");
+        }
+        if (streamingEntity) {
+            throw new IllegalStateException("When output stream is used, response is completed by closing the output stream"
+                                                    + ", do not call send().");
+        }
+        if (!dataWriter.supportsTransfer()
+                || isNoEntityStatus
+                || outputStreamFilter != null
+                || headers.contains(HeaderNames.TRAILER)
+                || headers.contains(HeaderNames.TRANSFER_ENCODING)
+                || headers.contentLength().orElse(length) != length
+                || contentEncoded()) {
+            // the file cannot be written directly to the socket, or the entity must be processed
+            super.send(file, position, length);
+            return;
+        }
+
+        beforeSend();
+        headers.contentLength(length);
+
+        Status usedStatus = status();
+        sendListener.status(ctx, usedStatus);
+        sendListener.headers(ctx, headers);
+
+        BufferData responseBuffer = BufferData.growing(256);
+        nonEntityBytes(headers, usedStatus, responseBuffer, keepAlive, validateHeaders);
+        sendListener.data(ctx, responseBuffer);
+
+        isSent = true;
+        bytesWritten = length;
+        request.reset();
+        writeResponse(dataWriter, responseBuffer, "Failed to write response headers");
+        try {
+            // the entity is not passed to send listener, as it never gets to the heap
+            dataWriter.transferNow(file, position, length);
+        } catch (UncheckedIOException e) {
+            throw new ServerConnectionException("Failed to transfer file", e);
+        }
+        afterSend();
+    }
+
     @Override
     public boolean isSent() {
         return isSent;
@@ -462,6 +505,10 @@ class Http1ServerResponse extends ServerResponseBase<Http1ServerResponse> {
             throw new IllegalStateException("OutputStream already obtained");
         }
         streamingEntity = true;
+        if (dataWriter instanceof Http1PipelinedWriter pipelinedWriter) {
+            // streamed data must not wait for other pipelined requests (such as server sent events)
+            pipelinedWriter.flushBatch();
+        }
 
         BlockingOutputStream bos = new BlockingOutputStream(headers,
                                                             trailers,
@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.webserver.http;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import io.helidon.common.uri.UriPath;
+import io.helidon.http.Method;
+import io.helidon.http.PathMatchers;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+
+class RouteIndexTest {
+    private static final Handler HANDLER = (req, res) -> res.send("done");
+
+    @Test
+    void testExactAndParameterRoutes() {
+        HttpRouteBase users = route(Method.GET, "/users");
+        HttpRouteBase user = route(Method.GET, "/users/{id}");
+        HttpRouteBase postUser = route(Method.POST, "/users/{id}");
+        HttpRouteBase userName = route(Method.GET, "/users/{id}/name");
+        HttpRouteBase me = route(Method.GET, "/users/me");
+
+        RouteIndex index = RouteIndex.create(List.of(users, user, postUser, userName, me));
+
+        assertThat(candidates(index, Method.GET, "/users"), contains(users));
+        // order of registration must be kept
+        assertThat(candidates(index, Method.GET, "/users/me"), contains(user, me));
+        assertThat(candidates(index, Method.POST, "/users/me"), contains(postUser));
+        assertThat(candidates(index, Method.GET, "/users/me/name"), contains(userName));
+        assertThat(candidates(index, Method.PUT, "/users/me"), is(empty()));
+        assertThat(candidates(index, Method.GET, "/other"), is(empty()));
+    }
+
+    @Test
+    void testNotIndexedRoutesAlwaysCandidates() {
+        HttpRouteBase first = route(Method.GET, "/first");
+        HttpRouteBase regexp = route(Method.GET, "/{id:\\d+}");
+        HttpRouteBase any = (HttpRouteBase) HttpRoute.builder()
+                .path(PathMatchers.any())
+                .handler(HANDLER)
+                .build();
+        HttpRouteBase last = route(Method.GET, "/last");
+
+        RouteIndex index = RouteIndex.create(List.of(first, regexp, any, last));
+
+        assertThat(candidates(index, Method.GET, "/last"), contains(regexp, any, last));
+        assertThat(candidates(index, Method.DELETE, "/first"), contains(regexp, any));
+    }
+
+    @Test
+    void testPrefixRoutes() {
+        HttpRouteBase prefix = route(Method.GET, "/static/*");
+        HttpRouteBase exact = route(Method.GET, "/static");
+
+        RouteIndex index = RouteIndex.create(List.of(prefix, exact));
+
+        assertThat(candidates(index, Method.GET, "/static"), contains(prefix, exact));
+        assertThat(candidates(index, Method.GET, "/static/css/main.css"), contains(prefix));
+        assertThat(candidates(index, Method.GET, "/statics"), is(empty()));
+    }
+
+    @Test
+    void testServiceRoutes() {
+        ServiceRules rules = new ServiceRules();
+        rules.register("/greet", new TestService());
+        rules.register("/", new TestService());
+        rules.register("/users/{id}", new TestService());
+        List<HttpRouteBase> routes = rules.build().routes();
+
+        RouteIndex index = RouteIndex.create(routes);
+
+        assertThat(candidates(index, Method.GET, "/greet/hello"), contains(routes.get(0), routes.get(1)));
+        assertThat(candidates(index, Method.GET, "/users/jack/name"), contains(routes.get(1), routes.get(2)));
+        assertThat(candidates(index, Method.GET, "/"), contains(routes.get(1)));
+    }
+
+    private static HttpRouteBase route(Method method, String path) {
+        return (HttpRouteBase) HttpRoute.builder()
+                .methods(method)
+                .path(path)
+                .handler(HANDLER)
+                .build();
+    }
+
+    private static List<HttpRouteBase> candidates(RouteIndex index, Method method, String path) {
+        List<HttpRouteBase> result = new ArrayList<>();
+        Iterator<HttpRouteBase> iterator = index.candidates(method, UriPath.create(path));
+        iterator.forEachRemaining(result::add);
+        return result;
+    }
+
+    private static class TestService implements HttpService {
+        @Override
+        public void routing(HttpRules rules) {
+            rules.get("/hello", HANDLER);
+        }
+    }
+}
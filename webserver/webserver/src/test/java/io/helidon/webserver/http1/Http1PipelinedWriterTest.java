@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.webserver.http1;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import io.helidon.common.buffers.BufferData;
+import io.helidon.common.buffers.DataWriter;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.collection.IsIterableContainingInOrder.contains;
+
+class Http1PipelinedWriterTest {
+    private final RecordingWriter delegate = new RecordingWriter();
+    private final Http1PipelinedWriter writer = new Http1PipelinedWriter(delegate);
+
+    @Test
+    void testWritesDirectlyWhenNotCollecting() {
+        writer.write(BufferData.create("first"));
+        writer.write(BufferData.create("second"));
+
+        assertThat(delegate.writes, contains("first", "second"));
+    }
+
+    @Test
+    void testCollectedBuffersWrittenOnce() {
+        writer.collect();
+        writer.write(BufferData.create("first"));
+        writer.write(BufferData.create("second"), BufferData.create("third"));
+
+        assertThat(delegate.writes.size(), is(0));
+
+        writer.flushBatch();
+        assertThat(delegate.writes, contains("firstsecondthird"));
+
+        // not collecting anymore
+        writer.write(BufferData.create("fourth"));
+        assertThat(delegate.writes, contains("firstsecondthird", "fourth"));
+    }
+
+    @Test
+    void testWriteNowKeepsOrder() {
+        writer.collect();
+        writer.write(BufferData.create("first"));
+        writer.writeNow(BufferData.create("second"));
+
+        assertThat(delegate.writes, contains("first", "second"));
+    }
+
+    @Test
+    void testBatchSizeLimit() {
+        byte[] big = new byte[Http1PipelinedWriter.MAX_BATCH_SIZE];
+        writer.collect();
+        writer.write(BufferData.create("first"));
+        writer.write(BufferData.create(big));
+
+        assertThat(delegate.writes.size(), is(1));
+        assertThat(delegate.writes.getFirst().length(), is(big.length + 5));
+
+        writer.write(BufferData.create("second"));
+        writer.flushBatch();
+        assertThat(delegate.writes.size(), is(2));
+        assertThat(delegate.writes.getLast(), is("second"));
+    }
+
+    private static class RecordingWriter implements DataWriter {
+        private final List<String> writes = new ArrayList<>();
+
+        @Override
+        public void write(BufferData... buffers) {
+            for (BufferData buffer : buffers) {
+                write(buffer);
+            }
+        }
+
+        @Override
+        public void write(BufferData buffer) {
+            writes.add(new String(buffer.readBytes(), StandardCharsets.ISO_8859_1));
+        }
+
+        @Override
+        public void writeNow(BufferData... buffers) {
+            write(buffers);
+        }
+
+        @Override
+        public void writeNow(BufferData buffer) {
+            write(buffer);
+        }
+    }
+}